@@ -17,6 +17,7 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-web")
     implementation("org.springframework.boot:spring-boot-starter-validation")
     implementation("org.springframework.boot:spring-boot-starter-actuator")
+    implementation("org.springframework.boot:spring-boot-starter-data-jpa")
 
     // Database Migration
     implementation("org.flywaydb:flyway-core:9.22.3")
@@ -34,6 +35,27 @@ dependencies {
     testImplementation("org.testcontainers:junit-jupiter:1.19.3")
 }
 
+// DB 벤치마크 (Testcontainers로 대량 데이터를 시드하므로 기본 test에서 제외, ./gradlew :api-server:benchmarkTest)
+tasks.test {
+    useJUnitPlatform {
+        excludeTags("benchmark")
+    }
+}
+
+val benchmarkTest by tasks.registering(Test::class) {
+    description = "Runs database benchmarks against a seeded PostgreSQL container."
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("benchmark")
+    }
+    maxHeapSize = "1g"
+    testLogging {
+        showStandardStreams = true
+    }
+}
+
 tasks.bootJar {
     enabled = true
     archiveFileName.set("portfolio-blog-api.jar")
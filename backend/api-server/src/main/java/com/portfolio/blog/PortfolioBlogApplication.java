@@ -2,6 +2,9 @@ package com.portfolio.blog;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication(
     scanBasePackages = {
@@ -14,6 +17,9 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
         "com.portfolio.module.benchmark"
     }
 )
+@EntityScan(basePackages = "com.portfolio.domain")
+@EnableJpaRepositories(basePackages = "com.portfolio.domain")
+@EnableScheduling
 public class PortfolioBlogApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,35 @@
+-- ==========================================
+-- Migration: V10 - 모델 파일 레지스트리 (체크섬 + GGUF 헤더 메타데이터)
+-- ==========================================
+
+ALTER TABLE ai_models
+    ADD COLUMN checksum_sha256 VARCHAR(64),
+    ADD COLUMN file_modified_at TIMESTAMPTZ,
+    ADD COLUMN architecture VARCHAR(100),
+    ADD COLUMN parameter_count BIGINT,
+    ADD COLUMN scanned_at TIMESTAMP;
+
+-- file_path는 유니크가 아니었으므로 같은 파일을 가리키는 중복 모델은 가장 먼저 등록된 모델로 합침
+-- (모델을 지우면 벤치마크 결과가 CASCADE로 삭제되므로 결과를 먼저 옮김)
+WITH duplicates AS (
+    SELECT id, MIN(id) OVER (PARTITION BY file_path) AS keep_id
+    FROM ai_models
+)
+UPDATE benchmark_results r
+SET model_id = d.keep_id
+FROM duplicates d
+WHERE r.model_id = d.id
+  AND d.id <> d.keep_id;
+
+DELETE FROM ai_models m
+USING ai_models k
+WHERE m.file_path = k.file_path
+  AND m.id > k.id;
+
+-- 재스캔 시 경로로 기존 모델 조회
+CREATE UNIQUE INDEX idx_ai_models_file_path ON ai_models (file_path);
+
+COMMENT ON COLUMN ai_models.checksum_sha256 IS '모델 파일 SHA-256 (hex)';
+COMMENT ON COLUMN ai_models.file_modified_at IS '스캔 시점 파일 수정 시각 (크기와 함께 변경 감지용)';
+COMMENT ON COLUMN ai_models.architecture IS 'GGUF general.architecture (e.g., llama)';
+COMMENT ON COLUMN ai_models.parameter_count IS '텐서 shape 합으로 계산한 파라미터 수';
@@ -0,0 +1,17 @@
+-- ==========================================
+-- Migration: V11 - refresh_tokens 다이제스트 키
+-- ==========================================
+
+-- 원문 토큰(VARCHAR 500) 대신 고정 길이 SHA-256 다이제스트(32바이트)로 조회
+ALTER TABLE refresh_tokens ADD COLUMN token_hash BYTEA;
+
+UPDATE refresh_tokens SET token_hash = sha256(convert_to(token, 'UTF8'));
+
+ALTER TABLE refresh_tokens ALTER COLUMN token_hash SET NOT NULL;
+
+CREATE UNIQUE INDEX idx_refresh_tokens_token_hash ON refresh_tokens (token_hash);
+
+-- 원문 토큰은 더 이상 저장하지 않음 (UNIQUE 인덱스도 함께 삭제됨)
+ALTER TABLE refresh_tokens DROP COLUMN token;
+
+COMMENT ON COLUMN refresh_tokens.token_hash IS 'SHA-256(refresh token)';
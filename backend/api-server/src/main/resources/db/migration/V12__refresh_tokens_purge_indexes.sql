@@ -0,0 +1,7 @@
+-- ==========================================
+-- Migration: V12 - 만료/무효화된 refresh_tokens 정리용 인덱스
+-- ==========================================
+
+-- 만료된 토큰을 오래된 순서로 일정 개수씩 삭제
+-- (무효화된 토큰도 재사용 감지를 위해 expires_at까지 보관하므로 같은 인덱스로 함께 정리)
+CREATE INDEX idx_refresh_tokens_expires_at ON refresh_tokens (expires_at);
@@ -0,0 +1,6 @@
+-- ==========================================
+-- Migration: V13 - refresh_tokens Token Family 인덱스
+-- ==========================================
+
+-- Family 단위 무효화/삭제 (로그아웃, 재사용 감지)
+CREATE INDEX idx_refresh_tokens_token_family ON refresh_tokens (token_family);
@@ -0,0 +1,13 @@
+-- ==========================================
+-- Migration: V14 - 벤치마크 실행 완료 시각
+-- ==========================================
+
+-- 실행기는 샘플을 실행 중에 기록(FK)하고 실시간으로 구독할 수 있도록 결과 행을 먼저 만들고,
+-- 실행이 끝나면 측정값과 completed_at을 채움
+ALTER TABLE benchmark_results
+    ADD COLUMN completed_at TIMESTAMP;
+
+UPDATE benchmark_results
+SET completed_at = created_at;
+
+COMMENT ON COLUMN benchmark_results.completed_at IS '실행 완료 시각 (NULL이면 실행 중, 리더보드/내보내기에서 제외)';
@@ -0,0 +1,10 @@
+-- ==========================================
+-- Migration: V16 - 벤치마크 실행 중 버린 GPU 샘플 수
+-- ==========================================
+
+-- 실행기는 기록이 밀리거나 COPY가 실패한 청크를 버리므로(메모리 보호), 요약 통계가 일부 구간만으로
+-- 계산되었는지 결과에서 알 수 있도록 버린 샘플 수를 남김
+ALTER TABLE benchmark_results
+    ADD COLUMN dropped_samples BIGINT NOT NULL DEFAULT 0;
+
+COMMENT ON COLUMN benchmark_results.dropped_samples IS '실행 중 기록하지 못하고 버린 GPU 샘플 수 (0보다 크면 시계열에 빈 구간 있음)';
@@ -0,0 +1,14 @@
+-- ==========================================
+-- Migration: V2 - 카운터 갱신 시 updated_at 트리거 제외
+-- ==========================================
+
+-- 조회수/좋아요 수는 Write-Behind로 일괄 반영되며 게시글 수정으로 보지 않음
+-- 트리거를 본문 컬럼이 SET 절에 포함된 UPDATE에서만 실행
+DROP TRIGGER IF EXISTS update_posts_updated_at ON posts;
+
+CREATE TRIGGER update_posts_updated_at
+    BEFORE UPDATE OF author_id, category_id, title, slug, content, excerpt,
+                     status, published_at, deleted_at
+    ON posts
+    FOR EACH ROW
+    EXECUTE FUNCTION update_updated_at_column();
@@ -0,0 +1,21 @@
+-- ==========================================
+-- Migration: V3 - 게시글 좋아요 (사용자별)
+-- ==========================================
+
+-- 사용자당 게시글 1회 좋아요 (PK로 멱등성 보장)
+CREATE TABLE post_likes (
+    post_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT NOW(),
+
+    PRIMARY KEY (post_id, user_id),
+    CONSTRAINT fk_post_likes_post FOREIGN KEY (post_id)
+        REFERENCES posts(id) ON DELETE CASCADE,
+    CONSTRAINT fk_post_likes_user FOREIGN KEY (user_id)
+        REFERENCES users(id) ON DELETE CASCADE
+);
+
+COMMENT ON TABLE post_likes IS '게시글 좋아요 (사용자-게시글 N:M)';
+
+-- 사용자별 좋아요 목록 조회용
+CREATE INDEX idx_post_likes_user ON post_likes(user_id);
@@ -0,0 +1,25 @@
+-- ==========================================
+-- Migration: V4 - 게시글 렌더링 캐시
+-- ==========================================
+
+-- Markdown -> HTML 렌더링 결과 (본문 해시 + 렌더러 버전 기준으로 재사용)
+CREATE TABLE post_renders (
+    post_id BIGINT PRIMARY KEY,
+    content_hash VARCHAR(64) NOT NULL,  -- SHA-256 (hex)
+    renderer_version INTEGER NOT NULL,  -- 정수로 비교해 더 낮은 버전만 재렌더링 (배포 중 이전/새 인스턴스가 서로의 결과를 되돌리지 않도록)
+    source_updated_at TIMESTAMP,  -- 렌더링한 본문의 posts.updated_at (같으면 조회 시 본문 해시를 계산하지 않음)
+    html TEXT NOT NULL,
+    toc JSONB NOT NULL DEFAULT '[]',  -- [{level, id, text}]
+    excerpt TEXT,  -- 자동 생성 요약문 (최대 200자)
+    rendered_at TIMESTAMP NOT NULL DEFAULT NOW(),
+
+    CONSTRAINT fk_post_renders_post FOREIGN KEY (post_id)
+        REFERENCES posts(id) ON DELETE CASCADE
+);
+
+COMMENT ON TABLE post_renders IS '게시글 Markdown 렌더링 결과 캐시';
+COMMENT ON COLUMN post_renders.renderer_version IS '렌더러 설정 버전 (변경 시 백그라운드 재렌더링)';
+COMMENT ON COLUMN post_renders.source_updated_at IS '렌더링 당시 posts.updated_at (NULL이면 다음 조회 시 해시로 확인)';
+
+-- 렌더러 버전 변경 시 재렌더링 대상 조회용
+CREATE INDEX idx_post_renders_renderer_version ON post_renders(renderer_version);
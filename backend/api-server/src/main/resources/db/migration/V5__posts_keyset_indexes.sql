@@ -0,0 +1,16 @@
+-- ==========================================
+-- Migration: V5 - 게시글 목록 Keyset 페이지네이션 인덱스
+-- ==========================================
+
+-- 발행된 게시글 목록: ORDER BY published_at DESC, id DESC
+CREATE INDEX idx_posts_published_keyset
+    ON posts (published_at DESC, id DESC)
+    WHERE deleted_at IS NULL AND status = 'PUBLISHED';
+
+-- 카테고리별 발행 게시글 목록
+CREATE INDEX idx_posts_category_published_keyset
+    ON posts (category_id, published_at DESC, id DESC)
+    WHERE deleted_at IS NULL AND status = 'PUBLISHED';
+
+-- 태그별 게시글 조회 (PK는 post_id 선두이므로 tag_id 선두 인덱스 추가)
+CREATE INDEX idx_post_tags_tag_post ON post_tags (tag_id, post_id);
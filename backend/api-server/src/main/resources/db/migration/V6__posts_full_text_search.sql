@@ -0,0 +1,28 @@
+-- ==========================================
+-- Migration: V6 - 게시글 전문 검색 (tsvector + GIN, trigram 보조 인덱스)
+-- ==========================================
+
+-- 검색 전용 Text Search Configuration
+-- 기본은 simple(공백 분리 + 소문자화). 한국어 형태소 사전(e.g. textsearch_ko)을 설치한 환경에서는
+-- ALTER TEXT SEARCH CONFIGURATION blog_search ... 로 매핑을 바꾼 뒤 search_vector를 재생성하면 됨
+CREATE TEXT SEARCH CONFIGURATION blog_search (COPY = simple);
+
+-- 제목(A) > 요약문(B) > 본문(C) 가중치로 검색 벡터 자동 생성
+ALTER TABLE posts ADD COLUMN search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('blog_search'::regconfig, coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('blog_search'::regconfig, coalesce(excerpt, '')), 'B') ||
+        setweight(to_tsvector('blog_search'::regconfig, content), 'C')
+    ) STORED;
+
+COMMENT ON COLUMN posts.search_vector IS '전문 검색 벡터 (title/excerpt/content, 자동 생성)';
+
+CREATE INDEX idx_posts_search_vector ON posts USING GIN (search_vector)
+    WHERE deleted_at IS NULL AND status = 'PUBLISHED';
+
+-- 한국어처럼 조사가 붙어 토큰이 일치하지 않는 경우를 위한 부분 문자열(trigram) 검색
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_posts_title_excerpt_trgm
+    ON posts USING GIN ((title || ' ' || coalesce(excerpt, '')) gin_trgm_ops)
+    WHERE deleted_at IS NULL AND status = 'PUBLISHED';
@@ -0,0 +1,7 @@
+-- ==========================================
+-- Migration: V7 - 게시글별 댓글 조회 인덱스
+-- ==========================================
+
+-- 게시글의 삭제되지 않은 댓글을 id 순서로 한 번에 조회
+CREATE INDEX idx_comments_post_id ON comments (post_id, id)
+    WHERE deleted_at IS NULL;
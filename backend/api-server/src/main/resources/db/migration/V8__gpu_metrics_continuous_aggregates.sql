@@ -0,0 +1,111 @@
+-- ==========================================
+-- Migration: V8 - gpu_metrics 연속 집계 (1초/10초/1분 버킷)
+-- ==========================================
+
+-- 벤치마크별 시간 범위 조회 및 원본 해상도 조회용
+CREATE INDEX idx_gpu_metrics_benchmark_time ON gpu_metrics (benchmark_id, time DESC);
+
+-- 평균은 상위 집계에서 다시 합칠 수 있도록 sum/count로 보관 (평균 = sum / count)
+-- 1초 버킷: 원본 hypertable 집계
+CREATE MATERIALIZED VIEW gpu_metrics_1s
+WITH (timescaledb.continuous) AS
+SELECT
+    time_bucket(INTERVAL '1 second', time) AS bucket,
+    benchmark_id,
+    count(*) AS sample_count,
+    sum(gpu_utilization) AS gpu_utilization_sum,
+    count(gpu_utilization) AS gpu_utilization_count,
+    max(gpu_utilization) AS gpu_utilization_max,
+    sum(memory_used) AS memory_used_sum,
+    count(memory_used) AS memory_used_count,
+    max(memory_used) AS memory_used_max,
+    sum(temperature) AS temperature_sum,
+    count(temperature) AS temperature_count,
+    max(temperature) AS temperature_max,
+    sum(power_draw) AS power_draw_sum,
+    count(power_draw) AS power_draw_count,
+    max(power_draw) AS power_draw_max,
+    sum(fan_speed) AS fan_speed_sum,
+    count(fan_speed) AS fan_speed_count,
+    max(fan_speed) AS fan_speed_max
+FROM gpu_metrics
+GROUP BY bucket, benchmark_id
+WITH NO DATA;
+
+-- 10초 버킷: 1초 집계를 다시 집계 (계층형 연속 집계, TimescaleDB 2.9+)
+CREATE MATERIALIZED VIEW gpu_metrics_10s
+WITH (timescaledb.continuous) AS
+SELECT
+    time_bucket(INTERVAL '10 seconds', bucket) AS bucket,
+    benchmark_id,
+    sum(sample_count) AS sample_count,
+    sum(gpu_utilization_sum) AS gpu_utilization_sum,
+    sum(gpu_utilization_count) AS gpu_utilization_count,
+    max(gpu_utilization_max) AS gpu_utilization_max,
+    sum(memory_used_sum) AS memory_used_sum,
+    sum(memory_used_count) AS memory_used_count,
+    max(memory_used_max) AS memory_used_max,
+    sum(temperature_sum) AS temperature_sum,
+    sum(temperature_count) AS temperature_count,
+    max(temperature_max) AS temperature_max,
+    sum(power_draw_sum) AS power_draw_sum,
+    sum(power_draw_count) AS power_draw_count,
+    max(power_draw_max) AS power_draw_max,
+    sum(fan_speed_sum) AS fan_speed_sum,
+    sum(fan_speed_count) AS fan_speed_count,
+    max(fan_speed_max) AS fan_speed_max
+FROM gpu_metrics_1s
+GROUP BY 1, benchmark_id
+WITH NO DATA;
+
+-- 1분 버킷: 10초 집계를 다시 집계
+CREATE MATERIALIZED VIEW gpu_metrics_1m
+WITH (timescaledb.continuous) AS
+SELECT
+    time_bucket(INTERVAL '1 minute', bucket) AS bucket,
+    benchmark_id,
+    sum(sample_count) AS sample_count,
+    sum(gpu_utilization_sum) AS gpu_utilization_sum,
+    sum(gpu_utilization_count) AS gpu_utilization_count,
+    max(gpu_utilization_max) AS gpu_utilization_max,
+    sum(memory_used_sum) AS memory_used_sum,
+    sum(memory_used_count) AS memory_used_count,
+    max(memory_used_max) AS memory_used_max,
+    sum(temperature_sum) AS temperature_sum,
+    sum(temperature_count) AS temperature_count,
+    max(temperature_max) AS temperature_max,
+    sum(power_draw_sum) AS power_draw_sum,
+    sum(power_draw_count) AS power_draw_count,
+    max(power_draw_max) AS power_draw_max,
+    sum(fan_speed_sum) AS fan_speed_sum,
+    sum(fan_speed_count) AS fan_speed_count,
+    max(fan_speed_max) AS fan_speed_max
+FROM gpu_metrics_10s
+GROUP BY 1, benchmark_id
+WITH NO DATA;
+
+-- 아직 구체화되지 않은 최근 구간도 조회되도록 실시간 집계 사용
+-- (benchmark_id, bucket) 인덱스는 연속 집계 생성 시 자동 생성됨
+ALTER MATERIALIZED VIEW gpu_metrics_1s SET (timescaledb.materialized_only = false);
+ALTER MATERIALIZED VIEW gpu_metrics_10s SET (timescaledb.materialized_only = false);
+ALTER MATERIALIZED VIEW gpu_metrics_1m SET (timescaledb.materialized_only = false);
+
+-- 주기적 갱신 정책 (과거 시각으로 적재된 구간은 적재 직후 애플리케이션에서 refresh_continuous_aggregate 호출)
+SELECT add_continuous_aggregate_policy('gpu_metrics_1s',
+    start_offset => INTERVAL '1 hour',
+    end_offset => INTERVAL '1 second',
+    schedule_interval => INTERVAL '30 seconds');
+
+SELECT add_continuous_aggregate_policy('gpu_metrics_10s',
+    start_offset => INTERVAL '1 day',
+    end_offset => INTERVAL '10 seconds',
+    schedule_interval => INTERVAL '1 minute');
+
+SELECT add_continuous_aggregate_policy('gpu_metrics_1m',
+    start_offset => INTERVAL '7 days',
+    end_offset => INTERVAL '1 minute',
+    schedule_interval => INTERVAL '5 minutes');
+
+COMMENT ON MATERIALIZED VIEW gpu_metrics_1s IS 'GPU 메트릭 1초 연속 집계';
+COMMENT ON MATERIALIZED VIEW gpu_metrics_10s IS 'GPU 메트릭 10초 연속 집계 (gpu_metrics_1s 기반)';
+COMMENT ON MATERIALIZED VIEW gpu_metrics_1m IS 'GPU 메트릭 1분 연속 집계 (gpu_metrics_10s 기반)';
@@ -0,0 +1,14 @@
+-- ==========================================
+-- Migration: V9 - 벤치마크 요약 통계 (gpu_metrics에서 계산)
+-- ==========================================
+
+ALTER TABLE benchmark_results
+    ADD COLUMN sample_count BIGINT,
+    ADD COLUMN metrics_summary JSONB,
+    ADD COLUMN energy_joules NUMERIC(14,3),
+    ADD COLUMN energy_per_token NUMERIC(12,6),
+    ADD COLUMN finalized_at TIMESTAMP;
+
+COMMENT ON COLUMN benchmark_results.metrics_summary IS '메트릭별 min/max/avg/p50/p95/p99';
+COMMENT ON COLUMN benchmark_results.energy_joules IS 'power_draw 시간 적분 (J)';
+COMMENT ON COLUMN benchmark_results.energy_per_token IS 'energy_joules / generated_tokens (J/token)';
@@ -0,0 +1,25 @@
+package com.portfolio.blog.benchmark;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 실제로 실행하는 SQL 기록 (QueryDSL이 만든 문장의 실행 계획 확인용)
+ * hibernate.session_factory.statement_inspector 설정으로 등록하며, Hibernate가 직접 생성하므로 public
+ */
+public class CapturingStatementInspector implements StatementInspector {
+
+    private static final ThreadLocal<String> LAST_SQL = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        LAST_SQL.set(sql);
+        return sql;
+    }
+
+    /**
+     * 현재 스레드에서 마지막으로 준비된 SQL
+     */
+    static String lastSql() {
+        return LAST_SQL.get();
+    }
+}
@@ -0,0 +1,263 @@
+package com.portfolio.blog.benchmark;
+
+import com.portfolio.domain.blog.PostStatus;
+import com.portfolio.domain.blog.repository.PostRepository;
+import com.portfolio.domain.blog.repository.PostSummaryRow;
+import com.portfolio.domain.user.repository.RefreshTokenRepository;
+import com.portfolio.domain.user.repository.UserRepository;
+import com.portfolio.module.user.controller.AuthController;
+import com.portfolio.module.user.service.AuthService;
+import com.portfolio.module.user.service.RefreshTokenStore;
+import com.portfolio.security.config.JwtProperties;
+import com.portfolio.security.dto.LoginRequest;
+import com.portfolio.security.jwt.JwtTokenProvider;
+import com.portfolio.security.jwt.VerifiedTokenCache;
+import com.portfolio.security.password.BoundedPasswordEncoder;
+import com.portfolio.security.password.PasswordHashingRejectedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 로그인 폭주 중 읽기 API 지연 벤치마크 (발행 게시글 900k건, BCrypt cost 10)
+ * 해시 스레드 풀은 운영 기본값과 같이 코어 수의 절반, 대기열 64
+ * 목표: 해시 스레드가 모두 바쁜 동안에도 게시글 목록/상세 조회의 p95/p99가 폭주 없는 기준값에서 크게 벗어나지 않음
+ * - p95: 기준값의 2배 또는 기준값 + 20ms 이하
+ * - p99: 기준값의 3배 또는 기준값 + 50ms 이하
+ * 해시를 트랜잭션 밖에서 계산하므로 커넥션 풀(10개, connection-timeout 2초)도 고갈되지 않아야 함
+ * 대기열을 넘는 로그인은 기다리지 않고 503 + Retry-After로 거절
+ */
+@TestPropertySource(properties = {
+        "spring.datasource.hikari.maximum-pool-size=10",
+        "spring.datasource.hikari.connection-timeout=2000"
+})
+class LoginStormBenchmarkTest extends PostgresBenchmarkSupport {
+
+    private static final Logger log = LoggerFactory.getLogger(LoginStormBenchmarkTest.class);
+
+    private static final int BCRYPT_STRENGTH = 10;
+    private static final int HASH_THREADS = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    private static final int QUEUE_CAPACITY = 64;
+
+    /**
+     * 해시 스레드당 4명 (대기열을 넘지 않아 거절 없이 모든 해시 스레드가 계속 바쁨)
+     */
+    private static final int STORM_CLIENTS = Math.min(HASH_THREADS * 4, HASH_THREADS + QUEUE_CAPACITY);
+    private static final int READERS = 4;
+    private static final int READS_PER_READER = 250;
+    private static final int PAGE_SIZE = 20;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<BoundedPasswordEncoder> encoders = new ArrayList<>();
+    private List<Long> postIds;
+
+    @BeforeEach
+    void seed() {
+        seedPosts();
+        postIds = jdbcTemplate.queryForList(
+                "SELECT id FROM posts WHERE status = 'PUBLISHED' ORDER BY id LIMIT 1000 OFFSET 500000", Long.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        encoders.forEach(BoundedPasswordEncoder::shutdown);
+    }
+
+    @Test
+    @DisplayName("해시 스레드가 모두 바쁜 로그인 폭주 중에도 게시글 목록/상세 조회 지연이 기준값 근처에 머문다")
+    void readLatencyHoldsDuringLoginStorm() throws Exception {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(BCRYPT_STRENGTH);
+        String hash = bcrypt.encode("secret");
+        jdbcTemplate.update("""
+                INSERT INTO users (email, username, password)
+                SELECT 'storm' || g || '@example.com', 'storm' || g, ?
+                FROM generate_series(1, ?) g
+                ON CONFLICT (username) DO UPDATE SET password = EXCLUDED.password
+                """, hash, STORM_CLIENTS);
+        AuthService authService = authService(new BoundedPasswordEncoder(bcrypt, HASH_THREADS, QUEUE_CAPACITY,
+                5_000, meterRegistry));
+
+        readLatency("warmup");
+        Latency baseline = readLatency("reads without storm");
+
+        AtomicBoolean storming = new AtomicBoolean(true);
+        AtomicInteger logins = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        ExecutorService stormClients = Executors.newFixedThreadPool(STORM_CLIENTS);
+        for (int c = 1; c <= STORM_CLIENTS; c++) {
+            LoginRequest request = new LoginRequest("storm" + c, "secret");
+            stormClients.execute(() -> {
+                while (storming.get()) {
+                    try {
+                        authService.login(request);
+                        logins.incrementAndGet();
+                    } catch (PasswordHashingRejectedException e) {
+                        rejected.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        failures.add(e);
+                    }
+                }
+            });
+        }
+
+        Latency storm;
+        try {
+            while (meterRegistry.get("security.password.active").gauge().value() < HASH_THREADS) {
+                Thread.sleep(5);
+            }
+            storm = readLatency("reads during login storm");
+        } finally {
+            storming.set(false);
+            stormClients.shutdown();
+            assertThat(stormClients.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        }
+
+        log.info("{} hash threads, {} storm clients: {} logins, {} rejected, {} failed",
+                HASH_THREADS, STORM_CLIENTS, logins.get(), rejected.get(), failures.size());
+
+        assertThat(failures).isEmpty();
+        assertThat(rejected.get()).isZero();
+        assertThat(logins.get()).isPositive();
+        assertThat(storm.p95()).isLessThanOrEqualTo(Math.max(baseline.p95() * 2, baseline.p95() + 20));
+        assertThat(storm.p99()).isLessThanOrEqualTo(Math.max(baseline.p99() * 3, baseline.p99() + 50));
+    }
+
+    @Test
+    @DisplayName("해시 스레드와 대기열이 모두 차면 다음 로그인은 기다리지 않고 503과 Retry-After를 받는다")
+    void overflowingQueueReturnsServiceUnavailable() throws Exception {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(13);
+        jdbcTemplate.update("""
+                INSERT INTO users (email, username, password) VALUES ('overflow@example.com', 'overflow', ?)
+                ON CONFLICT (username) DO UPDATE SET password = EXCLUDED.password
+                """, bcrypt.encode("secret"));
+        AuthService authService = authService(new BoundedPasswordEncoder(bcrypt, 1, 1, 30_000, meterRegistry));
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new AuthController(authService)).build();
+
+        // 하나는 해시 중, 하나는 대기열에서 대기
+        CompletableFuture<?> running = CompletableFuture.runAsync(
+                () -> authService.login(new LoginRequest("overflow", "secret")));
+        while (meterRegistry.get("security.password.active").gauge().value() < 1) {
+            Thread.sleep(1);
+        }
+        CompletableFuture<?> queued = CompletableFuture.runAsync(
+                () -> authService.login(new LoginRequest("overflow", "secret")));
+        while (meterRegistry.get("security.password.queue_depth").gauge().value() < 1) {
+            Thread.sleep(1);
+        }
+
+        long startedAt = System.nanoTime();
+        mockMvc.perform(post("/api/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"overflow\",\"password\":\"secret\"}"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+        long rejectedAfterMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        running.get(30, TimeUnit.SECONDS);
+        queued.get(30, TimeUnit.SECONDS);
+        assertThat(meterRegistry.counter("security.password.rejected").count()).isEqualTo(1);
+        // 해시 한 번(cost 13)보다 훨씬 빨리 거절
+        assertThat(rejectedAfterMillis).isLessThan(200);
+    }
+
+    /**
+     * 읽기 요청 READERS개 스레드 × READS_PER_READER회 (목록 첫 페이지 + 태그, 상세를 번갈아 실행)
+     */
+    private Latency readLatency(String label) throws Exception {
+        ExecutorService readers = Executors.newFixedThreadPool(READERS);
+        List<Future<long[]>> results = new ArrayList<>();
+        for (int r = 0; r < READERS; r++) {
+            int reader = r;
+            results.add(readers.submit(() -> {
+                long[] nanos = new long[READS_PER_READER];
+                for (int i = 0; i < READS_PER_READER; i++) {
+                    long startedAt = System.nanoTime();
+                    if (i % 2 == 0) {
+                        readList();
+                    } else {
+                        readDetail(postIds.get((reader * READS_PER_READER + i) % postIds.size()));
+                    }
+                    nanos[i] = System.nanoTime() - startedAt;
+                }
+                return nanos;
+            }));
+        }
+
+        long[] merged = new long[READERS * READS_PER_READER];
+        for (int r = 0; r < READERS; r++) {
+            System.arraycopy(results.get(r).get(60, TimeUnit.SECONDS), 0, merged, r * READS_PER_READER,
+                    READS_PER_READER);
+        }
+        readers.shutdown();
+        return latency(label, merged);
+    }
+
+    private void readList() {
+        List<PostSummaryRow> page = postRepository.findPublishedPage(null, null, null, null, PAGE_SIZE + 1);
+        postRepository.findTagsByPostIds(page.stream().map(PostSummaryRow::id).toList());
+    }
+
+    private void readDetail(Long postId) {
+        assertThat(postRepository.findByIdAndStatusAndDeletedAtIsNull(postId, PostStatus.PUBLISHED)).isPresent();
+    }
+
+    private AuthService authService(BoundedPasswordEncoder passwordEncoder) {
+        encoders.add(passwordEncoder);
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setAccessExpiration(900_000L);
+        jwtProperties.setRefreshExpiration(604_800_000L);
+        JwtTokenProvider jwtTokenProvider = mock(JwtTokenProvider.class);
+        when(jwtTokenProvider.generateAccessToken(any())).thenReturn("access");
+        when(jwtTokenProvider.generateRefreshToken(any())).thenAnswer(invocation -> UUID.randomUUID().toString());
+
+        return new AuthService(userRepository,
+                new RefreshTokenStore(refreshTokenRepository, userRepository, jwtProperties, meterRegistry),
+                passwordEncoder, jwtTokenProvider, jwtProperties, mock(VerifiedTokenCache.class),
+                transactionManager);
+    }
+}
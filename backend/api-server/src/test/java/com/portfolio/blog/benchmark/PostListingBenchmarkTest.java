@@ -0,0 +1,122 @@
+package com.portfolio.blog.benchmark;
+
+import com.portfolio.domain.blog.PostStatus;
+import com.portfolio.domain.blog.repository.PostRepository;
+import com.portfolio.domain.blog.repository.PostSummaryRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 목록 Keyset 페이지네이션 벤치마크 (발행 게시글 900k건)
+ * 목표: 페이지 깊이와 무관하게 p95 20ms 이하, 깊은 페이지도 첫 페이지와 같은 인덱스 범위 스캔
+ * 비교 대상으로 같은 깊이의 OFFSET 조회 지연도 출력
+ * 실행 계획은 PostRepositoryImpl의 QueryDSL 쿼리가 실제로 만든 SQL로 확인
+ */
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.portfolio.blog.benchmark.CapturingStatementInspector")
+class PostListingBenchmarkTest extends PostgresBenchmarkSupport {
+
+    private static final Logger log = LoggerFactory.getLogger(PostListingBenchmarkTest.class);
+
+    private static final int PAGE_SIZE = 20;
+    private static final int ITERATIONS = 200;
+    private static final int DEEP_OFFSET = 800_000;
+
+    private static final String OFFSET_SQL = """
+            SELECT p.id FROM posts p
+            WHERE p.deleted_at IS NULL AND p.status = 'PUBLISHED'
+            ORDER BY p.published_at DESC, p.id DESC
+            LIMIT 21 OFFSET ?
+            """;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @BeforeEach
+    void seed() {
+        seedPosts();
+    }
+
+    @Test
+    @DisplayName("깊은 페이지도 첫 페이지와 같은 비용으로 조회된다")
+    void deepPageCostsTheSameAsFirstPage() {
+        Map<String, Object> deepCursor = cursorAt(DEEP_OFFSET, null);
+        LocalDateTime cursorPublishedAt = ((Timestamp) deepCursor.get("published_at")).toLocalDateTime();
+        Long cursorId = ((Number) deepCursor.get("id")).longValue();
+
+        Latency first = measure("keyset page 1", ITERATIONS,
+                () -> postRepository.findPublishedPage(null, null, null, null, PAGE_SIZE + 1));
+        Latency deep = measure("keyset page at offset " + DEEP_OFFSET, ITERATIONS,
+                () -> postRepository.findPublishedPage(cursorPublishedAt, cursorId, null, null, PAGE_SIZE + 1));
+        Latency offset = measure("OFFSET " + DEEP_OFFSET + " (reference)", 10,
+                () -> jdbcTemplate.queryForList(OFFSET_SQL, Long.class, DEEP_OFFSET));
+
+        List<PostSummaryRow> page = postRepository.findPublishedPage(cursorPublishedAt, cursorId, null, null,
+                PAGE_SIZE + 1);
+        assertThat(page).hasSize(PAGE_SIZE + 1);
+        assertThat(page.get(0).id()).isLessThan(cursorId);
+
+        assertThat(deep.p95()).isLessThan(20.0);
+        assertThat(deep.p50()).isLessThan(Math.max(2.0, first.p50() * 3));
+        assertThat(offset.p50()).isGreaterThan(deep.p50());
+
+        // 바인딩 순서: status, published_at <= ?, published_at < ?, id < ? (+ 방언이 파라미터로 바인딩하면 limit)
+        postRepository.findPublishedPage(cursorPublishedAt, cursorId, null, null, PAGE_SIZE + 1);
+        String keysetSql = CapturingStatementInspector.lastSql();
+        long placeholders = keysetSql.chars().filter(c -> c == '?').count();
+        assertThat(keysetSql).contains("published_at");
+        assertThat(placeholders).isBetween(4L, 5L);
+        Object[] args = placeholders == 5
+                ? new Object[]{PostStatus.PUBLISHED.name(), cursorPublishedAt, cursorPublishedAt, cursorId, PAGE_SIZE + 1}
+                : new Object[]{PostStatus.PUBLISHED.name(), cursorPublishedAt, cursorPublishedAt, cursorId};
+        String plan = explain(keysetSql, args);
+        log.info("Keyset page plan for {}\n{}", keysetSql, plan);
+        assertThat(plan).contains("idx_posts_published_keyset").doesNotContain("Sort");
+    }
+
+    @Test
+    @DisplayName("카테고리/태그 필터를 건 깊은 페이지도 인덱스 순서대로 조회된다")
+    void filteredDeepPages() {
+        Long categoryId = jdbcTemplate.queryForObject("SELECT min(id) FROM categories", Long.class);
+        Long tagId = jdbcTemplate.queryForObject("SELECT min(id) FROM tags", Long.class);
+        Map<String, Object> categoryCursor = cursorAt(DEEP_OFFSET / CATEGORY_COUNT, categoryId);
+        LocalDateTime publishedAt = ((Timestamp) categoryCursor.get("published_at")).toLocalDateTime();
+        Long id = ((Number) categoryCursor.get("id")).longValue();
+
+        Latency category = measure("keyset deep page, category", ITERATIONS,
+                () -> postRepository.findPublishedPage(publishedAt, id, categoryId, null, PAGE_SIZE + 1));
+        Latency tag = measure("keyset deep page, tag", ITERATIONS,
+                () -> postRepository.findPublishedPage(publishedAt, id, null, tagId, PAGE_SIZE + 1));
+
+        assertThat(postRepository.findPublishedPage(publishedAt, id, categoryId, null, PAGE_SIZE + 1))
+                .hasSize(PAGE_SIZE + 1)
+                .allSatisfy(row -> assertThat(row.categoryId()).isEqualTo(categoryId));
+        assertThat(category.p95()).isLessThan(20.0);
+        assertThat(tag.p95()).isLessThan(50.0);
+    }
+
+    /**
+     * 발행 게시글을 목록 순서로 offset번째까지 건너뛴 위치의 (published_at, id)
+     */
+    private Map<String, Object> cursorAt(int offset, Long categoryId) {
+        return jdbcTemplate.queryForMap("""
+                SELECT published_at, id FROM posts
+                WHERE deleted_at IS NULL AND status = 'PUBLISHED'
+                  AND (CAST(? AS BIGINT) IS NULL OR category_id = ?)
+                ORDER BY published_at DESC, id DESC
+                OFFSET ? LIMIT 1
+                """, categoryId, categoryId, offset);
+    }
+}
@@ -0,0 +1,139 @@
+package com.portfolio.blog.benchmark;
+
+import com.portfolio.blog.support.PostgresTestSupport;
+import org.junit.jupiter.api.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * DB 벤치마크 공통 설정
+ * PostgresTestSupport의 컨테이너를 그대로 쓰고 발행 게시글 1M건을 한 번만 시드 (./gradlew :api-server:benchmarkTest)
+ */
+@Tag("benchmark")
+abstract class PostgresBenchmarkSupport extends PostgresTestSupport {
+
+    private static final Logger log = LoggerFactory.getLogger(PostgresBenchmarkSupport.class);
+
+    static final int POST_COUNT = 1_000_000;
+    static final int CATEGORY_COUNT = 20;
+    static final int TAG_COUNT = 200;
+
+    /**
+     * 게시글마다 붙는 드문 토큰의 종류 수 (topicN 하나당 약 100건)
+     */
+    static final int RARE_TOPIC_COUNT = 10_000;
+
+    /**
+     * 게시글 시드 (컨테이너당 한 번)
+     * 10건 중 1건은 DRAFT, 나머지는 1분 간격으로 발행, 게시글마다 태그 2개
+     * 본문은 한국어/영어 단어를 섞은 짧은 기술 글 (검색 벤치마크가 같은 데이터를 사용)
+     * 본문 끝에 드문 토큰 두 개: 영문 topicN, 한글 두 음절 + 조사 (koreanToken 참고, 음절 쌍 하나당 약 48건)
+     */
+    protected void seedPosts() {
+        Integer existing = jdbcTemplate.queryForObject("SELECT count(*) FROM posts", Integer.class);
+        if (existing != null && existing >= POST_COUNT) {
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        jdbcTemplate.update("INSERT INTO users (email, username, password) VALUES ('bench@example.com', 'bench', 'x')");
+        jdbcTemplate.update("INSERT INTO categories (name, slug) "
+                + "SELECT 'category-' || g, 'category-' || g FROM generate_series(1, ?) g", CATEGORY_COUNT);
+        jdbcTemplate.update("INSERT INTO tags (name, slug) "
+                + "SELECT 'tag-' || g, 'tag-' || g FROM generate_series(1, ?) g", TAG_COUNT);
+        jdbcTemplate.update("""
+                WITH words AS (
+                    SELECT ARRAY['토큰을', '양자화', '추론', '지연이', '처리량', '모델', '벤치마크', '메모리', '캐시를',
+                                 '스케줄러', 'gpu', 'latency', 'kernel', 'batch', 'throughput', 'memory', 'cache',
+                                 'tensor', 'quantization', 'attention'] AS w
+                ),
+                author AS (SELECT min(id) AS id FROM users),
+                first_category AS (SELECT min(id) AS id FROM categories)
+                INSERT INTO posts (author_id, category_id, title, slug, content, excerpt, status, published_at)
+                SELECT author.id,
+                       first_category.id + g % ?,
+                       'Post ' || g || ' ' || w[1 + g % 20],
+                       'post-' || g,
+                       (SELECT string_agg(w[1 + (g * 7 + i * 13) % 20], ' ') FROM generate_series(1, 40) i)
+                           || ' topic' || g % ? || ' ' || chr(44032 + g % 3000) || chr(47032 + g % 7) || '을',
+                       'excerpt ' || w[1 + g * 3 % 20] || ' ' || w[1 + g * 11 % 20],
+                       CASE WHEN g % 10 = 0 THEN 'DRAFT' ELSE 'PUBLISHED' END,
+                       CASE WHEN g % 10 = 0 THEN NULL
+                            ELSE TIMESTAMP '2020-01-01' + g * INTERVAL '1 minute' END
+                FROM generate_series(1, ?) g, words, author, first_category
+                """, CATEGORY_COUNT, RARE_TOPIC_COUNT, POST_COUNT);
+        jdbcTemplate.update("""
+                INSERT INTO post_tags (post_id, tag_id)
+                SELECT p.id, t.first_id + (p.id + s * 37) % ?
+                FROM posts p, (SELECT min(id) AS first_id FROM tags) t, generate_series(0, 1) s
+                ON CONFLICT DO NOTHING
+                """, TAG_COUNT);
+        jdbcTemplate.execute("VACUUM ANALYZE posts");
+        jdbcTemplate.execute("VACUUM ANALYZE post_tags");
+
+        log.info("Seeded {} posts in {} ms", POST_COUNT, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    /**
+     * 시드 본문의 한글 두 음절 토큰 (g번째 게시글 기준, 조사 제외)
+     */
+    static String koreanToken(int g) {
+        return new String(Character.toChars(44032 + g % 3000)) + new String(Character.toChars(47032 + g % 7));
+    }
+
+    /**
+     * EXPLAIN (ANALYZE, BUFFERS) 텍스트 계획
+     */
+    protected String explain(String sql, Object... args) {
+        return String.join("\n", jdbcTemplate.queryForList(
+                "EXPLAIN (ANALYZE, BUFFERS) " + sql, String.class, args));
+    }
+
+    /**
+     * 워밍업 후 반복 실행한 지연 시간 분포
+     */
+    static Latency measure(String label, int iterations, Supplier<?> query) {
+        for (int i = 0; i < Math.max(3, iterations / 5); i++) {
+            query.get();
+        }
+        long[] nanos = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            long startedAt = System.nanoTime();
+            query.get();
+            nanos[i] = System.nanoTime() - startedAt;
+        }
+        return latency(label, nanos);
+    }
+
+    /**
+     * 측정한 지연 시간(ns)의 분포 (여러 스레드에서 모은 값도 그대로 전달)
+     */
+    static Latency latency(String label, long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        Latency latency = new Latency(label, millis(percentile(sorted, 0.50)), millis(percentile(sorted, 0.95)),
+                millis(percentile(sorted, 0.99)), millis(sorted[sorted.length - 1]));
+        log.info("{}", latency);
+        return latency;
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        return sorted[Math.min(sorted.length - 1, Math.max(0, (int) Math.ceil(sorted.length * quantile) - 1))];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    record Latency(String label, double p50, double p95, double p99, double max) {
+
+        @Override
+        public String toString() {
+            return String.format("%-40s p50=%8.2f ms  p95=%8.2f ms  p99=%8.2f ms  max=%8.2f ms",
+                    label, p50, p95, p99, max);
+        }
+    }
+}
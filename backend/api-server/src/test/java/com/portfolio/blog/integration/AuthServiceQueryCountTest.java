@@ -0,0 +1,136 @@
+package com.portfolio.blog.integration;
+
+import com.portfolio.blog.support.PostgresTestSupport;
+import com.portfolio.domain.user.repository.RefreshTokenRepository;
+import com.portfolio.domain.user.repository.UserRepository;
+import com.portfolio.module.user.service.AuthService;
+import com.portfolio.module.user.service.RefreshTokenStore;
+import com.portfolio.security.config.JwtProperties;
+import com.portfolio.security.dto.LoginRequest;
+import com.portfolio.security.dto.SignupRequest;
+import com.portfolio.security.jwt.JwtTokenProvider;
+import com.portfolio.security.jwt.VerifiedTokenCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 회원가입/로그인이 실제로 실행하는 SQL 문 수 (Hibernate Statistics의 prepared statement 수)
+ * - 로그인: 사용자 SELECT 1 + refresh_tokens INSERT 1
+ * - 재해시가 필요한 로그인: 위 2개 + users UPDATE 1
+ * - 회원가입: users INSERT 1 + refresh_tokens INSERT 1 (사전 중복 조회 없음)
+ * getReferenceById로 만든 사용자 참조는 SELECT를 만들지 않아야 함
+ */
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class AuthServiceQueryCountTest extends PostgresTestSupport {
+
+    private static final AtomicInteger USER_SEQUENCE = new AtomicInteger();
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private AuthService authService;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setAccessExpiration(900_000L);
+        jwtProperties.setRefreshExpiration(604_800_000L);
+        JwtTokenProvider jwtTokenProvider = mock(JwtTokenProvider.class);
+        when(jwtTokenProvider.generateAccessToken(any())).thenReturn("access");
+        when(jwtTokenProvider.generateRefreshToken(any())).thenAnswer(invocation -> UUID.randomUUID().toString());
+
+        authService = new AuthService(userRepository,
+                new RefreshTokenStore(refreshTokenRepository, userRepository, jwtProperties, new SimpleMeterRegistry()),
+                new PlainPasswordEncoder(), jwtTokenProvider, jwtProperties, mock(VerifiedTokenCache.class),
+                transactionManager);
+    }
+
+    @Test
+    @DisplayName("로그인은 사용자 SELECT 1번과 refresh_tokens INSERT 1번만 실행한다")
+    void loginStatements() {
+        String username = insertUser("{plain}secret");
+
+        assertThat(statementsOf(() -> authService.login(new LoginRequest(username, "secret")))).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("재해시가 필요한 로그인은 users UPDATE 1번만 더 실행한다")
+    void loginWithRehashStatements() {
+        String username = insertUser("{old}secret");
+
+        assertThat(statementsOf(() -> authService.login(new LoginRequest(username, "secret")))).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject("SELECT password FROM users WHERE username = ?",
+                String.class, username)).isEqualTo("{plain}secret");
+    }
+
+    @Test
+    @DisplayName("회원가입은 중복 확인 SELECT 없이 users INSERT 1번과 refresh_tokens INSERT 1번만 실행한다")
+    void signupStatements() {
+        String username = "qc-signup-" + USER_SEQUENCE.incrementAndGet() + "-" + System.nanoTime();
+
+        assertThat(statementsOf(() -> authService.signup(
+                new SignupRequest(username + "@example.com", username, "secret")))).isEqualTo(2);
+    }
+
+    private long statementsOf(Runnable work) {
+        statistics.clear();
+        work.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private String insertUser(String password) {
+        String username = "qc-" + USER_SEQUENCE.incrementAndGet() + "-" + System.nanoTime();
+        insertUser(username, password);
+        return username;
+    }
+
+    /**
+     * 해시 없이 접두어만 붙이는 인코더 ({old} 접두어 값은 재해시 대상)
+     */
+    private static class PlainPasswordEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return "{plain}" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encodedPassword.equals("{plain}" + rawPassword) || encodedPassword.equals("{old}" + rawPassword);
+        }
+
+        @Override
+        public boolean upgradeEncoding(String encodedPassword) {
+            return encodedPassword.startsWith("{old}");
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.portfolio.blog.integration;
+
+import com.portfolio.blog.support.PostgresTestSupport;
+import com.portfolio.domain.user.repository.UserRepository;
+import com.portfolio.module.blog.repository.PostCounterRepository;
+import com.portfolio.module.blog.repository.PostLikeRepository;
+import com.portfolio.module.blog.service.PostLikeService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.TransientDataAccessResourceException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 좋아요 카운터 수렴 (실제 PostgreSQL)
+ * 두 인스턴스가 같은 게시글에 동시에 좋아요/취소하고 각자 flush하는 동안 일부 flush가 실패해도
+ * 마지막 flush 후 posts.like_count는 post_likes 행 수와 같아야 함
+ * INSERT ... ON CONFLICT DO NOTHING, 변경 게시글 표시, count(*) 재계산 UPDATE를 그대로 사용
+ */
+class PostLikeConcurrencyTest extends PostgresTestSupport {
+
+    private static final int USERS = 16;
+    private static final int CLIENTS = 32;
+    private static final int TOGGLES_PER_CLIENT = 500;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final List<String> usernames = new ArrayList<>();
+    private Long postId;
+
+    @BeforeEach
+    void setUp() {
+        String prefix = "liker-" + UUID.randomUUID().toString().substring(0, 8) + "-";
+        for (int u = 0; u < USERS; u++) {
+            usernames.add(prefix + u);
+            insertUser(prefix + u, "x");
+        }
+        postId = jdbcTemplate.queryForObject("""
+                INSERT INTO posts (author_id, title, slug, content, status, published_at)
+                VALUES ((SELECT id FROM users WHERE username = ?), 'Liked', ?, 'body', 'PUBLISHED', now())
+                RETURNING id
+                """, Long.class, usernames.get(0), prefix + "post");
+    }
+
+    @Test
+    @DisplayName("두 인스턴스의 동시 좋아요/취소와 실패가 섞인 flush 후에도 like_count는 post_likes 행 수와 같다")
+    void concurrentLikesConvergeToPersistedCount() throws Exception {
+        PostLikeRepository postLikeRepository = new PostLikeRepository(jdbcTemplate);
+        FailingPostCounterRepository counters = new FailingPostCounterRepository(new PostCounterRepository(jdbcTemplate));
+        List<PostLikeService> instances = List.of(
+                new PostLikeService(postLikeRepository, counters, userRepository, new SimpleMeterRegistry()),
+                new PostLikeService(postLikeRepository, counters, userRepository, new SimpleMeterRegistry()));
+
+        ExecutorService executor = Executors.newFixedThreadPool(CLIENTS + instances.size());
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean running = new AtomicBoolean(true);
+        List<Future<?>> flushers = new ArrayList<>();
+        for (PostLikeService instance : instances) {
+            flushers.add(executor.submit(() -> {
+                start.await();
+                while (running.get()) {
+                    instance.flush();
+                    Thread.sleep(1);
+                }
+                return null;
+            }));
+        }
+        List<Future<?>> workers = new ArrayList<>();
+        for (int c = 0; c < CLIENTS; c++) {
+            PostLikeService instance = instances.get(c % instances.size());
+            String username = usernames.get(c % USERS);
+            workers.add(executor.submit(() -> {
+                start.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < TOGGLES_PER_CLIENT; i++) {
+                    if (random.nextBoolean()) {
+                        instance.like(postId, username);
+                    } else {
+                        instance.unlike(postId, username);
+                    }
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> worker : workers) {
+            worker.get(120, TimeUnit.SECONDS);
+        }
+        running.set(false);
+        for (Future<?> flusher : flushers) {
+            flusher.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        counters.failing.set(false);
+        instances.forEach(PostLikeService::flush);
+
+        Integer liked = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM post_likes WHERE post_id = ?", Integer.class, postId);
+        Integer likeCount = jdbcTemplate.queryForObject(
+                "SELECT like_count FROM posts WHERE id = ?", Integer.class, postId);
+        assertThat(counters.failures.get()).isPositive();
+        assertThat(liked).isBetween(0, USERS);
+        assertThat(likeCount).isEqualTo(liked);
+    }
+
+    /**
+     * 실제 재계산 UPDATE 앞에서 다섯 번에 한 번 실패 (flush 재시도 경로 확인용)
+     */
+    private static class FailingPostCounterRepository extends PostCounterRepository {
+
+        private final PostCounterRepository delegate;
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicInteger failures = new AtomicInteger();
+        private final AtomicBoolean failing = new AtomicBoolean(true);
+
+        FailingPostCounterRepository(PostCounterRepository delegate) {
+            super(null);
+            this.delegate = delegate;
+        }
+
+        @Override
+        public int recomputeLikeCounts(Collection<Long> postIds) {
+            if (failing.get() && calls.incrementAndGet() % 5 == 0) {
+                failures.incrementAndGet();
+                throw new TransientDataAccessResourceException("Injected flush failure");
+            }
+            return delegate.recomputeLikeCounts(postIds);
+        }
+    }
+}
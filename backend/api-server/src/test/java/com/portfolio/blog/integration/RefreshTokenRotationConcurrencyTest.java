@@ -0,0 +1,206 @@
+package com.portfolio.blog.integration;
+
+import com.portfolio.blog.support.PostgresTestSupport;
+import com.portfolio.domain.user.UserRole;
+import com.portfolio.domain.user.repository.RefreshTokenRepository;
+import com.portfolio.domain.user.repository.UserRepository;
+import com.portfolio.module.user.service.AuthService;
+import com.portfolio.module.user.service.RefreshTokenReuseException;
+import com.portfolio.module.user.service.RefreshTokenStore;
+import com.portfolio.security.config.JwtProperties;
+import com.portfolio.security.jwt.JwtTokenProvider;
+import com.portfolio.security.jwt.TokenDigest;
+import com.portfolio.security.jwt.VerifiedTokenCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Refresh Token 동시 회전/재사용 감지 (실제 PostgreSQL)
+ * 인스턴스마다 메모리 저장소가 비어 있는(cold) AuthService를 두고 같은 토큰으로 동시에 요청
+ * pg_advisory_xact_lock Family 잠금, 조건부 UPDATE 회전, id 순서 FOR UPDATE Family 무효화를 그대로 사용하며
+ * 교착(40P01)/직렬화 실패(40001)나 잠금 대기 시간 초과 없이 끝나야 함
+ */
+class RefreshTokenRotationConcurrencyTest extends PostgresTestSupport {
+
+    private static final int CLIENTS = 16;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final JwtProperties jwtProperties = new JwtProperties();
+    private final JwtTokenProvider jwtTokenProvider = mock(JwtTokenProvider.class);
+    private String username;
+    private Long userId;
+    private String family;
+
+    @BeforeEach
+    void setUp() {
+        jwtProperties.setAccessExpiration(900_000L);
+        jwtProperties.setRefreshExpiration(604_800_000L);
+        when(jwtTokenProvider.generateAccessToken(any())).thenReturn("access");
+        when(jwtTokenProvider.generateRefreshToken(any()))
+                .thenAnswer(invocation -> "refresh-" + UUID.randomUUID());
+
+        username = "rotation-" + UUID.randomUUID().toString().substring(0, 8);
+        userId = insertUser(username, "x");
+        family = UUID.randomUUID().toString();
+    }
+
+    @Test
+    @DisplayName("같은 토큰으로 여러 인스턴스가 동시에 갱신하면 하나만 성공하고 Family는 유지된다")
+    void concurrentRefreshHasSingleWinner() throws Exception {
+        issue("token-0");
+
+        List<Outcome> outcomes = runConcurrently(CLIENTS,
+                i -> () -> instance().refreshToken("token-0").getRefreshToken());
+
+        List<String> winners = outcomes.stream().filter(outcome -> outcome.token() != null)
+                .map(Outcome::token).toList();
+        assertThat(unexpectedFailures(outcomes)).isEmpty();
+        assertThat(winners).hasSize(1);
+        assertThat(outcomes).filteredOn(outcome -> outcome.failure() != null)
+                .allSatisfy(outcome -> assertThat(outcome.failure())
+                        .isExactlyInstanceOf(IllegalArgumentException.class));
+
+        Map<String, Boolean> revokedByToken = familyState();
+        assertThat(revokedByToken).hasSize(2);
+        assertThat(revokedByToken.get(digestHex("token-0"))).isTrue();
+        assertThat(revokedByToken.get(digestHex(winners.get(0)))).isFalse();
+    }
+
+    @Test
+    @DisplayName("재사용 요청과 정상 회전이 동시에 들어와도 교착 없이 Family 전체가 무효화된다")
+    void replayDuringConcurrentRotationRevokesWholeFamily() throws Exception {
+        issue("token-0");
+        String current = instance().refreshToken("token-0").getRefreshToken();
+        // 유예 시간이 지난 것으로 만들어 token-0 재사용을 탈취로 판정
+        jdbcTemplate.update("UPDATE refresh_tokens SET revoked_at = now() - interval '1 minute' "
+                + "WHERE token_family = ? AND revoked", family);
+
+        List<Outcome> outcomes = runConcurrently(CLIENTS, i -> i % 2 == 0
+                ? () -> instance().refreshToken(current).getRefreshToken()
+                : () -> instance().refreshToken("token-0").getRefreshToken());
+
+        assertThat(unexpectedFailures(outcomes)).isEmpty();
+        assertThat(outcomes).filteredOn(outcome -> outcome.index() % 2 == 1)
+                .allSatisfy(outcome -> assertThat(outcome.failure()).isInstanceOf(RefreshTokenReuseException.class));
+        assertThat(outcomes).filteredOn(outcome -> outcome.token() != null).hasSizeLessThanOrEqualTo(1);
+
+        // 회전이 먼저 커밋됐으면 그 새 토큰까지, 무효화가 먼저면 회전 없이 모두 무효화
+        Map<String, Boolean> revokedByToken = familyState();
+        assertThat(revokedByToken).hasSizeBetween(2, 3);
+        assertThat(revokedByToken.values()).containsOnly(true);
+    }
+
+    /**
+     * 요청마다 다른 애플리케이션 인스턴스 (메모리 저장소가 비어 있고 @Transactional은 실제 트랜잭션 매니저로 적용)
+     */
+    private AuthService instance() {
+        RefreshTokenStore store = new RefreshTokenStore(refreshTokenRepository, userRepository, jwtProperties,
+                new SimpleMeterRegistry());
+        AuthService target = new AuthService(userRepository, store, mock(PasswordEncoder.class), jwtTokenProvider,
+                jwtProperties, mock(VerifiedTokenCache.class), transactionManager);
+
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(new TransactionInterceptor(transactionManager,
+                new AnnotationTransactionAttributeSource()));
+        return (AuthService) proxyFactory.getProxy();
+    }
+
+    private void issue(String token) {
+        RefreshTokenStore store = new RefreshTokenStore(refreshTokenRepository, userRepository, jwtProperties,
+                new SimpleMeterRegistry());
+        new TransactionTemplate(transactionManager).executeWithoutResult(
+                status -> store.issue(userId, username, UserRole.USER, family, token));
+    }
+
+    private List<Outcome> runConcurrently(int clients, IntFunction<Callable<String>> request)
+            throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Outcome>> futures = new ArrayList<>();
+        for (int i = 0; i < clients; i++) {
+            int index = i;
+            Callable<String> call = request.apply(i);
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    return new Outcome(index, call.call(), null);
+                } catch (RuntimeException e) {
+                    return new Outcome(index, null, e);
+                }
+            }));
+        }
+        start.countDown();
+
+        List<Outcome> outcomes = new ArrayList<>();
+        for (Future<Outcome> future : futures) {
+            // 교착이면 여기서 시간 초과
+            outcomes.add(future.get(30, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+        return outcomes;
+    }
+
+    /**
+     * IllegalArgumentException(거절/재사용) 외의 실패: 교착, 직렬화 실패, 잠금 시간 초과 등
+     */
+    private static List<RuntimeException> unexpectedFailures(List<Outcome> outcomes) {
+        return outcomes.stream().map(Outcome::failure)
+                .filter(failure -> failure != null && !(failure instanceof IllegalArgumentException))
+                .toList();
+    }
+
+    private Map<String, Boolean> familyState() {
+        Map<String, Boolean> revokedByToken = new HashMap<>();
+        jdbcTemplate.query("SELECT encode(token_hash, 'hex') AS digest, revoked FROM refresh_tokens "
+                        + "WHERE token_family = ?",
+                rs -> {
+                    revokedByToken.put(rs.getString("digest"), rs.getBoolean("revoked"));
+                },
+                family);
+        return revokedByToken;
+    }
+
+    private static String digestHex(String token) {
+        return HexFormat.of().formatHex(TokenDigest.sha256(token));
+    }
+
+    private record Outcome(int index, String token, RuntimeException failure) {
+    }
+}
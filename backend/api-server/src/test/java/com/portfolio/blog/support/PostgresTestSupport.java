@@ -0,0 +1,69 @@
+package com.portfolio.blog.support;
+
+import com.portfolio.domain.config.QuerydslConfig;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * PostgreSQL 통합 테스트 공통 설정 (Docker 필요)
+ * TimescaleDB 컨테이너 하나를 모든 테스트가 공유하고 Flyway 마이그레이션을 그대로 적용
+ * 테스트 트랜잭션 없이 실행하므로 각 테스트는 자신이 만든 행만 확인하도록 고유한 이름/키를 사용
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QuerydslConfig.class, PostgresTestSupport.AuditingConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public abstract class PostgresTestSupport {
+
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>(
+            DockerImageName.parse("timescale/timescaledb:2.13.1-pg15").asCompatibleSubstituteFor("postgres"))
+            .withCommand("postgres", "-c", "shared_buffers=512MB", "-c", "max_wal_size=4GB");
+
+    static {
+        POSTGRES.start();
+    }
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+
+    /**
+     * 사용자 한 명 추가 (username은 고유해야 함)
+     *
+     * @return 생성된 users.id
+     */
+    protected Long insertUser(String username, String password) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO users (email, username, password) VALUES (?, ?, ?) RETURNING id",
+                Long.class, username + "@example.com", username, password);
+    }
+
+    /**
+     * JPA로 저장하는 테스트(users/refresh_tokens 등)의 created_at 채우기용
+     */
+    @TestConfiguration
+    @EnableJpaAuditing
+    static class AuditingConfig {
+    }
+}
@@ -6,6 +6,7 @@ plugins {
     kotlin("jvm") version "1.9.21" apply false
     kotlin("plugin.spring") version "1.9.21" apply false
     kotlin("plugin.jpa") version "1.9.21" apply false
+    id("me.champeau.jmh") version "0.7.2" apply false
     java
 }
 
@@ -54,3 +55,4 @@ subprojects {
 extra["springCloudVersion"] = "2023.0.0"
 extra["querydslVersion"] = "5.0.0"
 extra["jjwtVersion"] = "0.12.3"
+extra["jmhVersion"] = "1.37"
@@ -0,0 +1,159 @@
+package com.portfolio.common.util;
+
+/**
+ * 상대 오차가 보장되는 분위수 스케치 (DDSketch 방식, 병합 가능)
+ * 값을 로그 간격 버킷에 세기만 하므로 메모리는 값의 범위(자릿수)에만 비례하고 샘플 수와 무관
+ * quantile()은 실제 값 대비 relativeAccuracy 이내의 값을 반환
+ */
+public final class QuantileSketch {
+
+    private static final double MIN_INDEXABLE_VALUE = 1e-9;
+
+    private final double relativeAccuracy;
+    private final double gamma;
+    private final double logGamma;
+
+    private final BucketStore positive = new BucketStore();
+    private final BucketStore negative = new BucketStore();
+    private long zeroCount;
+    private long count;
+
+    public QuantileSketch(double relativeAccuracy) {
+        if (relativeAccuracy <= 0 || relativeAccuracy >= 1) {
+            throw new IllegalArgumentException("relativeAccuracy must be between 0 and 1");
+        }
+        this.relativeAccuracy = relativeAccuracy;
+        this.gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+        this.logGamma = Math.log(gamma);
+    }
+
+    public void add(double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        if (value > MIN_INDEXABLE_VALUE) {
+            positive.add(index(value), 1);
+        } else if (value < -MIN_INDEXABLE_VALUE) {
+            negative.add(index(-value), 1);
+        } else {
+            zeroCount++;
+        }
+        count++;
+    }
+
+    /**
+     * 다른 스케치의 카운트를 합침 (같은 relativeAccuracy로 만든 스케치만 가능)
+     */
+    public void merge(QuantileSketch other) {
+        if (other.relativeAccuracy != relativeAccuracy) {
+            throw new IllegalArgumentException("Cannot merge sketches with different relative accuracy");
+        }
+        positive.merge(other.positive);
+        negative.merge(other.negative);
+        zeroCount += other.zeroCount;
+        count += other.count;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    /**
+     * q 분위수 (0 ~ 1), 비어 있으면 NaN
+     */
+    public double quantile(double q) {
+        if (q < 0 || q > 1) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1: " + q);
+        }
+        if (count == 0) {
+            return Double.NaN;
+        }
+
+        long rank = (long) (q * (count - 1));
+        long seen = 0;
+
+        // 음수는 절댓값이 큰 버킷부터
+        for (int i = negative.maxIndex(); i >= negative.minIndex(); i--) {
+            seen += negative.count(i);
+            if (seen > rank) {
+                return -value(i);
+            }
+        }
+
+        seen += zeroCount;
+        if (seen > rank) {
+            return 0;
+        }
+
+        for (int i = positive.minIndex(); i <= positive.maxIndex(); i++) {
+            seen += positive.count(i);
+            if (seen > rank) {
+                return value(i);
+            }
+        }
+        return value(positive.maxIndex());
+    }
+
+    private int index(double value) {
+        return (int) Math.ceil(Math.log(value) / logGamma);
+    }
+
+    /**
+     * 버킷 (gamma^(i-1), gamma^i]의 대표값 (양 끝 대비 상대 오차가 같은 지점)
+     */
+    private double value(int index) {
+        return 2 * Math.pow(gamma, index) / (gamma + 1);
+    }
+
+    /**
+     * 버킷 인덱스 -> 카운트 (연속 구간을 배열 하나로 보관, 필요 시 양방향 확장)
+     */
+    private static final class BucketStore {
+
+        private long[] counts = new long[0];
+        private int offset;
+
+        void add(int index, long delta) {
+            if (counts.length == 0) {
+                counts = new long[16];
+                offset = index - counts.length / 2;
+            }
+            if (index < offset || index >= offset + counts.length) {
+                grow(index);
+            }
+            counts[index - offset] += delta;
+        }
+
+        void merge(BucketStore other) {
+            for (int i = 0; i < other.counts.length; i++) {
+                if (other.counts[i] != 0) {
+                    add(other.offset + i, other.counts[i]);
+                }
+            }
+        }
+
+        long count(int index) {
+            return index < offset || index >= offset + counts.length ? 0 : counts[index - offset];
+        }
+
+        int minIndex() {
+            return offset;
+        }
+
+        int maxIndex() {
+            return offset + counts.length - 1;
+        }
+
+        private void grow(int index) {
+            int newMin = Math.min(offset, index);
+            int newMax = Math.max(offset + counts.length - 1, index);
+            int length = Math.max(counts.length * 2, newMax - newMin + 1);
+            int newOffset = index < offset ? newMax - length + 1 : newMin;
+
+            long[] grown = new long[length];
+            System.arraycopy(counts, 0, grown, offset - newOffset, counts.length);
+            counts = grown;
+            offset = newOffset;
+        }
+    }
+}
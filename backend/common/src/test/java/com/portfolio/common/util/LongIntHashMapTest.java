@@ -0,0 +1,62 @@
+package com.portfolio.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongIntHashMapTest {
+
+    @Test
+    @DisplayName("없는 키는 missingValue, 같은 키를 다시 넣으면 값만 바뀐다")
+    void putsAndOverwrites() {
+        LongIntHashMap map = new LongIntHashMap(4, -1);
+
+        map.put(0L, 10);
+        map.put(-5L, 20);
+        map.put(Long.MAX_VALUE, 30);
+        map.put(0L, 11);
+
+        assertThat(map.get(0L)).isEqualTo(11);
+        assertThat(map.get(-5L)).isEqualTo(20);
+        assertThat(map.get(Long.MAX_VALUE)).isEqualTo(30);
+        assertThat(map.get(7L)).isEqualTo(-1);
+        assertThat(map.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("예상 크기를 넘겨 넣어도 크기를 늘리며 모든 값을 유지한다")
+    void growsBeyondExpectedSize() {
+        LongIntHashMap map = new LongIntHashMap(0, -1);
+        Map<Long, Integer> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 50_000; i++) {
+            long key = random.nextLong();
+            map.put(key, i);
+            expected.put(key, i);
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        expected.forEach((key, value) -> assertThat(map.get(key)).isEqualTo(value));
+    }
+
+    @Test
+    @DisplayName("연속된 id(같은 하위 비트 패턴)도 충돌 없이 조회된다")
+    void handlesSequentialIds() {
+        LongIntHashMap map = new LongIntHashMap(1_000, -1);
+
+        for (int i = 0; i < 1_000; i++) {
+            map.put(1_000_000L + i * 1024L, i);
+        }
+
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(map.get(1_000_000L + i * 1024L)).isEqualTo(i);
+        }
+        assertThat(map.get(999_999L)).isEqualTo(-1);
+    }
+}
@@ -0,0 +1,82 @@
+package com.portfolio.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class QuantileSketchTest {
+
+    private static final double ACCURACY = 0.01;
+
+    @Test
+    @DisplayName("분위수는 정렬한 실제 값 대비 상대 오차 이내")
+    void quantilesWithinRelativeAccuracy() {
+        QuantileSketch sketch = new QuantileSketch(ACCURACY);
+        double[] values = new double[100_000];
+        Random random = new Random(42);
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Math.exp(random.nextGaussian() * 2);
+            sketch.add(values[i]);
+        }
+        Arrays.sort(values);
+
+        for (double q : new double[]{0, 0.5, 0.95, 0.99, 1}) {
+            double expected = values[(int) (q * (values.length - 1))];
+            assertThat(sketch.quantile(q)).isCloseTo(expected, within(expected * ACCURACY));
+        }
+        assertThat(sketch.count()).isEqualTo(values.length);
+    }
+
+    @Test
+    @DisplayName("음수, 0, 양수가 섞여도 순서대로 분위수를 찾는다")
+    void handlesNegativeAndZero() {
+        QuantileSketch sketch = new QuantileSketch(ACCURACY);
+        for (double value : new double[]{-50, -10, 0, 0, 10, 50, Double.NaN}) {
+            sketch.add(value);
+        }
+
+        assertThat(sketch.count()).isEqualTo(6);
+        assertThat(sketch.quantile(0)).isCloseTo(-50, within(0.5));
+        assertThat(sketch.quantile(0.2)).isCloseTo(-10, within(0.1));
+        assertThat(sketch.quantile(0.5)).isZero();
+        assertThat(sketch.quantile(1)).isCloseTo(50, within(0.5));
+    }
+
+    @Test
+    @DisplayName("병합한 스케치는 한 스케치에 모두 넣은 것과 같은 결과")
+    void mergesLikeSingleSketch() {
+        QuantileSketch whole = new QuantileSketch(ACCURACY);
+        QuantileSketch low = new QuantileSketch(ACCURACY);
+        QuantileSketch high = new QuantileSketch(ACCURACY);
+        for (int i = 1; i <= 10_000; i++) {
+            whole.add(i);
+            (i <= 5_000 ? low : high).add(i * 1_000.0);
+            whole.add(i * 1_000.0);
+            low.add(i);
+        }
+
+        low.merge(high);
+
+        assertThat(low.count()).isEqualTo(whole.count());
+        for (double q : new double[]{0, 0.25, 0.5, 0.75, 0.99, 1}) {
+            assertThat(low.quantile(q)).isEqualTo(whole.quantile(q));
+        }
+    }
+
+    @Test
+    @DisplayName("비어 있으면 NaN, 범위 밖 분위수나 다른 정확도 병합은 IllegalArgumentException")
+    void rejectsInvalidUsage() {
+        QuantileSketch sketch = new QuantileSketch(ACCURACY);
+
+        assertThat(sketch.quantile(0.5)).isNaN();
+        assertThatThrownBy(() -> sketch.quantile(1.5)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> sketch.merge(new QuantileSketch(0.02))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new QuantileSketch(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 
 @Entity
 @Table(name = "ai_models")
@@ -39,6 +40,21 @@ public class AiModel {
     @Column(name = "file_size", nullable = false)
     private Long fileSize;
 
+    @Column(name = "checksum_sha256", length = 64)
+    private String checksumSha256;
+
+    @Column(name = "file_modified_at")
+    private OffsetDateTime fileModifiedAt;
+
+    @Column(length = 100)
+    private String architecture;
+
+    @Column(name = "parameter_count")
+    private Long parameterCount;
+
+    @Column(name = "scanned_at")
+    private LocalDateTime scannedAt;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -53,4 +69,30 @@ public class AiModel {
         this.filePath = filePath;
         this.fileSize = fileSize;
     }
+
+    /**
+     * 파일 스캔 결과 반영
+     */
+    public void updateFileMetadata(long fileSize, OffsetDateTime fileModifiedAt, String checksumSha256,
+                                   String architecture, Long parameterCount, String quantization) {
+        this.fileSize = fileSize;
+        this.fileModifiedAt = fileModifiedAt;
+        this.checksumSha256 = checksumSha256;
+        this.architecture = architecture;
+        this.parameterCount = parameterCount;
+        if (quantization != null) {
+            this.quantization = quantization;
+        }
+        this.scannedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 파일 크기와 수정 시각이 스캔 당시와 같으면 내용도 같다고 간주
+     */
+    public boolean isUnchanged(long fileSize, OffsetDateTime fileModifiedAt) {
+        return checksumSha256 != null
+                && this.fileSize == fileSize
+                && this.fileModifiedAt != null
+                && this.fileModifiedAt.toInstant().equals(fileModifiedAt.toInstant());
+    }
 }
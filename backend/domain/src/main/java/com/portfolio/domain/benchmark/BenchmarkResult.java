@@ -1,11 +1,13 @@
 package com.portfolio.domain.benchmark;
 
 import com.portfolio.domain.user.User;
+import io.hypersistence.utils.hibernate.type.json.JsonType;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Type;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
@@ -55,6 +57,28 @@ public class BenchmarkResult {
     @Column(name = "avg_temperature", precision = 5, scale = 2)
     private BigDecimal avgTemperature;
 
+    @Column(name = "sample_count")
+    private Long sampleCount;
+
+    @Column(name = "dropped_samples", nullable = false)
+    private Long droppedSamples = 0L;
+
+    @Type(JsonType.class)
+    @Column(name = "metrics_summary", columnDefinition = "jsonb")
+    private MetricsSummary metricsSummary;
+
+    @Column(name = "energy_joules", precision = 14, scale = 3)
+    private BigDecimal energyJoules;
+
+    @Column(name = "energy_per_token", precision = 12, scale = 6)
+    private BigDecimal energyPerToken;
+
+    @Column(name = "finalized_at")
+    private LocalDateTime finalizedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -76,4 +100,35 @@ public class BenchmarkResult {
         this.maxMemoryUsed = maxMemoryUsed;
         this.avgTemperature = avgTemperature;
     }
+
+    /**
+     * 실행 완료 시 측정값 기록 (completedAt이 없는 결과는 실행 중이며 리더보드/내보내기에서 제외)
+     *
+     * @param droppedSamples 실행 중 기록하지 못한 GPU 샘플 수 (요약 통계가 빈 구간을 포함하는지 표시)
+     */
+    public void complete(int generatedTokens, BigDecimal totalDuration,
+                         BigDecimal tokensPerSecond, BigDecimal firstTokenLatency, long droppedSamples) {
+        this.generatedTokens = generatedTokens;
+        this.totalDuration = totalDuration;
+        this.tokensPerSecond = tokensPerSecond;
+        this.firstTokenLatency = firstTokenLatency;
+        this.droppedSamples = droppedSamples;
+        this.completedAt = LocalDateTime.now();
+    }
+
+    /**
+     * gpu_metrics에서 계산한 요약 통계 반영
+     */
+    public void applySummary(long sampleCount, MetricsSummary metricsSummary,
+                             BigDecimal avgGpuUtilization, Long maxMemoryUsed, BigDecimal avgTemperature,
+                             BigDecimal energyJoules, BigDecimal energyPerToken) {
+        this.sampleCount = sampleCount;
+        this.metricsSummary = metricsSummary;
+        this.avgGpuUtilization = avgGpuUtilization;
+        this.maxMemoryUsed = maxMemoryUsed;
+        this.avgTemperature = avgTemperature;
+        this.energyJoules = energyJoules;
+        this.energyPerToken = energyPerToken;
+        this.finalizedAt = LocalDateTime.now();
+    }
 }
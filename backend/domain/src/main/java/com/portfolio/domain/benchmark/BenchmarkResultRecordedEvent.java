@@ -0,0 +1,8 @@
+package com.portfolio.domain.benchmark;
+
+/**
+ * 벤치마크 결과 완료 이벤트 (리더보드 증분 갱신용, 완료 트랜잭션 안에서 발행)
+ */
+public record BenchmarkResultRecordedEvent(Long benchmarkId, Long modelId,
+                                           double tokensPerSecond, double firstTokenLatency) {
+}
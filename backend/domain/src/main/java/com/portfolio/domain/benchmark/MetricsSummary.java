@@ -0,0 +1,20 @@
+package com.portfolio.domain.benchmark;
+
+/**
+ * gpu_metrics 메트릭별 요약 통계 (benchmark_results.metrics_summary)
+ */
+public record MetricsSummary(
+        MetricStats gpuUtilization,
+        MetricStats memoryUsed,
+        MetricStats temperature,
+        MetricStats powerDraw,
+        MetricStats fanSpeed
+) {
+
+    /**
+     * 분위수는 근사값 (상대 오차 1% 이내)
+     */
+    public record MetricStats(long count, Double min, Double max, Double avg,
+                              Double p50, Double p95, Double p99) {
+    }
+}
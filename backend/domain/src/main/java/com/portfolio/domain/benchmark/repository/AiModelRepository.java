@@ -0,0 +1,11 @@
+package com.portfolio.domain.benchmark.repository;
+
+import com.portfolio.domain.benchmark.AiModel;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AiModelRepository extends JpaRepository<AiModel, Long> {
+
+    boolean existsBySlug(String slug);
+}
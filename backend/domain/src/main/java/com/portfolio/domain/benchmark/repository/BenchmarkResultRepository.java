@@ -0,0 +1,28 @@
+package com.portfolio.domain.benchmark.repository;
+
+import com.portfolio.domain.benchmark.BenchmarkResult;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface BenchmarkResultRepository extends JpaRepository<BenchmarkResult, Long> {
+
+    /**
+     * 벤치마크를 등록한 사용자 이름 (권한 확인용, 엔티티를 로딩하지 않음)
+     */
+    @Query("SELECT b.user.username FROM BenchmarkResult b WHERE b.id = :id")
+    Optional<String> findOwnerUsername(@Param("id") Long id);
+
+    /**
+     * before 이전에 만들어졌는데 아직 완료되지 않은 결과 삭제 (gpu_metrics는 FK CASCADE)
+     */
+    @Modifying
+    @Query("DELETE FROM BenchmarkResult b WHERE b.completedAt IS NULL AND b.createdAt < :before")
+    int deleteIncompleteCreatedBefore(@Param("before") LocalDateTime before);
+}
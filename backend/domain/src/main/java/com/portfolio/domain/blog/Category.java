@@ -14,7 +14,7 @@ import java.time.LocalDateTime;
 @Table(name = "categories")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, TaxonomyEntityListener.class})
 public class Category {
 
     @Id
@@ -9,8 +9,9 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 @Entity
 @Table(name = "posts")
@@ -46,10 +47,16 @@ public class Post extends SoftDeletableEntity {
     @Column(nullable = false, length = 20)
     private PostStatus status;
 
-    @Column(name = "view_count", nullable = false)
+    /**
+     * ViewCountService가 일괄 반영 (엔티티 UPDATE로 덮어쓰지 않음)
+     */
+    @Column(name = "view_count", nullable = false, updatable = false)
     private Integer viewCount = 0;
 
-    @Column(name = "like_count", nullable = false)
+    /**
+     * PostLikeService가 일괄 반영 (엔티티 UPDATE로 덮어쓰지 않음)
+     */
+    @Column(name = "like_count", nullable = false, updatable = false)
     private Integer likeCount = 0;
 
     @Column(name = "published_at")
@@ -61,7 +68,7 @@ public class Post extends SoftDeletableEntity {
         joinColumns = @JoinColumn(name = "post_id"),
         inverseJoinColumns = @JoinColumn(name = "tag_id")
     )
-    private List<Tag> tags = new ArrayList<>();
+    private Set<Tag> tags = new LinkedHashSet<>();
 
     @Builder
     public Post(User author, Category category, String title, String slug,
@@ -100,24 +107,8 @@ public class Post extends SoftDeletableEntity {
         this.publishedAt = null;
     }
 
-    public void incrementViewCount() {
-        this.viewCount++;
-    }
-
-    public void incrementLikeCount() {
-        this.likeCount++;
-    }
-
-    public void decrementLikeCount() {
-        if (this.likeCount > 0) {
-            this.likeCount--;
-        }
-    }
-
     public void addTag(Tag tag) {
-        if (!this.tags.contains(tag)) {
-            this.tags.add(tag);
-        }
+        this.tags.add(tag);
     }
 
     public void removeTag(Tag tag) {
@@ -128,8 +119,11 @@ public class Post extends SoftDeletableEntity {
         this.tags.clear();
     }
 
-    public void updateTags(List<Tag> newTags) {
-        this.tags.clear();
+    /**
+     * 변경된 태그만 반영 (Set이므로 Hibernate가 바뀐 post_tags 행만 INSERT/DELETE)
+     */
+    public void updateTags(Collection<Tag> newTags) {
+        this.tags.retainAll(newTags);
         this.tags.addAll(newTags);
     }
 }
@@ -0,0 +1,102 @@
+package com.portfolio.domain.blog;
+
+import io.hypersistence.utils.hibernate.type.json.JsonType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Type;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 게시글 Markdown 렌더링 결과 (본문 해시 + 렌더러 버전이 같으면 재사용)
+ */
+@Entity
+@Table(name = "post_renders")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostRender {
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(name = "renderer_version", nullable = false)
+    private Integer rendererVersion;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String html;
+
+    @Type(JsonType.class)
+    @Column(nullable = false, columnDefinition = "jsonb")
+    private List<TocEntry> toc = new ArrayList<>();
+
+    @Column(columnDefinition = "TEXT")
+    private String excerpt;
+
+    /**
+     * 렌더링한 본문의 posts.updated_at (같으면 본문 해시 계산 없이 재사용)
+     */
+    @Column(name = "source_updated_at")
+    private LocalDateTime sourceUpdatedAt;
+
+    @Column(name = "rendered_at", nullable = false)
+    private LocalDateTime renderedAt;
+
+    @Builder
+    public PostRender(Long postId, String contentHash, Integer rendererVersion, LocalDateTime sourceUpdatedAt,
+                      String html, List<TocEntry> toc, String excerpt) {
+        this.postId = postId;
+        this.sourceUpdatedAt = sourceUpdatedAt;
+        this.contentHash = contentHash;
+        this.rendererVersion = rendererVersion;
+        this.html = html;
+        this.toc = toc != null ? toc : new ArrayList<>();
+        this.excerpt = excerpt;
+        this.renderedAt = LocalDateTime.now();
+    }
+
+    public void update(String contentHash, Integer rendererVersion, LocalDateTime sourceUpdatedAt,
+                       String html, List<TocEntry> toc, String excerpt) {
+        this.contentHash = contentHash;
+        this.sourceUpdatedAt = sourceUpdatedAt;
+        this.rendererVersion = rendererVersion;
+        this.html = html;
+        this.toc = toc != null ? toc : new ArrayList<>();
+        this.excerpt = excerpt;
+        this.renderedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 본문이 마지막 렌더링 이후 수정되지 않았는지 (해시 계산 없이 판단)
+     * 더 높은 렌더러 버전의 결과(배포 중 새 인스턴스가 렌더링)도 그대로 사용
+     */
+    public boolean isRenderedFrom(LocalDateTime postUpdatedAt, int rendererVersion) {
+        return sourceUpdatedAt != null && sourceUpdatedAt.equals(postUpdatedAt)
+                && this.rendererVersion >= rendererVersion;
+    }
+
+    public boolean isCurrent(String contentHash, int rendererVersion) {
+        return this.contentHash.equals(contentHash) && this.rendererVersion >= rendererVersion;
+    }
+
+    /**
+     * 본문 외 컬럼만 수정된 경우 렌더링 결과는 두고 기준 시각만 갱신
+     */
+    public void markRenderedFrom(LocalDateTime postUpdatedAt) {
+        this.sourceUpdatedAt = postUpdatedAt;
+    }
+
+    /**
+     * 목차 항목 (heading 레벨, anchor id, 텍스트)
+     */
+    public record TocEntry(int level, String id, String text) {
+    }
+}
@@ -0,0 +1,7 @@
+package com.portfolio.domain.blog;
+
+/**
+ * 카테고리/태그 추가·수정·삭제 이벤트 (캐시 무효화용)
+ */
+public record TaxonomyChangedEvent(Class<?> entityType, Long id) {
+}
@@ -0,0 +1,27 @@
+package com.portfolio.domain.blog;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * Category/Tag 변경 시 TaxonomyChangedEvent 발행
+ * (Spring Boot가 Hibernate BeanContainer를 설정하므로 의존성 주입 가능)
+ */
+@RequiredArgsConstructor
+public class TaxonomyEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        Long id = entity instanceof Category category ? category.getId()
+                : entity instanceof Tag tag ? tag.getId()
+                : null;
+        eventPublisher.publishEvent(new TaxonomyChangedEvent(entity.getClass(), id));
+    }
+}
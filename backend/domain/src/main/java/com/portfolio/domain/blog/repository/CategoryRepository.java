@@ -0,0 +1,9 @@
+package com.portfolio.domain.blog.repository;
+
+import com.portfolio.domain.blog.Category;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CategoryRepository extends JpaRepository<Category, Long> {
+}
@@ -0,0 +1,9 @@
+package com.portfolio.domain.blog.repository;
+
+import com.portfolio.domain.blog.Comment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CommentRepository extends JpaRepository<Comment, Long>, CommentRepositoryCustom {
+}
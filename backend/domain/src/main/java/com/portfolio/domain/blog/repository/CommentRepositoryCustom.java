@@ -0,0 +1,11 @@
+package com.portfolio.domain.blog.repository;
+
+import java.util.List;
+
+public interface CommentRepositoryCustom {
+
+    /**
+     * 게시글의 삭제되지 않은 댓글 전체 (id 오름차순, 단일 쿼리)
+     */
+    List<CommentRow> findTreeRows(Long postId);
+}
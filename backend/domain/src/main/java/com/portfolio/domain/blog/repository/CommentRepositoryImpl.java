@@ -0,0 +1,36 @@
+package com.portfolio.domain.blog.repository;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+import static com.portfolio.domain.blog.QComment.comment;
+import static com.portfolio.domain.user.QUser.user;
+
+@RequiredArgsConstructor
+public class CommentRepositoryImpl implements CommentRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<CommentRow> findTreeRows(Long postId) {
+        return queryFactory
+                .select(Projections.constructor(CommentRow.class,
+                        comment.id,
+                        comment.parent.id,
+                        comment.content,
+                        user.id,
+                        user.username,
+                        comment.createdAt,
+                        comment.updatedAt
+                ))
+                .from(comment)
+                .join(comment.author, user)
+                .where(comment.post.id.eq(postId),
+                        comment.deletedAt.isNull())
+                .orderBy(comment.id.asc())
+                .fetch();
+    }
+}
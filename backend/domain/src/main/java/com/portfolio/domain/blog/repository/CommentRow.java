@@ -0,0 +1,17 @@
+package com.portfolio.domain.blog.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 트리 조회용 projection (parent/author 프록시 없음)
+ */
+public record CommentRow(
+        Long id,
+        Long parentId,
+        String content,
+        Long authorId,
+        String authorUsername,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
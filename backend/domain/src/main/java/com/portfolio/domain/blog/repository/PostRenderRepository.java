@@ -0,0 +1,17 @@
+package com.portfolio.domain.blog.repository;
+
+import com.portfolio.domain.blog.PostRender;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface PostRenderRepository extends JpaRepository<PostRender, Long> {
+
+    /**
+     * 현재보다 낮은 렌더러 버전의 결과 (더 높은 버전은 배포 중인 새 인스턴스의 결과이므로 건드리지 않음)
+     */
+    List<PostRender> findByRendererVersionLessThan(int rendererVersion, Pageable pageable);
+}
@@ -0,0 +1,19 @@
+package com.portfolio.domain.blog.repository;
+
+import com.portfolio.domain.blog.Post;
+import com.portfolio.domain.blog.PostStatus;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface PostRepository extends JpaRepository<Post, Long>, PostRepositoryCustom {
+
+    @EntityGraph(attributePaths = {"author", "category"})
+    Optional<Post> findByIdAndDeletedAtIsNull(Long id);
+
+    @EntityGraph(attributePaths = {"author"})
+    Optional<Post> findByIdAndStatusAndDeletedAtIsNull(Long id, PostStatus status);
+}
@@ -0,0 +1,20 @@
+package com.portfolio.domain.blog.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface PostRepositoryCustom {
+
+    /**
+     * 발행된 게시글 Keyset 페이지 조회 (published_at DESC, id DESC)
+     * cursorPublishedAt/cursorId가 null이면 첫 페이지
+     */
+    List<PostSummaryRow> findPublishedPage(LocalDateTime cursorPublishedAt, Long cursorId,
+                                           Long categoryId, Long tagId, int limit);
+
+    /**
+     * 여러 게시글의 태그를 한 번에 조회
+     */
+    List<PostTagRow> findTagsByPostIds(Collection<Long> postIds);
+}
@@ -0,0 +1,90 @@
+package com.portfolio.domain.blog.repository;
+
+import com.portfolio.domain.blog.PostStatus;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import static com.portfolio.domain.blog.QPost.post;
+import static com.portfolio.domain.blog.QTag.tag;
+import static com.portfolio.domain.user.QUser.user;
+
+@RequiredArgsConstructor
+public class PostRepositoryImpl implements PostRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<PostSummaryRow> findPublishedPage(LocalDateTime cursorPublishedAt, Long cursorId,
+                                                  Long categoryId, Long tagId, int limit) {
+        return queryFactory
+                .select(Projections.constructor(PostSummaryRow.class,
+                        post.id,
+                        post.title,
+                        post.slug,
+                        post.excerpt,
+                        user.id,
+                        user.username,
+                        post.category.id,
+                        post.status,
+                        post.viewCount,
+                        post.likeCount,
+                        post.createdAt,
+                        post.updatedAt,
+                        post.publishedAt
+                ))
+                .from(post)
+                .join(post.author, user)
+                .where(publishedPageCondition(cursorPublishedAt, cursorId, categoryId, tagId))
+                .orderBy(post.publishedAt.desc(), post.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<PostTagRow> findTagsByPostIds(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+
+        return queryFactory
+                .select(Projections.constructor(PostTagRow.class,
+                        post.id,
+                        tag.id
+                ))
+                .from(post)
+                .join(post.tags, tag)
+                .where(post.id.in(postIds))
+                .orderBy(post.id.asc(), tag.id.asc())
+                .fetch();
+    }
+
+    /**
+     * 부분 인덱스(idx_posts_published_keyset 등) 조건과 일치하는 WHERE 절
+     */
+    static BooleanBuilder publishedPageCondition(LocalDateTime cursorPublishedAt, Long cursorId,
+                                                 Long categoryId, Long tagId) {
+        BooleanBuilder where = new BooleanBuilder()
+                .and(post.deletedAt.isNull())
+                .and(post.status.eq(PostStatus.PUBLISHED))
+                .and(post.publishedAt.isNotNull());
+
+        if (cursorPublishedAt != null && cursorId != null) {
+            // (published_at, id) < (cursor) 를 인덱스 범위 조건(published_at <= ?)과 함께 표현
+            where.and(post.publishedAt.loe(cursorPublishedAt))
+                    .and(post.publishedAt.lt(cursorPublishedAt).or(post.id.lt(cursorId)));
+        }
+        if (categoryId != null) {
+            where.and(post.category.id.eq(categoryId));
+        }
+        if (tagId != null) {
+            where.and(post.tags.any().id.eq(tagId));
+        }
+        return where;
+    }
+}
@@ -0,0 +1,26 @@
+package com.portfolio.domain.blog.repository;
+
+import com.portfolio.domain.blog.PostStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록용 projection (content TEXT 컬럼 및 연관 엔티티 로딩 없음)
+ * 카테고리/태그 이름은 TaxonomyCache에서 조회
+ */
+public record PostSummaryRow(
+        Long id,
+        String title,
+        String slug,
+        String excerpt,
+        Long authorId,
+        String authorUsername,
+        Long categoryId,
+        PostStatus status,
+        Integer viewCount,
+        Integer likeCount,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        LocalDateTime publishedAt
+) {
+}
@@ -0,0 +1,7 @@
+package com.portfolio.domain.blog.repository;
+
+/**
+ * 게시글-태그 관계 projection
+ */
+public record PostTagRow(Long postId, Long tagId) {
+}
@@ -0,0 +1,4 @@
+package com.portfolio.domain.blog.repository;
+
+public record TagPostCount(Long tagId, long postCount) {
+}
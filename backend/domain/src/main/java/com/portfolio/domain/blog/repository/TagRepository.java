@@ -0,0 +1,21 @@
+package com.portfolio.domain.blog.repository;
+
+import com.portfolio.domain.blog.Tag;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface TagRepository extends JpaRepository<Tag, Long> {
+
+    /**
+     * 태그별 발행 게시글 수
+     */
+    @Query("select new com.portfolio.domain.blog.repository.TagPostCount(t.id, count(p)) " +
+           "from Post p join p.tags t " +
+           "where p.deletedAt is null and p.status = com.portfolio.domain.blog.PostStatus.PUBLISHED " +
+           "group by t.id")
+    List<TagPostCount> countPublishedPostsByTag();
+}
@@ -25,8 +25,11 @@ public class RefreshToken {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @Column(nullable = false, unique = true, length = 500)
-    private String token;
+    /**
+     * SHA-256(refresh token), 원문은 저장하지 않음
+     */
+    @Column(name = "token_hash", nullable = false, unique = true, columnDefinition = "bytea")
+    private byte[] tokenHash;
 
     @Column(name = "token_family", nullable = false, length = 100)
     private String tokenFamily;
@@ -45,9 +48,9 @@ public class RefreshToken {
     private LocalDateTime createdAt;
 
     @Builder
-    public RefreshToken(User user, String token, String tokenFamily, LocalDateTime expiresAt) {
+    public RefreshToken(User user, byte[] tokenHash, String tokenFamily, LocalDateTime expiresAt) {
         this.user = user;
-        this.token = token;
+        this.tokenHash = tokenHash;
         this.tokenFamily = tokenFamily;
         this.expiresAt = expiresAt;
         this.revoked = false;
@@ -3,18 +3,83 @@ package com.portfolio.domain.user.repository;
 import com.portfolio.domain.user.RefreshToken;
 import com.portfolio.domain.user.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
 
-    Optional<RefreshToken> findByToken(String token);
+    /**
+     * 다이제스트로 토큰 조회 (사용자까지 한 번에 로드)
+     */
+    @Query("SELECT rt FROM RefreshToken rt JOIN FETCH rt.user WHERE rt.tokenHash = :tokenHash")
+    Optional<RefreshToken> findByTokenHashWithUser(@Param("tokenHash") byte[] tokenHash);
 
-    Optional<RefreshToken> findByTokenFamily(String tokenFamily);
+    /**
+     * 아직 유효한 토큰만 무효화 (0이면 이미 무효화된 토큰)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE RefreshToken rt SET rt.revoked = true, rt.revokedAt = :now WHERE rt.id = :id AND rt.revoked = false")
+    int revokeIfActive(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    /**
+     * cutoff 이전에 만료된 토큰을 최대 limit개 삭제 (다른 트랜잭션이 잠근 행은 건너뜀)
+     * 무효화된 토큰도 만료 전까지는 재사용 감지에 필요하므로 만료 시각으로만 삭제
+     */
+    @Modifying
+    @Query(value = """
+            DELETE FROM refresh_tokens
+            WHERE id IN (
+                SELECT id FROM refresh_tokens
+                WHERE expires_at < :cutoff
+                ORDER BY expires_at
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            )
+            """, nativeQuery = true)
+    int purgeExpired(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
 
     void deleteByUser(User user);
 
-    void deleteByTokenFamily(String tokenFamily);
+    /**
+     * Family 단위 트랜잭션 잠금 (커밋/롤백 시 해제)
+     * 회전과 Family 무효화를 직렬화해 무효화가 아직 커밋되지 않은 새 토큰을 놓치지 않도록 함
+     */
+    @Query(value = "SELECT 1 FROM pg_advisory_xact_lock(hashtext(:tokenFamily))", nativeQuery = true)
+    int lockFamily(@Param("tokenFamily") String tokenFamily);
+
+    /**
+     * Family의 유효 토큰을 한 번에 무효화 (id 순서로 잠가 동시 무효화끼리 교착되지 않음)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = """
+            UPDATE refresh_tokens SET revoked = TRUE, revoked_at = :now
+            WHERE id IN (
+                SELECT id FROM refresh_tokens
+                WHERE token_family = :tokenFamily AND NOT revoked
+                ORDER BY id
+                FOR UPDATE
+            )
+            """, nativeQuery = true)
+    int revokeFamily(@Param("tokenFamily") String tokenFamily, @Param("now") LocalDateTime now);
+
+    /**
+     * Family 전체 삭제 (id 순서로 잠가 동시 무효화끼리 교착되지 않음)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = """
+            DELETE FROM refresh_tokens
+            WHERE id IN (
+                SELECT id FROM refresh_tokens
+                WHERE token_family = :tokenFamily
+                ORDER BY id
+                FOR UPDATE
+            )
+            """, nativeQuery = true)
+    int deleteFamily(@Param("tokenFamily") String tokenFamily);
 }
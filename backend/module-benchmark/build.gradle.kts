@@ -1,12 +1,32 @@
 plugins {
     id("io.spring.dependency-management")
+    id("me.champeau.jmh")
 }
 
 dependencies {
     // Module Dependencies
     implementation(project(":common"))
     implementation(project(":domain"))
+    implementation(project(":security"))
 
     // Spring Web
     implementation("org.springframework.boot:spring-boot-starter-web")
+
+    // Spring Security (@AuthenticationPrincipal)
+    implementation("org.springframework.boot:spring-boot-starter-security")
+
+    // Spring Data JPA
+    implementation("org.springframework.boot:spring-boot-starter-data-jpa")
+
+    // PostgreSQL Driver (COPY API)
+    implementation("org.postgresql:postgresql")
+
+    // Metrics
+    implementation("io.micrometer:micrometer-core")
+}
+
+// JMH (./gradlew :module-benchmark:jmh, gc 프로파일러로 op당 할당량 함께 출력)
+jmh {
+    jmhVersion.set(rootProject.extra["jmhVersion"] as String)
+    profilers.add("gc")
 }
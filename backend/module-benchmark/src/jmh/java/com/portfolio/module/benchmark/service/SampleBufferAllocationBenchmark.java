@@ -0,0 +1,85 @@
+package com.portfolio.module.benchmark.service;
+
+import com.portfolio.domain.benchmark.GpuMetrics;
+import com.portfolio.module.benchmark.repository.GpuMetricsCopyRepository;
+import com.portfolio.module.benchmark.repository.GpuSampleBatch;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 샘플 하나를 넣는 비용과 할당량 비교 (gc 프로파일러로 gc.alloc.rate.norm 확인, ./gradlew :module-benchmark:jmh)
+ * appendToBuffer: InFlightSampleBuffer의 원시 배열에 추가 (버퍼 재사용, 정상 상태에서 0 B/op 기대)
+ * buildEntity: 샘플마다 GpuMetrics 엔티티(BigDecimal 4개 + OffsetDateTime)를 만들던 기존 방식
+ * 기록은 실제 COPY 대신 샘플 수만 돌려주는 저장소로 대체 (DB 비용 제외)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SampleBufferAllocationBenchmark {
+
+    private static final Long BENCHMARK_ID = 1L;
+
+    private InFlightSampleBuffer buffer;
+    private long timeMicros;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        GpuMetricsCopyRepository discarding = new GpuMetricsCopyRepository(null) {
+            @Override
+            public long copyBatch(Long benchmarkId, GpuSampleBatch batch) {
+                return batch.size();
+            }
+        };
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        TelemetryHub telemetryHub = new TelemetryHub(discarding, meterRegistry, 600, 64, 1,
+                1_800_000L, 600_000L, 5_000L);
+        buffer = new InFlightSampleBuffer(discarding, telemetryHub, meterRegistry, 8192, 4);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        buffer.complete(BENCHMARK_ID);
+        buffer.drainOnShutdown();
+    }
+
+    @Benchmark
+    public void appendToBuffer() {
+        buffer.append(BENCHMARK_ID, timeMicros++, 87.5, 10_240, 24_576, 71.0, 312.4, 40.0);
+    }
+
+    @Benchmark
+    public GpuMetrics buildEntity() {
+        long micros = timeMicros++;
+        return GpuMetrics.builder()
+                .time(OffsetDateTime.ofInstant(Instant.ofEpochSecond(micros / 1_000_000, micros % 1_000_000 * 1000),
+                        ZoneOffset.UTC))
+                .gpuUtilization(BigDecimal.valueOf(87.5).setScale(2, RoundingMode.HALF_UP))
+                .memoryUsed(10_240L)
+                .memoryTotal(24_576L)
+                .temperature(BigDecimal.valueOf(71.0).setScale(2, RoundingMode.HALF_UP))
+                .powerDraw(BigDecimal.valueOf(312.4).setScale(2, RoundingMode.HALF_UP))
+                .fanSpeed(BigDecimal.valueOf(40.0).setScale(2, RoundingMode.HALF_UP))
+                .build();
+    }
+}
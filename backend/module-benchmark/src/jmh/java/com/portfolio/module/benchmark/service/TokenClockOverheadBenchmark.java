@@ -0,0 +1,59 @@
+package com.portfolio.module.benchmark.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰당 측정 비용 (실행기가 생성 스레드에 더하는 시간)
+ * 토큰 하나를 만드는 작업(Blackhole.consumeCPU)과 리스너 호출을 반복하는 디코딩 루프를 흉내 내고,
+ * 빈 리스너(withoutClock)와 실제 TokenClock(withTokenClock)의 차이가 tokens/s에 섞이는 측정 오차
+ * workPerToken=0이면 측정 비용만 남음 (System.nanoTime() 한 번 + 카운터 증가)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenClockOverheadBenchmark {
+
+    /**
+     * 토큰당 작업량 (consumeCPU 토큰 수, 1000이면 수 μs)
+     */
+    @Param({"0", "1000"})
+    private long workPerToken;
+
+    private final InferenceBackend.TokenListener noop = () -> { };
+    private BenchmarkRunService.TokenClock clock;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        clock = new BenchmarkRunService.TokenClock();
+        clock.start();
+    }
+
+    @Benchmark
+    public void withoutClock() {
+        Blackhole.consumeCPU(workPerToken);
+        noop.onToken();
+    }
+
+    @Benchmark
+    public void withTokenClock() {
+        Blackhole.consumeCPU(workPerToken);
+        clock.onToken();
+    }
+}
@@ -0,0 +1,88 @@
+package com.portfolio.module.benchmark.controller;
+
+import com.portfolio.module.benchmark.dto.BenchmarkRunRequest;
+import com.portfolio.module.benchmark.dto.BenchmarkRunResponse;
+import com.portfolio.module.benchmark.dto.BenchmarkSummaryResponse;
+import com.portfolio.module.benchmark.dto.LeaderboardGroup;
+import com.portfolio.module.benchmark.dto.ModelComparisonResponse;
+import com.portfolio.module.benchmark.service.BenchmarkAccessService;
+import com.portfolio.module.benchmark.service.BenchmarkRunService;
+import com.portfolio.module.benchmark.service.BenchmarkSummaryService;
+import com.portfolio.module.benchmark.service.LeaderboardService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/benchmarks")
+@RequiredArgsConstructor
+public class BenchmarkController {
+
+    private static final String RETRY_AFTER_SECONDS = "10";
+
+    private final BenchmarkRunService benchmarkRunService;
+    private final BenchmarkSummaryService benchmarkSummaryService;
+    private final LeaderboardService leaderboardService;
+    private final BenchmarkAccessService benchmarkAccessService;
+
+    /**
+     * 모델 리더보드 (타입/양자화 그룹별 순위)
+     */
+    @GetMapping("/leaderboard")
+    public ResponseEntity<List<LeaderboardGroup>> getLeaderboard(
+            @RequestParam(defaultValue = "tps_p50") String sortBy,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) String quantization,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(leaderboardService.getLeaderboard(sortBy, type, quantization, limit));
+    }
+
+    /**
+     * 모델 비교
+     */
+    @GetMapping("/compare")
+    public ResponseEntity<ModelComparisonResponse> compare(@RequestParam List<Long> modelIds) {
+        return ResponseEntity.ok(leaderboardService.compare(modelIds));
+    }
+
+    /**
+     * 벤치마크 마무리 (gpu_metrics에서 요약 통계 계산, 등록한 사용자 또는 ADMIN만 가능)
+     */
+    @PostMapping("/{benchmarkId}/finalize")
+    public ResponseEntity<BenchmarkSummaryResponse> finalizeBenchmark(@PathVariable Long benchmarkId,
+                                                                      @AuthenticationPrincipal UserDetails userDetails) {
+        benchmarkAccessService.checkWritable(benchmarkId, userDetails);
+        return ResponseEntity.ok(benchmarkSummaryService.finalizeBenchmark(benchmarkId));
+    }
+
+    /**
+     * 벤치마크 실행 등록 (모델별 대기열에 추가, 결과는 실행 조회로 확인)
+     */
+    @PostMapping("/runs")
+    public ResponseEntity<BenchmarkRunResponse> submitRun(@RequestBody BenchmarkRunRequest request,
+                                                          @AuthenticationPrincipal UserDetails userDetails) {
+        log.info("Benchmark run requested for model {} by {}", request.getModelId(), userDetails.getUsername());
+        return benchmarkRunService.submit(request, userDetails.getUsername())
+                .map(response -> ResponseEntity.status(HttpStatus.ACCEPTED).body(response))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                        .build());
+    }
+
+    /**
+     * 벤치마크 실행 상태 조회 (등록한 사용자 또는 ADMIN)
+     */
+    @GetMapping("/runs/{runId}")
+    public ResponseEntity<BenchmarkRunResponse> getRun(@PathVariable Long runId,
+                                                       @AuthenticationPrincipal UserDetails userDetails) {
+        return ResponseEntity.ok(benchmarkRunService.getRun(runId, userDetails));
+    }
+}
@@ -0,0 +1,86 @@
+package com.portfolio.module.benchmark.controller;
+
+import com.portfolio.module.benchmark.dto.ExportCompression;
+import com.portfolio.module.benchmark.dto.ExportFormat;
+import com.portfolio.module.benchmark.repository.ExportFilter;
+import com.portfolio.module.benchmark.service.BenchmarkExportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * 모든 사용자의 데이터를 대량으로 내보내므로 관리자 전용 (/api/v1/admin/**)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/admin/benchmarks/export")
+@RequiredArgsConstructor
+public class BenchmarkExportController {
+
+    private static final String RETRY_AFTER_SECONDS = "5";
+
+    private final BenchmarkExportService benchmarkExportService;
+
+    /**
+     * 벤치마크 결과 내보내기 (CSV)
+     */
+    @GetMapping("/results")
+    public ResponseEntity<StreamingResponseBody> exportResults(
+            @RequestParam(required = false) Long modelId,
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(defaultValue = "gzip") String compression) {
+        ExportFilter filter = new ExportFilter(modelId, userId, null, from, to);
+        ExportCompression exportCompression = ExportCompression.from(compression);
+        log.info("Benchmark results export requested: {}", filter);
+        return respond(benchmarkExportService.exportResults(filter, exportCompression),
+                "benchmark-results", ExportFormat.CSV, exportCompression);
+    }
+
+    /**
+     * GPU 메트릭 내보내기 (CSV 또는 열 단위 바이너리)
+     */
+    @GetMapping("/metrics")
+    public ResponseEntity<StreamingResponseBody> exportMetrics(
+            @RequestParam(required = false) Long modelId,
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) Long benchmarkId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "gzip") String compression) {
+        ExportFilter filter = new ExportFilter(modelId, userId, benchmarkId, from, to);
+        ExportFormat exportFormat = ExportFormat.from(format);
+        ExportCompression exportCompression = ExportCompression.from(compression);
+        log.info("GPU metrics export requested: {} as {}", filter, exportFormat);
+        return respond(benchmarkExportService.exportMetrics(filter, exportFormat, exportCompression),
+                "gpu-metrics", exportFormat, exportCompression);
+    }
+
+    private static ResponseEntity<StreamingResponseBody> respond(Optional<StreamingResponseBody> body, String name,
+                                                                 ExportFormat format, ExportCompression compression) {
+        if (body.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                    .build();
+        }
+
+        boolean gzip = compression == ExportCompression.GZIP;
+        String fileName = name + "." + format.extension() + (gzip ? ".gz" : "");
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(gzip ? "application/gzip" : format.contentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(body.get());
+    }
+}
@@ -0,0 +1,107 @@
+package com.portfolio.module.benchmark.controller;
+
+import com.portfolio.module.benchmark.dto.MetricSeriesResponse;
+import com.portfolio.module.benchmark.dto.MetricsIngestResponse;
+import com.portfolio.module.benchmark.dto.StreamTokenResponse;
+import com.portfolio.module.benchmark.service.BenchmarkAccessService;
+import com.portfolio.module.benchmark.service.GpuMetricsIngestService;
+import com.portfolio.module.benchmark.service.GpuMetricsQueryService;
+import com.portfolio.module.benchmark.service.TelemetryHub;
+import com.portfolio.security.config.JwtProperties;
+import com.portfolio.security.jwt.JwtTokenProvider;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Instant;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/benchmarks/{benchmarkId}/metrics")
+@RequiredArgsConstructor
+public class GpuMetricsController {
+
+    private static final String RETRY_AFTER_SECONDS = "1";
+    private static final String STREAM_SCOPE_PREFIX = "benchmark-metrics-stream:";
+
+    private final GpuMetricsIngestService gpuMetricsIngestService;
+    private final GpuMetricsQueryService gpuMetricsQueryService;
+    private final TelemetryHub telemetryHub;
+    private final BenchmarkAccessService benchmarkAccessService;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final JwtProperties jwtProperties;
+
+    /**
+     * GPU 메트릭 적재 (NDJSON 스트림, 본문을 메모리에 모으지 않고 읽는 즉시 기록)
+     * 벤치마크를 등록한 사용자 또는 ADMIN만 가능 (본문을 읽기 전에 확인)
+     */
+    @PostMapping(consumes = {"application/x-ndjson", "application/jsonl"})
+    public ResponseEntity<MetricsIngestResponse> ingest(
+            @PathVariable Long benchmarkId,
+            @AuthenticationPrincipal UserDetails userDetails,
+            HttpServletRequest request) throws IOException {
+        benchmarkAccessService.checkWritable(benchmarkId, userDetails);
+        return gpuMetricsIngestService.ingestNdjson(benchmarkId, request.getInputStream())
+                .map(response -> ResponseEntity.status(HttpStatus.CREATED).body(response))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                        .build());
+    }
+
+    /**
+     * GPU 메트릭 차트 조회 (maxPoints 이내로 다운샘플링)
+     */
+    @GetMapping
+    public ResponseEntity<MetricSeriesResponse> getSeries(
+            @PathVariable Long benchmarkId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(defaultValue = "1000") int maxPoints,
+            @RequestParam(defaultValue = "false") boolean raw,
+            @RequestParam(defaultValue = "gpuUtilization") String metric) {
+        return ResponseEntity.ok(gpuMetricsQueryService.getSeries(benchmarkId, from, to, maxPoints, raw, metric));
+    }
+
+    /**
+     * 실시간 메트릭 구독 토큰 발급
+     * 브라우저 EventSource는 Authorization 헤더를 보낼 수 없으므로 이 토큰을 stream?token=으로 전달
+     * 이 벤치마크 구독에만 쓸 수 있고 수명이 짧음 (jwt.scoped-expiration)
+     */
+    @PostMapping("/stream-token")
+    public ResponseEntity<StreamTokenResponse> issueStreamToken(
+            @PathVariable Long benchmarkId,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        String token = jwtTokenProvider.generateScopedToken(userDetails.getUsername(), streamScope(benchmarkId));
+        return ResponseEntity.ok(new StreamTokenResponse(token, jwtProperties.getScopedExpiration()));
+    }
+
+    /**
+     * 실시간 메트릭 구독 (SSE, 최근 샘플을 history 이벤트로 먼저 전송한 뒤 적재되는 대로 samples 이벤트 전송)
+     * Authorization 헤더 또는 stream-token으로 받은 token 파라미터로 인증
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> stream(
+            @PathVariable Long benchmarkId,
+            @RequestParam(required = false) String token,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        if (userDetails == null && (token == null
+                || jwtTokenProvider.parseScopedToken(token, streamScope(benchmarkId)).isEmpty())) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return ResponseEntity.ok(telemetryHub.subscribe(benchmarkId));
+    }
+
+    private static String streamScope(Long benchmarkId) {
+        return STREAM_SCOPE_PREFIX + benchmarkId;
+    }
+}
@@ -0,0 +1,35 @@
+package com.portfolio.module.benchmark.controller;
+
+import com.portfolio.module.benchmark.dto.ModelScanResponse;
+import com.portfolio.module.benchmark.service.ModelRegistryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/admin/models")
+@RequiredArgsConstructor
+public class ModelAdminController {
+
+    private final ModelRegistryService modelRegistryService;
+
+    /**
+     * 모델 디렉터리 재스캔 요청 (백그라운드에서 변경된 파일만 해시 계산, 결과는 GET /scan으로 확인)
+     */
+    @PostMapping("/scan")
+    public ResponseEntity<Void> scan() {
+        boolean started = modelRegistryService.requestScan();
+        log.info("Model directory scan requested ({})", started ? "started" : "already running");
+        return ResponseEntity.accepted().build();
+    }
+
+    /**
+     * 마지막 스캔 결과 (아직 끝난 스캔이 없으면 404)
+     */
+    @GetMapping("/scan")
+    public ResponseEntity<ModelScanResponse> getLastScan() {
+        return ResponseEntity.of(modelRegistryService.getLastScan());
+    }
+}
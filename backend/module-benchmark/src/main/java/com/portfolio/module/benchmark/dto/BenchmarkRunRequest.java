@@ -0,0 +1,15 @@
+package com.portfolio.module.benchmark.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BenchmarkRunRequest {
+
+    private Long modelId;
+    private int promptTokens = 128;
+    private int maxTokens = 256;
+}
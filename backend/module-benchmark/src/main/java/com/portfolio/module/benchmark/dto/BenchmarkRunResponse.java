@@ -0,0 +1,25 @@
+package com.portfolio.module.benchmark.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+@AllArgsConstructor
+public class BenchmarkRunResponse {
+
+    private Long runId;
+    private Long modelId;
+    private BenchmarkRunStatus status;
+    private Long benchmarkId;
+    private String error;
+
+    /**
+     * 기록하지 못한 GPU 샘플 수 (0보다 크면 요약 통계가 일부 구간만 반영)
+     */
+    private long droppedSamples;
+    private Instant queuedAt;
+    private Instant startedAt;
+    private Instant finishedAt;
+}
@@ -0,0 +1,11 @@
+package com.portfolio.module.benchmark.dto;
+
+/**
+ * 벤치마크 실행 상태
+ */
+public enum BenchmarkRunStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,40 @@
+package com.portfolio.module.benchmark.dto;
+
+import com.portfolio.domain.benchmark.BenchmarkResult;
+import com.portfolio.domain.benchmark.MetricsSummary;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class BenchmarkSummaryResponse {
+
+    private Long benchmarkId;
+    private Long sampleCount;
+    private Long droppedSamples;
+    private BigDecimal avgGpuUtilization;
+    private Long maxMemoryUsed;
+    private BigDecimal avgTemperature;
+    private BigDecimal energyJoules;
+    private BigDecimal energyPerToken;
+    private MetricsSummary metrics;
+    private LocalDateTime finalizedAt;
+
+    public static BenchmarkSummaryResponse from(BenchmarkResult result) {
+        return new BenchmarkSummaryResponse(
+                result.getId(),
+                result.getSampleCount(),
+                result.getDroppedSamples(),
+                result.getAvgGpuUtilization(),
+                result.getMaxMemoryUsed(),
+                result.getAvgTemperature(),
+                result.getEnergyJoules(),
+                result.getEnergyPerToken(),
+                result.getMetricsSummary(),
+                result.getFinalizedAt()
+        );
+    }
+}
@@ -0,0 +1,18 @@
+package com.portfolio.module.benchmark.dto;
+
+/**
+ * 내보내기 압축 방식
+ */
+public enum ExportCompression {
+
+    GZIP,
+    NONE;
+
+    public static ExportCompression from(String value) {
+        try {
+            return valueOf(value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown export compression: " + value);
+        }
+    }
+}
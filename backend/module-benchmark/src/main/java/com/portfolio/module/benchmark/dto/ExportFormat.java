@@ -0,0 +1,34 @@
+package com.portfolio.module.benchmark.dto;
+
+/**
+ * 내보내기 형식 (COLUMNAR는 gpu_metrics만 지원)
+ */
+public enum ExportFormat {
+
+    CSV("text/csv", "csv"),
+    COLUMNAR("application/octet-stream", "gpucol");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public static ExportFormat from(String value) {
+        try {
+            return valueOf(value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown export format: " + value);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.portfolio.module.benchmark.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 모델별 성능 (분위수는 상대 오차 1% 이내 근사값)
+ */
+@Getter
+@AllArgsConstructor
+public class LeaderboardEntry {
+
+    private int rank;
+    private Long modelId;
+    private String name;
+    private String slug;
+    private String type;
+    private String quantization;
+    private long runs;
+    private double tokensPerSecondP50;
+    private double tokensPerSecondP95;
+    private double firstTokenLatencyP50;
+    private double firstTokenLatencyP95;
+
+    public LeaderboardEntry withRank(int rank) {
+        return new LeaderboardEntry(rank, modelId, name, slug, type, quantization, runs,
+                tokensPerSecondP50, tokensPerSecondP95, firstTokenLatencyP50, firstTokenLatencyP95);
+    }
+}
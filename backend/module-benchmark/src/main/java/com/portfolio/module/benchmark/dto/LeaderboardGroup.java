@@ -0,0 +1,15 @@
+package com.portfolio.module.benchmark.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class LeaderboardGroup {
+
+    private String type;
+    private String quantization;
+    private List<LeaderboardEntry> entries;
+}
@@ -0,0 +1,32 @@
+package com.portfolio.module.benchmark.dto;
+
+import java.util.Comparator;
+
+/**
+ * 리더보드 정렬 기준 (처리량은 높을수록, TTFT는 낮을수록 상위)
+ */
+public enum LeaderboardMetric {
+
+    TPS_P50(Comparator.comparingDouble(LeaderboardEntry::getTokensPerSecondP50).reversed()),
+    TPS_P95(Comparator.comparingDouble(LeaderboardEntry::getTokensPerSecondP95).reversed()),
+    TTFT_P50(Comparator.comparingDouble(LeaderboardEntry::getFirstTokenLatencyP50)),
+    TTFT_P95(Comparator.comparingDouble(LeaderboardEntry::getFirstTokenLatencyP95));
+
+    private final Comparator<LeaderboardEntry> order;
+
+    LeaderboardMetric(Comparator<LeaderboardEntry> order) {
+        this.order = order.thenComparing(LeaderboardEntry::getModelId);
+    }
+
+    public Comparator<LeaderboardEntry> order() {
+        return order;
+    }
+
+    public static LeaderboardMetric from(String value) {
+        try {
+            return valueOf(value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown leaderboard metric: " + value);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.portfolio.module.benchmark.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * 차트 포인트 (집계 구간이면 평균/최댓값, 원본 샘플이면 두 값이 같음)
+ */
+@Getter
+@AllArgsConstructor
+public class MetricPoint {
+
+    private Instant time;
+    private long samples;
+    private Double gpuUtilization;
+    private Double gpuUtilizationMax;
+    private Double memoryUsed;
+    private Long memoryUsedMax;
+    private Double temperature;
+    private Double temperatureMax;
+    private Double powerDraw;
+    private Double powerDrawMax;
+    private Double fanSpeed;
+    private Double fanSpeedMax;
+}
@@ -0,0 +1,23 @@
+package com.portfolio.module.benchmark.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class MetricSeriesResponse {
+
+    public static final String RAW = "raw";
+    public static final String LTTB = "lttb";
+    public static final String AGGREGATE = "aggregate";
+
+    private Long benchmarkId;
+    private Instant from;
+    private Instant to;
+    private String resolution;
+    private Long bucketSeconds;
+    private List<MetricPoint> points;
+}
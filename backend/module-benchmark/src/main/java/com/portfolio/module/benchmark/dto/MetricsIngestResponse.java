@@ -0,0 +1,14 @@
+package com.portfolio.module.benchmark.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class MetricsIngestResponse {
+
+    private Long benchmarkId;
+    private long samples;
+    private long elapsedMillis;
+    private long samplesPerSecond;
+}
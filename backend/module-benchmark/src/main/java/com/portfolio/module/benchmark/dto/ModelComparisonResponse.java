@@ -0,0 +1,20 @@
+package com.portfolio.module.benchmark.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 모델 비교 (요청 순서 유지, 지표별 최고 모델 id 포함)
+ */
+@Getter
+@AllArgsConstructor
+public class ModelComparisonResponse {
+
+    private List<LeaderboardEntry> models;
+    private Long bestTokensPerSecondP50;
+    private Long bestTokensPerSecondP95;
+    private Long bestFirstTokenLatencyP50;
+    private Long bestFirstTokenLatencyP95;
+}
@@ -0,0 +1,19 @@
+package com.portfolio.module.benchmark.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class ModelScanResponse {
+
+    private int files;
+    private int registered;
+    private int updated;
+    private int unchanged;
+    private int missing;
+    private List<String> failed;
+    private long elapsedMillis;
+}
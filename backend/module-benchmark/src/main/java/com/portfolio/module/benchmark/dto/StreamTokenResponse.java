@@ -0,0 +1,12 @@
+package com.portfolio.module.benchmark.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class StreamTokenResponse {
+
+    private String token;
+    private long expiresIn;
+}
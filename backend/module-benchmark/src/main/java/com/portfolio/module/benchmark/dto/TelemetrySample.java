@@ -0,0 +1,10 @@
+package com.portfolio.module.benchmark.dto;
+
+import java.time.Instant;
+
+/**
+ * 실시간 GPU 메트릭 샘플 (SSE 전송용)
+ */
+public record TelemetrySample(Instant time, Double gpuUtilization, Long memoryUsed, Long memoryTotal,
+                              Double temperature, Double powerDraw, Double fanSpeed) {
+}
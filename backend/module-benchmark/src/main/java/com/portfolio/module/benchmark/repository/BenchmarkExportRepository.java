@@ -0,0 +1,217 @@
+package com.portfolio.module.benchmark.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 벤치마크 결과 / GPU 메트릭 내보내기
+ * CSV는 COPY ... TO STDOUT 출력을 응답 스트림에 그대로 전달 (행 객체를 만들지 않음)
+ * COPY는 바인드 파라미터를 받지 않으므로 조건 값은 Long/Instant만 SQL 리터럴로 넣음
+ */
+@Repository
+@RequiredArgsConstructor
+public class BenchmarkExportRepository {
+
+    private static final String RESULTS_CSV_SQL = """
+            COPY (
+                SELECT r.id, r.model_id, m.name AS model_name, m.quantization, r.user_id,
+                       r.prompt_tokens, r.generated_tokens, r.total_duration, r.tokens_per_second,
+                       r.first_token_latency, r.avg_gpu_utilization, r.max_memory_used, r.avg_temperature,
+                       r.sample_count, r.dropped_samples, r.energy_joules, r.energy_per_token, r.metrics_summary,
+                       r.completed_at, r.finalized_at, r.created_at
+                FROM benchmark_results r
+                JOIN ai_models m ON m.id = r.model_id
+                WHERE %s
+                ORDER BY r.id
+            ) TO STDOUT WITH (FORMAT csv, HEADER)
+            """;
+
+    /**
+     * 기간 안에 샘플이 있는 벤치마크만 ((benchmark_id, time) 인덱스로 확인, 빈 COPY를 만들지 않음)
+     */
+    private static final String BENCHMARK_IDS_SQL = """
+            SELECT r.id
+            FROM benchmark_results r
+            WHERE %s
+              AND EXISTS (SELECT 1 FROM gpu_metrics g WHERE %s)
+            ORDER BY r.id
+            """;
+
+    public static final String METRICS_CSV_HEADER =
+            "benchmark_id,time,gpu_utilization,memory_used,memory_total,temperature,power_draw,fan_speed\n";
+
+    /**
+     * 벤치마크 하나씩 (benchmark_id, time) 인덱스 순서로 복사하므로 정렬 없이 바로 출력이 시작됨
+     * 헤더는 호출 측에서 한 번만 씀 (METRICS_CSV_HEADER)
+     */
+    private static final String METRICS_CSV_SQL = """
+            COPY (
+                SELECT benchmark_id, time, gpu_utilization, memory_used, memory_total,
+                       temperature, power_draw, fan_speed
+                FROM gpu_metrics
+                WHERE %s
+                ORDER BY time
+            ) TO STDOUT WITH (FORMAT csv)
+            """;
+
+    /**
+     * 열 단위 내보내기용 스캔 (NUMERIC(p,2)는 100배 한 정수, 시각은 epoch microseconds)
+     */
+    private static final String METRICS_SCAN_SQL = """
+            SELECT CAST(EXTRACT(EPOCH FROM time) * 1000000 AS BIGINT) AS time_micros,
+                   CAST(gpu_utilization * 100 AS BIGINT) AS gpu_utilization,
+                   memory_used, memory_total,
+                   CAST(temperature * 100 AS BIGINT) AS temperature,
+                   CAST(power_draw * 100 AS BIGINT) AS power_draw,
+                   CAST(fan_speed * 100 AS BIGINT) AS fan_speed
+            FROM gpu_metrics
+            WHERE benchmark_id = ?
+              AND (CAST(? AS TIMESTAMPTZ) IS NULL OR time >= ?)
+              AND (CAST(? AS TIMESTAMPTZ) IS NULL OR time <= ?)
+            ORDER BY time
+            """;
+
+    private static final int SCAN_FETCH_SIZE = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 벤치마크 결과 CSV 복사
+     *
+     * @return 복사한 행 수
+     */
+    public long copyResultsCsv(ExportFilter filter, OutputStream out) {
+        return copyOut(RESULTS_CSV_SQL.formatted(resultsWhere(filter, true)), out);
+    }
+
+    /**
+     * 모델/사용자/벤치마크 조건에 맞고 from/to 기간에 샘플이 있는 벤치마크 id (메트릭 내보내기 순서)
+     */
+    public List<Long> findBenchmarkIds(ExportFilter filter) {
+        List<String> sampleConditions = new ArrayList<>();
+        sampleConditions.add("g.benchmark_id = r.id");
+        timeRange(sampleConditions, "g.time", filter);
+        return jdbcTemplate.queryForList(BENCHMARK_IDS_SQL.formatted(
+                resultsWhere(filter, false), String.join(" AND ", sampleConditions)), Long.class);
+    }
+
+    /**
+     * 벤치마크 하나의 메트릭 CSV 복사 (헤더 제외)
+     *
+     * @return 복사한 행 수
+     */
+    public long copyMetricsCsv(Long benchmarkId, ExportFilter filter, OutputStream out) {
+        List<String> conditions = new ArrayList<>();
+        conditions.add("benchmark_id = " + benchmarkId);
+        timeRange(conditions, "time", filter);
+        return copyOut(METRICS_CSV_SQL.formatted(String.join(" AND ", conditions)), out);
+    }
+
+    /**
+     * 벤치마크 하나의 메트릭을 batch 단위로 순회 (batch가 가득 찰 때와 마지막에 onBatch 호출)
+     * PostgreSQL은 autocommit이 꺼져 있어야 fetch size를 적용하므로 트랜잭션 안에서 호출해야 함
+     */
+    public void scanMetrics(Long benchmarkId, ExportFilter filter, GpuSampleBatch batch,
+                            Consumer<GpuSampleBatch> onBatch) {
+        OffsetDateTime from = utc(filter.from());
+        OffsetDateTime to = utc(filter.to());
+        batch.clear();
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    METRICS_SCAN_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(SCAN_FETCH_SIZE);
+            statement.setLong(1, benchmarkId);
+            statement.setObject(2, from);
+            statement.setObject(3, from);
+            statement.setObject(4, to);
+            statement.setObject(5, to);
+            return statement;
+        }, (RowCallbackHandler) rs -> {
+            batch.append(
+                    rs.getLong("time_micros"),
+                    primitive(rs, "gpu_utilization"),
+                    primitive(rs, "memory_used"),
+                    primitive(rs, "memory_total"),
+                    primitive(rs, "temperature"),
+                    primitive(rs, "power_draw"),
+                    primitive(rs, "fan_speed"));
+            if (batch.isFull()) {
+                onBatch.accept(batch);
+                batch.clear();
+            }
+        });
+
+        if (batch.size() > 0) {
+            onBatch.accept(batch);
+            batch.clear();
+        }
+    }
+
+    private long copyOut(String sql, OutputStream out) {
+        Long rows = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try {
+                return connection.unwrap(PGConnection.class).getCopyAPI().copyOut(sql, out);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return rows != null ? rows : 0;
+    }
+
+    private static String resultsWhere(ExportFilter filter, boolean withCreatedAt) {
+        List<String> conditions = new ArrayList<>();
+        conditions.add("r.completed_at IS NOT NULL");
+        if (filter.modelId() != null) {
+            conditions.add("r.model_id = " + filter.modelId());
+        }
+        if (filter.userId() != null) {
+            conditions.add("r.user_id = " + filter.userId());
+        }
+        if (filter.benchmarkId() != null) {
+            conditions.add("r.id = " + filter.benchmarkId());
+        }
+        if (withCreatedAt) {
+            timeRange(conditions, "r.created_at", filter);
+        }
+        return String.join(" AND ", conditions);
+    }
+
+    /**
+     * Instant.toString()은 ISO-8601 숫자/구분자만 포함하므로 리터럴로 넣어도 안전
+     */
+    private static void timeRange(List<String> conditions, String column, ExportFilter filter) {
+        if (filter.from() != null) {
+            conditions.add(column + " >= CAST('" + filter.from() + "' AS TIMESTAMPTZ)");
+        }
+        if (filter.to() != null) {
+            conditions.add(column + " <= CAST('" + filter.to() + "' AS TIMESTAMPTZ)");
+        }
+    }
+
+    private static long primitive(ResultSet rs, String column) throws SQLException {
+        long value = rs.getLong(column);
+        return rs.wasNull() ? GpuSampleBatch.NULL_VALUE : value;
+    }
+
+    private static OffsetDateTime utc(Instant instant) {
+        return instant != null ? instant.atOffset(ZoneOffset.UTC) : null;
+    }
+}
@@ -0,0 +1,49 @@
+package com.portfolio.module.benchmark.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+/**
+ * 리더보드 재계산용 benchmark_results 스캔
+ */
+@Repository
+@RequiredArgsConstructor
+public class BenchmarkLeaderboardRepository {
+
+    private static final String SCAN_SQL = """
+            SELECT id, model_id, tokens_per_second, first_token_latency
+            FROM benchmark_results
+            WHERE completed_at IS NOT NULL
+            """;
+
+    private static final int SCAN_FETCH_SIZE = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @FunctionalInterface
+    public interface ResultConsumer {
+        void accept(long resultId, long modelId, double tokensPerSecond, double firstTokenLatency);
+    }
+
+    /**
+     * 전체 결과 순회 (서버 측 커서, 트랜잭션 안에서 호출해야 함)
+     */
+    public void scan(ResultConsumer consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    SCAN_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(SCAN_FETCH_SIZE);
+            return statement;
+        }, (RowCallbackHandler) rs -> consumer.accept(
+                rs.getLong("id"),
+                rs.getLong("model_id"),
+                rs.getDouble("tokens_per_second"),
+                rs.getDouble("first_token_latency")
+        ));
+    }
+}
@@ -0,0 +1,16 @@
+package com.portfolio.module.benchmark.repository;
+
+import java.time.Instant;
+
+/**
+ * 내보내기 조건 (값이 null이면 해당 조건 없음)
+ * from/to는 benchmark_results에는 created_at, gpu_metrics에는 time 기준
+ */
+public record ExportFilter(Long modelId, Long userId, Long benchmarkId, Instant from, Instant to) {
+
+    public ExportFilter {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.portfolio.module.benchmark.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.Instant;
+
+/**
+ * gpu_metrics 대량 적재 (PostgreSQL COPY, JPA 엔티티를 거치지 않음)
+ * 청크마다 COPY 한 번을 실행하며, 청크 단위로 커밋됨 (autocommit)
+ */
+@Repository
+@RequiredArgsConstructor
+public class GpuMetricsCopyRepository {
+
+    private static final String COPY_SQL = """
+            COPY gpu_metrics (time, benchmark_id, gpu_utilization, memory_used, memory_total,
+                              temperature, power_draw, fan_speed)
+            FROM STDIN
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public boolean existsBenchmark(Long benchmarkId) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM benchmark_results WHERE id = ?)", Boolean.class, benchmarkId));
+    }
+
+    /**
+     * 이미 채워진 batch 하나를 COPY로 기록
+     * 커넥션은 이 COPY 동안만 점유하므로 호출자는 batch를 채우는 동안(요청 본문 읽기 등) 커넥션을 잡지 않음
+     *
+     * @return 기록한 샘플 수
+     */
+    public long copyBatch(Long benchmarkId, GpuSampleBatch batch) {
+        if (batch.size() == 0) {
+            return 0;
+        }
+        Long copied = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            StringBuilder buffer = new StringBuilder(batch.size() * 96);
+            encode(batch, benchmarkId.toString(), buffer);
+            return writeChunk(connection.unwrap(PGConnection.class).getCopyAPI(), buffer);
+        });
+        return copied != null ? copied : 0;
+    }
+
+    private static long writeChunk(CopyManager copyManager, StringBuilder buffer) throws SQLException {
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.US_ASCII);
+        CopyIn copyIn = copyManager.copyIn(COPY_SQL);
+        try {
+            copyIn.writeToCopy(bytes, 0, bytes.length);
+            return copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    /**
+     * COPY text 형식 (탭 구분, NULL은 \N)
+     */
+    private static void encode(GpuSampleBatch batch, String benchmarkColumn, StringBuilder out) {
+        for (int i = 0; i < batch.size(); i++) {
+            long micros = batch.timeMicros(i);
+            out.append(Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000L), Math.floorMod(micros, 1_000_000L) * 1000L))
+                    .append('\t').append(benchmarkColumn).append('\t');
+            appendHundredths(out, batch.gpuUtilization(i)).append('\t');
+            appendLong(out, batch.memoryUsed(i)).append('\t');
+            appendLong(out, batch.memoryTotal(i)).append('\t');
+            appendHundredths(out, batch.temperature(i)).append('\t');
+            appendHundredths(out, batch.powerDraw(i)).append('\t');
+            appendHundredths(out, batch.fanSpeed(i)).append('\n');
+        }
+    }
+
+    private static StringBuilder appendLong(StringBuilder out, long value) {
+        return value == GpuSampleBatch.NULL_VALUE ? out.append("\\N") : out.append(value);
+    }
+
+    private static StringBuilder appendHundredths(StringBuilder out, long value) {
+        if (value == GpuSampleBatch.NULL_VALUE) {
+            return out.append("\\N");
+        }
+        if (value < 0) {
+            out.append('-');
+            value = -value;
+        }
+        long fraction = value % 100;
+        return out.append(value / 100).append('.').append(fraction < 10 ? "0" : "").append(fraction);
+    }
+}
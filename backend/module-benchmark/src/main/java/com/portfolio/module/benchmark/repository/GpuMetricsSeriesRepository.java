@@ -0,0 +1,213 @@
+package com.portfolio.module.benchmark.repository;
+
+import com.portfolio.module.benchmark.dto.MetricPoint;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * gpu_metrics 차트 조회 (원본 hypertable + 연속 집계)
+ */
+@Repository
+@RequiredArgsConstructor
+public class GpuMetricsSeriesRepository {
+
+    private static final String TIME_RANGE_SQL = """
+            SELECT min(time) AS first_time, max(time) AS last_time
+            FROM gpu_metrics
+            WHERE benchmark_id = :benchmarkId
+            """;
+
+    private static final String COUNT_RAW_SQL = """
+            SELECT count(*)
+            FROM gpu_metrics
+            WHERE benchmark_id = :benchmarkId AND time BETWEEN :from AND :to
+            """;
+
+    private static final String RAW_SQL = """
+            SELECT time, gpu_utilization, memory_used, temperature, power_draw, fan_speed
+            FROM gpu_metrics
+            WHERE benchmark_id = :benchmarkId AND time BETWEEN :from AND :to
+            ORDER BY time
+            """;
+
+    /**
+     * 요약 통계 계산용 전체 샘플 스캔 (시간순, 시각은 epoch microseconds)
+     */
+    private static final String SCAN_SQL = """
+            SELECT CAST(EXTRACT(EPOCH FROM time) * 1000000 AS BIGINT) AS time_micros,
+                   gpu_utilization, memory_used, temperature, power_draw, fan_speed
+            FROM gpu_metrics
+            WHERE benchmark_id = ?
+            ORDER BY time
+            """;
+
+    private static final int SCAN_FETCH_SIZE = 10_000;
+
+    /**
+     * 연속 집계를 bucketSeconds 단위로 다시 묶음 (평균은 sum/count로 재계산)
+     * %s 자리는 MetricResolution의 고정 뷰 이름만 들어감
+     */
+    private static final String BUCKETED_SQL = """
+            SELECT time_bucket(make_interval(secs => :bucketSeconds), bucket) AS time,
+                   sum(sample_count) AS samples,
+                   sum(gpu_utilization_sum) / nullif(sum(gpu_utilization_count), 0) AS gpu_utilization,
+                   max(gpu_utilization_max) AS gpu_utilization_max,
+                   sum(memory_used_sum) / nullif(sum(memory_used_count), 0) AS memory_used,
+                   max(memory_used_max) AS memory_used_max,
+                   sum(temperature_sum) / nullif(sum(temperature_count), 0) AS temperature,
+                   max(temperature_max) AS temperature_max,
+                   sum(power_draw_sum) / nullif(sum(power_draw_count), 0) AS power_draw,
+                   max(power_draw_max) AS power_draw_max,
+                   sum(fan_speed_sum) / nullif(sum(fan_speed_count), 0) AS fan_speed,
+                   max(fan_speed_max) AS fan_speed_max
+            FROM %s
+            WHERE benchmark_id = :benchmarkId AND bucket BETWEEN :from AND :to
+            GROUP BY 1
+            ORDER BY 1
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 스캔 샘플 수신 (값이 없으면 NaN)
+     */
+    @FunctionalInterface
+    public interface SampleConsumer {
+        void accept(long timeMicros, double gpuUtilization, double memoryUsed,
+                    double temperature, double powerDraw, double fanSpeed);
+    }
+
+    public Optional<MetricTimeRange> findTimeRange(Long benchmarkId) {
+        MetricTimeRange range = jdbcTemplate.queryForObject(TIME_RANGE_SQL,
+                new MapSqlParameterSource("benchmarkId", benchmarkId),
+                (rs, rowNum) -> {
+                    Instant first = instant(rs, "first_time");
+                    return first != null ? new MetricTimeRange(first, instant(rs, "last_time")) : null;
+                });
+        return Optional.ofNullable(range);
+    }
+
+    public long countRaw(Long benchmarkId, Instant from, Instant to) {
+        Long count = jdbcTemplate.queryForObject(COUNT_RAW_SQL, rangeParams(benchmarkId, from, to), Long.class);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * 원본 샘플 조회 (호출 측에서 countRaw로 행 수를 확인한 뒤 사용)
+     */
+    public List<MetricPoint> findRaw(Long benchmarkId, Instant from, Instant to) {
+        return jdbcTemplate.query(RAW_SQL, rangeParams(benchmarkId, from, to), (rs, rowNum) -> {
+            Double gpuUtilization = decimal(rs, "gpu_utilization");
+            Long memoryUsed = rs.getObject("memory_used", Long.class);
+            Double temperature = decimal(rs, "temperature");
+            Double powerDraw = decimal(rs, "power_draw");
+            Double fanSpeed = decimal(rs, "fan_speed");
+            return new MetricPoint(
+                    instant(rs, "time"), 1,
+                    gpuUtilization, gpuUtilization,
+                    memoryUsed != null ? memoryUsed.doubleValue() : null, memoryUsed,
+                    temperature, temperature,
+                    powerDraw, powerDraw,
+                    fanSpeed, fanSpeed
+            );
+        });
+    }
+
+    public List<MetricPoint> findBucketed(MetricResolution source, long bucketSeconds,
+                                          Long benchmarkId, Instant from, Instant to) {
+        MapSqlParameterSource params = rangeParams(benchmarkId, from, to)
+                .addValue("bucketSeconds", (double) bucketSeconds);
+
+        return jdbcTemplate.query(BUCKETED_SQL.formatted(source.view()), params, (rs, rowNum) -> new MetricPoint(
+                instant(rs, "time"),
+                rs.getLong("samples"),
+                decimal(rs, "gpu_utilization"),
+                decimal(rs, "gpu_utilization_max"),
+                decimal(rs, "memory_used"),
+                rs.getObject("memory_used_max", Long.class),
+                decimal(rs, "temperature"),
+                decimal(rs, "temperature_max"),
+                decimal(rs, "power_draw"),
+                decimal(rs, "power_draw_max"),
+                decimal(rs, "fan_speed"),
+                decimal(rs, "fan_speed_max")
+        ));
+    }
+
+    /**
+     * 벤치마크의 모든 샘플을 한 번 순회 (서버 측 커서로 SCAN_FETCH_SIZE씩 가져오므로 메모리 사용량 일정)
+     * PostgreSQL은 autocommit이 꺼져 있어야 fetch size를 적용하므로 트랜잭션 안에서 호출해야 함
+     */
+    public void scan(Long benchmarkId, SampleConsumer consumer) {
+        jdbcTemplate.getJdbcTemplate().query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    SCAN_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(SCAN_FETCH_SIZE);
+            statement.setLong(1, benchmarkId);
+            return statement;
+        }, (RowCallbackHandler) rs -> consumer.accept(
+                rs.getLong("time_micros"),
+                primitive(rs, "gpu_utilization"),
+                primitive(rs, "memory_used"),
+                primitive(rs, "temperature"),
+                primitive(rs, "power_draw"),
+                primitive(rs, "fan_speed")
+        ));
+    }
+
+    /**
+     * 적재된 구간의 연속 집계 즉시 갱신 (1초 → 10초 → 1분 순서)
+     * 갱신 정책의 start_offset보다 과거 시각으로 적재된 샘플도 집계에 반영되도록 함
+     * 트랜잭션 밖(autocommit)에서 호출해야 함
+     */
+    public void refreshAggregates(Instant from, Instant to) {
+        Instant windowStart = from.truncatedTo(ChronoUnit.MINUTES);
+        Instant windowEnd = to.truncatedTo(ChronoUnit.MINUTES).plus(1, ChronoUnit.MINUTES);
+
+        for (MetricResolution resolution : MetricResolution.values()) {
+            jdbcTemplate.getJdbcTemplate().update(
+                    "CALL refresh_continuous_aggregate(CAST(? AS regclass), ?, ?)",
+                    resolution.view(), utc(windowStart), utc(windowEnd));
+        }
+    }
+
+    private static MapSqlParameterSource rangeParams(Long benchmarkId, Instant from, Instant to) {
+        return new MapSqlParameterSource()
+                .addValue("benchmarkId", benchmarkId)
+                .addValue("from", utc(from))
+                .addValue("to", utc(to));
+    }
+
+    private static OffsetDateTime utc(Instant instant) {
+        return instant.atOffset(ZoneOffset.UTC);
+    }
+
+    private static Instant instant(ResultSet rs, String column) throws SQLException {
+        OffsetDateTime value = rs.getObject(column, OffsetDateTime.class);
+        return value != null ? value.toInstant() : null;
+    }
+
+    private static double primitive(ResultSet rs, String column) throws SQLException {
+        double value = rs.getDouble(column);
+        return rs.wasNull() ? Double.NaN : value;
+    }
+
+    private static Double decimal(ResultSet rs, String column) throws SQLException {
+        BigDecimal value = rs.getBigDecimal(column);
+        return value != null ? value.doubleValue() : null;
+    }
+}
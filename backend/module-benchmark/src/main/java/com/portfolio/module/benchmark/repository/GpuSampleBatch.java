@@ -0,0 +1,99 @@
+package com.portfolio.module.benchmark.repository;
+
+/**
+ * GPU 메트릭 샘플 묶음 (열 단위 원시 배열, 청크마다 재사용)
+ * NUMERIC(p,2) 컬럼은 100배 한 정수로 보관해 BigDecimal/double 문자열 변환 없이 기록
+ * 값이 없으면 NULL_VALUE
+ */
+public class GpuSampleBatch {
+
+    public static final long NULL_VALUE = Long.MIN_VALUE;
+
+    private final long[] timeMicros;
+    private final long[] gpuUtilization;
+    private final long[] memoryUsed;
+    private final long[] memoryTotal;
+    private final long[] temperature;
+    private final long[] powerDraw;
+    private final long[] fanSpeed;
+    private int size;
+
+    public GpuSampleBatch(int capacity) {
+        this.timeMicros = new long[capacity];
+        this.gpuUtilization = new long[capacity];
+        this.memoryUsed = new long[capacity];
+        this.memoryTotal = new long[capacity];
+        this.temperature = new long[capacity];
+        this.powerDraw = new long[capacity];
+        this.fanSpeed = new long[capacity];
+    }
+
+    /**
+     * NUMERIC(p,2) 값을 1/100 단위 정수로 변환 (NaN이면 NULL_VALUE)
+     */
+    public static long hundredths(double value) {
+        return Double.isNaN(value) ? NULL_VALUE : Math.round(value * 100);
+    }
+
+    /**
+     * 샘플 추가 (gpuUtilization/temperature/powerDraw/fanSpeed는 1/100 단위)
+     */
+    public void append(long timeMicros, long gpuUtilization, long memoryUsed, long memoryTotal,
+                       long temperature, long powerDraw, long fanSpeed) {
+        if (isFull()) {
+            throw new IllegalStateException("GpuSampleBatch is full: " + capacity());
+        }
+        int index = size++;
+        this.timeMicros[index] = timeMicros;
+        this.gpuUtilization[index] = gpuUtilization;
+        this.memoryUsed[index] = memoryUsed;
+        this.memoryTotal[index] = memoryTotal;
+        this.temperature[index] = temperature;
+        this.powerDraw[index] = powerDraw;
+        this.fanSpeed[index] = fanSpeed;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return timeMicros.length;
+    }
+
+    public boolean isFull() {
+        return size == timeMicros.length;
+    }
+
+    public long timeMicros(int index) {
+        return timeMicros[index];
+    }
+
+    public long gpuUtilization(int index) {
+        return gpuUtilization[index];
+    }
+
+    public long memoryUsed(int index) {
+        return memoryUsed[index];
+    }
+
+    public long memoryTotal(int index) {
+        return memoryTotal[index];
+    }
+
+    public long temperature(int index) {
+        return temperature[index];
+    }
+
+    public long powerDraw(int index) {
+        return powerDraw[index];
+    }
+
+    public long fanSpeed(int index) {
+        return fanSpeed[index];
+    }
+}
@@ -0,0 +1,40 @@
+package com.portfolio.module.benchmark.repository;
+
+/**
+ * gpu_metrics 연속 집계 (V8 마이그레이션)
+ */
+public enum MetricResolution {
+
+    SECOND("gpu_metrics_1s", 1),
+    TEN_SECONDS("gpu_metrics_10s", 10),
+    MINUTE("gpu_metrics_1m", 60);
+
+    private final String view;
+    private final long seconds;
+
+    MetricResolution(String view, long seconds) {
+        this.view = view;
+        this.seconds = seconds;
+    }
+
+    public String view() {
+        return view;
+    }
+
+    public long seconds() {
+        return seconds;
+    }
+
+    /**
+     * 버킷 크기가 widthSeconds 이하인 집계 중 가장 성긴 것 (읽어야 할 행 수가 가장 적음)
+     */
+    public static MetricResolution coarsestWithin(long widthSeconds) {
+        MetricResolution selected = SECOND;
+        for (MetricResolution resolution : values()) {
+            if (resolution.seconds <= widthSeconds) {
+                selected = resolution;
+            }
+        }
+        return selected;
+    }
+}
@@ -0,0 +1,9 @@
+package com.portfolio.module.benchmark.repository;
+
+import java.time.Instant;
+
+/**
+ * 벤치마크의 첫/마지막 샘플 시각
+ */
+public record MetricTimeRange(Instant from, Instant to) {
+}
@@ -0,0 +1,36 @@
+package com.portfolio.module.benchmark.service;
+
+import com.portfolio.domain.benchmark.repository.BenchmarkResultRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+
+/**
+ * 벤치마크 결과 쓰기 권한 확인 (등록한 사용자 또는 ADMIN)
+ */
+@Service
+@RequiredArgsConstructor
+public class BenchmarkAccessService {
+
+    private static final String ADMIN_AUTHORITY = "ROLE_ADMIN";
+
+    private final BenchmarkResultRepository benchmarkResultRepository;
+
+    /**
+     * @throws IllegalArgumentException 벤치마크가 없을 때
+     * @throws AccessDeniedException    다른 사용자의 벤치마크일 때 (403)
+     */
+    public void checkWritable(Long benchmarkId, UserDetails principal) {
+        String owner = benchmarkResultRepository.findOwnerUsername(benchmarkId)
+                .orElseThrow(() -> new IllegalArgumentException("Benchmark not found with id: " + benchmarkId));
+        if (!owner.equals(principal.getUsername()) && !isAdmin(principal)) {
+            throw new AccessDeniedException("Benchmark " + benchmarkId + " belongs to another user");
+        }
+    }
+
+    static boolean isAdmin(UserDetails principal) {
+        return principal.getAuthorities().stream()
+                .anyMatch(authority -> ADMIN_AUTHORITY.equals(authority.getAuthority()));
+    }
+}
@@ -0,0 +1,156 @@
+package com.portfolio.module.benchmark.service;
+
+import com.portfolio.module.benchmark.dto.ExportCompression;
+import com.portfolio.module.benchmark.dto.ExportFormat;
+import com.portfolio.module.benchmark.repository.BenchmarkExportRepository;
+import com.portfolio.module.benchmark.repository.ExportFilter;
+import com.portfolio.module.benchmark.repository.GpuSampleBatch;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Semaphore;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 벤치마크 결과 / GPU 메트릭 스트리밍 내보내기
+ * DB 커서 출력을 고정 크기 버퍼를 거쳐 바로 응답에 쓰므로 행 수와 무관하게 메모리 사용량이 일정함
+ * 내보내기 하나가 커넥션을 오래 점유하므로 동시 실행 수를 제한함
+ * 메트릭은 여러 벤치마크를 이어 붙이므로 한 읽기 전용 REPEATABLE READ 트랜잭션(같은 스냅샷, 커넥션 하나)에서 내보냄
+ */
+@Slf4j
+@Service
+public class BenchmarkExportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int COLUMNAR_BATCH_SIZE = 8192;
+
+    private final BenchmarkExportRepository benchmarkExportRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Semaphore exports;
+
+    private final Counter exportedRows;
+    private final Counter rejectedExports;
+
+    public BenchmarkExportService(BenchmarkExportRepository benchmarkExportRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${benchmark.export.max-concurrent-exports:2}") int maxConcurrentExports) {
+        this.benchmarkExportRepository = benchmarkExportRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.exports = new Semaphore(maxConcurrentExports);
+
+        this.exportedRows = meterRegistry.counter("benchmark.export.rows");
+        this.rejectedExports = meterRegistry.counter("benchmark.export.rejected");
+    }
+
+    /**
+     * 스트림에 내보낸 행 수를 반환하는 작성기
+     */
+    @FunctionalInterface
+    private interface ExportWriter {
+        long write(OutputStream out) throws IOException;
+    }
+
+    /**
+     * 벤치마크 결과 CSV
+     *
+     * @return 동시 내보내기 수 초과 시 empty (호출 측에서 재시도)
+     */
+    public Optional<StreamingResponseBody> exportResults(ExportFilter filter, ExportCompression compression) {
+        return stream("results", compression, out -> benchmarkExportRepository.copyResultsCsv(filter, out));
+    }
+
+    /**
+     * GPU 메트릭 (벤치마크 id 순, 벤치마크 안에서는 시간순)
+     *
+     * @return 동시 내보내기 수 초과 시 empty (호출 측에서 재시도)
+     */
+    public Optional<StreamingResponseBody> exportMetrics(ExportFilter filter, ExportFormat format,
+                                                         ExportCompression compression) {
+        ExportWriter writer = format == ExportFormat.COLUMNAR
+                ? out -> writeMetricsColumnar(filter, out)
+                : out -> writeMetricsCsv(filter, out);
+        return stream("metrics", compression, writer);
+    }
+
+    private long writeMetricsCsv(ExportFilter filter, OutputStream out) throws IOException {
+        out.write(BenchmarkExportRepository.METRICS_CSV_HEADER.getBytes(StandardCharsets.US_ASCII));
+        Long rows = readOnlyTransaction.execute(status -> {
+            long copied = 0;
+            for (Long benchmarkId : benchmarkExportRepository.findBenchmarkIds(filter)) {
+                copied += benchmarkExportRepository.copyMetricsCsv(benchmarkId, filter, out);
+            }
+            return copied;
+        });
+        return rows != null ? rows : 0;
+    }
+
+    private long writeMetricsColumnar(ExportFilter filter, OutputStream out) throws IOException {
+        ColumnarMetricsWriter writer = new ColumnarMetricsWriter(out);
+        GpuSampleBatch batch = new GpuSampleBatch(COLUMNAR_BATCH_SIZE);
+        long[] rows = {0};
+
+        writer.writeHeader();
+        readOnlyTransaction.executeWithoutResult(status -> {
+            for (Long benchmarkId : benchmarkExportRepository.findBenchmarkIds(filter)) {
+                benchmarkExportRepository.scanMetrics(benchmarkId, filter, batch, filled -> {
+                    try {
+                        writer.writeBlock(benchmarkId, filled);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    rows[0] += filled.size();
+                });
+            }
+        });
+        writer.writeEnd();
+        return rows[0];
+    }
+
+    private Optional<StreamingResponseBody> stream(String dataset, ExportCompression compression, ExportWriter writer) {
+        if (!exports.tryAcquire()) {
+            rejectedExports.increment();
+            return Optional.empty();
+        }
+
+        return Optional.of(response -> {
+            long startedAt = System.nanoTime();
+            try {
+                GZIPOutputStream gzip = compression == ExportCompression.GZIP
+                        ? new GZIPOutputStream(response, BUFFER_SIZE, true)
+                        : null;
+                OutputStream out = new BufferedOutputStream(gzip != null ? gzip : response, BUFFER_SIZE);
+                // 응답 헤더(와 gzip 헤더)를 바로 보내 클라이언트가 첫 행을 기다리지 않도록 함
+                out.flush();
+
+                long rows = writer.write(out);
+                out.flush();
+                if (gzip != null) {
+                    gzip.finish();
+                }
+                exportedRows.increment(rows);
+                log.info("Exported {} {} rows in {} ms", rows, dataset, (System.nanoTime() - startedAt) / 1_000_000);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            } finally {
+                exports.release();
+            }
+        });
+    }
+}
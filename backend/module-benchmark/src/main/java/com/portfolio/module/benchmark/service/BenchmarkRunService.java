@@ -0,0 +1,531 @@
+package com.portfolio.module.benchmark.service;
+
+import com.portfolio.domain.benchmark.AiModel;
+import com.portfolio.domain.benchmark.BenchmarkResult;
+import com.portfolio.domain.benchmark.BenchmarkResultRecordedEvent;
+import com.portfolio.domain.benchmark.repository.AiModelRepository;
+import com.portfolio.domain.benchmark.repository.BenchmarkResultRepository;
+import com.portfolio.domain.user.User;
+import com.portfolio.domain.user.repository.UserRepository;
+import com.portfolio.module.benchmark.dto.BenchmarkRunRequest;
+import com.portfolio.module.benchmark.dto.BenchmarkRunResponse;
+import com.portfolio.module.benchmark.dto.BenchmarkRunStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 벤치마크 실행 스케줄러
+ * 모델별 대기열에서 모델당 동시 실행 수 이내로 꺼내 공용 실행 스레드에서 InferenceBackend로 실행
+ * 토큰 경로에서는 System.nanoTime() 한 번과 카운터 증가만 하고, GPU 샘플은 별도 샘플러 스레드가 수집
+ * 실행 시작 시 결과 행을 먼저 만들어 샘플을 InFlightSampleBuffer로 실행 중에 기록하고 실시간 구독에 전달하며,
+ * 실행이 끝나면 측정값과 완료 시각을 채운 뒤 요약 통계를 계산
+ * 버퍼가 버린 샘플이 있으면 결과의 dropped_samples에 남겨 요약 통계에 빈 구간이 있음을 표시
+ * 완료 전에 실패하면 결과 행(과 CASCADE로 샘플)을 지우고 FAILED, 완료 이후의 요약 실패는 로그만 남김
+ * 실행 도중 인스턴스가 종료되어 남은 미완료 행은 시작 시와 주기적으로 정리 (reapOrphans)
+ * 실행 상태는 등록한 사용자(또는 ADMIN)만 조회
+ */
+@Slf4j
+@Service
+public class BenchmarkRunService {
+
+    private static final int CALIBRATION_ROUNDS = 20;
+    private static final int CALIBRATION_CALLS = 10_000;
+
+    private final InferenceBackend inferenceBackend;
+    private final AiModelRepository aiModelRepository;
+    private final UserRepository userRepository;
+    private final BenchmarkResultRepository benchmarkResultRepository;
+    private final InFlightSampleBuffer inFlightSampleBuffer;
+    private final BenchmarkSummaryService benchmarkSummaryService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int perModelConcurrency;
+    private final int maxQueuedPerModel;
+    private final int maxTokens;
+    private final long sampleIntervalMillis;
+    private final int retainedRuns;
+    private final long orphanAgeMillis;
+
+    private final ExecutorService runners;
+    private final ScheduledExecutorService sampler;
+    private final Map<Long, ModelLane> lanes = new ConcurrentHashMap<>();
+    private final Map<Long, Run> runs = new ConcurrentHashMap<>();
+    private final Queue<Long> finishedRuns = new ConcurrentLinkedQueue<>();
+    private final AtomicLong runIds = new AtomicLong();
+    private final AtomicInteger queuedRuns = new AtomicInteger();
+    private final long timerOverheadNanos;
+
+    private final Counter completedRuns;
+    private final Counter failedRuns;
+    private final Counter rejectedRuns;
+    private final Timer runTimer;
+
+    public BenchmarkRunService(InferenceBackend inferenceBackend,
+                               AiModelRepository aiModelRepository,
+                               UserRepository userRepository,
+                               BenchmarkResultRepository benchmarkResultRepository,
+                               InFlightSampleBuffer inFlightSampleBuffer,
+                               BenchmarkSummaryService benchmarkSummaryService,
+                               ApplicationEventPublisher eventPublisher,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry,
+                               @Value("${benchmark.runner.threads:4}") int threads,
+                               @Value("${benchmark.runner.per-model-concurrency:1}") int perModelConcurrency,
+                               @Value("${benchmark.runner.max-queued-per-model:20}") int maxQueuedPerModel,
+                               @Value("${benchmark.runner.max-tokens:4096}") int maxTokens,
+                               @Value("${benchmark.runner.sample-interval:100}") long sampleIntervalMillis,
+                               @Value("${benchmark.runner.retained-runs:500}") int retainedRuns,
+                               @Value("${benchmark.runner.orphan-age:3600000}") long orphanAgeMillis) {
+        this.inferenceBackend = inferenceBackend;
+        this.aiModelRepository = aiModelRepository;
+        this.userRepository = userRepository;
+        this.benchmarkResultRepository = benchmarkResultRepository;
+        this.inFlightSampleBuffer = inFlightSampleBuffer;
+        this.benchmarkSummaryService = benchmarkSummaryService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.perModelConcurrency = perModelConcurrency;
+        this.maxQueuedPerModel = maxQueuedPerModel;
+        this.maxTokens = maxTokens;
+        this.sampleIntervalMillis = sampleIntervalMillis;
+        this.retainedRuns = retainedRuns;
+        this.orphanAgeMillis = orphanAgeMillis;
+
+        this.runners = Executors.newFixedThreadPool(threads, threadFactory("benchmark-runner-"));
+        this.sampler = Executors.newSingleThreadScheduledExecutor(threadFactory("benchmark-sampler-"));
+        this.timerOverheadNanos = calibrateTimerOverhead();
+        log.info("Benchmark runner timer overhead: {} ns per token ({})",
+                timerOverheadNanos, inferenceBackend.getClass().getSimpleName());
+
+        this.completedRuns = meterRegistry.counter("benchmark.runner.completed");
+        this.failedRuns = meterRegistry.counter("benchmark.runner.failed");
+        this.rejectedRuns = meterRegistry.counter("benchmark.runner.rejected");
+        this.runTimer = meterRegistry.timer("benchmark.runner.duration");
+        Gauge.builder("benchmark.runner.queued", queuedRuns, AtomicInteger::get).register(meterRegistry);
+        Gauge.builder("benchmark.runner.timer_overhead_ns", this, service -> service.timerOverheadNanos)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 벤치마크 실행 등록
+     *
+     * @return 해당 모델의 대기열이 가득 차면 empty (호출 측에서 재시도)
+     */
+    public Optional<BenchmarkRunResponse> submit(BenchmarkRunRequest request, String username) {
+        if (request.getModelId() == null) {
+            throw new IllegalArgumentException("modelId is required");
+        }
+        if (request.getPromptTokens() < 0 || request.getMaxTokens() < 1 || request.getMaxTokens() > maxTokens) {
+            throw new IllegalArgumentException("maxTokens must be between 1 and " + maxTokens
+                    + " and promptTokens must not be negative");
+        }
+        if (!aiModelRepository.existsById(request.getModelId())) {
+            throw new IllegalArgumentException("Model not found with id: " + request.getModelId());
+        }
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new IllegalArgumentException("User not found: " + username));
+
+        Run run = new Run(runIds.incrementAndGet(), request.getModelId(), user.getId(), user.getUsername(),
+                request.getPromptTokens(), request.getMaxTokens());
+        ModelLane lane = lanes.computeIfAbsent(run.modelId, modelId -> new ModelLane());
+
+        synchronized (lane) {
+            if (lane.queue.size() >= maxQueuedPerModel) {
+                rejectedRuns.increment();
+                return Optional.empty();
+            }
+            runs.put(run.id, run);
+            lane.queue.add(run);
+            queuedRuns.incrementAndGet();
+        }
+        dispatch(lane);
+        return Optional.of(run.toResponse());
+    }
+
+    /**
+     * 실행 상태 조회 (다른 사용자의 실행은 없는 실행과 같이 응답해 실행 ID를 노출하지 않음)
+     */
+    public BenchmarkRunResponse getRun(Long runId, UserDetails principal) {
+        Run run = runs.get(runId);
+        if (run == null || !(run.username.equals(principal.getUsername()) || BenchmarkAccessService.isAdmin(principal))) {
+            throw new IllegalArgumentException("Benchmark run not found with id: " + runId);
+        }
+        return run.toResponse();
+    }
+
+    /**
+     * 고아가 된 미완료 결과 행 삭제 (gpu_metrics는 CASCADE로 함께 삭제)
+     * 실행 도중 인스턴스가 종료되면 begin()이 만든 행(completed_at 없음, 측정값 0)이 남음
+     * 다른 인스턴스에서 아직 실행 중인 행은 지우지 않도록 orphan-age보다 오래된 행만 대상
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${benchmark.runner.orphan-reap-interval:3600000}",
+               fixedDelayString = "${benchmark.runner.orphan-reap-interval:3600000}")
+    public void reapOrphans() {
+        LocalDateTime before = LocalDateTime.now().minus(orphanAgeMillis, ChronoUnit.MILLIS);
+        Integer reaped = transactionTemplate.execute(status ->
+                benchmarkResultRepository.deleteIncompleteCreatedBefore(before));
+        if (reaped != null && reaped > 0) {
+            log.warn("Removed {} incomplete benchmark results created before {}", reaped, before);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        runners.shutdownNow();
+        sampler.shutdownNow();
+    }
+
+    /**
+     * 모델당 동시 실행 수 이내에서 대기 중인 실행 시작
+     */
+    private void dispatch(ModelLane lane) {
+        synchronized (lane) {
+            while (lane.running < perModelConcurrency && !lane.queue.isEmpty()) {
+                Run run = lane.queue.poll();
+                queuedRuns.decrementAndGet();
+                lane.running++;
+                runners.execute(() -> {
+                    try {
+                        execute(run);
+                    } finally {
+                        synchronized (lane) {
+                            lane.running--;
+                        }
+                        dispatch(lane);
+                    }
+                });
+            }
+        }
+    }
+
+    private void execute(Run run) {
+        run.start();
+        TokenClock clock = new TokenClock();
+        ScheduledFuture<?> sampling = null;
+        Long benchmarkId = null;
+        boolean completed = false;
+
+        try {
+            AiModel model = aiModelRepository.findById(run.modelId)
+                    .orElseThrow(() -> new IllegalArgumentException("Model not found with id: " + run.modelId));
+
+            benchmarkId = begin(model, run);
+            run.recording(benchmarkId);
+            Long sampledId = benchmarkId;
+            sampling = sampler.scheduleAtFixedRate(() -> sample(sampledId),
+                    0, sampleIntervalMillis, TimeUnit.MILLISECONDS);
+
+            clock.start();
+            inferenceBackend.generate(model, run.promptTokens, run.maxTokens, clock);
+            clock.finish();
+            stopSampling(sampling);
+            long droppedSamples = inFlightSampleBuffer.complete(benchmarkId);
+
+            if (clock.tokens == 0) {
+                throw new IllegalStateException("Inference backend generated no tokens");
+            }
+            complete(benchmarkId, clock, droppedSamples);
+            completed = true;
+            finalizeSummary(benchmarkId);
+
+            run.complete(benchmarkId, droppedSamples);
+            completedRuns.increment();
+            runTimer.record(clock.finishNanos - clock.startNanos, TimeUnit.NANOSECONDS);
+            log.info("Benchmark run {} finished: model {}, {} tokens, TTFT {} ms, {} tokens/s",
+                    run.id, run.modelId, clock.tokens, clock.firstTokenNanos() / 1_000_000, clock.tokensPerSecond());
+            if (droppedSamples > 0) {
+                log.warn("Benchmark run {} dropped {} GPU samples; summary covers a partial series",
+                        run.id, droppedSamples);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail(run, benchmarkId, sampling, "Interrupted");
+        } catch (RuntimeException e) {
+            if (completed) {
+                // 결과는 이미 완료로 기록됨 (finalizeSummary 이후의 예외는 실행 실패가 아님)
+                log.warn("Benchmark run {} post-processing failed: {}", run.id, e.getMessage());
+                run.markCompleted(benchmarkId);
+            } else {
+                fail(run, benchmarkId, sampling, e.getMessage());
+                log.warn("Benchmark run {} failed: {}", run.id, e.getMessage());
+            }
+        } finally {
+            retire(run);
+        }
+    }
+
+    /**
+     * 실행 중 결과 행 생성 (측정값은 완료 시 채움, completedAt이 없으므로 리더보드/내보내기에서 제외)
+     */
+    private Long begin(AiModel model, Run run) {
+        BenchmarkResult result = BenchmarkResult.builder()
+                .model(model)
+                .user(userRepository.getReferenceById(run.userId))
+                .promptTokens(run.promptTokens)
+                .generatedTokens(0)
+                .totalDuration(BigDecimal.ZERO)
+                .firstTokenLatency(BigDecimal.ZERO)
+                .tokensPerSecond(BigDecimal.ZERO)
+                .build();
+        return benchmarkResultRepository.save(result).getId();
+    }
+
+    private void sample(Long benchmarkId) {
+        GpuReading reading = inferenceBackend.readGpu();
+        inFlightSampleBuffer.append(benchmarkId, ChronoUnit.MICROS.between(Instant.EPOCH, Instant.now()),
+                reading.gpuUtilization(), reading.memoryUsed(), reading.memoryTotal(),
+                reading.temperature(), reading.powerDraw(), reading.fanSpeed());
+    }
+
+    /**
+     * 샘플링 중단 후 진행 중이던 샘플 기록이 끝날 때까지 대기
+     * 샘플러는 단일 스레드이므로 빈 작업이 실행되면 그 이전 샘플 작업은 모두 끝난 상태
+     */
+    private void stopSampling(ScheduledFuture<?> sampling) throws InterruptedException {
+        sampling.cancel(false);
+        try {
+            sampler.submit(() -> { }).get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Benchmark sampler failed", e.getCause());
+        }
+    }
+
+    /**
+     * 측정값과 완료 시각 기록 후 리더보드 이벤트 발행 (커밋 후 반영)
+     */
+    private void complete(Long benchmarkId, TokenClock clock, long droppedSamples) {
+        transactionTemplate.executeWithoutResult(status -> {
+            BenchmarkResult result = benchmarkResultRepository.findById(benchmarkId)
+                    .orElseThrow(() -> new IllegalStateException("Benchmark result was removed: " + benchmarkId));
+            result.complete(clock.tokens,
+                    seconds(clock.finishNanos - clock.startNanos),
+                    BigDecimal.valueOf(clock.tokensPerSecond()).setScale(2, RoundingMode.HALF_UP),
+                    seconds(clock.firstTokenNanos()),
+                    droppedSamples);
+            eventPublisher.publishEvent(new BenchmarkResultRecordedEvent(benchmarkId, result.getModel().getId(),
+                    result.getTokensPerSecond().doubleValue(), result.getFirstTokenLatency().doubleValue()));
+        });
+    }
+
+    /**
+     * 요약 통계 계산 (실패해도 POST /{benchmarkId}/finalize로 다시 계산할 수 있으므로 실행은 완료로 둠)
+     */
+    private void finalizeSummary(Long benchmarkId) {
+        try {
+            benchmarkSummaryService.finalizeBenchmark(benchmarkId);
+        } catch (RuntimeException e) {
+            log.warn("Failed to finalize benchmark {}: {}", benchmarkId, e.getMessage());
+        }
+    }
+
+    /**
+     * 완료 전 실패: 샘플링을 멈추고 결과 행을 지움 (gpu_metrics는 CASCADE로 함께 삭제)
+     */
+    private void fail(Run run, Long benchmarkId, ScheduledFuture<?> sampling, String error) {
+        run.fail(error);
+        failedRuns.increment();
+        if (sampling != null) {
+            sampling.cancel(false);
+        }
+        if (benchmarkId == null) {
+            return;
+        }
+        try {
+            inFlightSampleBuffer.complete(benchmarkId);
+            benchmarkResultRepository.deleteById(benchmarkId);
+        } catch (RuntimeException e) {
+            log.error("Failed to discard incomplete benchmark {}", benchmarkId, e);
+        }
+    }
+
+    /**
+     * 끝난 실행은 retainedRuns개까지만 조회용으로 보관
+     */
+    private void retire(Run run) {
+        finishedRuns.add(run.id);
+        while (finishedRuns.size() > retainedRuns) {
+            Long oldest = finishedRuns.poll();
+            if (oldest != null) {
+                runs.remove(oldest);
+            }
+        }
+    }
+
+    /**
+     * 토큰 하나당 측정 비용 (System.nanoTime() 호출 비용의 최솟값)
+     */
+    private static long calibrateTimerOverhead() {
+        long best = Long.MAX_VALUE;
+        long sink = 0;
+        for (int round = 0; round < CALIBRATION_ROUNDS; round++) {
+            long startedAt = System.nanoTime();
+            for (int i = 0; i < CALIBRATION_CALLS; i++) {
+                sink += System.nanoTime();
+            }
+            best = Math.min(best, (System.nanoTime() - startedAt) / CALIBRATION_CALLS);
+        }
+        return sink == 0 ? best + 1 : best;
+    }
+
+    private static BigDecimal seconds(long nanos) {
+        return BigDecimal.valueOf(nanos, 9).setScale(3, RoundingMode.HALF_UP);
+    }
+
+    private static ThreadFactory threadFactory(String prefix) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * 토큰 시각 기록 (생성 스레드에서만 접근)
+     * TTFT = 첫 토큰 - 시작, tokens/s = 첫 토큰 이후 디코딩 속도 (토큰이 하나면 전체 시간 기준)
+     * 토큰당 측정 비용은 TokenClockOverheadBenchmark로 확인
+     */
+    static final class TokenClock implements InferenceBackend.TokenListener {
+
+        private long startNanos;
+        private long firstTokenAt;
+        private long lastTokenAt;
+        private long finishNanos;
+        private int tokens;
+
+        void start() {
+            startNanos = System.nanoTime();
+        }
+
+        @Override
+        public void onToken() {
+            long now = System.nanoTime();
+            if (tokens++ == 0) {
+                firstTokenAt = now;
+            }
+            lastTokenAt = now;
+        }
+
+        void finish() {
+            finishNanos = System.nanoTime();
+        }
+
+        long firstTokenNanos() {
+            return firstTokenAt - startNanos;
+        }
+
+        double tokensPerSecond() {
+            if (tokens > 1 && lastTokenAt > firstTokenAt) {
+                return (tokens - 1) * 1e9 / (lastTokenAt - firstTokenAt);
+            }
+            return tokens * 1e9 / Math.max(1, finishNanos - startNanos);
+        }
+    }
+
+    /**
+     * 모델별 대기열 (this로 보호)
+     */
+    private static final class ModelLane {
+
+        private final Queue<Run> queue = new ArrayDeque<>();
+        private int running;
+    }
+
+    /**
+     * 실행 하나의 상태 (조회 스레드와 실행 스레드가 공유하므로 volatile)
+     */
+    private static final class Run {
+
+        private final long id;
+        private final Long modelId;
+        private final Long userId;
+        private final String username;
+        private final int promptTokens;
+        private final int maxTokens;
+        private final Instant queuedAt = Instant.now();
+
+        private volatile BenchmarkRunStatus status = BenchmarkRunStatus.QUEUED;
+        private volatile Instant startedAt;
+        private volatile Instant finishedAt;
+        private volatile Long benchmarkId;
+        private volatile String error;
+        private volatile long droppedSamples;
+
+        Run(long id, Long modelId, Long userId, String username, int promptTokens, int maxTokens) {
+            this.id = id;
+            this.modelId = modelId;
+            this.userId = userId;
+            this.username = username;
+            this.promptTokens = promptTokens;
+            this.maxTokens = maxTokens;
+        }
+
+        void start() {
+            startedAt = Instant.now();
+            status = BenchmarkRunStatus.RUNNING;
+        }
+
+        void recording(Long benchmarkId) {
+            this.benchmarkId = benchmarkId;
+        }
+
+        void complete(Long benchmarkId, long droppedSamples) {
+            this.droppedSamples = droppedSamples;
+            markCompleted(benchmarkId);
+        }
+
+        void markCompleted(Long benchmarkId) {
+            this.benchmarkId = benchmarkId;
+            finishedAt = Instant.now();
+            status = BenchmarkRunStatus.COMPLETED;
+        }
+
+        void fail(String error) {
+            this.benchmarkId = null;
+            this.error = error;
+            finishedAt = Instant.now();
+            status = BenchmarkRunStatus.FAILED;
+        }
+
+        BenchmarkRunResponse toResponse() {
+            return new BenchmarkRunResponse(id, modelId, status, benchmarkId, error, droppedSamples,
+                    queuedAt, startedAt, finishedAt);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.portfolio.module.benchmark.service;
+
+import com.portfolio.domain.benchmark.BenchmarkResult;
+import com.portfolio.domain.benchmark.MetricsSummary;
+import com.portfolio.domain.benchmark.repository.BenchmarkResultRepository;
+import com.portfolio.module.benchmark.dto.BenchmarkSummaryResponse;
+import com.portfolio.module.benchmark.repository.GpuMetricsSeriesRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 벤치마크 요약 통계 계산 (gpu_metrics 한 번 순회, 샘플 수와 무관하게 메모리 일정)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BenchmarkSummaryService {
+
+    private final BenchmarkResultRepository benchmarkResultRepository;
+    private final GpuMetricsSeriesRepository gpuMetricsSeriesRepository;
+
+    /**
+     * 요약 통계 계산 후 benchmark_results에 반영 (다시 호출하면 재계산)
+     */
+    @Transactional
+    public BenchmarkSummaryResponse finalizeBenchmark(Long benchmarkId) {
+        BenchmarkResult result = benchmarkResultRepository.findById(benchmarkId)
+                .orElseThrow(() -> new IllegalArgumentException("Benchmark not found with id: " + benchmarkId));
+
+        SummaryCollector collector = new SummaryCollector();
+        gpuMetricsSeriesRepository.scan(benchmarkId, collector::accept);
+
+        BigDecimal energyJoules = BigDecimal.valueOf(collector.energyJoules).setScale(3, RoundingMode.HALF_UP);
+        BigDecimal energyPerToken = result.getGeneratedTokens() > 0 && collector.samples > 0
+                ? BigDecimal.valueOf(collector.energyJoules / result.getGeneratedTokens()).setScale(6, RoundingMode.HALF_UP)
+                : null;
+
+        result.applySummary(
+                collector.samples,
+                collector.toSummary(),
+                scale2(collector.gpuUtilization.avg()),
+                collector.memoryUsed.max() != null ? collector.memoryUsed.max().longValue() : null,
+                scale2(collector.temperature.avg()),
+                collector.samples > 0 ? energyJoules : null,
+                energyPerToken
+        );
+
+        log.info("Finalized benchmark {}: {} samples, {} J", benchmarkId, collector.samples, energyJoules);
+        return BenchmarkSummaryResponse.from(result);
+    }
+
+    private static BigDecimal scale2(Double value) {
+        return value != null ? BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP) : null;
+    }
+
+    /**
+     * 메트릭별 누적 + power_draw 사다리꼴 적분 (연속한 두 샘플 모두 값이 있을 때만)
+     */
+    private static final class SummaryCollector {
+
+        private final MetricAccumulator gpuUtilization = new MetricAccumulator();
+        private final MetricAccumulator memoryUsed = new MetricAccumulator();
+        private final MetricAccumulator temperature = new MetricAccumulator();
+        private final MetricAccumulator powerDraw = new MetricAccumulator();
+        private final MetricAccumulator fanSpeed = new MetricAccumulator();
+
+        private long samples;
+        private double energyJoules;
+        private long previousTimeMicros;
+        private double previousPowerDraw = Double.NaN;
+
+        void accept(long timeMicros, double gpuUtilization, double memoryUsed,
+                    double temperature, double powerDraw, double fanSpeed) {
+            samples++;
+            this.gpuUtilization.add(gpuUtilization);
+            this.memoryUsed.add(memoryUsed);
+            this.temperature.add(temperature);
+            this.powerDraw.add(powerDraw);
+            this.fanSpeed.add(fanSpeed);
+
+            if (!Double.isNaN(powerDraw) && !Double.isNaN(previousPowerDraw)) {
+                double seconds = (timeMicros - previousTimeMicros) / 1_000_000.0;
+                energyJoules += (previousPowerDraw + powerDraw) / 2 * seconds;
+            }
+            previousTimeMicros = timeMicros;
+            previousPowerDraw = powerDraw;
+        }
+
+        MetricsSummary toSummary() {
+            return new MetricsSummary(
+                    gpuUtilization.toStats(),
+                    memoryUsed.toStats(),
+                    temperature.toStats(),
+                    powerDraw.toStats(),
+                    fanSpeed.toStats()
+            );
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.portfolio.module.benchmark.service;
+
+import com.portfolio.module.benchmark.repository.GpuSampleBatch;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * GPU 메트릭 열 단위 바이너리 형식 (big-endian)
+ * <pre>
+ * "GPUCOL01"                          8 bytes magic
+ * int columnCount, UTF name * n       열 이름 (순서대로)
+ * 블록 반복:
+ *   long benchmarkId, int rowCount    rowCount > 0
+ *   long[rowCount] * columnCount      열마다 연속 배치
+ * int 0                               끝
+ * </pre>
+ * 시각은 epoch microseconds, *_x100 열은 100배 한 정수, 값이 없으면 Long.MIN_VALUE
+ */
+final class ColumnarMetricsWriter {
+
+    private static final byte[] MAGIC = "GPUCOL01".getBytes(StandardCharsets.US_ASCII);
+    private static final List<String> COLUMNS = List.of(
+            "time_micros", "gpu_utilization_x100", "memory_used", "memory_total",
+            "temperature_x100", "power_draw_x100", "fan_speed_x100");
+
+    private final DataOutputStream out;
+
+    ColumnarMetricsWriter(OutputStream out) {
+        this.out = new DataOutputStream(out);
+    }
+
+    void writeHeader() throws IOException {
+        out.write(MAGIC);
+        out.writeInt(COLUMNS.size());
+        for (String column : COLUMNS) {
+            out.writeUTF(column);
+        }
+    }
+
+    void writeBlock(long benchmarkId, GpuSampleBatch batch) throws IOException {
+        int rows = batch.size();
+        out.writeLong(benchmarkId);
+        out.writeInt(rows);
+        for (int i = 0; i < rows; i++) {
+            out.writeLong(batch.timeMicros(i));
+        }
+        for (int i = 0; i < rows; i++) {
+            out.writeLong(batch.gpuUtilization(i));
+        }
+        for (int i = 0; i < rows; i++) {
+            out.writeLong(batch.memoryUsed(i));
+        }
+        for (int i = 0; i < rows; i++) {
+            out.writeLong(batch.memoryTotal(i));
+        }
+        for (int i = 0; i < rows; i++) {
+            out.writeLong(batch.temperature(i));
+        }
+        for (int i = 0; i < rows; i++) {
+            out.writeLong(batch.powerDraw(i));
+        }
+        for (int i = 0; i < rows; i++) {
+            out.writeLong(batch.fanSpeed(i));
+        }
+    }
+
+    void writeEnd() throws IOException {
+        out.writeInt(0);
+        out.flush();
+    }
+}
@@ -0,0 +1,8 @@
+package com.portfolio.module.benchmark.service;
+
+/**
+ * GGUF 헤더에서 읽은 모델 메타데이터
+ */
+record GgufMetadata(int version, String name, String architecture, String quantization,
+                    long tensorCount, long parameterCount) {
+}
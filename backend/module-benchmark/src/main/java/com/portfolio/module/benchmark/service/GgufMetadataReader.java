@@ -0,0 +1,259 @@
+package com.portfolio.module.benchmark.service;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+
+/**
+ * GGUF 헤더 파서 (v2/v3, little-endian)
+ * 메타데이터 KV와 텐서 정보(이름/shape/타입/오프셋)만 읽고 텐서 데이터는 읽지 않음
+ * 토크나이저 어휘 같은 큰 배열은 값을 만들지 않고 건너뜀
+ */
+final class GgufMetadataReader {
+
+    private static final int MAGIC = 0x46554747; // "GGUF"
+    private static final int BUFFER_SIZE = 1 << 20;
+    private static final long MAX_STRING_LENGTH = 1 << 24;
+    private static final long MAX_ENTRIES = 1 << 24;
+    private static final int MAX_DIMENSIONS = 8;
+
+    /**
+     * 중첩 배열 최대 깊이 (실제 파일은 1~2단계, 조작된 헤더가 재귀로 스택을 소진하지 않도록 제한)
+     */
+    private static final int MAX_ARRAY_DEPTH = 8;
+
+    private static final int TYPE_UINT8 = 0;
+    private static final int TYPE_INT8 = 1;
+    private static final int TYPE_UINT16 = 2;
+    private static final int TYPE_INT16 = 3;
+    private static final int TYPE_UINT32 = 4;
+    private static final int TYPE_INT32 = 5;
+    private static final int TYPE_FLOAT32 = 6;
+    private static final int TYPE_BOOL = 7;
+    private static final int TYPE_STRING = 8;
+    private static final int TYPE_ARRAY = 9;
+    private static final int TYPE_UINT64 = 10;
+    private static final int TYPE_INT64 = 11;
+    private static final int TYPE_FLOAT64 = 12;
+
+    /**
+     * general.file_type (llama.cpp LLAMA_FTYPE) -> 양자화 이름
+     */
+    private static final Map<Long, String> FILE_TYPES = Map.ofEntries(
+            Map.entry(0L, "F32"), Map.entry(1L, "F16"), Map.entry(2L, "Q4_0"), Map.entry(3L, "Q4_1"),
+            Map.entry(7L, "Q8_0"), Map.entry(8L, "Q5_0"), Map.entry(9L, "Q5_1"), Map.entry(10L, "Q2_K"),
+            Map.entry(11L, "Q3_K_S"), Map.entry(12L, "Q3_K_M"), Map.entry(13L, "Q3_K_L"), Map.entry(14L, "Q4_K_S"),
+            Map.entry(15L, "Q4_K_M"), Map.entry(16L, "Q5_K_S"), Map.entry(17L, "Q5_K_M"), Map.entry(18L, "Q6_K"),
+            Map.entry(19L, "IQ2_XXS"), Map.entry(20L, "IQ2_XS"), Map.entry(21L, "Q2_K_S"), Map.entry(22L, "IQ3_XS"),
+            Map.entry(23L, "IQ3_XXS"), Map.entry(24L, "IQ1_S"), Map.entry(25L, "IQ4_NL"), Map.entry(26L, "IQ3_S"),
+            Map.entry(27L, "IQ3_M"), Map.entry(28L, "IQ2_S"), Map.entry(29L, "IQ2_M"), Map.entry(30L, "IQ4_XS"),
+            Map.entry(31L, "IQ1_M"), Map.entry(32L, "BF16")
+    );
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+    private GgufMetadataReader(FileChannel channel) {
+        this.channel = channel;
+        buffer.flip();
+    }
+
+    static GgufMetadata read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new GgufMetadataReader(channel).readHeader();
+        }
+    }
+
+    private GgufMetadata readHeader() throws IOException {
+        if (readInt() != MAGIC) {
+            throw new IllegalArgumentException("Not a GGUF file");
+        }
+        int version = readInt();
+        if (version < 2) {
+            throw new IllegalArgumentException("Unsupported GGUF version: " + version);
+        }
+        long tensorCount = checkCount(readLong());
+        long kvCount = checkCount(readLong());
+
+        String name = null;
+        String architecture = null;
+        String quantization = null;
+
+        for (long i = 0; i < kvCount; i++) {
+            String key = readString();
+            int type = readInt();
+            switch (key) {
+                case "general.name" -> name = readStringValue(type);
+                case "general.architecture" -> architecture = readStringValue(type);
+                case "general.file_type" -> quantization = FILE_TYPES.get(readIntegerValue(type));
+                default -> skipValue(type);
+            }
+        }
+
+        long parameterCount = 0;
+        for (long i = 0; i < tensorCount; i++) {
+            skipString();
+            int dimensions = readInt();
+            if (dimensions < 0 || dimensions > MAX_DIMENSIONS) {
+                throw new IllegalArgumentException("Invalid GGUF tensor dimensions: " + dimensions);
+            }
+            long elements = 1;
+            for (int d = 0; d < dimensions; d++) {
+                elements = Math.multiplyExact(elements, readLong());
+            }
+            parameterCount = Math.addExact(parameterCount, elements);
+            skip(4 + 8); // ggml type + data offset
+        }
+
+        return new GgufMetadata(version, name, architecture, quantization, tensorCount, parameterCount);
+    }
+
+    private String readStringValue(int type) throws IOException {
+        if (type != TYPE_STRING) {
+            skipValue(type);
+            return null;
+        }
+        return readString();
+    }
+
+    private Long readIntegerValue(int type) throws IOException {
+        return switch (type) {
+            case TYPE_UINT8, TYPE_INT8 -> (long) readByte();
+            case TYPE_UINT16, TYPE_INT16 -> (long) readShort();
+            case TYPE_UINT32, TYPE_INT32 -> (long) readInt();
+            case TYPE_UINT64, TYPE_INT64 -> readLong();
+            default -> {
+                skipValue(type);
+                yield null;
+            }
+        };
+    }
+
+    private void skipValue(int type) throws IOException {
+        skipValue(type, 0);
+    }
+
+    private void skipValue(int type, int depth) throws IOException {
+        switch (type) {
+            case TYPE_STRING -> skipString();
+            case TYPE_ARRAY -> {
+                if (depth >= MAX_ARRAY_DEPTH) {
+                    throw new IllegalArgumentException("GGUF array nesting too deep");
+                }
+                int elementType = readInt();
+                long length = checkCount(readLong());
+                int width = fixedWidth(elementType);
+                if (width > 0) {
+                    skip(Math.multiplyExact(length, (long) width));
+                } else {
+                    for (long i = 0; i < length; i++) {
+                        skipValue(elementType, depth + 1);
+                    }
+                }
+            }
+            default -> {
+                int width = fixedWidth(type);
+                if (width == 0) {
+                    throw new IllegalArgumentException("Unknown GGUF value type: " + type);
+                }
+                skip(width);
+            }
+        }
+    }
+
+    private static int fixedWidth(int type) {
+        return switch (type) {
+            case TYPE_UINT8, TYPE_INT8, TYPE_BOOL -> 1;
+            case TYPE_UINT16, TYPE_INT16 -> 2;
+            case TYPE_UINT32, TYPE_INT32, TYPE_FLOAT32 -> 4;
+            case TYPE_UINT64, TYPE_INT64, TYPE_FLOAT64 -> 8;
+            default -> 0;
+        };
+    }
+
+    private String readString() throws IOException {
+        int length = (int) checkStringLength(readLong());
+        byte[] bytes = new byte[length];
+        int offset = 0;
+        while (offset < length) {
+            ensure(1);
+            int chunk = Math.min(buffer.remaining(), length - offset);
+            buffer.get(bytes, offset, chunk);
+            offset += chunk;
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void skipString() throws IOException {
+        skip(checkStringLength(readLong()));
+    }
+
+    private byte readByte() throws IOException {
+        ensure(1);
+        return buffer.get();
+    }
+
+    private short readShort() throws IOException {
+        ensure(2);
+        return buffer.getShort();
+    }
+
+    private int readInt() throws IOException {
+        ensure(4);
+        return buffer.getInt();
+    }
+
+    private long readLong() throws IOException {
+        ensure(8);
+        return buffer.getLong();
+    }
+
+    /**
+     * 버퍼에 남은 만큼은 위치만 옮기고, 나머지는 채널 위치를 옮겨 읽지 않고 건너뜀
+     */
+    private void skip(long bytes) throws IOException {
+        long inBuffer = Math.min(bytes, buffer.remaining());
+        buffer.position(buffer.position() + (int) inBuffer);
+        long remaining = bytes - inBuffer;
+        if (remaining > 0) {
+            long target = channel.position() + remaining;
+            if (target > channel.size()) {
+                throw new EOFException("Unexpected end of GGUF header");
+            }
+            channel.position(target);
+        }
+    }
+
+    private void ensure(int bytes) throws IOException {
+        if (buffer.remaining() >= bytes) {
+            return;
+        }
+        buffer.compact();
+        while (buffer.position() < bytes) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("Unexpected end of GGUF header");
+            }
+        }
+        buffer.flip();
+    }
+
+    private static long checkCount(long count) {
+        if (count < 0 || count > MAX_ENTRIES) {
+            throw new IllegalArgumentException("Invalid GGUF entry count: " + count);
+        }
+        return count;
+    }
+
+    private static long checkStringLength(long length) {
+        if (length < 0 || length > MAX_STRING_LENGTH) {
+            throw new IllegalArgumentException("Invalid GGUF string length: " + length);
+        }
+        return length;
+    }
+}
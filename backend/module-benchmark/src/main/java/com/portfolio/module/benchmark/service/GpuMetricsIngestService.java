@@ -0,0 +1,176 @@
+package com.portfolio.module.benchmark.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.module.benchmark.dto.MetricsIngestResponse;
+import com.portfolio.module.benchmark.repository.GpuMetricsCopyRepository;
+import com.portfolio.module.benchmark.repository.GpuMetricsSeriesRepository;
+import com.portfolio.module.benchmark.repository.GpuSampleBatch;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * GPU 메트릭 스트리밍 적재
+ * 요청 본문을 청크 크기만큼 읽어 COPY로 기록한 뒤 다음 청크를 읽으므로 스트림당 메모리 사용량은 청크 하나로 고정
+ * 커넥션은 청크를 COPY하는 동안만 빌리고, 동시 스트림 수도 제한해 DB 커넥션을 모두 점유하지 않도록 함
+ * 연속 집계는 갱신 정책이 다루는 최근 구간이면 정책에 맡기고, 더 과거 구간만 모아 두었다가 주기적으로 한 번에 갱신
+ */
+@Slf4j
+@Service
+public class GpuMetricsIngestService {
+
+    private final GpuMetricsCopyRepository gpuMetricsCopyRepository;
+    private final GpuMetricsSeriesRepository gpuMetricsSeriesRepository;
+    private final TelemetryHub telemetryHub;
+    private final JsonFactory jsonFactory;
+    private final int chunkSize;
+    private final Semaphore streams;
+
+    /**
+     * 1초 집계 갱신 정책의 start_offset (이보다 최근 샘플은 정책이 다음 주기에 반영)
+     */
+    private final Duration policyStartOffset;
+
+    /**
+     * 아직 갱신하지 않은 과거 구간 (여러 적재 요청을 하나의 구간으로 합침)
+     */
+    private final AtomicReference<TimeWindow> pendingRefresh = new AtomicReference<>();
+
+    private final Counter ingestedSamples;
+    private final Counter rejectedStreams;
+    private final Timer ingestTimer;
+
+    public GpuMetricsIngestService(GpuMetricsCopyRepository gpuMetricsCopyRepository,
+                                   GpuMetricsSeriesRepository gpuMetricsSeriesRepository,
+                                   TelemetryHub telemetryHub,
+                                   ObjectMapper objectMapper,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${benchmark.ingest.chunk-size:5000}") int chunkSize,
+                                   @Value("${benchmark.ingest.max-concurrent-streams:4}") int maxConcurrentStreams,
+                                   @Value("${benchmark.ingest.aggregate-policy-start-offset:3600000}") long policyStartOffsetMillis) {
+        this.gpuMetricsCopyRepository = gpuMetricsCopyRepository;
+        this.gpuMetricsSeriesRepository = gpuMetricsSeriesRepository;
+        this.telemetryHub = telemetryHub;
+        this.jsonFactory = objectMapper.getFactory();
+        this.chunkSize = chunkSize;
+        this.streams = new Semaphore(maxConcurrentStreams);
+        this.policyStartOffset = Duration.ofMillis(policyStartOffsetMillis);
+
+        this.ingestedSamples = meterRegistry.counter("benchmark.ingest.samples");
+        this.rejectedStreams = meterRegistry.counter("benchmark.ingest.rejected");
+        this.ingestTimer = meterRegistry.timer("benchmark.ingest.duration");
+    }
+
+    /**
+     * NDJSON 샘플 스트림 적재
+     * 중간에 잘못된 샘플이 있으면 예외가 발생하며, 그 이전 청크는 이미 기록된 상태로 남음
+     *
+     * @return 동시 스트림 수 초과 시 empty (호출 측에서 재시도)
+     */
+    public Optional<MetricsIngestResponse> ingestNdjson(Long benchmarkId, InputStream body) throws IOException {
+        if (!streams.tryAcquire()) {
+            rejectedStreams.increment();
+            return Optional.empty();
+        }
+
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            if (!gpuMetricsCopyRepository.existsBenchmark(benchmarkId)) {
+                throw new IllegalArgumentException("Benchmark not found with id: " + benchmarkId);
+            }
+
+            GpuMetricsNdjsonReader reader = new GpuMetricsNdjsonReader(parser);
+            GpuSampleBatch batch = new GpuSampleBatch(chunkSize);
+            long startedAt = System.nanoTime();
+            long samples = 0;
+            try {
+                // 본문에서 청크를 다 채운 뒤에만 커넥션을 빌려 COPY (느린 클라이언트가 커넥션을 붙잡지 않음)
+                while (true) {
+                    batch.clear();
+                    if (reader.fill(batch) == 0) {
+                        break;
+                    }
+                    samples += gpuMetricsCopyRepository.copyBatch(benchmarkId, batch);
+                    telemetryHub.publish(benchmarkId, batch);
+                }
+            } finally {
+                // 중간에 실패해도 이미 커밋된 청크는 집계에 반영
+                scheduleRefresh(reader);
+            }
+            long elapsedNanos = System.nanoTime() - startedAt;
+
+            ingestedSamples.increment(samples);
+            ingestTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+            long elapsedMillis = elapsedNanos / 1_000_000;
+            long samplesPerSecond = elapsedNanos > 0 ? samples * 1_000_000_000L / elapsedNanos : samples;
+            log.debug("Ingested {} GPU metric samples for benchmark {} in {} ms", samples, benchmarkId, elapsedMillis);
+
+            return Optional.of(new MetricsIngestResponse(benchmarkId, samples, elapsedMillis, samplesPerSecond));
+        } finally {
+            streams.release();
+        }
+    }
+
+    /**
+     * 적재한 구간이 갱신 정책 범위보다 과거에 걸치면 갱신 대기 구간에 합침 (요청 스레드에서 갱신하지 않음)
+     */
+    private void scheduleRefresh(GpuMetricsNdjsonReader reader) {
+        if (reader.minTime() == null || !reader.minTime().isBefore(Instant.now().minus(policyStartOffset))) {
+            return;
+        }
+        pendingRefresh.accumulateAndGet(new TimeWindow(reader.minTime(), reader.maxTime()),
+                (pending, added) -> added.union(pending));
+    }
+
+    /**
+     * 모아 둔 과거 구간의 연속 집계 갱신 (실패하면 구간을 되돌려 다음 주기에 재시도)
+     */
+    @Scheduled(fixedDelayString = "${benchmark.ingest.aggregate-refresh-interval:10000}")
+    public void refreshPendingAggregates() {
+        TimeWindow window = pendingRefresh.getAndSet(null);
+        if (window == null) {
+            return;
+        }
+        try {
+            gpuMetricsSeriesRepository.refreshAggregates(window.from(), window.to());
+            log.debug("Refreshed GPU metrics aggregates for {} ~ {}", window.from(), window.to());
+        } catch (RuntimeException e) {
+            pendingRefresh.accumulateAndGet(window, (pending, failed) -> failed.union(pending));
+            log.warn("Failed to refresh GPU metrics aggregates for {} ~ {}", window.from(), window.to(), e);
+        }
+    }
+
+    /**
+     * 종료 시 남은 구간 갱신
+     */
+    @PreDestroy
+    public void refreshOnShutdown() {
+        refreshPendingAggregates();
+    }
+
+    private record TimeWindow(Instant from, Instant to) {
+
+        TimeWindow union(TimeWindow other) {
+            if (other == null) {
+                return this;
+            }
+            return new TimeWindow(from.isBefore(other.from) ? from : other.from, to.isAfter(other.to) ? to : other.to);
+        }
+    }
+}
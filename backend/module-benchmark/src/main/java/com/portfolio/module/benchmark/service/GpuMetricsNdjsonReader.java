@@ -0,0 +1,149 @@
+package com.portfolio.module.benchmark.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.portfolio.module.benchmark.repository.GpuSampleBatch;
+
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+
+/**
+ * NDJSON GPU 메트릭 스트림을 GpuSampleBatch로 직접 읽음 (행마다 객체를 만들지 않음)
+ * 한 줄 예: {"time":"2026-01-05T10:30:00.125Z","gpuUtilization":87.5,"memoryUsed":10240,
+ *           "memoryTotal":24576,"temperature":71.0,"powerDraw":312.4,"fanSpeed":55}
+ * time은 ISO-8601 문자열 또는 epoch milliseconds, 알 수 없는 필드는 무시
+ */
+class GpuMetricsNdjsonReader {
+
+    private static final long MAX_PERCENT = 100_00;
+    private static final long MAX_TEMPERATURE = 999_99;    // NUMERIC(5,2)
+    private static final long MAX_POWER_DRAW = 99_999_99;  // NUMERIC(7,2)
+
+    private final JsonParser parser;
+    private long samplesRead;
+    private long minTimeMicros = Long.MAX_VALUE;
+    private long maxTimeMicros = Long.MIN_VALUE;
+
+    GpuMetricsNdjsonReader(JsonParser parser) {
+        this.parser = parser;
+    }
+
+    long samplesRead() {
+        return samplesRead;
+    }
+
+    /**
+     * 지금까지 읽은 샘플의 시간 범위 (읽은 샘플이 없으면 null)
+     */
+    Instant minTime() {
+        return samplesRead > 0 ? toInstant(minTimeMicros) : null;
+    }
+
+    Instant maxTime() {
+        return samplesRead > 0 ? toInstant(maxTimeMicros) : null;
+    }
+
+    /**
+     * batch가 가득 차거나 입력이 끝날 때까지 읽음
+     *
+     * @return 이번에 추가한 샘플 수
+     */
+    int fill(GpuSampleBatch batch) throws IOException {
+        int added = 0;
+        while (!batch.isFull()) {
+            JsonToken token = parser.nextToken();
+            if (token == null) {
+                break;
+            }
+            if (token != JsonToken.START_OBJECT) {
+                throw invalid("Expected a JSON object");
+            }
+            readSample(batch);
+            samplesRead++;
+            added++;
+        }
+        return added;
+    }
+
+    private void readSample(GpuSampleBatch batch) throws IOException {
+        long time = GpuSampleBatch.NULL_VALUE;
+        long gpuUtilization = GpuSampleBatch.NULL_VALUE;
+        long memoryUsed = GpuSampleBatch.NULL_VALUE;
+        long memoryTotal = GpuSampleBatch.NULL_VALUE;
+        long temperature = GpuSampleBatch.NULL_VALUE;
+        long powerDraw = GpuSampleBatch.NULL_VALUE;
+        long fanSpeed = GpuSampleBatch.NULL_VALUE;
+
+        String field;
+        while ((field = parser.nextFieldName()) != null) {
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "time" -> time = readTimeMicros(value);
+                case "gpuUtilization" -> gpuUtilization = readHundredths(value, field, 0, MAX_PERCENT);
+                case "memoryUsed" -> memoryUsed = readLong(value, field);
+                case "memoryTotal" -> memoryTotal = readLong(value, field);
+                case "temperature" -> temperature = readHundredths(value, field, -MAX_TEMPERATURE, MAX_TEMPERATURE);
+                case "powerDraw" -> powerDraw = readHundredths(value, field, 0, MAX_POWER_DRAW);
+                case "fanSpeed" -> fanSpeed = readHundredths(value, field, 0, MAX_PERCENT);
+                default -> parser.skipChildren();
+            }
+        }
+
+        if (time == GpuSampleBatch.NULL_VALUE) {
+            throw invalid("time is required");
+        }
+        minTimeMicros = Math.min(minTimeMicros, time);
+        maxTimeMicros = Math.max(maxTimeMicros, time);
+        batch.append(time, gpuUtilization, memoryUsed, memoryTotal, temperature, powerDraw, fanSpeed);
+    }
+
+    private long readTimeMicros(JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_NUMBER_INT) {
+            return Math.multiplyExact(parser.getLongValue(), 1000L);
+        }
+        if (value == JsonToken.VALUE_STRING) {
+            try {
+                Instant instant = OffsetDateTime.parse(parser.getText()).toInstant();
+                return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000L), instant.getNano() / 1000L);
+            } catch (DateTimeException | ArithmeticException e) {
+                throw invalid("Invalid time: " + parser.getText());
+            }
+        }
+        throw invalid("time must be an ISO-8601 string or epoch milliseconds");
+    }
+
+    private long readLong(JsonToken value, String field) throws IOException {
+        if (value == JsonToken.VALUE_NULL) {
+            return GpuSampleBatch.NULL_VALUE;
+        }
+        if (value != JsonToken.VALUE_NUMBER_INT || parser.getLongValue() < 0) {
+            throw invalid(field + " must be a non-negative integer");
+        }
+        return parser.getLongValue();
+    }
+
+    private long readHundredths(JsonToken value, String field, long min, long max) throws IOException {
+        if (value == JsonToken.VALUE_NULL) {
+            return GpuSampleBatch.NULL_VALUE;
+        }
+        if (value != JsonToken.VALUE_NUMBER_INT && value != JsonToken.VALUE_NUMBER_FLOAT) {
+            throw invalid(field + " must be a number");
+        }
+        double number = parser.getDoubleValue();
+        long hundredths = GpuSampleBatch.hundredths(number);
+        if (hundredths == GpuSampleBatch.NULL_VALUE || hundredths < min || hundredths > max) {
+            throw invalid(field + " out of range: " + number);
+        }
+        return hundredths;
+    }
+
+    private static Instant toInstant(long micros) {
+        return Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000L), Math.floorMod(micros, 1_000_000L) * 1000L);
+    }
+
+    private IllegalArgumentException invalid(String message) {
+        return new IllegalArgumentException("Invalid GPU metrics sample #" + (samplesRead + 1) + ": " + message);
+    }
+}
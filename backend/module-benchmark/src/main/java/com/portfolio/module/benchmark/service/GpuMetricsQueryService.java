@@ -0,0 +1,119 @@
+package com.portfolio.module.benchmark.service;
+
+import com.portfolio.module.benchmark.dto.MetricPoint;
+import com.portfolio.module.benchmark.dto.MetricSeriesResponse;
+import com.portfolio.module.benchmark.repository.GpuMetricsCopyRepository;
+import com.portfolio.module.benchmark.repository.GpuMetricsSeriesRepository;
+import com.portfolio.module.benchmark.repository.MetricResolution;
+import com.portfolio.module.benchmark.repository.MetricTimeRange;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * GPU 메트릭 차트 조회
+ * 요청한 포인트 수(maxPoints) 안에 들어오는 가장 성긴 연속 집계를 골라 조회하므로
+ * 벤치마크 실행 시간과 무관하게 응답 크기가 maxPoints로 제한됨
+ */
+@Service
+@RequiredArgsConstructor
+public class GpuMetricsQueryService {
+
+    private static final int MIN_POINTS = 10;
+    private static final int MAX_POINTS = 5000;
+
+    private final GpuMetricsSeriesRepository gpuMetricsSeriesRepository;
+    private final GpuMetricsCopyRepository gpuMetricsCopyRepository;
+
+    @Value("${benchmark.metrics.max-raw-points:200000}")
+    private long maxRawPoints;
+
+    /**
+     * 메트릭 시계열 조회
+     *
+     * @param raw    true면 원본 해상도 요청 (maxPoints 초과 시 LTTB로 다운샘플링)
+     * @param metric LTTB 선택 기준 메트릭
+     */
+    public MetricSeriesResponse getSeries(Long benchmarkId, Instant from, Instant to,
+                                          int maxPoints, boolean raw, String metric) {
+        int budget = Math.max(MIN_POINTS, Math.min(maxPoints, MAX_POINTS));
+        Function<MetricPoint, Double> lttbMetric = metricAccessor(metric);
+
+        MetricTimeRange range = gpuMetricsSeriesRepository.findTimeRange(benchmarkId).orElse(null);
+        if (range == null) {
+            if (!gpuMetricsCopyRepository.existsBenchmark(benchmarkId)) {
+                throw new IllegalArgumentException("Benchmark not found with id: " + benchmarkId);
+            }
+            return new MetricSeriesResponse(benchmarkId, from, to, MetricSeriesResponse.RAW, null, List.of());
+        }
+
+        Instant start = from != null ? from : range.from();
+        Instant end = to != null ? to : range.to();
+        if (end.isBefore(start)) {
+            throw new IllegalArgumentException("'to' must not be before 'from'");
+        }
+
+        // 버킷 경계 정렬로 양 끝에 한 개씩 더 생길 수 있으므로 budget - 1 기준
+        long widthSeconds = Math.max(1, ceilDiv(Duration.between(start, end).toMillis(), (budget - 1) * 1000L));
+
+        if (raw || widthSeconds == 1) {
+            long rawCount = gpuMetricsSeriesRepository.countRaw(benchmarkId, start, end);
+            if (rawCount <= budget) {
+                return new MetricSeriesResponse(benchmarkId, start, end, MetricSeriesResponse.RAW, null,
+                        gpuMetricsSeriesRepository.findRaw(benchmarkId, start, end));
+            }
+            if (raw && rawCount <= maxRawPoints) {
+                List<MetricPoint> points = gpuMetricsSeriesRepository.findRaw(benchmarkId, start, end);
+                return new MetricSeriesResponse(benchmarkId, start, end, MetricSeriesResponse.LTTB, null,
+                        downsample(points, budget, lttbMetric));
+            }
+            // 원본 행이 너무 많으면 집계 조회로 대체
+        }
+
+        MetricResolution source = MetricResolution.coarsestWithin(widthSeconds);
+        long bucketSeconds = ceilDiv(widthSeconds, source.seconds()) * source.seconds();
+        return new MetricSeriesResponse(benchmarkId, start, end, MetricSeriesResponse.AGGREGATE, bucketSeconds,
+                gpuMetricsSeriesRepository.findBucketed(source, bucketSeconds, benchmarkId, start, end));
+    }
+
+    private static List<MetricPoint> downsample(List<MetricPoint> points, int budget,
+                                                Function<MetricPoint, Double> metric) {
+        int n = points.size();
+        long[] x = new long[n];
+        double[] y = new double[n];
+        for (int i = 0; i < n; i++) {
+            MetricPoint point = points.get(i);
+            Double value = metric.apply(point);
+            x[i] = point.getTime().toEpochMilli();
+            y[i] = value != null ? value : Double.NaN;
+        }
+
+        int[] selected = Lttb.select(x, y, budget);
+        List<MetricPoint> sampled = new ArrayList<>(selected.length);
+        for (int index : selected) {
+            sampled.add(points.get(index));
+        }
+        return sampled;
+    }
+
+    private static Function<MetricPoint, Double> metricAccessor(String metric) {
+        return switch (metric) {
+            case "gpuUtilization" -> MetricPoint::getGpuUtilization;
+            case "memoryUsed" -> MetricPoint::getMemoryUsed;
+            case "temperature" -> MetricPoint::getTemperature;
+            case "powerDraw" -> MetricPoint::getPowerDraw;
+            case "fanSpeed" -> MetricPoint::getFanSpeed;
+            default -> throw new IllegalArgumentException("Unknown metric: " + metric);
+        };
+    }
+
+    private static long ceilDiv(long dividend, long divisor) {
+        return (dividend + divisor - 1) / divisor;
+    }
+}
@@ -0,0 +1,8 @@
+package com.portfolio.module.benchmark.service;
+
+/**
+ * GPU 상태 한 번 측정값 (값이 없으면 NaN 또는 GpuSampleBatch.NULL_VALUE)
+ */
+public record GpuReading(double gpuUtilization, long memoryUsed, long memoryTotal,
+                         double temperature, double powerDraw, double fanSpeed) {
+}
@@ -0,0 +1,101 @@
+package com.portfolio.module.benchmark.service;
+
+import com.portfolio.module.benchmark.dto.TelemetrySample;
+import com.portfolio.module.benchmark.repository.GpuSampleBatch;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 최근 샘플 링 버퍼 (열 단위 원시 배열, 샘플당 56바이트)
+ * 기록 시 객체를 만들지 않고, 조회할 때만 TelemetrySample로 변환
+ */
+class GpuSampleRing {
+
+    private final long[] timeMicros;
+    private final long[] gpuUtilization;
+    private final long[] memoryUsed;
+    private final long[] memoryTotal;
+    private final long[] temperature;
+    private final long[] powerDraw;
+    private final long[] fanSpeed;
+    private int next;
+    private int size;
+
+    GpuSampleRing(int capacity) {
+        this.timeMicros = new long[capacity];
+        this.gpuUtilization = new long[capacity];
+        this.memoryUsed = new long[capacity];
+        this.memoryTotal = new long[capacity];
+        this.temperature = new long[capacity];
+        this.powerDraw = new long[capacity];
+        this.fanSpeed = new long[capacity];
+    }
+
+    /**
+     * batch의 마지막 capacity개만 기록 (그 이전 샘플은 어차피 덮어써짐)
+     */
+    void addAll(GpuSampleBatch batch) {
+        int capacity = timeMicros.length;
+        for (int i = Math.max(0, batch.size() - capacity); i < batch.size(); i++) {
+            timeMicros[next] = batch.timeMicros(i);
+            gpuUtilization[next] = batch.gpuUtilization(i);
+            memoryUsed[next] = batch.memoryUsed(i);
+            memoryTotal[next] = batch.memoryTotal(i);
+            temperature[next] = batch.temperature(i);
+            powerDraw[next] = batch.powerDraw(i);
+            fanSpeed[next] = batch.fanSpeed(i);
+            next = (next + 1) % capacity;
+            size = Math.min(size + 1, capacity);
+        }
+    }
+
+    /**
+     * 오래된 순서로 변환
+     */
+    List<TelemetrySample> toSamples() {
+        int capacity = timeMicros.length;
+        int start = (next - size + capacity) % capacity;
+        List<TelemetrySample> samples = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int index = (start + i) % capacity;
+            samples.add(toSample(timeMicros[index], gpuUtilization[index], memoryUsed[index], memoryTotal[index],
+                    temperature[index], powerDraw[index], fanSpeed[index]));
+        }
+        return samples;
+    }
+
+    /**
+     * batch 전체 변환
+     */
+    static List<TelemetrySample> toSamples(GpuSampleBatch batch) {
+        List<TelemetrySample> samples = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            samples.add(toSample(batch.timeMicros(i), batch.gpuUtilization(i), batch.memoryUsed(i),
+                    batch.memoryTotal(i), batch.temperature(i), batch.powerDraw(i), batch.fanSpeed(i)));
+        }
+        return samples;
+    }
+
+    private static TelemetrySample toSample(long micros, long gpuUtilization, long memoryUsed, long memoryTotal,
+                                            long temperature, long powerDraw, long fanSpeed) {
+        return new TelemetrySample(
+                Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000L), Math.floorMod(micros, 1_000_000L) * 1000L),
+                hundredths(gpuUtilization),
+                nullable(memoryUsed),
+                nullable(memoryTotal),
+                hundredths(temperature),
+                hundredths(powerDraw),
+                hundredths(fanSpeed)
+        );
+    }
+
+    private static Double hundredths(long value) {
+        return value == GpuSampleBatch.NULL_VALUE ? null : value / 100.0;
+    }
+
+    private static Long nullable(long value) {
+        return value == GpuSampleBatch.NULL_VALUE ? null : value;
+    }
+}
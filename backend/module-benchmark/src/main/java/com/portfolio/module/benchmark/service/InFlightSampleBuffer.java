@@ -0,0 +1,211 @@
+package com.portfolio.module.benchmark.service;
+
+import com.portfolio.module.benchmark.repository.GpuMetricsCopyRepository;
+import com.portfolio.module.benchmark.repository.GpuSampleBatch;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 실행 중인 벤치마크의 GPU 샘플 버퍼
+ * 샘플을 GpuMetrics 엔티티(BigDecimal 5개 + OffsetDateTime) 대신 벤치마크별 원시 배열(샘플당 56바이트)에 쌓고,
+ * 가득 차거나 주기마다 COPY로 기록할 때만 DB 표현으로 변환
+ * 가득 찬 버퍼는 예비 버퍼로 교체한 뒤 기록 스레드에 넘기므로 샘플을 넣는 스레드는 DB를 기다리지 않고,
+ * 기록이 끝난 버퍼는 재사용
+ * 기록 스레드는 하나이므로 같은 벤치마크의 청크는 순서대로 기록되고 실시간 구독자에게도 시간순으로 전달됨
+ * 기록이 밀리거나 COPY가 실패해 버린 샘플은 벤치마크별로 세어 complete에서 돌려줌 (결과에 빈 구간 표시)
+ */
+@Slf4j
+@Service
+public class InFlightSampleBuffer {
+
+    private final GpuMetricsCopyRepository gpuMetricsCopyRepository;
+    private final TelemetryHub telemetryHub;
+    private final int capacity;
+    private final int maxPendingBatches;
+    private final Map<Long, Slot> slots = new ConcurrentHashMap<>();
+    private final ExecutorService flusher;
+
+    private final Counter flushedSamples;
+    private final Counter droppedSamples;
+
+    public InFlightSampleBuffer(GpuMetricsCopyRepository gpuMetricsCopyRepository,
+                                TelemetryHub telemetryHub,
+                                MeterRegistry meterRegistry,
+                                @Value("${benchmark.buffer.capacity:8192}") int capacity,
+                                @Value("${benchmark.buffer.max-pending-batches:4}") int maxPendingBatches) {
+        this.gpuMetricsCopyRepository = gpuMetricsCopyRepository;
+        this.telemetryHub = telemetryHub;
+        this.capacity = capacity;
+        this.maxPendingBatches = maxPendingBatches;
+        this.flusher = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "gpu-sample-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.flushedSamples = meterRegistry.counter("benchmark.buffer.flushed_samples");
+        this.droppedSamples = meterRegistry.counter("benchmark.buffer.dropped_samples");
+        Gauge.builder("benchmark.buffer.pending_samples", this, InFlightSampleBuffer::pendingSamples)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 샘플 추가 (값이 없으면 NaN 또는 GpuSampleBatch.NULL_VALUE)
+     * 버퍼가 가득 차면 기록 스레드에 넘기기만 하고 바로 반환
+     */
+    public void append(Long benchmarkId, long timeMicros, double gpuUtilization, long memoryUsed, long memoryTotal,
+                       double temperature, double powerDraw, double fanSpeed) {
+        Slot slot = slots.get(benchmarkId);
+        if (slot == null) {
+            slot = slots.computeIfAbsent(benchmarkId, id -> new Slot(capacity));
+        }
+        synchronized (slot) {
+            slot.active.append(timeMicros, GpuSampleBatch.hundredths(gpuUtilization), memoryUsed, memoryTotal,
+                    GpuSampleBatch.hundredths(temperature), GpuSampleBatch.hundredths(powerDraw),
+                    GpuSampleBatch.hundredths(fanSpeed));
+            if (slot.active.isFull()) {
+                enqueue(benchmarkId, slot);
+            }
+        }
+    }
+
+    /**
+     * 벤치마크 종료 시 남은 샘플을 기록하고 버퍼 제거
+     * 앞서 넘긴 청크까지 모두 기록된 뒤 반환하므로 호출 후 바로 gpu_metrics를 읽어도 됨
+     *
+     * @return 이 벤치마크에서 기록하지 못하고 버린 샘플 수
+     */
+    public long complete(Long benchmarkId) {
+        Slot slot = slots.remove(benchmarkId);
+        if (slot == null) {
+            return 0;
+        }
+        synchronized (slot) {
+            if (slot.active.size() > 0) {
+                enqueue(benchmarkId, slot);
+            }
+        }
+        try {
+            flusher.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("GPU sample flusher failed", e.getCause());
+        }
+        return slot.dropped.get();
+    }
+
+    @Scheduled(fixedDelayString = "${benchmark.buffer.flush-interval:1000}")
+    public void flushAll() {
+        slots.forEach((benchmarkId, slot) -> {
+            synchronized (slot) {
+                if (slot.active.size() > 0) {
+                    enqueue(benchmarkId, slot);
+                }
+            }
+        });
+    }
+
+    @PreDestroy
+    public void drainOnShutdown() throws InterruptedException {
+        flushAll();
+        flusher.shutdown();
+        if (!flusher.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("GPU sample flusher did not finish within 30s");
+        }
+    }
+
+    /**
+     * 수집 중인 버퍼를 기록 스레드에 넘기고 예비 버퍼로 교체 (slot 락 안에서 호출)
+     * 기록이 maxPendingBatches개 넘게 밀려 있으면 메모리가 계속 늘지 않도록 이번 청크를 버림
+     */
+    private void enqueue(Long benchmarkId, Slot slot) {
+        if (slot.pendingBatches >= maxPendingBatches) {
+            drop(slot, slot.active.size());
+            slot.active.clear();
+            return;
+        }
+        GpuSampleBatch batch = slot.swap(capacity);
+        slot.pendingBatches++;
+        flusher.execute(() -> write(benchmarkId, slot, batch));
+    }
+
+    /**
+     * 기록 스레드에서만 실행
+     */
+    private void write(Long benchmarkId, Slot slot, GpuSampleBatch batch) {
+        try {
+            gpuMetricsCopyRepository.copyBatch(benchmarkId, batch);
+            flushedSamples.increment(batch.size());
+            telemetryHub.publish(benchmarkId, batch);
+        } catch (RuntimeException e) {
+            // 재시도하며 쌓아 두면 DB 장애 시 메모리가 계속 늘어나므로 버림
+            drop(slot, batch.size());
+            log.error("Failed to flush {} GPU samples for benchmark {}", batch.size(), benchmarkId, e);
+        } finally {
+            slot.recycle(batch);
+        }
+    }
+
+    private void drop(Slot slot, int samples) {
+        droppedSamples.increment(samples);
+        slot.dropped.addAndGet(samples);
+    }
+
+    private double pendingSamples() {
+        long pending = 0;
+        for (Slot slot : slots.values()) {
+            synchronized (slot) {
+                pending += slot.active.size();
+            }
+        }
+        return pending;
+    }
+
+    /**
+     * 벤치마크별 수집 버퍼 + 예비 버퍼 (this로 보호, dropped는 기록 스레드도 갱신하므로 원자적)
+     */
+    private static final class Slot {
+
+        private final AtomicLong dropped = new AtomicLong();
+        private GpuSampleBatch active;
+        private GpuSampleBatch spare;
+        private int pendingBatches;
+
+        Slot(int capacity) {
+            this.active = new GpuSampleBatch(capacity);
+        }
+
+        /**
+         * 수집 중인 버퍼를 꺼내고 예비 버퍼(없으면 새 버퍼)로 교체
+         */
+        GpuSampleBatch swap(int capacity) {
+            GpuSampleBatch filled = active;
+            active = spare != null ? spare : new GpuSampleBatch(capacity);
+            spare = null;
+            return filled;
+        }
+
+        synchronized void recycle(GpuSampleBatch batch) {
+            pendingBatches--;
+            batch.clear();
+            if (spare == null) {
+                spare = batch;
+            }
+        }
+    }
+}
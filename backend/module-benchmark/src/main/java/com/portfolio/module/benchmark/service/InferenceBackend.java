@@ -0,0 +1,27 @@
+package com.portfolio.module.benchmark.service;
+
+import com.portfolio.domain.benchmark.AiModel;
+
+/**
+ * 벤치마크 대상 추론 백엔드
+ */
+public interface InferenceBackend {
+
+    /**
+     * 생성 토큰 수신 (생성 스레드에서 순서대로 호출, 측정 외 작업은 하지 않아야 함)
+     */
+    @FunctionalInterface
+    interface TokenListener {
+        void onToken();
+    }
+
+    /**
+     * 프롬프트 처리 후 최대 maxTokens개 토큰 생성 (끝날 때까지 블록)
+     */
+    void generate(AiModel model, int promptTokens, int maxTokens, TokenListener listener) throws InterruptedException;
+
+    /**
+     * 현재 GPU 상태 (샘플러 스레드에서 generate와 동시에 호출됨)
+     */
+    GpuReading readGpu();
+}
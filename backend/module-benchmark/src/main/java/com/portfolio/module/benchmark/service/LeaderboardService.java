@@ -0,0 +1,298 @@
+package com.portfolio.module.benchmark.service;
+
+import com.portfolio.common.util.LongIntHashMap;
+import com.portfolio.common.util.QuantileSketch;
+import com.portfolio.domain.benchmark.AiModel;
+import com.portfolio.domain.benchmark.BenchmarkResultRecordedEvent;
+import com.portfolio.domain.benchmark.repository.AiModelRepository;
+import com.portfolio.module.benchmark.dto.LeaderboardEntry;
+import com.portfolio.module.benchmark.dto.LeaderboardGroup;
+import com.portfolio.module.benchmark.dto.LeaderboardMetric;
+import com.portfolio.module.benchmark.dto.ModelComparisonResponse;
+import com.portfolio.module.benchmark.repository.BenchmarkLeaderboardRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * AI 모델 리더보드 메모리 인덱스
+ * 모델별로 처리량/TTFT 분위수 스케치만 보관하므로 결과 수와 무관하게 모델 수에 비례하는 메모리만 사용
+ * 결과가 저장될 때마다 해당 모델 스케치에 증분 반영하고, 조회 시 변경이 있으면 순위 뷰를 다시 만듦
+ */
+@Slf4j
+@Service
+public class LeaderboardService {
+
+    private static final double SKETCH_RELATIVE_ACCURACY = 0.01;
+    private static final int MAX_LIMIT = 100;
+    private static final int MAX_COMPARE_MODELS = 10;
+
+    private final BenchmarkLeaderboardRepository benchmarkLeaderboardRepository;
+    private final AiModelRepository aiModelRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    // this로 보호
+    private Map<Long, ModelStats> statsByModel = new HashMap<>();
+    private Map<Long, ModelInfo> modelsById = new HashMap<>();
+    // 재계산 중 커밋된 결과 (재계산 중이 아니면 null)
+    private List<BenchmarkResultRecordedEvent> recordedDuringRefresh;
+
+    private final AtomicLong version = new AtomicLong();
+    private volatile View view = View.EMPTY;
+
+    public LeaderboardService(BenchmarkLeaderboardRepository benchmarkLeaderboardRepository,
+                              AiModelRepository aiModelRepository,
+                              PlatformTransactionManager transactionManager) {
+        this.benchmarkLeaderboardRepository = benchmarkLeaderboardRepository;
+        this.aiModelRepository = aiModelRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        refresh();
+    }
+
+    /**
+     * 전체 재계산 (다른 인스턴스에서 저장된 결과 반영 및 보정용)
+     */
+    @Scheduled(initialDelayString = "${benchmark.leaderboard.refresh-interval:3600000}",
+               fixedDelayString = "${benchmark.leaderboard.refresh-interval:3600000}")
+    public void refresh() {
+        int expectedRuns;
+        synchronized (this) {
+            if (recordedDuringRefresh != null) {
+                log.debug("Leaderboard rebuild already in progress");
+                return;
+            }
+            recordedDuringRefresh = new ArrayList<>();
+            expectedRuns = (int) Math.min(Integer.MAX_VALUE, statsByModel.values().stream().mapToLong(stats -> stats.runs).sum());
+        }
+
+        try {
+            Map<Long, ModelStats> rebuilt = new HashMap<>();
+            LongIntHashMap scannedIds = new LongIntHashMap(expectedRuns, 0);
+            readOnlyTransaction.executeWithoutResult(status -> benchmarkLeaderboardRepository.scan(
+                    (resultId, modelId, tokensPerSecond, firstTokenLatency) -> {
+                        scannedIds.put(resultId, 1);
+                        rebuilt.computeIfAbsent(modelId, id -> new ModelStats())
+                                .add(tokensPerSecond, firstTokenLatency);
+                    }));
+
+            Map<Long, ModelInfo> models = aiModelRepository.findAll().stream()
+                    .collect(Collectors.toMap(AiModel::getId, ModelInfo::from));
+
+            synchronized (this) {
+                // 스캔 도중 커밋된 결과 중 스캔 스냅샷에 없던 것만 다시 반영 (이미 스캔된 결과는 중복 집계하지 않음)
+                int replayed = 0;
+                for (BenchmarkResultRecordedEvent event : recordedDuringRefresh) {
+                    if (scannedIds.get(event.benchmarkId()) == 0) {
+                        rebuilt.computeIfAbsent(event.modelId(), id -> new ModelStats())
+                                .add(event.tokensPerSecond(), event.firstTokenLatency());
+                        ModelInfo model = modelsById.get(event.modelId());
+                        if (model != null) {
+                            models.putIfAbsent(model.id(), model);
+                        }
+                        replayed++;
+                    }
+                }
+                this.statsByModel = rebuilt;
+                this.modelsById = models;
+                version.incrementAndGet();
+                log.info("Leaderboard rebuilt: {} models, {} results replayed", rebuilt.size(), replayed);
+            }
+        } finally {
+            synchronized (this) {
+                recordedDuringRefresh = null;
+            }
+        }
+    }
+
+    /**
+     * 결과 커밋 후 해당 모델 통계에 증분 반영 (재계산 중이면 새 맵에도 반영되도록 기록)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onResultRecorded(BenchmarkResultRecordedEvent event) {
+        boolean known;
+        synchronized (this) {
+            known = modelsById.containsKey(event.modelId());
+        }
+        ModelInfo model = known ? null : aiModelRepository.findById(event.modelId()).map(ModelInfo::from).orElse(null);
+
+        synchronized (this) {
+            if (model != null) {
+                modelsById.put(model.id(), model);
+            }
+            statsByModel.computeIfAbsent(event.modelId(), id -> new ModelStats())
+                    .add(event.tokensPerSecond(), event.firstTokenLatency());
+            if (recordedDuringRefresh != null) {
+                recordedDuringRefresh.add(event);
+            }
+            version.incrementAndGet();
+        }
+    }
+
+    /**
+     * 모델 타입/양자화 그룹별 순위
+     */
+    public List<LeaderboardGroup> getLeaderboard(String sortBy, String type, String quantization, int limit) {
+        LeaderboardMetric metric = LeaderboardMetric.from(sortBy);
+        int size = Math.max(1, Math.min(limit, MAX_LIMIT));
+
+        return currentView().groups().get(metric).stream()
+                .filter(group -> type == null || type.equalsIgnoreCase(group.getType()))
+                .filter(group -> quantization == null || quantization.equalsIgnoreCase(group.getQuantization()))
+                .map(group -> group.getEntries().size() <= size ? group
+                        : new LeaderboardGroup(group.getType(), group.getQuantization(), group.getEntries().subList(0, size)))
+                .toList();
+    }
+
+    /**
+     * 모델 N개 비교
+     */
+    public ModelComparisonResponse compare(List<Long> modelIds) {
+        List<Long> ids = List.copyOf(new LinkedHashSet<>(modelIds));
+        if (ids.isEmpty() || ids.size() > MAX_COMPARE_MODELS) {
+            throw new IllegalArgumentException("Compare 1~" + MAX_COMPARE_MODELS + " models");
+        }
+
+        Map<Long, LeaderboardEntry> entries = currentView().entriesByModel();
+        List<LeaderboardEntry> models = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            LeaderboardEntry entry = entries.get(id);
+            if (entry == null) {
+                throw new IllegalArgumentException("No benchmark results for model id: " + id);
+            }
+            models.add(entry);
+        }
+
+        return new ModelComparisonResponse(
+                models,
+                best(models, LeaderboardMetric.TPS_P50),
+                best(models, LeaderboardMetric.TPS_P95),
+                best(models, LeaderboardMetric.TTFT_P50),
+                best(models, LeaderboardMetric.TTFT_P95)
+        );
+    }
+
+    private static Long best(List<LeaderboardEntry> models, LeaderboardMetric metric) {
+        return models.stream().min(metric.order()).map(LeaderboardEntry::getModelId).orElse(null);
+    }
+
+    /**
+     * 변경이 있을 때만 순위 뷰 재생성
+     */
+    private View currentView() {
+        View current = view;
+        if (current.version() == version.get()) {
+            return current;
+        }
+        synchronized (this) {
+            current = view;
+            long latest = version.get();
+            if (current.version() != latest) {
+                current = buildView(latest);
+                view = current;
+            }
+            return current;
+        }
+    }
+
+    private View buildView(long viewVersion) {
+        Map<Long, LeaderboardEntry> entries = new HashMap<>();
+        statsByModel.forEach((modelId, stats) -> {
+            ModelInfo model = modelsById.get(modelId);
+            if (model != null && stats.runs > 0) {
+                entries.put(modelId, stats.toEntry(model));
+            }
+        });
+
+        Map<GroupKey, List<LeaderboardEntry>> byGroup = entries.values().stream()
+                .collect(Collectors.groupingBy(entry -> new GroupKey(entry.getType(), entry.getQuantization())));
+        List<GroupKey> groupKeys = byGroup.keySet().stream().sorted(GroupKey.ORDER).toList();
+
+        Map<LeaderboardMetric, List<LeaderboardGroup>> groups = new EnumMap<>(LeaderboardMetric.class);
+        for (LeaderboardMetric metric : LeaderboardMetric.values()) {
+            List<LeaderboardGroup> ranked = new ArrayList<>(groupKeys.size());
+            for (GroupKey key : groupKeys) {
+                List<LeaderboardEntry> sorted = byGroup.get(key).stream().sorted(metric.order()).toList();
+                List<LeaderboardEntry> withRank = new ArrayList<>(sorted.size());
+                for (int i = 0; i < sorted.size(); i++) {
+                    withRank.add(sorted.get(i).withRank(i + 1));
+                }
+                ranked.add(new LeaderboardGroup(key.type(), key.quantization(), List.copyOf(withRank)));
+            }
+            groups.put(metric, List.copyOf(ranked));
+        }
+
+        return new View(viewVersion, Map.copyOf(entries), groups);
+    }
+
+    private record View(long version, Map<Long, LeaderboardEntry> entriesByModel,
+                        Map<LeaderboardMetric, List<LeaderboardGroup>> groups) {
+
+        static final View EMPTY = new View(-1, Map.of(), emptyGroups());
+
+        private static Map<LeaderboardMetric, List<LeaderboardGroup>> emptyGroups() {
+            Map<LeaderboardMetric, List<LeaderboardGroup>> groups = new EnumMap<>(LeaderboardMetric.class);
+            for (LeaderboardMetric metric : LeaderboardMetric.values()) {
+                groups.put(metric, List.of());
+            }
+            return groups;
+        }
+    }
+
+    private record GroupKey(String type, String quantization) {
+
+        static final Comparator<GroupKey> ORDER = Comparator
+                .comparing(GroupKey::type, Comparator.nullsLast(Comparator.<String>naturalOrder()))
+                .thenComparing(GroupKey::quantization, Comparator.nullsLast(Comparator.<String>naturalOrder()));
+    }
+
+    private record ModelInfo(Long id, String name, String slug, String type, String quantization) {
+
+        static ModelInfo from(AiModel model) {
+            return new ModelInfo(model.getId(), model.getName(), model.getSlug(), model.getType(), model.getQuantization());
+        }
+    }
+
+    /**
+     * 모델별 누적 통계 (this로 보호)
+     */
+    private static final class ModelStats {
+
+        private final QuantileSketch tokensPerSecond = new QuantileSketch(SKETCH_RELATIVE_ACCURACY);
+        private final QuantileSketch firstTokenLatency = new QuantileSketch(SKETCH_RELATIVE_ACCURACY);
+        private long runs;
+
+        void add(double tokensPerSecond, double firstTokenLatency) {
+            this.tokensPerSecond.add(tokensPerSecond);
+            this.firstTokenLatency.add(firstTokenLatency);
+            runs++;
+        }
+
+        LeaderboardEntry toEntry(ModelInfo model) {
+            return new LeaderboardEntry(0, model.id(), model.name(), model.slug(), model.type(), model.quantization(),
+                    runs,
+                    tokensPerSecond.quantile(0.50), tokensPerSecond.quantile(0.95),
+                    firstTokenLatency.quantile(0.50), firstTokenLatency.quantile(0.95));
+        }
+    }
+}
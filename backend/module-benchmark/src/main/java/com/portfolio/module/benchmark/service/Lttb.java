@@ -0,0 +1,74 @@
+package com.portfolio.module.benchmark.service;
+
+/**
+ * Largest-Triangle-Three-Buckets 다운샘플링
+ * 첫/마지막 점을 유지하고, 구간마다 이전 선택점과 다음 구간 평균점으로 만든 삼각형 넓이가 가장 큰 점을 선택
+ */
+final class Lttb {
+
+    private Lttb() {
+    }
+
+    /**
+     * @param x         시간 (오름차순)
+     * @param y         값 (NaN은 0으로 취급)
+     * @param threshold 선택할 점 수
+     * @return 선택된 인덱스 (오름차순)
+     */
+    static int[] select(long[] x, double[] y, int threshold) {
+        int n = x.length;
+        if (threshold >= n || threshold < 3) {
+            int[] all = new int[n];
+            for (int i = 0; i < n; i++) {
+                all[i] = i;
+            }
+            return all;
+        }
+
+        int[] sampled = new int[threshold];
+        double every = (double) (n - 2) / (threshold - 2);
+        long origin = x[0];
+        int a = 0;
+
+        for (int i = 0; i < threshold - 2; i++) {
+            int avgStart = (int) Math.floor((i + 1) * every) + 1;
+            int avgEnd = Math.min((int) Math.floor((i + 2) * every) + 1, n);
+            double avgX = 0;
+            double avgY = 0;
+            for (int j = avgStart; j < avgEnd; j++) {
+                avgX += x[j] - origin;
+                avgY += value(y, j);
+            }
+            int avgLength = avgEnd - avgStart;
+            avgX /= avgLength;
+            avgY /= avgLength;
+
+            int rangeStart = (int) Math.floor(i * every) + 1;
+            int rangeEnd = (int) Math.floor((i + 1) * every) + 1;
+            double pointAX = x[a] - origin;
+            double pointAY = value(y, a);
+
+            double maxArea = -1;
+            int next = rangeStart;
+            for (int j = rangeStart; j < rangeEnd; j++) {
+                double area = Math.abs((pointAX - avgX) * (value(y, j) - pointAY)
+                        - (pointAX - (x[j] - origin)) * (avgY - pointAY));
+                if (area > maxArea) {
+                    maxArea = area;
+                    next = j;
+                }
+            }
+
+            sampled[i + 1] = next;
+            a = next;
+        }
+
+        sampled[threshold - 1] = n - 1;
+        return sampled;
+    }
+
+    private static double value(double[] y, int index) {
+        double value = y[index];
+        return Double.isNaN(value) ? 0 : value;
+    }
+}
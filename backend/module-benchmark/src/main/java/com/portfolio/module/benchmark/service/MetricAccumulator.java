@@ -0,0 +1,54 @@
+package com.portfolio.module.benchmark.service;
+
+import com.portfolio.common.util.QuantileSketch;
+import com.portfolio.domain.benchmark.MetricsSummary.MetricStats;
+
+/**
+ * 단일 메트릭 누적기 (count/sum/min/max + 분위수 스케치, 메모리 일정)
+ */
+class MetricAccumulator {
+
+    private static final double SKETCH_RELATIVE_ACCURACY = 0.01;
+
+    private final QuantileSketch sketch = new QuantileSketch(SKETCH_RELATIVE_ACCURACY);
+    private long count;
+    private double sum;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    void add(double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        count++;
+        sum += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+        sketch.add(value);
+    }
+
+    long count() {
+        return count;
+    }
+
+    Double avg() {
+        return count > 0 ? sum / count : null;
+    }
+
+    Double max() {
+        return count > 0 ? max : null;
+    }
+
+    MetricStats toStats() {
+        if (count == 0) {
+            return new MetricStats(0, null, null, null, null, null, null);
+        }
+        // 스케치 근사값이 실제 범위를 벗어나지 않도록 min/max로 제한
+        return new MetricStats(count, min, max, sum / count,
+                clamp(sketch.quantile(0.50)), clamp(sketch.quantile(0.95)), clamp(sketch.quantile(0.99)));
+    }
+
+    private double clamp(double value) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
@@ -0,0 +1,323 @@
+package com.portfolio.module.benchmark.service;
+
+import com.portfolio.domain.benchmark.AiModel;
+import com.portfolio.domain.benchmark.repository.AiModelRepository;
+import com.portfolio.module.benchmark.dto.ModelScanResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 모델 파일 레지스트리
+ * 설정된 디렉터리의 .gguf 파일을 찾아 SHA-256과 GGUF 헤더 메타데이터를 ai_models에 등록
+ * 크기/수정 시각이 지난 스캔과 같으면 건너뛰고, 바뀐 파일만 여러 스레드에서 동시에 해시 계산
+ * 스캔은 전용 스레드에서 한 번에 하나만 실행되며, 실행 중에 들어온 요청은 진행 중인 스캔으로 합침
+ */
+@Slf4j
+@Service
+public class ModelRegistryService {
+
+    private static final String MODEL_EXTENSION = ".gguf";
+    private static final String MODEL_TYPE = "LLM";
+    private static final int HASH_BUFFER_SIZE = 8 << 20;
+    private static final int MAX_FILE_PATH_LENGTH = 500;
+
+    /**
+     * 해시 계산 스레드별 direct 버퍼 (FileChannel.read가 힙 버퍼 대신 바로 채우므로 복사가 없음)
+     * hashers 스레드 수만큼만 할당되고 스레드와 함께 재사용
+     */
+    private static final ThreadLocal<ByteBuffer> HASH_BUFFERS =
+            ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(HASH_BUFFER_SIZE));
+
+    private final AiModelRepository aiModelRepository;
+    private final Path directory;
+    private final ExecutorService hashers;
+    private final ExecutorService scanner;
+    private final AtomicBoolean scanning = new AtomicBoolean();
+    private volatile ModelScanResponse lastScan;
+
+    public ModelRegistryService(AiModelRepository aiModelRepository,
+                                @Value("${benchmark.models.directory:./models}") String directory,
+                                @Value("${benchmark.models.scan-parallelism:4}") int scanParallelism) {
+        this.aiModelRepository = aiModelRepository;
+        this.directory = Path.of(directory).toAbsolutePath().normalize();
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.hashers = Executors.newFixedThreadPool(scanParallelism, runnable -> {
+            Thread thread = new Thread(runnable, "model-hasher-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scanner = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "model-scanner");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 모델 디렉터리 스캔 요청 (전용 스레드에서 비동기 실행)
+     *
+     * @return 이미 스캔 중이면 false (진행 중인 스캔이 결과를 반영)
+     */
+    public boolean requestScan() {
+        if (!scanning.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            scanner.execute(() -> {
+                try {
+                    lastScan = scan();
+                } catch (RuntimeException e) {
+                    log.error("Model scan failed", e);
+                } finally {
+                    scanning.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            scanning.set(false);
+            throw e;
+        }
+        return true;
+    }
+
+    @Scheduled(initialDelayString = "${benchmark.models.scan-interval:3600000}",
+               fixedDelayString = "${benchmark.models.scan-interval:3600000}")
+    public void scheduledScan() {
+        requestScan();
+    }
+
+    /**
+     * 마지막으로 끝난 스캔 결과
+     */
+    public Optional<ModelScanResponse> getLastScan() {
+        return Optional.ofNullable(lastScan);
+    }
+
+    /**
+     * 모델 디렉터리 스캔 (scanner 스레드에서만 실행)
+     */
+    ModelScanResponse scan() {
+        long startedAt = System.nanoTime();
+        if (!Files.isDirectory(directory)) {
+            log.warn("Model directory does not exist: {}", directory);
+            return new ModelScanResponse(0, 0, 0, 0, 0, List.of(), 0);
+        }
+
+        Map<String, AiModel> existing = aiModelRepository.findAll().stream()
+                .collect(Collectors.toMap(AiModel::getFilePath, Function.identity()));
+        List<ModelFile> files = findModelFiles();
+
+        int unchanged = 0;
+        List<Future<FileScan>> scans = new ArrayList<>();
+        for (ModelFile file : files) {
+            AiModel model = existing.get(file.key());
+            if (model != null && model.isUnchanged(file.size(), file.modifiedAt())) {
+                unchanged++;
+            } else {
+                scans.add(hashers.submit(() -> inspect(file)));
+            }
+        }
+
+        int registered = 0;
+        int updated = 0;
+        List<String> failed = new ArrayList<>();
+        for (Future<FileScan> future : scans) {
+            FileScan scan = await(future);
+            if (scan.error() != null) {
+                failed.add(scan.file().key() + ": " + scan.error());
+                continue;
+            }
+            // 한 파일의 저장 실패(slug/경로 UNIQUE 충돌 등)가 나머지 파일의 등록을 막지 않도록 파일 단위로 처리
+            try {
+                if (existing.containsKey(scan.file().key())) {
+                    save(existing.get(scan.file().key()), scan);
+                    updated++;
+                } else {
+                    save(newModel(scan), scan);
+                    registered++;
+                }
+            } catch (DataAccessException e) {
+                log.warn("Failed to save model {}: {}", scan.file().key(), e.getMostSpecificCause().getMessage());
+                failed.add(scan.file().key() + ": " + e.getMostSpecificCause().getMessage());
+            }
+        }
+
+        Set<String> present = files.stream().map(ModelFile::key).collect(Collectors.toCollection(HashSet::new));
+        int missing = (int) existing.keySet().stream()
+                .filter(path -> isUnderDirectory(path) && !present.contains(path))
+                .count();
+
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        log.info("Model scan finished: {} files, {} registered, {} updated, {} unchanged, {} missing, {} failed in {} ms",
+                files.size(), registered, updated, unchanged, missing, failed.size(), elapsedMillis);
+        return new ModelScanResponse(files.size(), registered, updated, unchanged, missing, failed, elapsedMillis);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scanner.shutdownNow();
+        hashers.shutdownNow();
+    }
+
+    /**
+     * 경로 구성 요소 단위로 비교 (문자열 비교는 /models2 같은 형제 디렉터리도 포함함)
+     */
+    private boolean isUnderDirectory(String filePath) {
+        try {
+            return Path.of(filePath).toAbsolutePath().normalize().startsWith(directory);
+        } catch (InvalidPathException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 큰 파일부터 해시를 시작해 전체 소요 시간을 줄임
+     */
+    private List<ModelFile> findModelFiles() {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            return paths
+                    .filter(path -> path.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(MODEL_EXTENSION))
+                    .map(this::toModelFile)
+                    .filter(file -> file != null && file.key().length() <= MAX_FILE_PATH_LENGTH)
+                    .sorted(Comparator.comparingLong(ModelFile::size).reversed())
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list model directory: " + directory, e);
+        }
+    }
+
+    private ModelFile toModelFile(Path path) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            if (!attributes.isRegularFile()) {
+                return null;
+            }
+            // timestamptz 정밀도(마이크로초)에 맞춰야 다음 스캔에서 같은 값으로 비교됨
+            OffsetDateTime modifiedAt = attributes.lastModifiedTime().toInstant()
+                    .truncatedTo(ChronoUnit.MICROS).atOffset(ZoneOffset.UTC);
+            return new ModelFile(path, path.toString(), attributes.size(), modifiedAt);
+        } catch (IOException e) {
+            log.warn("Failed to read attributes of {}: {}", path, e.getMessage());
+            return null;
+        }
+    }
+
+    private FileScan inspect(ModelFile file) {
+        try {
+            GgufMetadata metadata = GgufMetadataReader.read(file.path());
+            return new FileScan(file, metadata, sha256(file.path()), null);
+        } catch (IOException | IllegalArgumentException | ArithmeticException e) {
+            return new FileScan(file, null, null, e.getMessage());
+        }
+    }
+
+    /**
+     * 큰 버퍼로 순차 읽기 (페이지 캐시를 거쳐 디스크 처리량에 맞춰 진행)
+     */
+    private static String sha256(Path path) throws IOException {
+        MessageDigest digest = newSha256();
+        ByteBuffer buffer = HASH_BUFFERS.get().clear();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            while (channel.read(buffer) >= 0) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private AiModel newModel(FileScan scan) {
+        GgufMetadata metadata = scan.metadata();
+        String fileName = scan.file().path().getFileName().toString();
+        String baseName = fileName.substring(0, fileName.length() - MODEL_EXTENSION.length());
+        String name = metadata.name() != null ? metadata.name() : baseName;
+
+        return AiModel.builder()
+                .name(name)
+                .slug(uniqueSlug(baseName, scan.checksum()))
+                .type(MODEL_TYPE)
+                .quantization(metadata.quantization())
+                .filePath(scan.file().key())
+                .fileSize(scan.file().size())
+                .build();
+    }
+
+    private void save(AiModel model, FileScan scan) {
+        GgufMetadata metadata = scan.metadata();
+        model.updateFileMetadata(scan.file().size(), scan.file().modifiedAt(), scan.checksum(),
+                metadata.architecture(), metadata.parameterCount(), metadata.quantization());
+        aiModelRepository.save(model);
+    }
+
+    private String uniqueSlug(String baseName, String checksum) {
+        String slug = baseName.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "-").replaceAll("(^-|-$)", "");
+        if (slug.isEmpty() || aiModelRepository.existsBySlug(slug)) {
+            slug = (slug.isEmpty() ? "model" : slug) + "-" + checksum.substring(0, 8);
+        }
+        return slug;
+    }
+
+    private static FileScan await(Future<FileScan> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Model scan interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Model scan failed", e.getCause());
+        }
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record ModelFile(Path path, String key, long size, OffsetDateTime modifiedAt) {
+    }
+
+    private record FileScan(ModelFile file, GgufMetadata metadata, String checksum, String error) {
+    }
+}
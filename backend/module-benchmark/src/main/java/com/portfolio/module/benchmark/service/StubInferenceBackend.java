@@ -0,0 +1,86 @@
+package com.portfolio.module.benchmark.service;
+
+import com.portfolio.domain.benchmark.AiModel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * GPU 없이 동작하는 결정적 추론 백엔드
+ * TTFT = first-token-latency + 프롬프트 토큰 수 / prompt-tokens-per-second, 이후 tokens-per-second 간격으로 토큰 생성
+ * 토큰 시각은 시작 시각 기준 절대 시각으로 계산해 대기 오차가 누적되지 않음
+ */
+@Component
+@ConditionalOnProperty(name = "benchmark.runner.backend", havingValue = "stub", matchIfMissing = true)
+public class StubInferenceBackend implements InferenceBackend {
+
+    private static final long MEMORY_TOTAL_MB = 24_576;
+    private static final long BASE_MEMORY_MB = 512;
+    private static final double LOAD_PERIOD_SECONDS = 5.0;
+
+    private final long firstTokenLatencyNanos;
+    private final double promptNanosPerToken;
+    private final long tokenIntervalNanos;
+    private final long startedAt = System.nanoTime();
+    private final AtomicInteger activeGenerations = new AtomicInteger();
+
+    public StubInferenceBackend(@Value("${benchmark.runner.stub.first-token-latency:200}") long firstTokenLatencyMillis,
+                                @Value("${benchmark.runner.stub.prompt-tokens-per-second:2000}") double promptTokensPerSecond,
+                                @Value("${benchmark.runner.stub.tokens-per-second:40}") double tokensPerSecond) {
+        if (promptTokensPerSecond <= 0 || tokensPerSecond <= 0) {
+            throw new IllegalArgumentException("Stub token rates must be positive");
+        }
+        this.firstTokenLatencyNanos = TimeUnit.MILLISECONDS.toNanos(firstTokenLatencyMillis);
+        this.promptNanosPerToken = TimeUnit.SECONDS.toNanos(1) / promptTokensPerSecond;
+        this.tokenIntervalNanos = Math.round(TimeUnit.SECONDS.toNanos(1) / tokensPerSecond);
+    }
+
+    @Override
+    public void generate(AiModel model, int promptTokens, int maxTokens, TokenListener listener)
+            throws InterruptedException {
+        long firstTokenAt = System.nanoTime() + firstTokenLatencyNanos + Math.round(promptTokens * promptNanosPerToken);
+        activeGenerations.incrementAndGet();
+        try {
+            for (int i = 0; i < maxTokens; i++) {
+                parkUntil(firstTokenAt + i * tokenIntervalNanos);
+                listener.onToken();
+            }
+        } finally {
+            activeGenerations.decrementAndGet();
+        }
+    }
+
+    /**
+     * 생성 중이면 높은 사용률 주변에서 주기적으로 변하는 값, 아니면 유휴 값
+     */
+    @Override
+    public GpuReading readGpu() {
+        int active = activeGenerations.get();
+        double phase = (System.nanoTime() - startedAt) / 1e9 / LOAD_PERIOD_SECONDS * 2 * Math.PI;
+        double utilization = active > 0 ? Math.min(100, 88 + 6 * Math.sin(phase) + 2 * active) : 2;
+        double temperature = 38 + utilization * 0.4;
+        double powerDraw = 45 + utilization * 2.8;
+        double fanSpeed = Math.max(30, temperature - 10);
+        long memoryUsed = BASE_MEMORY_MB + active * 6_144L;
+        return new GpuReading(round2(utilization), Math.min(memoryUsed, MEMORY_TOTAL_MB), MEMORY_TOTAL_MB,
+                round2(temperature), round2(powerDraw), round2(fanSpeed));
+    }
+
+    private static void parkUntil(long deadline) throws InterruptedException {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+    }
+
+    private static double round2(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
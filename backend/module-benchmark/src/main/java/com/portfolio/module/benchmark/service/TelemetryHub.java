@@ -0,0 +1,364 @@
+package com.portfolio.module.benchmark.service;
+
+import com.portfolio.module.benchmark.dto.TelemetrySample;
+import com.portfolio.module.benchmark.repository.GpuMetricsCopyRepository;
+import com.portfolio.module.benchmark.repository.GpuSampleBatch;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 벤치마크 실시간 메트릭 SSE 팬아웃
+ * 벤치마크별 링 버퍼에 최근 샘플을 보관해 늦게 접속한 구독자에게 먼저 전송하고,
+ * 구독자마다 제한된 큐를 두어 느린 구독자는 오래된 프레임부터 버림 (적재 스레드는 블로킹되지 않음)
+ * 전송은 소수의 전송 스레드가 큐에 프레임이 있는 구독자만 돌아가며 처리하고,
+ * 전송 중인 구독자는 다시 예약하지 않고 그동안 쌓인 프레임을 다음 전송에 합쳐 보냄
+ * 쓰기가 write-timeout을 넘겨 막힌 구독자는 끊어 전송 스레드를 돌려받음 (느린 구독자 하나가 다른 구독자를 막지 않음)
+ */
+@Slf4j
+@Service
+public class TelemetryHub {
+
+    private static final String HISTORY_EVENT = "history";
+    private static final String SAMPLES_EVENT = "samples";
+
+    private final GpuMetricsCopyRepository gpuMetricsCopyRepository;
+    private final Map<Long, Channel> channels = new ConcurrentHashMap<>();
+    private final ExecutorService senders;
+    private final int historySize;
+    private final int queueCapacity;
+    private final long emitterTimeoutMillis;
+    private final long idleTimeoutMillis;
+    private final long writeTimeoutNanos;
+
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final Counter droppedFrames;
+    private final Counter stalledSubscribers;
+
+    public TelemetryHub(GpuMetricsCopyRepository gpuMetricsCopyRepository,
+                        MeterRegistry meterRegistry,
+                        @Value("${benchmark.telemetry.history-size:600}") int historySize,
+                        @Value("${benchmark.telemetry.queue-capacity:64}") int queueCapacity,
+                        @Value("${benchmark.telemetry.sender-threads:4}") int senderThreads,
+                        @Value("${benchmark.telemetry.emitter-timeout:1800000}") long emitterTimeoutMillis,
+                        @Value("${benchmark.telemetry.idle-timeout:600000}") long idleTimeoutMillis,
+                        @Value("${benchmark.telemetry.write-timeout:5000}") long writeTimeoutMillis) {
+        this.gpuMetricsCopyRepository = gpuMetricsCopyRepository;
+        this.historySize = historySize;
+        this.queueCapacity = queueCapacity;
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.writeTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(writeTimeoutMillis);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.senders = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "telemetry-sender-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.droppedFrames = meterRegistry.counter("benchmark.telemetry.dropped_frames");
+        this.stalledSubscribers = meterRegistry.counter("benchmark.telemetry.stalled_subscribers");
+        Gauge.builder("benchmark.telemetry.subscribers", subscriberCount, AtomicInteger::get)
+                .register(meterRegistry);
+        Gauge.builder("benchmark.telemetry.queue_depth", this, TelemetryHub::queueDepth)
+                .description("Frames queued for all subscribers")
+                .register(meterRegistry);
+        Gauge.builder("benchmark.telemetry.channels", channels, Map::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 적재된 청크를 링 버퍼에 기록하고 구독자에게 전달 (블로킹 없음)
+     * 구독자가 없으면 원시 배열 복사만 하고 객체는 만들지 않음
+     */
+    public void publish(Long benchmarkId, GpuSampleBatch batch) {
+        if (batch.size() == 0) {
+            return;
+        }
+        while (true) {
+            Channel channel = channels.computeIfAbsent(benchmarkId, id -> new Channel(historySize));
+            synchronized (channel) {
+                if (channel.evicted) {
+                    continue;
+                }
+                channel.ring.addAll(batch);
+                channel.touch();
+                if (channel.subscribers.isEmpty()) {
+                    return;
+                }
+
+                Frame frame = new Frame(SAMPLES_EVENT, GpuSampleRing.toSamples(batch));
+                for (Subscriber subscriber : channel.subscribers) {
+                    subscriber.offer(frame);
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * 구독 시작 (링 버퍼의 최근 샘플을 history 이벤트로 먼저 전송)
+     */
+    public SseEmitter subscribe(Long benchmarkId) {
+        return subscribe(benchmarkId, new SseEmitter(emitterTimeoutMillis));
+    }
+
+    SseEmitter subscribe(Long benchmarkId, SseEmitter emitter) {
+        if (!channels.containsKey(benchmarkId) && !gpuMetricsCopyRepository.existsBenchmark(benchmarkId)) {
+            throw new IllegalArgumentException("Benchmark not found with id: " + benchmarkId);
+        }
+
+        while (true) {
+            Channel channel = channels.computeIfAbsent(benchmarkId, id -> new Channel(historySize));
+            synchronized (channel) {
+                if (channel.evicted) {
+                    continue;
+                }
+                Subscriber subscriber = new Subscriber(emitter, channel);
+                emitter.onCompletion(subscriber::detach);
+                emitter.onTimeout(subscriber::detach);
+                emitter.onError(error -> subscriber.detach());
+
+                subscriber.offer(new Frame(HISTORY_EVENT, channel.ring.toSamples()));
+                channel.subscribers.add(subscriber);
+                channel.touch();
+                subscriberCount.incrementAndGet();
+                return emitter;
+            }
+        }
+    }
+
+    /**
+     * 구독자가 없고 한동안 샘플이 없던 채널 정리
+     * 정리한 채널은 evicted로 표시해, 직전에 채널을 얻은 publish/subscribe가 새 채널로 다시 시도하게 함
+     */
+    @Scheduled(fixedDelayString = "${benchmark.telemetry.idle-timeout:600000}")
+    public void evictIdleChannels() {
+        long threshold = System.currentTimeMillis() - idleTimeoutMillis;
+        channels.forEach((benchmarkId, channel) -> {
+            synchronized (channel) {
+                if (channel.subscribers.isEmpty() && channel.lastActivity < threshold) {
+                    channel.evicted = true;
+                    channels.remove(benchmarkId, channel);
+                }
+            }
+        });
+    }
+
+    /**
+     * 쓰기가 write-timeout을 넘겨 막힌 구독자 정리 (연결을 끊고 전송 스레드를 인터럽트)
+     */
+    @Scheduled(fixedDelayString = "${benchmark.telemetry.write-timeout:5000}")
+    public void closeStalledSubscribers() {
+        long now = System.nanoTime();
+        for (Channel channel : channels.values()) {
+            for (Subscriber subscriber : channel.subscribers) {
+                if (subscriber.isStalled(now)) {
+                    stalledSubscribers.increment();
+                    subscriber.abort();
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        channels.values().forEach(channel -> channel.subscribers.forEach(subscriber -> subscriber.emitter.complete()));
+        senders.shutdownNow();
+    }
+
+    private double queueDepth() {
+        long depth = 0;
+        for (Channel channel : channels.values()) {
+            for (Subscriber subscriber : channel.subscribers) {
+                depth += subscriber.depth();
+            }
+        }
+        return depth;
+    }
+
+    private record Frame(String event, List<TelemetrySample> samples) {
+    }
+
+    /**
+     * 벤치마크별 링 버퍼 + 구독자 목록 (this로 보호)
+     */
+    private static final class Channel {
+
+        private final GpuSampleRing ring;
+        private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+        private long lastActivity = System.currentTimeMillis();
+        private boolean evicted;
+
+        Channel(int capacity) {
+            this.ring = new GpuSampleRing(capacity);
+        }
+
+        void touch() {
+            lastActivity = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * 구독자별 제한 큐 (가득 차면 가장 오래된 프레임을 버림)
+     * 큐에 프레임이 생기면 전송 스레드에 한 번만 예약되며, 한 번의 전송에서 쌓인 samples 프레임을 하나로 합쳐 보냄
+     */
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Channel channel;
+        private final ArrayDeque<Frame> queue = new ArrayDeque<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile boolean closed;
+
+        // 진행 중인 send 시작 시각 (System.nanoTime, 전송 중이 아니면 0)
+        private volatile long sendStartedAt;
+        // drain 중인 전송 스레드 (this로 보호)
+        private Thread sender;
+
+        Subscriber(SseEmitter emitter, Channel channel) {
+            this.emitter = emitter;
+            this.channel = channel;
+        }
+
+        void offer(Frame frame) {
+            if (closed) {
+                return;
+            }
+            synchronized (queue) {
+                if (queue.size() >= queueCapacity) {
+                    queue.pollFirst();
+                    droppedFrames.increment();
+                }
+                queue.addLast(frame);
+            }
+            schedule();
+        }
+
+        int depth() {
+            synchronized (queue) {
+                return queue.size();
+            }
+        }
+
+        boolean isStalled(long now) {
+            long startedAt = sendStartedAt;
+            return startedAt != 0 && now - startedAt > writeTimeoutNanos;
+        }
+
+        /**
+         * 막힌 쓰기 중단 (연결을 끊고 전송 스레드를 깨움)
+         */
+        void abort() {
+            close(new IOException("Telemetry write timed out"));
+            synchronized (this) {
+                if (sender != null) {
+                    sender.interrupt();
+                }
+            }
+        }
+
+        void detach() {
+            if (channel.subscribers.remove(this)) {
+                subscriberCount.decrementAndGet();
+            }
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            synchronized (this) {
+                sender = Thread.currentThread();
+            }
+            try {
+                for (Frame frame : coalesce()) {
+                    if (closed) {
+                        break;
+                    }
+                    sendStartedAt = System.nanoTime();
+                    emitter.send(SseEmitter.event().name(frame.event()).data(frame.samples()));
+                    sendStartedAt = 0;
+                }
+            } catch (IOException | IllegalStateException e) {
+                close(e);
+                log.debug("Telemetry subscriber disconnected: {}", e.getMessage());
+            } finally {
+                sendStartedAt = 0;
+                synchronized (this) {
+                    sender = null;
+                }
+                // abort()가 보낸 인터럽트가 다른 구독자 전송에 남지 않도록 정리
+                Thread.interrupted();
+                scheduled.set(false);
+            }
+
+            boolean pending;
+            synchronized (queue) {
+                pending = !queue.isEmpty();
+            }
+            if (pending && !closed) {
+                schedule();
+            }
+        }
+
+        /**
+         * 큐의 프레임을 모두 꺼내 history는 그대로, 이어지는 samples는 하나의 프레임으로 합침
+         */
+        private List<Frame> coalesce() {
+            List<Frame> frames = new ArrayList<>(2);
+            List<TelemetrySample> samples = null;
+            synchronized (queue) {
+                Frame frame;
+                while ((frame = queue.pollFirst()) != null) {
+                    if (!SAMPLES_EVENT.equals(frame.event())) {
+                        frames.add(frame);
+                    } else if (samples == null) {
+                        samples = new ArrayList<>(frame.samples());
+                    } else {
+                        samples.addAll(frame.samples());
+                    }
+                }
+            }
+            if (samples != null) {
+                frames.add(new Frame(SAMPLES_EVENT, samples));
+            }
+            return frames;
+        }
+
+        private synchronized void close(Throwable cause) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            synchronized (queue) {
+                queue.clear();
+            }
+            detach();
+            emitter.completeWithError(cause);
+        }
+    }
+}
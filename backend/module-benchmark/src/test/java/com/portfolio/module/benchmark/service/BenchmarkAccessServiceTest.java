@@ -0,0 +1,56 @@
+package com.portfolio.module.benchmark.service;
+
+import com.portfolio.domain.benchmark.repository.BenchmarkResultRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BenchmarkAccessServiceTest {
+
+    private static final Long BENCHMARK_ID = 42L;
+
+    private final BenchmarkResultRepository benchmarkResultRepository = mock(BenchmarkResultRepository.class);
+    private final BenchmarkAccessService accessService = new BenchmarkAccessService(benchmarkResultRepository);
+
+    @Test
+    @DisplayName("등록한 사용자와 ADMIN은 벤치마크에 쓸 수 있다")
+    void ownerAndAdminCanWrite() {
+        when(benchmarkResultRepository.findOwnerUsername(BENCHMARK_ID)).thenReturn(Optional.of("alice"));
+
+        assertThatCode(() -> accessService.checkWritable(BENCHMARK_ID, principal("alice", "USER")))
+                .doesNotThrowAnyException();
+        assertThatCode(() -> accessService.checkWritable(BENCHMARK_ID, principal("admin", "ADMIN")))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 벤치마크에는 쓸 수 없다")
+    void otherUserIsDenied() {
+        when(benchmarkResultRepository.findOwnerUsername(BENCHMARK_ID)).thenReturn(Optional.of("alice"));
+
+        assertThatThrownBy(() -> accessService.checkWritable(BENCHMARK_ID, principal("mallory", "USER")))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    @DisplayName("없는 벤치마크는 권한 확인 전에 거부한다")
+    void missingBenchmark() {
+        when(benchmarkResultRepository.findOwnerUsername(BENCHMARK_ID)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> accessService.checkWritable(BENCHMARK_ID, principal("admin", "ADMIN")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static UserDetails principal(String username, String role) {
+        return User.withUsername(username).password("").roles(role).build();
+    }
+}
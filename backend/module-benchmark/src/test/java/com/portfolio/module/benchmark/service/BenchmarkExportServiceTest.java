@@ -0,0 +1,63 @@
+package com.portfolio.module.benchmark.service;
+
+import com.portfolio.module.benchmark.dto.ExportCompression;
+import com.portfolio.module.benchmark.dto.ExportFormat;
+import com.portfolio.module.benchmark.repository.BenchmarkExportRepository;
+import com.portfolio.module.benchmark.repository.ExportFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BenchmarkExportServiceTest {
+
+    private final BenchmarkExportRepository exportRepository = mock(BenchmarkExportRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final BenchmarkExportService exportService = new BenchmarkExportService(
+            exportRepository, transactionManager, new SimpleMeterRegistry(), 2);
+
+    @Test
+    @DisplayName("메트릭 CSV는 벤치마크 id 조회와 모든 COPY를 읽기 전용 REPEATABLE READ 트랜잭션 하나에서 실행한다")
+    void exportsMetricsCsvInOneSnapshot() throws Exception {
+        ExportFilter filter = new ExportFilter(null, null, null,
+                Instant.parse("2026-01-01T00:00:00Z"), Instant.parse("2026-01-02T00:00:00Z"));
+        when(exportRepository.findBenchmarkIds(filter)).thenReturn(List.of(3L, 5L));
+        when(exportRepository.copyMetricsCsv(any(), eq(filter), any())).thenReturn(10L);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.exportMetrics(filter, ExportFormat.CSV, ExportCompression.NONE).orElseThrow().writeTo(out);
+
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager, times(1)).getTransaction(definition.capture());
+        assertThat(definition.getValue().isReadOnly()).isTrue();
+        assertThat(definition.getValue().getIsolationLevel()).isEqualTo(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        verify(exportRepository).copyMetricsCsv(eq(3L), eq(filter), any());
+        verify(exportRepository).copyMetricsCsv(eq(5L), eq(filter), any());
+        assertThat(out.toString(StandardCharsets.US_ASCII)).isEqualTo(BenchmarkExportRepository.METRICS_CSV_HEADER);
+    }
+
+    @Test
+    @DisplayName("동시 내보내기 수를 넘으면 empty")
+    void rejectsWhenExportsExhausted() {
+        ExportFilter filter = new ExportFilter(null, null, null, null, null);
+
+        assertThat(exportService.exportResults(filter, ExportCompression.NONE)).isPresent();
+        assertThat(exportService.exportResults(filter, ExportCompression.NONE)).isPresent();
+        assertThat(exportService.exportResults(filter, ExportCompression.NONE)).isEmpty();
+    }
+}
@@ -0,0 +1,223 @@
+package com.portfolio.module.benchmark.service;
+
+import com.portfolio.domain.benchmark.AiModel;
+import com.portfolio.domain.benchmark.BenchmarkResult;
+import com.portfolio.domain.benchmark.BenchmarkResultRecordedEvent;
+import com.portfolio.domain.benchmark.repository.AiModelRepository;
+import com.portfolio.domain.benchmark.repository.BenchmarkResultRepository;
+import com.portfolio.domain.user.User;
+import com.portfolio.domain.user.repository.UserRepository;
+import com.portfolio.module.benchmark.dto.BenchmarkRunRequest;
+import com.portfolio.module.benchmark.dto.BenchmarkRunResponse;
+import com.portfolio.module.benchmark.dto.BenchmarkRunStatus;
+import com.portfolio.module.benchmark.repository.GpuMetricsCopyRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BenchmarkRunServiceTest {
+
+    private static final Long MODEL_ID = 3L;
+    private static final Long BENCHMARK_ID = 42L;
+
+    private final AiModelRepository aiModelRepository = mock(AiModelRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final BenchmarkResultRepository benchmarkResultRepository = mock(BenchmarkResultRepository.class);
+    private final GpuMetricsCopyRepository copyRepository = mock(GpuMetricsCopyRepository.class);
+    private final TelemetryHub telemetryHub = mock(TelemetryHub.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final InFlightSampleBuffer inFlightSampleBuffer = new InFlightSampleBuffer(
+            copyRepository, telemetryHub, meterRegistry, 2, 4);
+    private final BenchmarkSummaryService benchmarkSummaryService = mock(BenchmarkSummaryService.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final FakeBackend backend = new FakeBackend();
+    private volatile BenchmarkResult saved;
+
+    private final BenchmarkRunService runService = new BenchmarkRunService(backend, aiModelRepository,
+            userRepository, benchmarkResultRepository, inFlightSampleBuffer, benchmarkSummaryService,
+            eventPublisher, mock(PlatformTransactionManager.class), new SimpleMeterRegistry(),
+            1, 1, 20, 4096, 1, 100, 3_600_000L);
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        runService.shutdown();
+        inFlightSampleBuffer.drainOnShutdown();
+    }
+
+    @Test
+    @DisplayName("결과 행을 먼저 만들어 실행 중 샘플을 버퍼로 보내고, 완료 시 결과를 채워 이벤트를 발행한다")
+    void recordsSamplesWhileRunning() throws Exception {
+        givenRunnable();
+
+        BenchmarkRunResponse run = awaitFinished(submit());
+
+        assertThat(run.getStatus()).isEqualTo(BenchmarkRunStatus.COMPLETED);
+        assertThat(run.getBenchmarkId()).isEqualTo(BENCHMARK_ID);
+        verify(copyRepository, atLeastOnce()).copyBatch(eq(BENCHMARK_ID), any());
+        verify(telemetryHub, atLeastOnce()).publish(eq(BENCHMARK_ID), any());
+        assertThat(meterRegistry.get("benchmark.buffer.pending_samples").gauge().value()).isZero();
+        verify(benchmarkSummaryService).finalizeBenchmark(BENCHMARK_ID);
+        verify(benchmarkResultRepository, never()).deleteById(any());
+
+        assertThat(saved.getGeneratedTokens()).isEqualTo(FakeBackend.TOKENS);
+        assertThat(saved.getCompletedAt()).isNotNull();
+        assertThat(saved.getDroppedSamples()).isEqualTo(run.getDroppedSamples());
+        ArgumentCaptor<BenchmarkResultRecordedEvent> event = ArgumentCaptor.forClass(BenchmarkResultRecordedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().benchmarkId()).isEqualTo(BENCHMARK_ID);
+        assertThat(event.getValue().modelId()).isEqualTo(MODEL_ID);
+    }
+
+    @Test
+    @DisplayName("기록하지 못한 샘플이 있으면 결과와 실행 상태에 버린 샘플 수를 남긴다")
+    void flagsDroppedSamples() throws Exception {
+        givenRunnable();
+        when(copyRepository.copyBatch(eq(BENCHMARK_ID), any())).thenThrow(new IllegalStateException("copy failed"));
+
+        BenchmarkRunResponse run = awaitFinished(submit());
+
+        assertThat(run.getStatus()).isEqualTo(BenchmarkRunStatus.COMPLETED);
+        assertThat(run.getDroppedSamples()).isPositive();
+        assertThat(saved.getDroppedSamples()).isEqualTo(run.getDroppedSamples());
+    }
+
+    @Test
+    @DisplayName("완료 전에 실패하면 결과 행을 지우고 FAILED, 이벤트는 발행하지 않는다")
+    void discardsResultOnFailure() throws Exception {
+        givenRunnable();
+        backend.failure = new IllegalStateException("backend crashed");
+
+        BenchmarkRunResponse run = awaitFinished(submit());
+
+        assertThat(run.getStatus()).isEqualTo(BenchmarkRunStatus.FAILED);
+        assertThat(run.getBenchmarkId()).isNull();
+        assertThat(run.getError()).isEqualTo("backend crashed");
+        assertThat(meterRegistry.get("benchmark.buffer.pending_samples").gauge().value()).isZero();
+        verify(benchmarkResultRepository).deleteById(BENCHMARK_ID);
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("완료 후 요약 계산이 실패해도 실행은 COMPLETED로 남는다")
+    void keepsCompletedWhenSummaryFails() throws Exception {
+        givenRunnable();
+        when(benchmarkSummaryService.finalizeBenchmark(BENCHMARK_ID)).thenThrow(new IllegalStateException("no samples"));
+
+        BenchmarkRunResponse run = awaitFinished(submit());
+
+        assertThat(run.getStatus()).isEqualTo(BenchmarkRunStatus.COMPLETED);
+        verify(benchmarkResultRepository, never()).deleteById(any());
+    }
+
+    @Test
+    @DisplayName("실행 상태는 등록한 사용자와 ADMIN만 조회하고, 다른 사용자에게는 없는 실행으로 응답한다")
+    void scopesRunToSubmitter() throws Exception {
+        givenRunnable();
+        Long runId = submit();
+        awaitFinished(runId);
+
+        assertThat(runService.getRun(runId, principal("admin", "ADMIN")).getRunId()).isEqualTo(runId);
+        assertThatThrownBy(() -> runService.getRun(runId, principal("mallory", "USER")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Benchmark run not found with id: " + runId);
+    }
+
+    @Test
+    @DisplayName("orphan-age보다 오래된 미완료 결과 행만 정리한다")
+    void reapsOrphansOlderThanOrphanAge() {
+        when(benchmarkResultRepository.deleteIncompleteCreatedBefore(any())).thenReturn(2);
+        LocalDateTime startedAt = LocalDateTime.now();
+
+        runService.reapOrphans();
+
+        ArgumentCaptor<LocalDateTime> before = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(benchmarkResultRepository).deleteIncompleteCreatedBefore(before.capture());
+        assertThat(before.getValue()).isBetween(startedAt.minusHours(1), startedAt.minusHours(1).plusSeconds(5));
+    }
+
+    private static UserDetails principal(String username, String role) {
+        return org.springframework.security.core.userdetails.User.withUsername(username)
+                .password("").roles(role).build();
+    }
+
+    private void givenRunnable() {
+        AiModel model = AiModel.builder().name("llama").build();
+        ReflectionTestUtils.setField(model, "id", MODEL_ID);
+        User user = User.builder().username("tester").build();
+        ReflectionTestUtils.setField(user, "id", 1L);
+        when(aiModelRepository.existsById(MODEL_ID)).thenReturn(true);
+        when(aiModelRepository.findById(MODEL_ID)).thenReturn(Optional.of(model));
+        when(userRepository.findByUsername("tester")).thenReturn(Optional.of(user));
+        when(userRepository.getReferenceById(1L)).thenReturn(user);
+
+        when(benchmarkResultRepository.save(any(BenchmarkResult.class))).thenAnswer(invocation -> {
+            saved = invocation.getArgument(0);
+            ReflectionTestUtils.setField(saved, "id", BENCHMARK_ID);
+            return saved;
+        });
+        when(benchmarkResultRepository.findById(BENCHMARK_ID)).thenAnswer(invocation -> Optional.ofNullable(saved));
+    }
+
+    private Long submit() {
+        return runService.submit(new BenchmarkRunRequest(MODEL_ID, 8, FakeBackend.TOKENS), "tester")
+                .orElseThrow().getRunId();
+    }
+
+    private BenchmarkRunResponse awaitFinished(Long runId) throws InterruptedException {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (System.nanoTime() < deadline) {
+            BenchmarkRunResponse run = runService.getRun(runId, principal("tester", "USER"));
+            if (run.getStatus() == BenchmarkRunStatus.COMPLETED || run.getStatus() == BenchmarkRunStatus.FAILED) {
+                return run;
+            }
+            Thread.sleep(5);
+        }
+        throw new AssertionError("Benchmark run did not finish");
+    }
+
+    /**
+     * 토큰 사이에 잠깐씩 쉬어 샘플러가 실행 중에 샘플을 남길 수 있게 하는 백엔드
+     */
+    private static final class FakeBackend implements InferenceBackend {
+
+        static final int TOKENS = 10;
+
+        volatile RuntimeException failure;
+
+        @Override
+        public void generate(AiModel model, int promptTokens, int maxTokens, TokenListener listener)
+                throws InterruptedException {
+            for (int i = 0; i < maxTokens; i++) {
+                Thread.sleep(3);
+                if (failure != null) {
+                    throw failure;
+                }
+                listener.onToken();
+            }
+        }
+
+        @Override
+        public GpuReading readGpu() {
+            return new GpuReading(80.0, 1024, 8192, 65.0, 200.0, 40.0);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.portfolio.module.benchmark.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GgufMetadataReaderTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("이름/아키텍처/양자화와 텐서 shape 합으로 파라미터 수를 읽고, 큰 배열은 건너뛴다")
+    void readsHeader() throws Exception {
+        GgufBytes gguf = new GgufBytes()
+                .header(3, 2, 5)
+                .stringEntry("general.architecture", "llama")
+                .stringEntry("general.name", "Test Model 7B")
+                .uint32Entry("general.file_type", 15)
+                // 버퍼(1MB)보다 큰 고정 폭 배열: 채널 위치 이동으로 건너뜀
+                .float32ArrayEntry("tokenizer.ggml.scores", 400_000)
+                .stringArrayEntry("tokenizer.ggml.tokens", "<s>", "</s>", "hello")
+                .tensor("token_embd.weight", 4096, 32000)
+                .tensor("output_norm.weight", 4096);
+
+        GgufMetadata metadata = GgufMetadataReader.read(gguf.writeTo(directory.resolve("model.gguf")));
+
+        assertThat(metadata.version()).isEqualTo(3);
+        assertThat(metadata.name()).isEqualTo("Test Model 7B");
+        assertThat(metadata.architecture()).isEqualTo("llama");
+        assertThat(metadata.quantization()).isEqualTo("Q4_K_M");
+        assertThat(metadata.tensorCount()).isEqualTo(2);
+        assertThat(metadata.parameterCount()).isEqualTo(4096L * 32000 + 4096);
+    }
+
+    @Test
+    @DisplayName("GGUF가 아니거나 지원하지 않는 버전이면 IllegalArgumentException")
+    void rejectsInvalidHeader() throws Exception {
+        Path text = Files.writeString(directory.resolve("text.gguf"), "not a model file");
+        Path v1 = new GgufBytes().header(1, 0, 0).writeTo(directory.resolve("v1.gguf"));
+
+        assertThatThrownBy(() -> GgufMetadataReader.read(text))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Not a GGUF file");
+        assertThatThrownBy(() -> GgufMetadataReader.read(v1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unsupported GGUF version");
+    }
+
+    @Test
+    @DisplayName("헤더가 잘린 파일은 EOFException")
+    void rejectsTruncatedHeader() throws Exception {
+        byte[] bytes = new GgufBytes()
+                .header(3, 0, 1)
+                .stringEntry("general.architecture", "llama")
+                .toByteArray();
+        Path truncated = Files.write(directory.resolve("truncated.gguf"), Arrays.copyOf(bytes, bytes.length - 3));
+
+        assertThatThrownBy(() -> GgufMetadataReader.read(truncated)).isInstanceOf(EOFException.class);
+    }
+
+    @Test
+    @DisplayName("중첩 배열은 건너뛰되, 지나치게 깊으면 IllegalArgumentException")
+    void limitsArrayNesting() throws Exception {
+        Path nested = new GgufBytes().header(3, 0, 2)
+                .nestedArrayEntry("tokenizer.ggml.merges", 2)
+                .stringEntry("general.architecture", "llama")
+                .writeTo(directory.resolve("nested.gguf"));
+        Path tooDeep = new GgufBytes().header(3, 0, 1)
+                .nestedArrayEntry("crafted", 100_000)
+                .writeTo(directory.resolve("deep.gguf"));
+
+        assertThat(GgufMetadataReader.read(nested).architecture()).isEqualTo("llama");
+        assertThatThrownBy(() -> GgufMetadataReader.read(tooDeep))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("nesting too deep");
+    }
+
+    /**
+     * 테스트용 GGUF 헤더 작성 (little-endian)
+     */
+    static final class GgufBytes {
+
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        GgufBytes header(int version, long tensorCount, long kvCount) {
+            putInt(0x46554747);
+            putInt(version);
+            putLong(tensorCount);
+            putLong(kvCount);
+            return this;
+        }
+
+        GgufBytes stringEntry(String key, String value) {
+            putString(key);
+            putInt(8);
+            putString(value);
+            return this;
+        }
+
+        GgufBytes uint32Entry(String key, int value) {
+            putString(key);
+            putInt(4);
+            putInt(value);
+            return this;
+        }
+
+        GgufBytes float32ArrayEntry(String key, int length) {
+            putString(key);
+            putInt(9);
+            putInt(6);
+            putLong(length);
+            out.writeBytes(new byte[length * 4]);
+            return this;
+        }
+
+        GgufBytes stringArrayEntry(String key, String... values) {
+            putString(key);
+            putInt(9);
+            putInt(8);
+            putLong(values.length);
+            for (String value : values) {
+                putString(value);
+            }
+            return this;
+        }
+
+        /**
+         * depth 단계로 중첩된 배열 (단계마다 원소 1개, 가장 안쪽은 빈 문자열 배열)
+         */
+        GgufBytes nestedArrayEntry(String key, int depth) {
+            putString(key);
+            putInt(9);
+            for (int d = 1; d < depth; d++) {
+                putInt(9);
+                putLong(1);
+            }
+            putInt(8);
+            putLong(0);
+            return this;
+        }
+
+        GgufBytes tensor(String name, long... shape) {
+            putString(name);
+            putInt(shape.length);
+            for (long dimension : shape) {
+                putLong(dimension);
+            }
+            putInt(12);
+            putLong(0);
+            return this;
+        }
+
+        byte[] toByteArray() {
+            return out.toByteArray();
+        }
+
+        Path writeTo(Path path) throws Exception {
+            return Files.write(path, toByteArray());
+        }
+
+        private void putString(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            putLong(bytes.length);
+            out.writeBytes(bytes);
+        }
+
+        private void putInt(int value) {
+            out.writeBytes(ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt(value).array());
+        }
+
+        private void putLong(long value) {
+            out.writeBytes(ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN).putLong(value).array());
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.portfolio.module.benchmark.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.module.benchmark.dto.MetricsIngestResponse;
+import com.portfolio.module.benchmark.repository.GpuMetricsCopyRepository;
+import com.portfolio.module.benchmark.repository.GpuMetricsSeriesRepository;
+import com.portfolio.module.benchmark.repository.GpuSampleBatch;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GpuMetricsIngestServiceTest {
+
+    private static final Long BENCHMARK_ID = 7L;
+
+    private final GpuMetricsCopyRepository copyRepository = mock(GpuMetricsCopyRepository.class);
+    private final GpuMetricsSeriesRepository seriesRepository = mock(GpuMetricsSeriesRepository.class);
+    private final TelemetryHub telemetryHub = mock(TelemetryHub.class);
+    private final List<List<Long>> copiedChunks = new ArrayList<>();
+
+    private final GpuMetricsIngestService ingestService = new GpuMetricsIngestService(
+            copyRepository, seriesRepository, telemetryHub, new ObjectMapper(), new SimpleMeterRegistry(), 2, 1,
+            3_600_000L);
+
+    @Test
+    @DisplayName("본문을 청크 단위로 채운 뒤 청크마다 COPY 한 번씩 기록한다")
+    void copiesEachFilledChunk() throws Exception {
+        givenBenchmarkExists();
+
+        MetricsIngestResponse response = ingestService.ingestNdjson(BENCHMARK_ID, ndjson(5)).orElseThrow();
+
+        assertThat(response.getSamples()).isEqualTo(5);
+        assertThat(copiedChunks).containsExactly(
+                List.of(1_000_000_000L, 1_000_001_000L),
+                List.of(1_000_002_000L, 1_000_003_000L),
+                List.of(1_000_004_000L));
+    }
+
+    @Test
+    @DisplayName("갱신 정책보다 과거 구간은 요청 스레드에서 갱신하지 않고 모아서 한 번에 갱신한다")
+    void coalescesRefreshOfOldRanges() throws Exception {
+        givenBenchmarkExists();
+
+        ingestService.ingestNdjson(BENCHMARK_ID, ndjson(5));
+        ingestService.ingestNdjson(BENCHMARK_ID, stream(line(100)));
+        verify(seriesRepository, never()).refreshAggregates(any(), any());
+
+        ingestService.refreshPendingAggregates();
+        ingestService.refreshPendingAggregates();
+
+        verify(seriesRepository, times(1)).refreshAggregates(
+                Instant.ofEpochMilli(1_000_000L), Instant.ofEpochMilli(1_000_100L));
+    }
+
+    @Test
+    @DisplayName("갱신 정책 범위 안의 최근 샘플은 집계 갱신을 정책에 맡긴다")
+    void leavesRecentRangesToPolicy() throws Exception {
+        givenBenchmarkExists();
+        long now = System.currentTimeMillis();
+        String body = "{\"time\":" + now + ",\"gpuUtilization\":87.5}\n";
+
+        ingestService.ingestNdjson(BENCHMARK_ID, stream(body));
+        ingestService.refreshPendingAggregates();
+
+        verify(seriesRepository, never()).refreshAggregates(any(), any());
+    }
+
+    @Test
+    @DisplayName("집계 갱신이 실패하면 구간을 유지해 다음 주기에 다시 갱신한다")
+    void retriesFailedRefresh() throws Exception {
+        givenBenchmarkExists();
+        doThrow(new IllegalStateException("down")).doNothing()
+                .when(seriesRepository).refreshAggregates(any(), any());
+
+        ingestService.ingestNdjson(BENCHMARK_ID, ndjson(2));
+        ingestService.refreshPendingAggregates();
+        ingestService.refreshPendingAggregates();
+        ingestService.refreshPendingAggregates();
+
+        verify(seriesRepository, times(2)).refreshAggregates(
+                Instant.ofEpochMilli(1_000_000L), Instant.ofEpochMilli(1_000_001L));
+    }
+
+    @Test
+    @DisplayName("잘못된 샘플이 있으면 예외, 그 이전 청크는 기록되고 집계도 갱신된다")
+    void stopsAtInvalidSample() {
+        givenBenchmarkExists();
+        String body = line(0) + line(1) + "{\"gpuUtilization\":50}\n";
+
+        assertThatThrownBy(() -> ingestService.ingestNdjson(BENCHMARK_ID, stream(body)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("sample #3: time is required");
+        assertThat(copiedChunks).hasSize(1);
+        ingestService.refreshPendingAggregates();
+        verify(seriesRepository).refreshAggregates(any(), any());
+    }
+
+    @Test
+    @DisplayName("동시 스트림 수를 넘으면 empty")
+    void rejectsWhenStreamsExhausted() throws Exception {
+        when(copyRepository.existsBenchmark(BENCHMARK_ID)).thenReturn(true);
+        AtomicReference<Optional<MetricsIngestResponse>> nested = new AtomicReference<>();
+        when(copyRepository.copyBatch(eq(BENCHMARK_ID), any())).thenAnswer(invocation -> {
+            nested.set(ingestService.ingestNdjson(BENCHMARK_ID, ndjson(1)));
+            return 1L;
+        });
+
+        assertThat(ingestService.ingestNdjson(BENCHMARK_ID, ndjson(1))).isPresent();
+        assertThat(nested.get()).isEmpty();
+        assertThat(ingestService.ingestNdjson(BENCHMARK_ID, ndjson(1))).isPresent();
+    }
+
+    private void givenBenchmarkExists() {
+        when(copyRepository.existsBenchmark(BENCHMARK_ID)).thenReturn(true);
+        when(copyRepository.copyBatch(eq(BENCHMARK_ID), any())).thenAnswer(invocation -> {
+            GpuSampleBatch batch = invocation.getArgument(1);
+            List<Long> times = new ArrayList<>();
+            for (int i = 0; i < batch.size(); i++) {
+                times.add(batch.timeMicros(i));
+            }
+            copiedChunks.add(times);
+            return (long) batch.size();
+        });
+    }
+
+    private static InputStream ndjson(int samples) {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < samples; i++) {
+            body.append(line(i));
+        }
+        return stream(body.toString());
+    }
+
+    private static String line(int i) {
+        return "{\"time\":" + (1_000_000L + i) + ",\"gpuUtilization\":87.5,\"memoryUsed\":1024}\n";
+    }
+
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,121 @@
+package com.portfolio.module.benchmark.service;
+
+import com.portfolio.module.benchmark.repository.GpuMetricsCopyRepository;
+import com.portfolio.module.benchmark.repository.GpuSampleBatch;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class InFlightSampleBufferTest {
+
+    private static final Long BENCHMARK_ID = 1L;
+
+    private final GpuMetricsCopyRepository copyRepository = mock(GpuMetricsCopyRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private InFlightSampleBuffer buffer;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        buffer.drainOnShutdown();
+    }
+
+    @Test
+    @DisplayName("COPY가 막혀 있어도 샘플 추가는 기다리지 않고, complete는 모든 청크가 기록된 뒤 반환한다")
+    void appendDoesNotWaitForDatabase() throws Exception {
+        buffer = new InFlightSampleBuffer(copyRepository, mock(TelemetryHub.class), meterRegistry, 100, 8);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicLong written = new AtomicLong();
+        when(copyRepository.copyBatch(eq(BENCHMARK_ID), any())).thenAnswer(invocation -> {
+            release.await();
+            GpuSampleBatch batch = invocation.getArgument(1);
+            written.addAndGet(batch.size());
+            return (long) batch.size();
+        });
+
+        long startedAt = System.nanoTime();
+        appendSamples(450);
+        assertThat(System.nanoTime() - startedAt).isLessThan(TimeUnit.SECONDS.toNanos(1));
+        assertThat(written.get()).isZero();
+
+        release.countDown();
+        buffer.complete(BENCHMARK_ID);
+
+        assertThat(written.get()).isEqualTo(450);
+        assertThat(meterRegistry.counter("benchmark.buffer.flushed_samples").count()).isEqualTo(450);
+    }
+
+    @Test
+    @DisplayName("기록이 max-pending-batches개 넘게 밀리면 새 청크를 버려 메모리를 제한한다")
+    void dropsWhenWritesBackUp() throws Exception {
+        buffer = new InFlightSampleBuffer(copyRepository, mock(TelemetryHub.class), meterRegistry, 100, 2);
+        CountDownLatch release = new CountDownLatch(1);
+        when(copyRepository.copyBatch(eq(BENCHMARK_ID), any())).thenAnswer(invocation -> {
+            release.await();
+            return 100L;
+        });
+
+        appendSamples(500);
+        release.countDown();
+        long dropped = buffer.complete(BENCHMARK_ID);
+
+        assertThat(dropped).isEqualTo(300);
+        assertThat(meterRegistry.counter("benchmark.buffer.flushed_samples").count()).isEqualTo(200);
+        assertThat(meterRegistry.counter("benchmark.buffer.dropped_samples").count()).isEqualTo(300);
+    }
+
+    @Test
+    @DisplayName("COPY에 실패한 청크도 버린 샘플로 세어 complete가 벤치마크별로 돌려준다")
+    void reportsSamplesLostToCopyFailures() {
+        buffer = new InFlightSampleBuffer(copyRepository, mock(TelemetryHub.class), meterRegistry, 100, 8);
+        AtomicLong calls = new AtomicLong();
+        when(copyRepository.copyBatch(eq(BENCHMARK_ID), any())).thenAnswer(invocation -> {
+            if (calls.incrementAndGet() == 2) {
+                throw new IllegalStateException("connection reset");
+            }
+            return 100L;
+        });
+
+        appendSamples(350);
+
+        assertThat(buffer.complete(BENCHMARK_ID)).isEqualTo(100);
+        assertThat(buffer.complete(BENCHMARK_ID)).isZero();
+    }
+
+    @Test
+    @DisplayName("샘플당 메모리는 원시 배열 56바이트이고, 추가할 때는 객체를 할당하지 않는다")
+    void footprintAndAllocation() {
+        int capacity = 100_000;
+        buffer = new InFlightSampleBuffer(copyRepository, mock(TelemetryHub.class), meterRegistry, capacity, 4);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        long beforeFirst = threads.getCurrentThreadAllocatedBytes();
+        appendSamples(1);
+        long slotBytes = threads.getCurrentThreadAllocatedBytes() - beforeFirst;
+
+        appendSamples(10_000);
+        long beforeSteady = threads.getCurrentThreadAllocatedBytes();
+        appendSamples(50_000);
+        long steadyBytes = threads.getCurrentThreadAllocatedBytes() - beforeSteady;
+
+        assertThat((double) slotBytes / capacity).isBetween(56.0, 60.0);
+        assertThat(steadyBytes).isLessThan(1_000);
+    }
+
+    private void appendSamples(int count) {
+        for (int i = 0; i < count; i++) {
+            buffer.append(BENCHMARK_ID, 1_000_000L * i, 87.5, 10_240, 24_576, 71.0, 312.4, Double.NaN);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.portfolio.module.benchmark.service;
+
+import com.portfolio.domain.benchmark.AiModel;
+import com.portfolio.domain.benchmark.BenchmarkResultRecordedEvent;
+import com.portfolio.domain.benchmark.repository.AiModelRepository;
+import com.portfolio.module.benchmark.dto.LeaderboardEntry;
+import com.portfolio.module.benchmark.repository.BenchmarkLeaderboardRepository;
+import com.portfolio.module.benchmark.repository.BenchmarkLeaderboardRepository.ResultConsumer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LeaderboardServiceTest {
+
+    private static final long MODEL_ID = 1L;
+
+    private final BenchmarkLeaderboardRepository leaderboardRepository = mock(BenchmarkLeaderboardRepository.class);
+    private final AiModelRepository aiModelRepository = mock(AiModelRepository.class);
+    private final LeaderboardService leaderboardService = new LeaderboardService(
+            leaderboardRepository, aiModelRepository, mock(PlatformTransactionManager.class));
+
+    @Test
+    @DisplayName("재계산 도중 커밋된 결과는 스캔에 없을 때만 새 통계에 반영한다")
+    void replaysResultsRecordedDuringRefresh() {
+        when(aiModelRepository.findAll()).thenReturn(List.of(model()));
+        doAnswer(invocation -> {
+            ResultConsumer consumer = invocation.getArgument(0);
+            consumer.accept(10L, MODEL_ID, 50, 0.2);
+            // 11: 스캔 스냅샷에 포함된 뒤 이벤트 도착, 12: 스냅샷 이후 커밋되어 스캔에 없음
+            consumer.accept(11L, MODEL_ID, 60, 0.2);
+            leaderboardService.onResultRecorded(new BenchmarkResultRecordedEvent(11L, MODEL_ID, 60, 0.2));
+            leaderboardService.onResultRecorded(new BenchmarkResultRecordedEvent(12L, MODEL_ID, 70, 0.2));
+            return null;
+        }).when(leaderboardRepository).scan(any());
+
+        leaderboardService.refresh();
+
+        assertThat(runs()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("재계산이 끝난 뒤의 결과는 증분으로만 반영한다")
+    void appliesResultsAfterRefreshIncrementally() {
+        when(aiModelRepository.findAll()).thenReturn(List.of(model()));
+        doAnswer(invocation -> {
+            ResultConsumer consumer = invocation.getArgument(0);
+            consumer.accept(10L, MODEL_ID, 50, 0.2);
+            return null;
+        }).when(leaderboardRepository).scan(any());
+        leaderboardService.refresh();
+
+        leaderboardService.onResultRecorded(new BenchmarkResultRecordedEvent(11L, MODEL_ID, 60, 0.2));
+
+        assertThat(runs()).isEqualTo(2);
+    }
+
+    private long runs() {
+        List<LeaderboardEntry> models = leaderboardService.compare(List.of(MODEL_ID)).getModels();
+        return models.get(0).getRuns();
+    }
+
+    private static AiModel model() {
+        AiModel model = AiModel.builder().name("llama").slug("llama").type("llm").quantization("Q4_K_M").build();
+        ReflectionTestUtils.setField(model, "id", MODEL_ID);
+        return model;
+    }
+}
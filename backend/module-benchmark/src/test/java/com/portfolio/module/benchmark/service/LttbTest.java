@@ -0,0 +1,55 @@
+package com.portfolio.module.benchmark.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LttbTest {
+
+    @Test
+    @DisplayName("점 수가 threshold 이하이면 모든 인덱스를 그대로 반환한다")
+    void keepsAllWhenUnderThreshold() {
+        long[] x = {0, 1, 2, 3};
+        double[] y = {1, 2, 3, 4};
+
+        assertThat(Lttb.select(x, y, 4)).containsExactly(0, 1, 2, 3);
+        assertThat(Lttb.select(x, y, 2)).containsExactly(0, 1, 2, 3);
+    }
+
+    @Test
+    @DisplayName("첫/마지막 점을 유지하고 threshold개를 오름차순으로 선택한다")
+    void selectsThresholdPointsInOrder() {
+        int n = 1_000;
+        long[] x = new long[n];
+        double[] y = new double[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = 1_700_000_000_000L + i * 100L;
+            y[i] = Math.sin(i / 20.0);
+        }
+
+        int[] selected = Lttb.select(x, y, 50);
+
+        assertThat(selected).hasSize(50);
+        assertThat(selected[0]).isZero();
+        assertThat(selected[49]).isEqualTo(n - 1);
+        for (int i = 1; i < selected.length; i++) {
+            assertThat(selected[i]).isGreaterThan(selected[i - 1]);
+        }
+    }
+
+    @Test
+    @DisplayName("평탄한 구간 사이의 급격한 스파이크를 보존한다")
+    void preservesSpike() {
+        int n = 101;
+        long[] x = new long[n];
+        double[] y = new double[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = i;
+        }
+        y[37] = 100;
+        y[80] = Double.NaN;
+
+        assertThat(Lttb.select(x, y, 10)).contains(37);
+    }
+}
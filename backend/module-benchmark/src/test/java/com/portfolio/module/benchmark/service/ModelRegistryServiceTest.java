@@ -0,0 +1,97 @@
+package com.portfolio.module.benchmark.service;
+
+import com.portfolio.domain.benchmark.AiModel;
+import com.portfolio.domain.benchmark.repository.AiModelRepository;
+import com.portfolio.module.benchmark.dto.ModelScanResponse;
+import com.portfolio.module.benchmark.service.GgufMetadataReaderTest.GgufBytes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ModelRegistryServiceTest {
+
+    @TempDir
+    Path root;
+
+    private final AiModelRepository aiModelRepository = mock(AiModelRepository.class);
+    private ModelRegistryService modelRegistryService;
+
+    @AfterEach
+    void tearDown() {
+        modelRegistryService.shutdown();
+    }
+
+    @Test
+    @DisplayName("새 파일은 등록하고, 사라진 파일은 모델 디렉터리 아래 경로만 missing으로 센다")
+    void scansDirectory() throws Exception {
+        Path models = Files.createDirectory(root.resolve("models"));
+        new GgufBytes().header(3, 0, 1).stringEntry("general.architecture", "llama")
+                .writeTo(models.resolve("llama.gguf"));
+        when(aiModelRepository.findAll()).thenReturn(List.of(
+                model(models.resolve("gone.gguf")),
+                model(root.resolve("models2").resolve("other.gguf"))));
+        when(aiModelRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        modelRegistryService = new ModelRegistryService(aiModelRepository, models.toString(), 2);
+
+        ModelScanResponse response = modelRegistryService.scan();
+
+        assertThat(response.getFiles()).isEqualTo(1);
+        assertThat(response.getRegistered()).isEqualTo(1);
+        assertThat(response.getMissing()).isEqualTo(1);
+        assertThat(response.getFailed()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("한 파일의 저장이 실패해도 나머지 파일은 등록하고 실패 목록에 기록한다")
+    void recordsSaveFailurePerFile() throws Exception {
+        Path models = Files.createDirectory(root.resolve("models"));
+        new GgufBytes().header(3, 0, 1).stringEntry("general.architecture", "llama")
+                .writeTo(models.resolve("llama.gguf"));
+        Path conflicting = new GgufBytes().header(3, 0, 1).stringEntry("general.architecture", "qwen2")
+                .writeTo(models.resolve("qwen.gguf"));
+        when(aiModelRepository.findAll()).thenReturn(List.of());
+        when(aiModelRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(aiModelRepository.save(argThat(model -> model != null
+                && model.getFilePath().equals(conflicting.toString()))))
+                .thenThrow(new DataIntegrityViolationException("duplicate key value violates \"uk_ai_models_slug\""));
+        modelRegistryService = new ModelRegistryService(aiModelRepository, models.toString(), 2);
+
+        ModelScanResponse response = modelRegistryService.scan();
+
+        assertThat(response.getFiles()).isEqualTo(2);
+        assertThat(response.getRegistered()).isEqualTo(1);
+        assertThat(response.getFailed()).singleElement().asString()
+                .startsWith(conflicting.toString()).contains("uk_ai_models_slug");
+    }
+
+    @Test
+    @DisplayName("스캔 요청은 백그라운드에서 실행되고, 진행 중이면 새로 시작하지 않는다")
+    void requestsScanAsynchronously() throws Exception {
+        modelRegistryService = new ModelRegistryService(aiModelRepository, root.resolve("absent").toString(), 1);
+
+        assertThat(modelRegistryService.requestScan()).isTrue();
+        for (int i = 0; i < 200 && modelRegistryService.getLastScan().isEmpty(); i++) {
+            Thread.sleep(10);
+        }
+
+        assertThat(modelRegistryService.getLastScan()).get()
+                .extracting(ModelScanResponse::getFiles).isEqualTo(0);
+    }
+
+    private static AiModel model(Path path) {
+        return AiModel.builder().name(path.getFileName().toString()).slug(path.getFileName().toString())
+                .type("LLM").filePath(path.toString()).fileSize(1L).build();
+    }
+}
@@ -0,0 +1,132 @@
+package com.portfolio.module.benchmark.service;
+
+import com.portfolio.module.benchmark.repository.GpuMetricsCopyRepository;
+import com.portfolio.module.benchmark.repository.GpuSampleBatch;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TelemetryHubTest {
+
+    private static final Long BENCHMARK_ID = 1L;
+
+    private final GpuMetricsCopyRepository copyRepository = mock(GpuMetricsCopyRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    // 전송 스레드 1개, write-timeout 50ms
+    private final TelemetryHub telemetryHub = new TelemetryHub(copyRepository, meterRegistry, 100, 64, 1, 60_000, 60_000, 50);
+
+    @AfterEach
+    void tearDown() {
+        telemetryHub.shutdown();
+    }
+
+    @Test
+    @DisplayName("쓰기가 막힌 구독자는 write-timeout 뒤 끊기고 다른 구독자는 계속 받는다")
+    void closesStalledSubscriber() throws Exception {
+        when(copyRepository.existsBenchmark(BENCHMARK_ID)).thenReturn(true);
+        RecordingEmitter slow = new RecordingEmitter(true);
+        RecordingEmitter fast = new RecordingEmitter(false);
+
+        telemetryHub.subscribe(BENCHMARK_ID, slow);
+        assertThat(slow.blocked.await(1, TimeUnit.SECONDS)).isTrue();
+        telemetryHub.subscribe(BENCHMARK_ID, fast);
+
+        Thread.sleep(100);
+        telemetryHub.closeStalledSubscribers();
+
+        fast.awaitSends(1);
+        telemetryHub.publish(BENCHMARK_ID, batch(2));
+        fast.awaitSends(2);
+
+        assertThat(fast.sampleCounts).containsExactly(0, 2);
+        assertThat(slow.sampleCounts).isEmpty();
+        assertThat(meterRegistry.counter("benchmark.telemetry.stalled_subscribers").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("전송 중에 쌓인 samples 프레임은 다음 전송 한 번으로 합쳐 보낸다")
+    void coalescesFramesWhileSending() throws Exception {
+        when(copyRepository.existsBenchmark(BENCHMARK_ID)).thenReturn(true);
+        RecordingEmitter emitter = new RecordingEmitter(true);
+
+        telemetryHub.subscribe(BENCHMARK_ID, emitter);
+        assertThat(emitter.blocked.await(1, TimeUnit.SECONDS)).isTrue();
+        telemetryHub.publish(BENCHMARK_ID, batch(1));
+        telemetryHub.publish(BENCHMARK_ID, batch(2));
+        telemetryHub.publish(BENCHMARK_ID, batch(3));
+        emitter.release.countDown();
+
+        emitter.awaitSends(2);
+        assertThat(emitter.sampleCounts).containsExactly(0, 6);
+    }
+
+    @Test
+    @DisplayName("없는 벤치마크 구독은 IllegalArgumentException")
+    void rejectsUnknownBenchmark() {
+        when(copyRepository.existsBenchmark(99L)).thenReturn(false);
+
+        assertThatThrownBy(() -> telemetryHub.subscribe(99L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Benchmark not found");
+    }
+
+    private static GpuSampleBatch batch(int size) {
+        GpuSampleBatch batch = new GpuSampleBatch(size);
+        for (int i = 0; i < size; i++) {
+            batch.append(1_000_000L * i, 50_00, 1024, 2048, 60_00, 200_00, 30_00);
+        }
+        return batch;
+    }
+
+    /**
+     * 보낸 이벤트의 샘플 수를 기록 (blockFirst면 첫 전송에서 release 또는 인터럽트까지 대기)
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final boolean blockFirst;
+        private final CountDownLatch blocked = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final List<Integer> sampleCounts = new CopyOnWriteArrayList<>();
+
+        RecordingEmitter(boolean blockFirst) {
+            this.blockFirst = blockFirst;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (blockFirst && blocked.getCount() > 0) {
+                blocked.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new InterruptedIOException("interrupted");
+                }
+            }
+            builder.build().stream()
+                    .filter(part -> part.getData() instanceof List<?>)
+                    .forEach(part -> sampleCounts.add(((List<?>) part.getData()).size()));
+        }
+
+        void awaitSends(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+            while (sampleCounts.size() < count && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(sampleCounts).hasSizeGreaterThanOrEqualTo(count);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 plugins {
     id("io.spring.dependency-management")
+    id("me.champeau.jmh")
 }
 
 dependencies {
@@ -11,6 +12,20 @@ dependencies {
     // Spring Web
     implementation("org.springframework.boot:spring-boot-starter-web")
 
+    // Spring Data JPA
+    implementation("org.springframework.boot:spring-boot-starter-data-jpa")
+
+    // Spring Security (needed for authentication)
+    implementation("org.springframework.boot:spring-boot-starter-security")
+
+    // Metrics
+    implementation("io.micrometer:micrometer-core")
+
     // Markdown Parser (for blog content)
     implementation("com.vladsch.flexmark:flexmark-all:0.64.8")
 }
+
+// JMH (./gradlew :module-blog:jmh)
+jmh {
+    jmhVersion.set(rootProject.extra["jmhVersion"] as String)
+}
@@ -0,0 +1,94 @@
+package com.portfolio.module.blog.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 긴 기술 글 코퍼스에 대한 게시글 상세 조회 비용 비교
+ * render: 캐시 미스 (렌더링 + 목차/요약 추출)
+ * contentHash: updated_at이 바뀐 경우에만 치르는 본문 해시
+ * 캐시 적중 시에는 둘 다 실행되지 않음 (updated_at 비교만)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MarkdownRenderBenchmark {
+
+    private static final int CORPUS_SIZE = 32;
+
+    /**
+     * 게시글당 섹션 수 (섹션 하나가 약 1.5KB)
+     */
+    @Param({"10", "100"})
+    private int sections;
+
+    private final MarkdownRenderer renderer = new MarkdownRenderer(1);
+    private String[] corpus;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        corpus = new String[CORPUS_SIZE];
+        for (int i = 0; i < CORPUS_SIZE; i++) {
+            corpus[i] = post(random, sections);
+        }
+    }
+
+    @Benchmark
+    public MarkdownRenderer.Result render() {
+        return renderer.render(nextPost());
+    }
+
+    @Benchmark
+    public String contentHash() {
+        return MarkdownRenderer.contentHash(nextPost());
+    }
+
+    private String nextPost() {
+        next = (next + 1) % CORPUS_SIZE;
+        return corpus[next];
+    }
+
+    /**
+     * heading, 문단, 목록, 코드 블록, 표가 섞인 기술 글 (한글/영문 혼합)
+     */
+    private static String post(Random random, int sections) {
+        StringBuilder markdown = new StringBuilder(sections * 1600);
+        markdown.append("# GPU 추론 벤치마크 정리 ").append(random.nextInt(1000)).append("\n\n");
+        for (int s = 0; s < sections; s++) {
+            markdown.append("## Section ").append(s).append(": 양자화 설정 비교\n\n");
+            for (int p = 0; p < 3; p++) {
+                markdown.append("모델 로딩 후 **첫 토큰 지연**과 `tokens/s`를 측정했다. ")
+                        .append("Batch size ").append(random.nextInt(64) + 1)
+                        .append("에서 ~~이전 결과~~ 대비 처리량이 달라졌고 자세한 내용은 https://example.com/run/")
+                        .append(random.nextInt(100_000)).append(" 참고.\n\n");
+            }
+            markdown.append("- [x] Q4_K_M\n- [ ] Q8_0\n- FP16 기준선\n\n");
+            markdown.append("```java\nfor (int i = 0; i < n; i++) {\n    sum += samples[i] * weights[i];\n}\n```\n\n");
+            markdown.append("| 설정 | TTFT (ms) | tokens/s |\n|---|---:|---:|\n");
+            for (int r = 0; r < 4; r++) {
+                markdown.append("| run-").append(r).append(" | ").append(random.nextInt(500))
+                        .append(" | ").append(random.nextInt(200)).append(" |\n");
+            }
+            markdown.append('\n');
+        }
+        return markdown.toString();
+    }
+}
@@ -0,0 +1,34 @@
+package com.portfolio.module.blog.controller;
+
+import com.portfolio.module.blog.dto.CategoryResponse;
+import com.portfolio.module.blog.service.TaxonomyCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/categories")
+@RequiredArgsConstructor
+public class CategoryController {
+
+    private final TaxonomyCache taxonomyCache;
+
+    /**
+     * 카테고리 목록 조회 (메모리 캐시, ETag 지원)
+     */
+    @GetMapping
+    public ResponseEntity<List<CategoryResponse>> getCategories(WebRequest request) {
+        TaxonomyCache.Versioned<List<CategoryResponse>> categories = taxonomyCache.getCategories();
+
+        if (request.checkNotModified(categories.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(categories.etag()).build();
+        }
+        return ResponseEntity.ok().eTag(categories.etag()).body(categories.body());
+    }
+}
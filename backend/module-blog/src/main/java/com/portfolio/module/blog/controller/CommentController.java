@@ -0,0 +1,29 @@
+package com.portfolio.module.blog.controller;
+
+import com.portfolio.module.blog.dto.CommentThreadPageResponse;
+import com.portfolio.module.blog.service.CommentService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/posts/{postId}/comments")
+@RequiredArgsConstructor
+public class CommentController {
+
+    private final CommentService commentService;
+
+    /**
+     * 댓글 목록 조회 (최상위 스레드 단위 페이지네이션)
+     */
+    @GetMapping
+    public ResponseEntity<CommentThreadPageResponse> getComments(
+            @PathVariable Long postId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "10") int replyPreview) {
+        return ResponseEntity.ok(commentService.getCommentThreads(postId, page, size, replyPreview));
+    }
+}
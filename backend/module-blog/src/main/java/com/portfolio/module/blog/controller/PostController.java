@@ -0,0 +1,39 @@
+package com.portfolio.module.blog.controller;
+
+import com.portfolio.module.blog.dto.CursorPageResponse;
+import com.portfolio.module.blog.dto.PostDetailResponse;
+import com.portfolio.module.blog.dto.PostSummaryResponse;
+import com.portfolio.module.blog.service.PostService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/posts")
+@RequiredArgsConstructor
+public class PostController {
+
+    private final PostService postService;
+
+    /**
+     * 게시글 목록 조회 (커서 기반)
+     */
+    @GetMapping
+    public ResponseEntity<CursorPageResponse<PostSummaryResponse>> getPosts(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) Long tagId) {
+        return ResponseEntity.ok(postService.getPosts(cursor, size, categoryId, tagId));
+    }
+
+    /**
+     * 게시글 상세 조회
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<PostDetailResponse> getPost(@PathVariable Long id) {
+        return ResponseEntity.ok(postService.getPost(id));
+    }
+}
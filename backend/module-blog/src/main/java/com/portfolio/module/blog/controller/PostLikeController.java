@@ -0,0 +1,38 @@
+package com.portfolio.module.blog.controller;
+
+import com.portfolio.module.blog.service.PostLikeService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/posts/{postId}/likes")
+@RequiredArgsConstructor
+public class PostLikeController {
+
+    private final PostLikeService postLikeService;
+
+    /**
+     * 좋아요
+     */
+    @PutMapping
+    public ResponseEntity<Void> like(@PathVariable Long postId,
+                                     @AuthenticationPrincipal UserDetails userDetails) {
+        postLikeService.like(postId, userDetails.getUsername());
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 좋아요 취소
+     */
+    @DeleteMapping
+    public ResponseEntity<Void> unlike(@PathVariable Long postId,
+                                       @AuthenticationPrincipal UserDetails userDetails) {
+        postLikeService.unlike(postId, userDetails.getUsername());
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,30 @@
+package com.portfolio.module.blog.controller;
+
+import com.portfolio.module.blog.dto.PostSearchResponse;
+import com.portfolio.module.blog.service.PostSearchService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/posts/search")
+@RequiredArgsConstructor
+public class PostSearchController {
+
+    private final PostSearchService postSearchService;
+
+    /**
+     * 게시글 검색
+     */
+    @GetMapping
+    public ResponseEntity<PostSearchResponse> search(
+            @RequestParam("q") String keyword,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) Long tagId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(postSearchService.search(keyword, categoryId, tagId, page, size));
+    }
+}
@@ -0,0 +1,28 @@
+package com.portfolio.module.blog.controller;
+
+import com.portfolio.module.blog.dto.PostTagsRequest;
+import com.portfolio.module.blog.service.TagAssignmentService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/admin/posts")
+@RequiredArgsConstructor
+public class PostTagAdminController {
+
+    private final TagAssignmentService tagAssignmentService;
+
+    /**
+     * 게시글 태그 교체 (바뀐 태그만 반영)
+     */
+    @PutMapping("/{postId}/tags")
+    public ResponseEntity<Void> assignTags(@PathVariable Long postId,
+                                           @RequestBody PostTagsRequest request) {
+        log.info("Assign tags request for post {}: {}", postId, request.getTags());
+        tagAssignmentService.assignTags(postId, request.getTags());
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,29 @@
+package com.portfolio.module.blog.controller;
+
+import com.portfolio.module.blog.service.TagAssignmentService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/admin/tags")
+@RequiredArgsConstructor
+public class TagAdminController {
+
+    private final TagAssignmentService tagAssignmentService;
+
+    /**
+     * 태그 병합 (source 태그의 게시글을 target 태그로 옮기고 source 삭제)
+     */
+    @PostMapping("/{sourceId}/merge-into/{targetId}")
+    public ResponseEntity<Map<String, Long>> mergeTags(@PathVariable Long sourceId,
+                                                       @PathVariable Long targetId) {
+        log.info("Merge tag request: {} -> {}", sourceId, targetId);
+        long moved = tagAssignmentService.mergeTags(sourceId, targetId);
+        return ResponseEntity.ok(Map.of("movedPosts", moved));
+    }
+}
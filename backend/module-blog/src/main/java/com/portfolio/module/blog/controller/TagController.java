@@ -0,0 +1,34 @@
+package com.portfolio.module.blog.controller;
+
+import com.portfolio.module.blog.dto.TagResponse;
+import com.portfolio.module.blog.service.TaxonomyCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/tags")
+@RequiredArgsConstructor
+public class TagController {
+
+    private final TaxonomyCache taxonomyCache;
+
+    /**
+     * 태그 목록 조회 (메모리 캐시, 발행 게시글 수 포함, ETag 지원)
+     */
+    @GetMapping
+    public ResponseEntity<List<TagResponse>> getTags(WebRequest request) {
+        TaxonomyCache.Versioned<List<TagResponse>> tags = taxonomyCache.getTags();
+
+        if (request.checkNotModified(tags.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(tags.etag()).build();
+        }
+        return ResponseEntity.ok().eTag(tags.etag()).body(tags.body());
+    }
+}
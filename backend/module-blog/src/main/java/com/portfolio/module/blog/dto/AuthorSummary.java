@@ -0,0 +1,17 @@
+package com.portfolio.module.blog.dto;
+
+import com.portfolio.domain.user.User;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class AuthorSummary {
+
+    private Long id;
+    private String username;
+
+    public static AuthorSummary from(User user) {
+        return new AuthorSummary(user.getId(), user.getUsername());
+    }
+}
@@ -0,0 +1,19 @@
+package com.portfolio.module.blog.dto;
+
+import com.portfolio.domain.blog.Category;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CategoryResponse {
+
+    private Long id;
+    private String name;
+    private String slug;
+    private String description;
+
+    public static CategoryResponse from(Category category) {
+        return new CategoryResponse(category.getId(), category.getName(), category.getSlug(), category.getDescription());
+    }
+}
@@ -0,0 +1,18 @@
+package com.portfolio.module.blog.dto;
+
+import com.portfolio.domain.blog.Category;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CategorySummary {
+
+    private Long id;
+    private String name;
+    private String slug;
+
+    public static CategorySummary from(Category category) {
+        return category != null ? new CategorySummary(category.getId(), category.getName(), category.getSlug()) : null;
+    }
+}
@@ -0,0 +1,31 @@
+package com.portfolio.module.blog.dto;
+
+import com.portfolio.domain.blog.repository.CommentRow;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+public class CommentResponse {
+
+    private final Long id;
+    private final String content;
+    private final AuthorSummary author;
+    private final Long parentId;
+    private final List<CommentResponse> replies = new ArrayList<>();
+    private final int replyCount;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    public CommentResponse(CommentRow row, int replyCount) {
+        this.id = row.id();
+        this.content = row.content();
+        this.author = new AuthorSummary(row.authorId(), row.authorUsername());
+        this.parentId = row.parentId();
+        this.replyCount = replyCount;
+        this.createdAt = row.createdAt();
+        this.updatedAt = row.updatedAt();
+    }
+}
@@ -0,0 +1,17 @@
+package com.portfolio.module.blog.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class CommentThreadPageResponse {
+
+    private List<CommentResponse> content;
+    private int page;
+    private int size;
+    private int totalThreads;
+    private boolean hasNext;
+}
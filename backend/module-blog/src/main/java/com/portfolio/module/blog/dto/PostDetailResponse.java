@@ -0,0 +1,60 @@
+package com.portfolio.module.blog.dto;
+
+import com.portfolio.domain.blog.Post;
+import com.portfolio.domain.blog.PostRender;
+import com.portfolio.domain.blog.PostRender.TocEntry;
+import com.portfolio.domain.blog.PostStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class PostDetailResponse {
+
+    private Long id;
+    private String title;
+    private String slug;
+    private String content;
+    private String html;
+    private List<TocEntry> toc;
+    private String excerpt;
+    private AuthorSummary author;
+    private CategorySummary category;
+    private List<TagSummary> tags;
+    private PostStatus status;
+    private Integer viewCount;
+    private Integer likeCount;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime publishedAt;
+
+    /**
+     * 카테고리/태그는 호출자가 TaxonomyCache에서 찾아 전달 (지연 로딩 연관관계를 순회하지 않음)
+     */
+    public static PostDetailResponse of(Post post, PostRender render, CategorySummary category, List<TagSummary> tags) {
+        return PostDetailResponse.builder()
+                .id(post.getId())
+                .title(post.getTitle())
+                .slug(post.getSlug())
+                .content(post.getContent())
+                .html(render.getHtml())
+                .toc(render.getToc())
+                // 작성자가 요약문을 입력하지 않은 경우 자동 생성 요약문 사용
+                .excerpt(post.getExcerpt() != null ? post.getExcerpt() : render.getExcerpt())
+                .author(AuthorSummary.from(post.getAuthor()))
+                .category(category)
+                .tags(tags)
+                .status(post.getStatus())
+                .viewCount(post.getViewCount())
+                .likeCount(post.getLikeCount())
+                .createdAt(post.getCreatedAt())
+                .updatedAt(post.getUpdatedAt())
+                .publishedAt(post.getPublishedAt())
+                .build();
+    }
+}
@@ -0,0 +1,16 @@
+package com.portfolio.module.blog.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class PostSearchResponse {
+
+    private List<PostSearchResult> content;
+    private int page;
+    private int size;
+    private boolean hasNext;
+}
@@ -0,0 +1,17 @@
+package com.portfolio.module.blog.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 결과 항목 (highlight: HTML escape된 본문 중 일치 구간, <mark>로 강조)
+ */
+public record PostSearchResult(
+        Long id,
+        String title,
+        String slug,
+        String excerpt,
+        String highlight,
+        double rank,
+        LocalDateTime publishedAt
+) {
+}
@@ -0,0 +1,48 @@
+package com.portfolio.module.blog.dto;
+
+import com.portfolio.domain.blog.PostStatus;
+import com.portfolio.domain.blog.repository.PostSummaryRow;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class PostSummaryResponse {
+
+    private Long id;
+    private String title;
+    private String slug;
+    private String excerpt;
+    private AuthorSummary author;
+    private CategorySummary category;
+    private List<TagSummary> tags;
+    private PostStatus status;
+    private Integer viewCount;
+    private Integer likeCount;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime publishedAt;
+
+    public static PostSummaryResponse of(PostSummaryRow row, CategorySummary category, List<TagSummary> tags) {
+        return PostSummaryResponse.builder()
+                .id(row.id())
+                .title(row.title())
+                .slug(row.slug())
+                .excerpt(row.excerpt())
+                .author(new AuthorSummary(row.authorId(), row.authorUsername()))
+                .category(category)
+                .tags(tags)
+                .status(row.status())
+                .viewCount(row.viewCount())
+                .likeCount(row.likeCount())
+                .createdAt(row.createdAt())
+                .updatedAt(row.updatedAt())
+                .publishedAt(row.publishedAt())
+                .build();
+    }
+}
@@ -0,0 +1,18 @@
+package com.portfolio.module.blog.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 게시글 태그 교체 요청 (태그 이름 목록, 없는 태그는 생성)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostTagsRequest {
+
+    private List<String> tags;
+}
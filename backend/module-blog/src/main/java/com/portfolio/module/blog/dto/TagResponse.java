@@ -0,0 +1,14 @@
+package com.portfolio.module.blog.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TagResponse {
+
+    private Long id;
+    private String name;
+    private String slug;
+    private Integer postCount;
+}
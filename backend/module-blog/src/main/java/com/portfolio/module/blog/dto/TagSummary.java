@@ -0,0 +1,18 @@
+package com.portfolio.module.blog.dto;
+
+import com.portfolio.domain.blog.Tag;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TagSummary {
+
+    private Long id;
+    private String name;
+    private String slug;
+
+    public static TagSummary from(Tag tag) {
+        return new TagSummary(tag.getId(), tag.getName(), tag.getSlug());
+    }
+}
@@ -0,0 +1,113 @@
+package com.portfolio.module.blog.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * posts 카운터 컬럼 일괄 반영 (JPA 엔티티를 거치지 않음)
+ * SET 절에 카운터 컬럼만 포함하므로 update_posts_updated_at 트리거가 실행되지 않음 (V2 마이그레이션)
+ * 조회수 증분은 여러 구문으로 나뉘어도 한 트랜잭션으로 반영하므로 실패 시 전체를 복원해 재시도해도 중복 반영되지 않고,
+ * 행을 id 순서로 잠가 다른 일괄 반영과 교착되지 않음
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostCounterRepository {
+
+    private static final int MAX_ROWS_PER_STATEMENT = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 조회수 증분 일괄 반영
+     *
+     * @return 갱신된 행 수
+     */
+    @Transactional
+    public int addViewCounts(Map<Long, Long> deltas) {
+        return addDeltas("view_count", deltas);
+    }
+
+    /**
+     * 좋아요 수를 post_likes 기준으로 다시 계산해 반영 (증분을 더하지 않음)
+     * 결과가 실제 행 수이므로 항상 0 이상이고, 여러 인스턴스가 같은 게시글을 어떤 순서로 반영해도 같은 값으로 수렴
+     * 구문마다 독립적으로 커밋해도 안전하므로 한 트랜잭션으로 묶지 않음 (행 잠금을 짧게 유지)
+     *
+     * @return 값이 바뀐 행 수
+     */
+    public int recomputeLikeCounts(Collection<Long> postIds) {
+        int updated = 0;
+        List<Object> args = new ArrayList<>(Math.min(postIds.size(), MAX_ROWS_PER_STATEMENT));
+
+        for (Long postId : new TreeSet<>(postIds)) {
+            args.add(postId);
+            if (args.size() == MAX_ROWS_PER_STATEMENT) {
+                updated += jdbcTemplate.update(recomputeLikeSql(args.size()), args.toArray());
+                args.clear();
+            }
+        }
+        if (!args.isEmpty()) {
+            updated += jdbcTemplate.update(recomputeLikeSql(args.size()), args.toArray());
+        }
+        return updated;
+    }
+
+    private int addDeltas(String column, Map<Long, Long> deltas) {
+        int updated = 0;
+        List<Object> args = new ArrayList<>(Math.min(deltas.size(), MAX_ROWS_PER_STATEMENT) * 2);
+
+        for (Map.Entry<Long, Long> delta : new TreeMap<>(deltas).entrySet()) {
+            args.add(delta.getKey());
+            args.add(delta.getValue());
+            if (args.size() == MAX_ROWS_PER_STATEMENT * 2) {
+                updated += jdbcTemplate.update(deltaSql(column, args.size() / 2), args.toArray());
+                args.clear();
+            }
+        }
+        if (!args.isEmpty()) {
+            updated += jdbcTemplate.update(deltaSql(column, args.size() / 2), args.toArray());
+        }
+        return updated;
+    }
+
+    /**
+     * UPDATE posts ... FROM (VALUES (?, ?), ...) 형태의 단일 구문 생성
+     */
+    private static String deltaSql(String column, int rows) {
+        StringBuilder sql = new StringBuilder(128 + rows * 24)
+                .append("UPDATE posts p SET ").append(column).append(" = p.").append(column)
+                .append(" + v.delta FROM (VALUES ");
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append("(?::bigint, ?::bigint)");
+        }
+        return sql.append(") AS v(id, delta) WHERE p.id = v.id").toString();
+    }
+
+    /**
+     * post_likes (post_id, user_id) PK의 앞부분으로 게시글별 count(*)를 인덱스만 읽어 계산
+     */
+    private static String recomputeLikeSql(int rows) {
+        StringBuilder sql = new StringBuilder(256 + rows * 12)
+                .append("UPDATE posts p SET like_count = c.like_count FROM (")
+                .append("SELECT v.id, (SELECT count(*) FROM post_likes l WHERE l.post_id = v.id) AS like_count")
+                .append(" FROM (VALUES ");
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append("(?::bigint)");
+        }
+        return sql.append(") AS v(id)) AS c WHERE p.id = c.id AND p.like_count <> c.like_count").toString();
+    }
+}
@@ -0,0 +1,44 @@
+package com.portfolio.module.blog.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 사용자별 좋아요 집합 (post_likes)
+ * PK(post_id, user_id)로 중복을 막아 좋아요/취소를 멱등하게 처리
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostLikeRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return 새로 좋아요가 추가되었으면 true (이미 눌렀으면 false)
+     */
+    public boolean insert(Long postId, Long userId) {
+        return jdbcTemplate.update(
+                "INSERT INTO post_likes (post_id, user_id) VALUES (?, ?) ON CONFLICT DO NOTHING",
+                postId, userId
+        ) == 1;
+    }
+
+    /**
+     * @return 실제로 좋아요가 취소되었으면 true
+     */
+    public boolean delete(Long postId, Long userId) {
+        return jdbcTemplate.update(
+                "DELETE FROM post_likes WHERE post_id = ? AND user_id = ?",
+                postId, userId
+        ) == 1;
+    }
+
+    public boolean exists(Long postId, Long userId) {
+        Boolean exists = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM post_likes WHERE post_id = ? AND user_id = ?)",
+                Boolean.class, postId, userId
+        );
+        return Boolean.TRUE.equals(exists);
+    }
+}
@@ -0,0 +1,60 @@
+package com.portfolio.module.blog.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.domain.blog.PostRender;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * post_renders 저장 (INSERT ... ON CONFLICT)
+ * 같은 게시글을 동시에 처음 렌더링해도 PK 충돌 없이 한 행만 남고,
+ * 이미 같은 본문을 같거나 더 높은 렌더러 버전으로 저장한 행은 다시 쓰지 않음 (배포 중 이전 버전으로 되돌리지 않음)
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostRenderUpsertRepository {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO post_renders (post_id, content_hash, renderer_version, source_updated_at,
+                                      html, toc, excerpt, rendered_at)
+            VALUES (?, ?, ?, ?, ?, CAST(? AS jsonb), ?, NOW())
+            ON CONFLICT (post_id) DO UPDATE SET
+                content_hash = EXCLUDED.content_hash,
+                renderer_version = EXCLUDED.renderer_version,
+                source_updated_at = EXCLUDED.source_updated_at,
+                html = EXCLUDED.html,
+                toc = EXCLUDED.toc,
+                excerpt = EXCLUDED.excerpt,
+                rendered_at = EXCLUDED.rendered_at
+            WHERE post_renders.content_hash <> EXCLUDED.content_hash
+               OR post_renders.renderer_version < EXCLUDED.renderer_version
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @return 행이 추가/갱신되었으면 true (다른 요청이 이미 같은 결과를 저장했으면 false)
+     */
+    public boolean upsert(PostRender render) {
+        return jdbcTemplate.update(UPSERT_SQL,
+                render.getPostId(),
+                render.getContentHash(),
+                render.getRendererVersion(),
+                render.getSourceUpdatedAt(),
+                render.getHtml(),
+                toJson(render),
+                render.getExcerpt()
+        ) == 1;
+    }
+
+    private String toJson(PostRender render) {
+        try {
+            return objectMapper.writeValueAsString(render.getToc());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize toc for post " + render.getPostId(), e);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.portfolio.module.blog.repository;
+
+import com.portfolio.module.blog.dto.PostSearchResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * 게시글 전문 검색 (posts.search_vector GIN 인덱스 + 제목/요약문 trigram 보조 검색)
+ * trigram 인덱스는 3글자 이상 연속된 부분 문자열만 찾을 수 있으므로, 모든 단어가 3글자 미만인 검색어
+ * (e.g. 한국어 두 글자 검색어)는 ILIKE 없이 search_vector 접두어 검색(:*)만 사용
+ * ILIKE를 OR로 붙이면 인덱스를 쓸 수 없는 조건 때문에 posts 전체를 순차 스캔하게 됨
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostSearchRepository {
+
+    /**
+     * pg_trgm이 인덱스 조회에 쓰는 최소 단어 길이
+     */
+    static final int MIN_TRIGRAM_WORD_LENGTH = 3;
+
+    /**
+     * 정렬/페이지 적용 후 해당 페이지 행에 대해서만 ts_headline 계산
+     * Text Search Configuration은 search_vector 생성 컬럼과 같은 blog_search로 고정 (V6 마이그레이션)
+     * ts_headline 결과는 HTML로 렌더링되므로 본문의 &, <, >를 먼저 escape하고 <mark>만 태그로 남김
+     * %1$s: tsquery, %2$s: 추가 점수, %3$s: 추가 검색 조건
+     */
+    private static final String SEARCH_SQL_TEMPLATE = """
+            SELECT p.id, p.title, p.slug, p.excerpt, p.published_at, r.rank,
+                   ts_headline('blog_search'::regconfig,
+                               replace(replace(replace(p.content, '&', '&amp;'), '<', '&lt;'), '>', '&gt;'),
+                               r.query,
+                               'MaxFragments=2, MaxWords=30, MinWords=10, StartSel=<mark>, StopSel=</mark>') AS highlight
+            FROM (
+                SELECT p.id, q.query,
+                       ts_rank_cd(p.search_vector, q.query)%2$s AS rank
+                FROM posts p,
+                     %1$s AS q(query)
+                WHERE p.deleted_at IS NULL
+                  AND p.status = 'PUBLISHED'
+                  AND (p.search_vector @@ q.query%3$s)
+                  AND (CAST(:categoryId AS BIGINT) IS NULL OR p.category_id = :categoryId)
+                  AND (CAST(:tagId AS BIGINT) IS NULL OR EXISTS (
+                        SELECT 1 FROM post_tags pt WHERE pt.post_id = p.id AND pt.tag_id = :tagId))
+                ORDER BY rank DESC, p.published_at DESC, p.id DESC
+                LIMIT :limit OFFSET :offset
+            ) r
+            JOIN posts p ON p.id = r.id
+            ORDER BY r.rank DESC, p.published_at DESC, p.id DESC
+            """;
+
+    /**
+     * 전문 검색 + 제목/요약문 부분 문자열(trigram) 검색
+     */
+    static final String SEARCH_SQL = SEARCH_SQL_TEMPLATE.formatted(
+            "websearch_to_tsquery('blog_search'::regconfig, :keyword)",
+            "\n                           + CASE WHEN (p.title || ' ' || coalesce(p.excerpt, '')) ILIKE :pattern THEN 0.1 ELSE 0 END",
+            "\n                       OR (p.title || ' ' || coalesce(p.excerpt, '')) ILIKE :pattern");
+
+    /**
+     * 짧은 검색어: 단어별 접두어 검색만 사용 (조사가 붙은 토큰도 일치, GIN 인덱스 사용)
+     */
+    static final String SHORT_KEYWORD_SEARCH_SQL = SEARCH_SQL_TEMPLATE.formatted(
+            "to_tsquery('blog_search'::regconfig, :prefixQuery)", "", "");
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public List<PostSearchResult> search(String keyword, Long categoryId, Long tagId, int limit, int offset) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("categoryId", categoryId)
+                .addValue("tagId", tagId)
+                .addValue("limit", limit)
+                .addValue("offset", offset);
+
+        String sql;
+        if (isShortKeyword(keyword)) {
+            sql = SHORT_KEYWORD_SEARCH_SQL;
+            params.addValue("prefixQuery", prefixQuery(keyword));
+        } else {
+            sql = SEARCH_SQL;
+            params.addValue("keyword", keyword)
+                    .addValue("pattern", "%" + escapeLike(keyword) + "%");
+        }
+
+        return jdbcTemplate.query(sql, params, (rs, rowNum) -> {
+            Timestamp publishedAt = rs.getTimestamp("published_at");
+            return new PostSearchResult(
+                    rs.getLong("id"),
+                    rs.getString("title"),
+                    rs.getString("slug"),
+                    rs.getString("excerpt"),
+                    rs.getString("highlight"),
+                    rs.getDouble("rank"),
+                    publishedAt != null ? publishedAt.toLocalDateTime() : null
+            );
+        });
+    }
+
+    /**
+     * 모든 단어가 trigram 하나도 만들 수 없는 길이인지 (code point 기준)
+     */
+    static boolean isShortKeyword(String keyword) {
+        for (String word : words(keyword)) {
+            if (word.codePointCount(0, word.length()) >= MIN_TRIGRAM_WORD_LENGTH) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 단어마다 따옴표로 감싼 접두어 검색어를 AND로 연결 ('토큰':* & 'gc':*)
+     * 따옴표 안에서는 tsquery 연산자가 해석되지 않으므로 사용자 입력을 그대로 넣을 수 있음
+     */
+    static String prefixQuery(String keyword) {
+        StringJoiner query = new StringJoiner(" & ");
+        for (String word : words(keyword)) {
+            query.add("'" + word.replace("\\", "\\\\").replace("'", "''") + "':*");
+        }
+        return query.toString();
+    }
+
+    private static String[] words(String keyword) {
+        String stripped = keyword.strip();
+        return stripped.isEmpty() ? new String[0] : stripped.split("\\s+");
+    }
+
+    private static String escapeLike(String keyword) {
+        return keyword.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,187 @@
+package com.portfolio.module.blog.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * post_tags / tags 직접 갱신 (엔티티 컬렉션을 거치지 않는 JDBC 배치)
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostTagRepository {
+
+    /**
+     * 없는 태그는 생성하고, 입력한 slug 전체의 id를 한 번에 조회 (태그의 식별 기준은 slug, 대소문자/공백 변형은 같은 태그)
+     * (같은 구문 안의 SELECT는 ins CTE가 추가한 행을 보지 못하므로 UNION ALL로 중복 없이 합침)
+     * 관리자가 다른 slug로 만든 같은 이름의 태그가 있으면 name UNIQUE 위반이 되므로 생성 대상에서 제외
+     * 동시에 다른 트랜잭션이 만든 태그는 충돌로 건너뛰지만 이 구문의 스냅샷에는 없어 빠질 수 있음 -> SELECT_TAGS_SQL로 다시 조회
+     */
+    private static final String UPSERT_TAGS_SQL = """
+            WITH input(slug, name) AS (
+                SELECT * FROM unnest(?::varchar[], ?::varchar[])
+            ),
+            ins AS (
+                INSERT INTO tags (name, slug)
+                SELECT i.name, i.slug FROM input i
+                WHERE NOT EXISTS (SELECT 1 FROM tags t WHERE t.name = i.name)
+                ON CONFLICT (slug) DO NOTHING
+                RETURNING id, slug
+            )
+            SELECT id, slug, TRUE AS created FROM ins
+            UNION ALL
+            SELECT t.id, t.slug, FALSE AS created FROM tags t JOIN input i ON t.slug = i.slug
+            """;
+
+    /**
+     * 새 구문(새 스냅샷)에서 다시 조회 (ON CONFLICT가 상대 트랜잭션 커밋까지 기다렸으므로 이제 보임)
+     * slug가 같은 태그가 없으면 이름이 같은 태그를 사용
+     */
+    private static final String SELECT_TAGS_SQL = """
+            SELECT i.slug, t.id
+            FROM unnest(?::varchar[], ?::varchar[]) AS i(slug, name)
+            JOIN LATERAL (
+                SELECT id FROM tags
+                WHERE slug = i.slug OR name = i.name
+                ORDER BY slug = i.slug DESC
+                LIMIT 1
+            ) t ON TRUE
+            """;
+
+    /**
+     * source 태그가 붙은 게시글 chunk를 target 태그로 옮김
+     */
+    private static final String MOVE_TAG_CHUNK_SQL = """
+            WITH batch AS (
+                SELECT post_id FROM post_tags
+                WHERE tag_id = ?
+                ORDER BY post_id
+                LIMIT ?
+            ),
+            ins AS (
+                INSERT INTO post_tags (post_id, tag_id)
+                SELECT post_id, ? FROM batch
+                ON CONFLICT DO NOTHING
+            )
+            DELETE FROM post_tags
+            WHERE tag_id = ? AND post_id IN (SELECT post_id FROM batch)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 태그 slug -> id 조회 (없으면 생성)
+     *
+     * @param namesBySlug slug별로 새로 만들 때 사용할 이름
+     */
+    public TagResolution resolveOrCreate(Map<String, String> namesBySlug) {
+        Map<String, Long> ids = new HashMap<>();
+        Set<Long> created = new HashSet<>();
+        if (namesBySlug.isEmpty()) {
+            return new TagResolution(ids, created);
+        }
+
+        List<String> slugs = new ArrayList<>(namesBySlug.keySet());
+        List<String> names = slugs.stream().map(namesBySlug::get).toList();
+
+        jdbcTemplate.query(connection -> {
+            var statement = connection.prepareStatement(UPSERT_TAGS_SQL);
+            statement.setArray(1, connection.createArrayOf("varchar", slugs.toArray()));
+            statement.setArray(2, connection.createArrayOf("varchar", names.toArray()));
+            return statement;
+        }, rs -> {
+            ids.put(rs.getString("slug"), rs.getLong("id"));
+            if (rs.getBoolean("created")) {
+                created.add(rs.getLong("id"));
+            }
+        });
+
+        List<String> missing = slugs.stream().filter(slug -> !ids.containsKey(slug)).toList();
+        if (!missing.isEmpty()) {
+            List<String> missingNames = missing.stream().map(namesBySlug::get).toList();
+            jdbcTemplate.query(connection -> {
+                var statement = connection.prepareStatement(SELECT_TAGS_SQL);
+                statement.setArray(1, connection.createArrayOf("varchar", missing.toArray()));
+                statement.setArray(2, connection.createArrayOf("varchar", missingNames.toArray()));
+                return statement;
+            }, rs -> {
+                ids.put(rs.getString("slug"), rs.getLong("id"));
+            });
+        }
+
+        return new TagResolution(ids, created);
+    }
+
+    public Set<Long> findTagIds(Long postId) {
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT tag_id FROM post_tags WHERE post_id = ?", Long.class, postId));
+    }
+
+    public void insert(Long postId, Collection<Long> tagIds) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO post_tags (post_id, tag_id) VALUES (?, ?) ON CONFLICT DO NOTHING",
+                tagIds, tagIds.size(),
+                (statement, tagId) -> {
+                    statement.setLong(1, postId);
+                    statement.setLong(2, tagId);
+                });
+    }
+
+    public void delete(Long postId, Collection<Long> tagIds) {
+        jdbcTemplate.batchUpdate(
+                "DELETE FROM post_tags WHERE post_id = ? AND tag_id = ?",
+                tagIds, tagIds.size(),
+                (statement, tagId) -> {
+                    statement.setLong(1, postId);
+                    statement.setLong(2, tagId);
+                });
+    }
+
+    /**
+     * @return 이번 chunk에서 옮긴 게시글 수 (0이면 완료)
+     */
+    public int moveTagChunk(Long sourceTagId, Long targetTagId, int chunkSize) {
+        return jdbcTemplate.update(MOVE_TAG_CHUNK_SQL, sourceTagId, chunkSize, targetTagId, sourceTagId);
+    }
+
+    /**
+     * 태그 행 잠금 (트랜잭션이 끝날 때까지 이 태그로의 post_tags INSERT가 FK 검사에서 대기)
+     *
+     * @return 태그가 있으면 true
+     */
+    public boolean lockTag(Long tagId) {
+        return !jdbcTemplate.queryForList(
+                "SELECT id FROM tags WHERE id = ? FOR UPDATE", Long.class, tagId).isEmpty();
+    }
+
+    public void deleteTag(Long tagId) {
+        jdbcTemplate.update("DELETE FROM tags WHERE id = ?", tagId);
+    }
+
+    /**
+     * 게시글 발행 여부 (PUBLISHED면 true, 삭제되었거나 없으면 empty)
+     */
+    public Optional<Boolean> findPublished(Long postId) {
+        return jdbcTemplate.queryForList(
+                "SELECT status = 'PUBLISHED' FROM posts WHERE id = ? AND deleted_at IS NULL",
+                Boolean.class, postId).stream().findFirst();
+    }
+
+    public boolean tagExists(Long tagId) {
+        Boolean exists = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM tags WHERE id = ?)", Boolean.class, tagId);
+        return Boolean.TRUE.equals(exists);
+    }
+
+    public record TagResolution(Map<String, Long> idsBySlug, Set<Long> createdIds) {
+    }
+}
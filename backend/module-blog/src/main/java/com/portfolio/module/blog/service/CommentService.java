@@ -0,0 +1,148 @@
+package com.portfolio.module.blog.service;
+
+import com.portfolio.common.util.LongIntHashMap;
+import com.portfolio.domain.blog.repository.CommentRepository;
+import com.portfolio.domain.blog.repository.CommentRow;
+import com.portfolio.module.blog.dto.CommentResponse;
+import com.portfolio.module.blog.dto.CommentThreadPageResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class CommentService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_REPLY_PREVIEW = 50;
+    private static final int NONE = -1;
+
+    private final CommentRepository commentRepository;
+
+    /**
+     * 댓글 트리 조회
+     * 게시글의 댓글 전체를 한 번에 조회한 뒤 메모리에서 O(n)으로 트리 구성,
+     * 최상위 스레드 단위로 페이지를 나누고 스레드마다 답글은 replyPreview개까지만 포함
+     */
+    @Transactional(readOnly = true)
+    public CommentThreadPageResponse getCommentThreads(Long postId, int page, int size, int replyPreview) {
+        int pageNumber = Math.max(0, page);
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        int previewLimit = Math.max(0, Math.min(replyPreview, MAX_REPLY_PREVIEW));
+
+        List<CommentRow> rows = commentRepository.findTreeRows(postId);
+        CommentTree tree = CommentTree.build(rows);
+
+        int from = Math.min(offsetOf(pageNumber, pageSize), tree.rootCount);
+        int to = Math.min(from + pageSize, tree.rootCount);
+
+        List<CommentResponse> threads = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            threads.add(tree.toThread(rows, tree.roots[i], previewLimit));
+        }
+
+        return new CommentThreadPageResponse(threads, pageNumber, pageSize, tree.rootCount, to < tree.rootCount);
+    }
+
+    /**
+     * page * size가 int 범위를 넘으면 음수 시작 위치가 되므로 400으로 거절
+     */
+    private static int offsetOf(int page, int size) {
+        try {
+            return Math.toIntExact(Math.multiplyExact((long) page, size));
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Page out of range: " + page);
+        }
+    }
+
+    /**
+     * 배열 기반 댓글 트리 (자식은 firstChild/nextSibling 연결 리스트, id 오름차순 유지)
+     */
+    private static final class CommentTree {
+
+        private final int[] roots;
+        private final int rootCount;
+        private final int[] firstChild;
+        private final int[] nextSibling;
+        private final int[] childCount;
+
+        private CommentTree(int[] roots, int rootCount, int[] firstChild, int[] nextSibling, int[] childCount) {
+            this.roots = roots;
+            this.rootCount = rootCount;
+            this.firstChild = firstChild;
+            this.nextSibling = nextSibling;
+            this.childCount = childCount;
+        }
+
+        static CommentTree build(List<CommentRow> rows) {
+            int n = rows.size();
+            LongIntHashMap indexById = new LongIntHashMap(n, NONE);
+            for (int i = 0; i < n; i++) {
+                indexById.put(rows.get(i).id(), i);
+            }
+
+            int[] roots = new int[n];
+            int rootCount = 0;
+            int[] firstChild = new int[n];
+            int[] lastChild = new int[n];
+            int[] nextSibling = new int[n];
+            int[] childCount = new int[n];
+            Arrays.fill(firstChild, NONE);
+            Arrays.fill(lastChild, NONE);
+            Arrays.fill(nextSibling, NONE);
+
+            for (int i = 0; i < n; i++) {
+                Long parentId = rows.get(i).parentId();
+                if (parentId == null) {
+                    roots[rootCount++] = i;
+                    continue;
+                }
+
+                // 부모가 삭제된 답글은 부모와 함께 숨김 (도달할 수 없는 하위 트리로 남음)
+                int parent = indexById.get(parentId);
+                if (parent == NONE) {
+                    continue;
+                }
+                if (lastChild[parent] == NONE) {
+                    firstChild[parent] = i;
+                } else {
+                    nextSibling[lastChild[parent]] = i;
+                }
+                lastChild[parent] = i;
+                childCount[parent]++;
+            }
+
+            return new CommentTree(roots, rootCount, firstChild, nextSibling, childCount);
+        }
+
+        /**
+         * 최상위 댓글부터 너비 우선으로 답글을 previewLimit개까지 포함한 응답 생성
+         */
+        CommentResponse toThread(List<CommentRow> rows, int root, int previewLimit) {
+            CommentResponse thread = new CommentResponse(rows.get(root), childCount[root]);
+
+            ArrayDeque<Visit> queue = new ArrayDeque<>();
+            queue.add(new Visit(root, thread));
+            int remaining = previewLimit;
+
+            while (!queue.isEmpty() && remaining > 0) {
+                Visit current = queue.poll();
+                for (int child = firstChild[current.node()]; child != NONE && remaining > 0; child = nextSibling[child]) {
+                    CommentResponse reply = new CommentResponse(rows.get(child), childCount[child]);
+                    current.response().getReplies().add(reply);
+                    queue.add(new Visit(child, reply));
+                    remaining--;
+                }
+            }
+            return thread;
+        }
+
+        private record Visit(int node, CommentResponse response) {
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.portfolio.module.blog.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * post id별 카운터 증분 버퍼 (스레드 안전)
+ * 증분 추가(merge)와 꺼내기(remove)가 모두 키 단위로 원자적이므로 drain 중에 들어온 증분도 유실되지 않음
+ */
+class CounterBuffer {
+
+    private final ConcurrentHashMap<Long, Long> pending = new ConcurrentHashMap<>();
+
+    void add(Long postId, long delta) {
+        pending.merge(postId, delta, Long::sum);
+    }
+
+    /**
+     * 반영되지 않은 증분 합계
+     */
+    long pendingTotal() {
+        long sum = 0;
+        for (Long delta : pending.values()) {
+            sum += delta;
+        }
+        return sum;
+    }
+
+    /**
+     * 누적된 증분을 꺼내고 비움 (증분이 0인 항목은 제외)
+     * 키별 remove 이후 들어온 증분은 새 항목으로 남아 다음 drain에서 반영
+     */
+    Map<Long, Long> drain() {
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Long postId : pending.keySet()) {
+            Long delta = pending.remove(postId);
+            if (delta != null && delta != 0) {
+                deltas.put(postId, delta);
+            }
+        }
+        return deltas;
+    }
+
+    /**
+     * 반영 실패한 증분 복원
+     */
+    void restore(Map<Long, Long> deltas) {
+        deltas.forEach(this::add);
+    }
+}
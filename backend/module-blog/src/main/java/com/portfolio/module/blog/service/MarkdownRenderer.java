@@ -0,0 +1,110 @@
+package com.portfolio.module.blog.service;
+
+import com.portfolio.domain.blog.PostRender.TocEntry;
+import com.vladsch.flexmark.ast.Heading;
+import com.vladsch.flexmark.ext.autolink.AutolinkExtension;
+import com.vladsch.flexmark.ext.gfm.strikethrough.StrikethroughExtension;
+import com.vladsch.flexmark.ext.gfm.tasklist.TaskListExtension;
+import com.vladsch.flexmark.ext.tables.TablesExtension;
+import com.vladsch.flexmark.html.HtmlRenderer;
+import com.vladsch.flexmark.parser.Parser;
+import com.vladsch.flexmark.util.ast.Document;
+import com.vladsch.flexmark.util.ast.Node;
+import com.vladsch.flexmark.util.ast.TextCollectingVisitor;
+import com.vladsch.flexmark.util.data.MutableDataSet;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Markdown -> HTML 렌더러
+ * flexmark Parser/HtmlRenderer는 생성 후 불변이므로 한 번만 만들어 모든 요청에서 공유
+ */
+@Component
+public class MarkdownRenderer {
+
+    private static final int EXCERPT_MAX_LENGTH = 200;
+
+    private final Parser parser;
+    private final HtmlRenderer htmlRenderer;
+    private final int version;
+
+    public MarkdownRenderer(@Value("${blog.markdown.renderer-version:1}") int version) {
+        MutableDataSet options = new MutableDataSet()
+                .set(Parser.EXTENSIONS, List.of(
+                        TablesExtension.create(),
+                        StrikethroughExtension.create(),
+                        TaskListExtension.create(),
+                        AutolinkExtension.create()
+                ))
+                .set(HtmlRenderer.GENERATE_HEADER_ID, true)
+                .set(HtmlRenderer.RENDER_HEADER_ID, true)
+                .set(HtmlRenderer.ESCAPE_HTML, true);
+
+        this.parser = Parser.builder(options).build();
+        this.htmlRenderer = HtmlRenderer.builder(options).build();
+        this.version = version;
+    }
+
+    /**
+     * 렌더러 설정 버전 (설정 변경 시 올려서 재렌더링 유도, 더 낮은 버전의 결과만 재렌더링)
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    public Result render(String markdown) {
+        Document document = parser.parse(markdown);
+        // 렌더링 중 heading anchor id가 생성되므로 목차는 렌더링 후 추출
+        String html = htmlRenderer.render(document);
+
+        return new Result(html, extractToc(document), extractExcerpt(document));
+    }
+
+    /**
+     * 본문 해시 (SHA-256, hex)
+     */
+    public static String contentHash(String markdown) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(markdown.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private List<TocEntry> extractToc(Document document) {
+        List<TocEntry> toc = new ArrayList<>();
+        for (Node node : document.getDescendants()) {
+            if (node instanceof Heading heading) {
+                toc.add(new TocEntry(
+                        heading.getLevel(),
+                        heading.getAnchorRefId(),
+                        new TextCollectingVisitor().collectAndGetText(heading)
+                ));
+            }
+        }
+        return toc;
+    }
+
+    private String extractExcerpt(Document document) {
+        String text = new TextCollectingVisitor().collectAndGetText(document)
+                .replaceAll("\\s+", " ")
+                .strip();
+
+        // 서로게이트 쌍(이모지 등)이 잘리지 않도록 code point 단위로 자름
+        return text.codePointCount(0, text.length()) <= EXCERPT_MAX_LENGTH
+                ? text
+                : text.substring(0, text.offsetByCodePoints(0, EXCERPT_MAX_LENGTH));
+    }
+
+    public record Result(String html, List<TocEntry> toc, String excerpt) {
+    }
+}
@@ -0,0 +1,125 @@
+package com.portfolio.module.blog.service;
+
+import com.portfolio.domain.user.User;
+import com.portfolio.domain.user.repository.UserRepository;
+import com.portfolio.module.blog.repository.PostCounterRepository;
+import com.portfolio.module.blog.repository.PostLikeRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글 좋아요/취소
+ * post_likes 행 추가/삭제가 실제로 일어난 경우에만 게시글을 변경 대상으로 표시하고,
+ * like_count는 주기적으로 변경된 게시글만 post_likes 기준으로 다시 계산해 반영 (posts 행 잠금 경합 없음)
+ * 증분을 더하지 않으므로 다른 인스턴스에서 반영된 좋아요/취소나 유실된 증분이 있어도 음수로 실패하지 않고 실제 값으로 수렴
+ */
+@Slf4j
+@Service
+public class PostLikeService {
+
+    private final PostLikeRepository postLikeRepository;
+    private final PostCounterRepository postCounterRepository;
+    private final UserRepository userRepository;
+
+    /**
+     * 마지막 반영 이후 post_likes가 바뀐 게시글 (표시는 post_likes 커밋 이후이므로 다음 재계산에 반드시 포함됨)
+     */
+    private final Set<Long> dirtyPosts = ConcurrentHashMap.newKeySet();
+
+    public PostLikeService(PostLikeRepository postLikeRepository,
+                           PostCounterRepository postCounterRepository,
+                           UserRepository userRepository,
+                           MeterRegistry meterRegistry) {
+        this.postLikeRepository = postLikeRepository;
+        this.postCounterRepository = postCounterRepository;
+        this.userRepository = userRepository;
+        Gauge.builder("blog.like_count.dirty_posts", dirtyPosts, Set::size)
+                .description("Posts whose like_count has not been recomputed since their last like/unlike")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 좋아요 (이미 누른 경우 변화 없음)
+     *
+     * @return 새로 추가되었으면 true
+     */
+    public boolean like(Long postId, String username) {
+        Long userId = getUserId(username);
+        try {
+            if (postLikeRepository.insert(postId, userId)) {
+                dirtyPosts.add(postId);
+                return true;
+            }
+            return false;
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalArgumentException("Post not found with id: " + postId);
+        }
+    }
+
+    /**
+     * 좋아요 취소 (누르지 않은 경우 변화 없음)
+     *
+     * @return 실제로 취소되었으면 true
+     */
+    public boolean unlike(Long postId, String username) {
+        Long userId = getUserId(username);
+        if (postLikeRepository.delete(postId, userId)) {
+            dirtyPosts.add(postId);
+            return true;
+        }
+        return false;
+    }
+
+    public boolean isLiked(Long postId, String username) {
+        return postLikeRepository.exists(postId, getUserId(username));
+    }
+
+    /**
+     * 변경된 게시글의 posts.like_count를 다시 계산
+     * 실패하면 다음 주기에 같은 게시글을 다시 계산 (재계산은 멱등)
+     */
+    @Scheduled(fixedDelayString = "${blog.like-count.flush-interval:1000}")
+    public void flush() {
+        List<Long> postIds = new ArrayList<>();
+        for (Long postId : dirtyPosts) {
+            if (dirtyPosts.remove(postId)) {
+                postIds.add(postId);
+            }
+        }
+        if (postIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            int updated = postCounterRepository.recomputeLikeCounts(postIds);
+            log.debug("Recomputed like counts for {} posts ({} rows changed)", postIds.size(), updated);
+        } catch (RuntimeException e) {
+            dirtyPosts.addAll(postIds);
+            log.error("Failed to recompute like counts for {} posts", postIds.size(), e);
+        }
+    }
+
+    /**
+     * 종료 시 남은 게시글 재계산
+     */
+    @PreDestroy
+    public void drainOnShutdown() {
+        flush();
+    }
+
+    private Long getUserId(String username) {
+        return userRepository.findByUsername(username)
+                .map(User::getId)
+                .orElseThrow(() -> new IllegalArgumentException("User not found"));
+    }
+}
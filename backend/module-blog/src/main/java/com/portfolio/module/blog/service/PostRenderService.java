@@ -0,0 +1,125 @@
+package com.portfolio.module.blog.service;
+
+import com.portfolio.domain.blog.Post;
+import com.portfolio.domain.blog.PostRender;
+import com.portfolio.domain.blog.repository.PostRenderRepository;
+import com.portfolio.domain.blog.repository.PostRepository;
+import com.portfolio.module.blog.repository.PostRenderUpsertRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 게시글 렌더링 결과 관리
+ * 본문 해시와 렌더러 버전이 바뀐 경우에만 렌더링하고 결과를 post_renders에 저장
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostRenderService {
+
+    private final PostRepository postRepository;
+    private final PostRenderRepository postRenderRepository;
+    private final PostRenderUpsertRepository postRenderUpsertRepository;
+    private final MarkdownRenderer markdownRenderer;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${blog.markdown.rerender-batch-size:100}")
+    private int rerenderBatchSize;
+
+    @Value("${blog.markdown.rerender-max-batches:50}")
+    private int rerenderMaxBatches;
+
+    /**
+     * 현재 렌더링 결과 조회 (없거나 오래되었으면 렌더링 후 저장)
+     * 게시글 작성/수정/발행 시 호출하면 이후 조회는 렌더링 없이 처리됨
+     * 마지막 렌더링 이후 posts.updated_at이 그대로면 본문 해시도 계산하지 않음
+     * 동시 요청이 함께 렌더링해도 upsert로 저장하므로 PK 충돌 없이 같은 결과를 돌려줌
+     */
+    @Transactional
+    public PostRender getOrRender(Post post) {
+        int version = markdownRenderer.getVersion();
+        PostRender existing = postRenderRepository.findById(post.getId()).orElse(null);
+
+        if (existing != null && existing.isRenderedFrom(post.getUpdatedAt(), version)) {
+            return existing;
+        }
+
+        String contentHash = MarkdownRenderer.contentHash(post.getContent());
+        if (existing != null && existing.isCurrent(contentHash, version)) {
+            existing.markRenderedFrom(post.getUpdatedAt());
+            return existing;
+        }
+
+        PostRender rendered = newRender(post, contentHash);
+        postRenderUpsertRepository.upsert(rendered);
+        return rendered;
+    }
+
+    /**
+     * 현재보다 낮은 렌더러 버전의 결과를 백그라운드에서 재렌더링
+     * 배포 중 이전 버전 인스턴스는 더 높은 버전의 결과를 대상으로 보지 않으므로 서로 되돌리지 않고,
+     * 실행당 rerender-max-batches 배치까지만 처리 (남은 행은 다음 실행에서)
+     */
+    @Scheduled(initialDelayString = "${blog.markdown.rerender-initial-delay:10000}",
+               fixedDelayString = "${blog.markdown.rerender-interval:300000}")
+    public void rerenderStale() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        int total = 0;
+
+        for (int batch = 0; batch < rerenderMaxBatches; batch++) {
+            Integer rendered = transactionTemplate.execute(status -> rerenderBatch());
+            if (rendered == null || rendered == 0) {
+                break;
+            }
+            total += rendered;
+        }
+
+        if (total > 0) {
+            log.info("Re-rendered {} posts with renderer version {}", total, markdownRenderer.getVersion());
+        }
+    }
+
+    private int rerenderBatch() {
+        List<PostRender> stale = postRenderRepository.findByRendererVersionLessThan(
+                markdownRenderer.getVersion(), PageRequest.of(0, rerenderBatchSize));
+
+        for (PostRender render : stale) {
+            Post post = postRepository.findById(render.getPostId()).orElse(null);
+            if (post == null) {
+                postRenderRepository.delete(render);
+                continue;
+            }
+            rerender(post, render);
+        }
+        return stale.size();
+    }
+
+    private void rerender(Post post, PostRender existing) {
+        MarkdownRenderer.Result result = markdownRenderer.render(post.getContent());
+        existing.update(MarkdownRenderer.contentHash(post.getContent()), markdownRenderer.getVersion(),
+                post.getUpdatedAt(), result.html(), result.toc(), result.excerpt());
+    }
+
+    private PostRender newRender(Post post, String contentHash) {
+        MarkdownRenderer.Result result = markdownRenderer.render(post.getContent());
+
+        return PostRender.builder()
+                .postId(post.getId())
+                .contentHash(contentHash)
+                .rendererVersion(markdownRenderer.getVersion())
+                .sourceUpdatedAt(post.getUpdatedAt())
+                .html(result.html())
+                .toc(result.toc())
+                .excerpt(result.excerpt())
+                .build();
+    }
+}
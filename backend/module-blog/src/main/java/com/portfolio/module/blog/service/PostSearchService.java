@@ -0,0 +1,57 @@
+package com.portfolio.module.blog.service;
+
+import com.portfolio.module.blog.dto.PostSearchResponse;
+import com.portfolio.module.blog.dto.PostSearchResult;
+import com.portfolio.module.blog.repository.PostSearchRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class PostSearchService {
+
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final int MAX_KEYWORD_LENGTH = 100;
+
+    private final PostSearchRepository postSearchRepository;
+
+    /**
+     * 발행된 게시글 검색 (관련도 순)
+     */
+    @Transactional(readOnly = true)
+    public PostSearchResponse search(String keyword, Long categoryId, Long tagId, int page, int size) {
+        if (!StringUtils.hasText(keyword) || keyword.length() > MAX_KEYWORD_LENGTH) {
+            throw new IllegalArgumentException("Search keyword must be 1~" + MAX_KEYWORD_LENGTH + " characters");
+        }
+
+        int pageNumber = Math.max(0, page);
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<PostSearchResult> results = postSearchRepository.search(
+                keyword.strip(), categoryId, tagId, pageSize + 1, offsetOf(pageNumber, pageSize));
+
+        boolean hasNext = results.size() > pageSize;
+        return new PostSearchResponse(
+                hasNext ? results.subList(0, pageSize) : results,
+                pageNumber,
+                pageSize,
+                hasNext
+        );
+    }
+
+    /**
+     * page * size가 int 범위를 넘으면 음수 OFFSET이 되므로 400으로 거절
+     */
+    private static int offsetOf(int page, int size) {
+        try {
+            return Math.toIntExact(Math.multiplyExact((long) page, size));
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Page out of range: " + page);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.portfolio.module.blog.service;
+
+import com.portfolio.domain.blog.Post;
+import com.portfolio.domain.blog.PostRender;
+import com.portfolio.domain.blog.PostStatus;
+import com.portfolio.domain.blog.repository.PostRepository;
+import com.portfolio.domain.blog.repository.PostSummaryRow;
+import com.portfolio.domain.blog.repository.PostTagRow;
+import com.portfolio.module.blog.dto.CursorPageResponse;
+import com.portfolio.module.blog.dto.PostCursor;
+import com.portfolio.module.blog.dto.PostDetailResponse;
+import com.portfolio.module.blog.dto.PostSummaryResponse;
+import com.portfolio.module.blog.dto.TagSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class PostService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final PostRepository postRepository;
+    private final PostRenderService postRenderService;
+    private final ViewCountService viewCountService;
+    private final TaxonomyCache taxonomyCache;
+
+    /**
+     * 발행된 게시글 상세 조회 (렌더링 결과 재사용, 조회수는 Write-Behind)
+     * 공개 API이므로 DRAFT/ARCHIVED 게시글은 없는 게시글과 같게 처리 (조회수도 올리지 않음)
+     * 카테고리/태그는 id만 읽고 TaxonomyCache에서 채움 (categories/tags 테이블 조회 없음)
+     */
+    @Transactional
+    public PostDetailResponse getPost(Long id) {
+        Post post = postRepository.findByIdAndStatusAndDeletedAtIsNull(id, PostStatus.PUBLISHED)
+                .orElseThrow(() -> new IllegalArgumentException("Post not found with id: " + id));
+
+        PostRender render = postRenderService.getOrRender(post);
+        viewCountService.recordView(post.getId());
+
+        // 지연 로딩 프록시의 getId()는 초기화하지 않음
+        Long categoryId = post.getCategory() != null ? post.getCategory().getId() : null;
+        List<TagSummary> tags = postRepository.findTagsByPostIds(List.of(post.getId())).stream()
+                .map(row -> taxonomyCache.getTag(row.tagId()))
+                .filter(Objects::nonNull)
+                .toList();
+
+        return PostDetailResponse.of(post, render, taxonomyCache.getCategory(categoryId), tags);
+    }
+
+    /**
+     * 발행된 게시글 목록 조회 (Keyset 페이지네이션, 페이지 깊이와 무관한 비용)
+     * 목록 컬럼만 projection으로 조회하고 태그는 한 번의 쿼리로 모아서 조회
+     * 카테고리/태그 이름은 TaxonomyCache에서 채움 (categories/tags 테이블 조인 없음)
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<PostSummaryResponse> getPosts(String cursor, int size, Long categoryId, Long tagId) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        PostCursor after = PostCursor.decode(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<PostSummaryRow> rows = postRepository.findPublishedPage(
+                after != null ? after.publishedAt() : null,
+                after != null ? after.id() : null,
+                categoryId, tagId, pageSize + 1
+        );
+
+        boolean hasNext = rows.size() > pageSize;
+        List<PostSummaryRow> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            PostSummaryRow last = page.get(page.size() - 1);
+            nextCursor = new PostCursor(last.publishedAt(), last.id()).encode();
+        }
+
+        Map<Long, List<TagSummary>> tagsByPostId = postRepository
+                .findTagsByPostIds(page.stream().map(PostSummaryRow::id).toList())
+                .stream()
+                .collect(Collectors.groupingBy(
+                        PostTagRow::postId,
+                        Collectors.mapping(row -> taxonomyCache.getTag(row.tagId()),
+                                Collectors.filtering(Objects::nonNull, Collectors.toList()))
+                ));
+
+        return new CursorPageResponse<>(
+                page.stream()
+                        .map(row -> PostSummaryResponse.of(
+                                row,
+                                taxonomyCache.getCategory(row.categoryId()),
+                                tagsByPostId.getOrDefault(row.id(), List.of())
+                        ))
+                        .toList(),
+                nextCursor,
+                hasNext
+        );
+    }
+}
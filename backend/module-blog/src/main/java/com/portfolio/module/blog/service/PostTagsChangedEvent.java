@@ -0,0 +1,9 @@
+package com.portfolio.module.blog.service;
+
+import java.util.Set;
+
+/**
+ * 발행된 게시글의 태그 변경 (커밋 후 태그별 게시글 수 반영용)
+ */
+public record PostTagsChangedEvent(Long postId, Set<Long> addedTagIds, Set<Long> removedTagIds) {
+}
@@ -0,0 +1,161 @@
+package com.portfolio.module.blog.service;
+
+import com.portfolio.domain.blog.Tag;
+import com.portfolio.domain.blog.TaxonomyChangedEvent;
+import com.portfolio.module.blog.repository.PostTagRepository;
+import com.portfolio.module.blog.repository.PostTagRepository.TagResolution;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.text.Normalizer;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 게시글 태그 지정
+ * 현재 태그와의 차집합만 post_tags에 배치로 INSERT/DELETE 하고, 엔티티는 로딩하지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TagAssignmentService {
+
+    private static final int MAX_TAG_NAME_LENGTH = 50;
+
+    private final PostTagRepository postTagRepository;
+    private final TaxonomyCache taxonomyCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${blog.tags.merge-chunk-size:1000}")
+    private int mergeChunkSize;
+
+    /**
+     * 게시글 태그를 주어진 이름 목록으로 교체 (없는 태그는 생성)
+     */
+    @Transactional
+    public void assignTags(Long postId, Collection<String> tagNames) {
+        if (tagNames == null) {
+            throw new IllegalArgumentException("Tag list is required");
+        }
+        Boolean published = postTagRepository.findPublished(postId)
+                .orElseThrow(() -> new IllegalArgumentException("Post not found with id: " + postId));
+
+        // 대소문자/공백만 다른 이름은 같은 태그 (처음 입력한 이름으로 생성)
+        Map<String, String> namesBySlug = new LinkedHashMap<>();
+        for (String tagName : tagNames) {
+            String name = normalizeName(tagName);
+            namesBySlug.putIfAbsent(slugify(name), name);
+        }
+
+        TagResolution resolution = postTagRepository.resolveOrCreate(namesBySlug);
+        for (String slug : namesBySlug.keySet()) {
+            if (!resolution.idsBySlug().containsKey(slug)) {
+                // 조회 직전에 다른 요청이 태그를 삭제/병합한 경우
+                throw new IllegalArgumentException("Tag not found: " + slug);
+            }
+        }
+        if (!resolution.createdIds().isEmpty()) {
+            // 스냅샷 재생성은 한 번이면 충분하므로 생성된 태그 수와 무관하게 이벤트 1건
+            eventPublisher.publishEvent(new TaxonomyChangedEvent(Tag.class, null));
+        }
+
+        Set<Long> target = new HashSet<>(resolution.idsBySlug().values());
+        Set<Long> current = postTagRepository.findTagIds(postId);
+
+        Set<Long> toAdd = new HashSet<>(target);
+        toAdd.removeAll(current);
+        Set<Long> toRemove = new HashSet<>(current);
+        toRemove.removeAll(target);
+
+        if (!toAdd.isEmpty()) {
+            postTagRepository.insert(postId, toAdd);
+        }
+        if (!toRemove.isEmpty()) {
+            postTagRepository.delete(postId, toRemove);
+        }
+
+        if (published && (!toAdd.isEmpty() || !toRemove.isEmpty())) {
+            // 롤백되면 게시글 수가 어긋나므로 커밋 후 반영 (TaxonomyCache)
+            eventPublisher.publishEvent(new PostTagsChangedEvent(postId, toAdd, toRemove));
+        }
+
+        log.debug("Tags assigned to post {}: +{} -{}", postId, toAdd.size(), toRemove.size());
+    }
+
+    /**
+     * source 태그를 target 태그로 병합 (chunk 단위 트랜잭션으로 게시글 수와 무관하게 잠금 시간 제한)
+     * chunk마다 source 태그 행을 잠가 옮기는 동안 새 연결이 생기지 않도록 하고,
+     * 마지막 chunk와 태그 삭제를 한 트랜잭션에서 실행해 그 사이에 추가된 연결이 CASCADE로 사라지지 않도록 함
+     *
+     * @return 옮긴 게시글-태그 관계 수
+     */
+    public long mergeTags(Long sourceTagId, Long targetTagId) {
+        if (sourceTagId.equals(targetTagId)) {
+            throw new IllegalArgumentException("Cannot merge a tag into itself");
+        }
+        if (!postTagRepository.tagExists(sourceTagId)) {
+            throw new IllegalArgumentException("Tag not found with id: " + sourceTagId);
+        }
+        if (!postTagRepository.tagExists(targetTagId)) {
+            throw new IllegalArgumentException("Tag not found with id: " + targetTagId);
+        }
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        long moved = 0;
+        int chunk;
+        do {
+            chunk = transactionTemplate.execute(status -> {
+                if (!postTagRepository.lockTag(sourceTagId)) {
+                    // 다른 요청이 먼저 병합/삭제함
+                    return 0;
+                }
+                int count = postTagRepository.moveTagChunk(sourceTagId, targetTagId, mergeChunkSize);
+                if (count < mergeChunkSize) {
+                    postTagRepository.deleteTag(sourceTagId);
+                }
+                return count;
+            });
+            moved += chunk;
+        } while (chunk == mergeChunkSize);
+
+        // 태그 삭제 및 게시글 수 변경 반영
+        taxonomyCache.refresh();
+        log.info("Merged tag {} into {} ({} post links moved)", sourceTagId, targetTagId, moved);
+
+        return moved;
+    }
+
+    private static String normalizeName(String tagName) {
+        if (!StringUtils.hasText(tagName)) {
+            throw new IllegalArgumentException("Tag name is required");
+        }
+        String name = tagName.strip();
+        if (name.length() > MAX_TAG_NAME_LENGTH) {
+            throw new IllegalArgumentException("Tag name must be at most " + MAX_TAG_NAME_LENGTH + " characters");
+        }
+        return name;
+    }
+
+    /**
+     * 태그 slug 생성 (한글 등 유니코드 문자는 유지)
+     */
+    static String slugify(String name) {
+        String slug = Normalizer.normalize(name, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("[^\\p{L}\\p{N}]+", "-")
+                .replaceAll("(^-+|-+$)", "");
+        return slug.isEmpty() ? "tag" : slug;
+    }
+}
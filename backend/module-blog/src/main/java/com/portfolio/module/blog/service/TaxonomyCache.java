@@ -0,0 +1,301 @@
+package com.portfolio.module.blog.service;
+
+import com.portfolio.domain.blog.Category;
+import com.portfolio.domain.blog.Tag;
+import com.portfolio.domain.blog.TaxonomyChangedEvent;
+import com.portfolio.domain.blog.repository.CategoryRepository;
+import com.portfolio.domain.blog.repository.TagPostCount;
+import com.portfolio.domain.blog.repository.TagRepository;
+import com.portfolio.module.blog.dto.CategoryResponse;
+import com.portfolio.module.blog.dto.CategorySummary;
+import com.portfolio.module.blog.dto.TagResponse;
+import com.portfolio.module.blog.dto.TagSummary;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 카테고리/태그 메모리 스냅샷 캐시
+ * 스냅샷은 불변 객체로 만들어 통째로 교체(copy-on-write)하므로 조회 시 잠금과 DB 접근이 없음
+ * 한 행의 변경은 그 행만 다시 읽어 반영하고, 전체 재조회와 게시글 수 집계는 주기적 refresh에서만 실행
+ * 태그별 발행 게시글 수는 자주 바뀌므로 스냅샷과 별도로 증분 관리
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TaxonomyCache {
+
+    private final CategoryRepository categoryRepository;
+    private final TagRepository tagRepository;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private final Map<Long, Integer> publishedPostCounts = new ConcurrentHashMap<>();
+
+    /**
+     * 진행 중인 집계 이후 반영된 증분 (집계 결과에 더해 그 사이의 변경을 잃지 않음)
+     */
+    private volatile Map<Long, Integer> deltasSinceRecount = new ConcurrentHashMap<>();
+    private final AtomicLong countsVersion = new AtomicLong();
+    private volatile TagsView tagsView = TagsView.EMPTY;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        refresh();
+    }
+
+    /**
+     * Category/Tag 변경 커밋 후 스냅샷 반영 (게시글 수는 다시 집계하지 않음)
+     * id가 있으면 그 행만 다시 읽고, 여러 행이 바뀐 경우(id 없음)는 목록만 다시 읽음
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTaxonomyChanged(TaxonomyChangedEvent event) {
+        log.debug("Taxonomy changed: {} {}", event.entityType().getSimpleName(), event.id());
+        if (event.id() == null) {
+            reloadSnapshot();
+        } else if (event.entityType() == Category.class) {
+            applyCategory(event.id());
+        } else if (event.entityType() == Tag.class) {
+            applyTag(event.id());
+        }
+    }
+
+    /**
+     * 발행된 게시글의 태그 변경 커밋 후 태그별 게시글 수 반영
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostTagsChanged(PostTagsChangedEvent event) {
+        adjustPublishedPostCount(event.addedTagIds(), 1);
+        adjustPublishedPostCount(event.removedTagIds(), -1);
+    }
+
+    /**
+     * 스냅샷 및 게시글 수 전체 재계산 (다른 인스턴스에서 일어난 변경 반영 및 보정용)
+     * 집계 중에 들어온 증분은 집계 결과에 더해 반영 (통째로 덮어쓰지 않음)
+     */
+    @Scheduled(initialDelayString = "${blog.taxonomy.refresh-interval:600000}",
+               fixedDelayString = "${blog.taxonomy.refresh-interval:600000}")
+    public synchronized void refresh() {
+        Map<Long, Integer> deltas = new ConcurrentHashMap<>();
+        this.deltasSinceRecount = deltas;
+
+        reloadSnapshot();
+        Map<Long, Long> counts = tagRepository.countPublishedPostsByTag().stream()
+                .collect(Collectors.toMap(TagPostCount::tagId, TagPostCount::postCount));
+
+        for (Long tagId : snapshot.tagsById().keySet()) {
+            int recounted = counts.getOrDefault(tagId, 0L).intValue();
+            // adjustPublishedPostCount와 같은 키 단위 잠금 안에서 읽고 쓰므로 그 사이 증분이 빠지지 않음
+            publishedPostCounts.compute(tagId, (id, count) -> recounted + deltas.getOrDefault(id, 0));
+        }
+        countsVersion.incrementAndGet();
+    }
+
+    /**
+     * 게시글 발행/발행 취소/태그 변경 시 태그별 발행 게시글 수 증분 반영
+     */
+    public void adjustPublishedPostCount(Collection<Long> tagIds, int delta) {
+        if (tagIds.isEmpty() || delta == 0) {
+            return;
+        }
+        for (Long tagId : tagIds) {
+            publishedPostCounts.compute(tagId, (id, count) -> {
+                // 키 잠금 안에서 기록하므로 refresh가 이 태그를 다시 계산하기 전/후 중 한쪽에만 반영됨
+                deltasSinceRecount.merge(id, delta, Integer::sum);
+                return (count != null ? count : 0) + delta;
+            });
+        }
+        countsVersion.incrementAndGet();
+    }
+
+    /**
+     * 카테고리/태그 목록만 다시 읽어 스냅샷 교체
+     */
+    private synchronized void reloadSnapshot() {
+        List<CategoryResponse> categories = categoryRepository.findAll().stream().map(CategoryResponse::from).toList();
+        List<TagSummary> tags = tagRepository.findAll().stream().map(TagSummary::from).toList();
+
+        this.snapshot = Snapshot.of(categories, tags, snapshot.version() + 1);
+        publishedPostCounts.keySet().retainAll(snapshot.tagsById().keySet());
+
+        log.info("Taxonomy cache refreshed: {} categories, {} tags", categories.size(), tags.size());
+    }
+
+    /**
+     * 카테고리 한 건만 다시 읽어 반영 (없으면 삭제된 것으로 처리)
+     */
+    private synchronized void applyCategory(Long id) {
+        Snapshot current = snapshot;
+        List<CategoryResponse> categories = Stream.concat(
+                        current.categories().stream().filter(category -> !category.getId().equals(id)),
+                        categoryRepository.findById(id).map(CategoryResponse::from).stream())
+                .toList();
+        this.snapshot = Snapshot.of(categories, current.tags(), current.version() + 1);
+    }
+
+    /**
+     * 태그 한 건만 다시 읽어 반영 (없으면 삭제된 것으로 처리하고 게시글 수도 제거)
+     * 새 태그의 게시글 수는 이후 PostTagsChangedEvent 증분으로 반영
+     */
+    private synchronized void applyTag(Long id) {
+        Snapshot current = snapshot;
+        Optional<Tag> tag = tagRepository.findById(id);
+        List<TagSummary> tags = Stream.concat(
+                        current.tags().stream().filter(summary -> !summary.getId().equals(id)),
+                        tag.map(TagSummary::from).stream())
+                .toList();
+        this.snapshot = Snapshot.of(current.categories(), tags, current.version() + 1);
+        if (tag.isEmpty()) {
+            publishedPostCounts.remove(id);
+            countsVersion.incrementAndGet();
+        }
+    }
+
+    public Versioned<List<CategoryResponse>> getCategories() {
+        Snapshot current = snapshot;
+        return new Versioned<>(current.categories(), current.categoriesETag());
+    }
+
+    public Versioned<List<TagResponse>> getTags() {
+        TagsView view = currentTagsView();
+        return new Versioned<>(view.tags(), view.etag());
+    }
+
+    /**
+     * 태그 목록 응답 (스냅샷이나 게시글 수가 바뀐 경우에만 다시 생성)
+     */
+    private TagsView currentTagsView() {
+        Snapshot current = snapshot;
+        long counts = countsVersion.get();
+        TagsView view = tagsView;
+
+        if (view.snapshotVersion() != current.version() || view.countsVersion() != counts) {
+            List<TagResponse> tags = current.tags().stream()
+                    .map(tag -> new TagResponse(tag.getId(), tag.getName(), tag.getSlug(), publishedPostCount(tag.getId())))
+                    .toList();
+            view = new TagsView(current.version(), counts, tags, etag(tags.stream()
+                    .map(tag -> tag.getId() + "|" + tag.getName() + "|" + tag.getSlug() + "|" + tag.getPostCount())));
+            tagsView = view;
+        }
+        return view;
+    }
+
+    /**
+     * 스냅샷에 없으면 null (요청 스레드에서 재계산하지 않음)
+     * 이 인스턴스의 변경은 커밋 직후, 다른 인스턴스의 변경은 주기적 refresh로 반영
+     */
+    public CategorySummary getCategory(Long id) {
+        if (id == null) {
+            return null;
+        }
+        return snapshot.categoriesById().get(id);
+    }
+
+    public CategorySummary getCategoryBySlug(String slug) {
+        return snapshot.categoriesBySlug().get(slug);
+    }
+
+    /**
+     * 스냅샷에 없으면 null (요청 스레드에서 재계산하지 않음)
+     */
+    public TagSummary getTag(Long id) {
+        return snapshot.tagsById().get(id);
+    }
+
+    public TagSummary getTagBySlug(String slug) {
+        return snapshot.tagsBySlug().get(slug);
+    }
+
+    /**
+     * 집계 직후 도착한 취소 증분 등으로 잠시 음수가 될 수 있어 응답에서는 0 이상으로 제한
+     */
+    private int publishedPostCount(Long tagId) {
+        Integer count = publishedPostCounts.get(tagId);
+        return count != null ? Math.max(0, count) : 0;
+    }
+
+    /**
+     * 응답 내용 기반 ETag (재시작 후에도 내용이 같으면 동일)
+     */
+    private static String etag(Stream<String> lines) {
+        CRC32 crc = new CRC32();
+        lines.forEach(line -> {
+            crc.update(line.getBytes(StandardCharsets.UTF_8));
+            crc.update('\n');
+        });
+        return "\"" + Long.toHexString(crc.getValue()) + "\"";
+    }
+
+    /**
+     * 응답 본문과 ETag
+     */
+    public record Versioned<T>(T body, String etag) {
+    }
+
+    private record TagsView(long snapshotVersion, long countsVersion, List<TagResponse> tags, String etag) {
+
+        static final TagsView EMPTY = new TagsView(-1, -1, List.of(), "\"0\"");
+    }
+
+    /**
+     * 불변 스냅샷 (id/slug 인덱스 포함)
+     */
+    private record Snapshot(
+            long version,
+            List<CategoryResponse> categories,
+            String categoriesETag,
+            Map<Long, CategorySummary> categoriesById,
+            Map<String, CategorySummary> categoriesBySlug,
+            List<TagSummary> tags,
+            Map<Long, TagSummary> tagsById,
+            Map<String, TagSummary> tagsBySlug
+    ) {
+
+        static final Snapshot EMPTY = new Snapshot(0, List.of(), "\"0\"", Map.of(), Map.of(), List.of(), Map.of(), Map.of());
+
+        static Snapshot of(List<CategoryResponse> categoryResponses, List<TagSummary> tagSummaries, long version) {
+            List<CategoryResponse> categories = categoryResponses.stream()
+                    .sorted(Comparator.comparing(CategoryResponse::getName))
+                    .toList();
+            List<CategorySummary> categorySummaries = categories.stream()
+                    .map(category -> new CategorySummary(category.getId(), category.getName(), category.getSlug()))
+                    .toList();
+            List<TagSummary> tags = tagSummaries.stream()
+                    .sorted(Comparator.comparing(TagSummary::getName))
+                    .toList();
+
+            return new Snapshot(
+                    version,
+                    categories,
+                    etag(categories.stream().map(category -> category.getId() + "|" + category.getName()
+                            + "|" + category.getSlug() + "|" + category.getDescription())),
+                    index(categorySummaries, CategorySummary::getId),
+                    index(categorySummaries, CategorySummary::getSlug),
+                    tags,
+                    index(tags, TagSummary::getId),
+                    index(tags, TagSummary::getSlug)
+            );
+        }
+
+        private static <K, V> Map<K, V> index(List<V> values, Function<V, K> key) {
+            return values.stream().collect(Collectors.toUnmodifiableMap(key, Function.identity()));
+        }
+    }
+}
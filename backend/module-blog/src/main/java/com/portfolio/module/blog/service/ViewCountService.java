@@ -0,0 +1,65 @@
+package com.portfolio.module.blog.service;
+
+import com.portfolio.module.blog.repository.PostCounterRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+
+/**
+ * 게시글 조회수 Write-Behind 카운터
+ * 조회는 메모리(post id별 증분 버퍼)에만 기록하고, 주기적으로 증분을 한 번의 UPDATE로 반영
+ */
+@Slf4j
+@Service
+public class ViewCountService {
+
+    private final PostCounterRepository postCounterRepository;
+    private final CounterBuffer pending = new CounterBuffer();
+
+    public ViewCountService(PostCounterRepository postCounterRepository, MeterRegistry meterRegistry) {
+        this.postCounterRepository = postCounterRepository;
+        Gauge.builder("blog.view_count.pending", pending, CounterBuffer::pendingTotal)
+                .description("Views counted in memory but not yet flushed to posts.view_count")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 조회수 1 증가 (DB 쓰기 없음)
+     */
+    public void recordView(Long postId) {
+        pending.add(postId, 1);
+    }
+
+    /**
+     * 누적된 증분을 posts.view_count에 반영
+     */
+    @Scheduled(fixedDelayString = "${blog.view-count.flush-interval:5000}")
+    public void flush() {
+        Map<Long, Long> deltas = pending.drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            int updated = postCounterRepository.addViewCounts(deltas);
+            log.debug("Flushed view counts for {} posts ({} rows updated)", deltas.size(), updated);
+        } catch (RuntimeException e) {
+            // 반영 실패 시 증분을 되돌려 다음 주기에 재시도
+            pending.restore(deltas);
+            log.error("Failed to flush view counts for {} posts", deltas.size(), e);
+        }
+    }
+
+    /**
+     * 종료 시 남은 증분 반영
+     */
+    @PreDestroy
+    public void drainOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,53 @@
+package com.portfolio.module.blog.dto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PostCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서는 같은 값으로 디코딩된다 (나노초 포함)")
+    void roundTrips() {
+        PostCursor cursor = new PostCursor(LocalDateTime.of(2024, 3, 1, 12, 30, 5, 123_456_789), 42L);
+
+        String encoded = cursor.encode();
+
+        assertThat(encoded).doesNotContain("=", "+", "/");
+        assertThat(PostCursor.decode(encoded)).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("비어 있는 커서는 첫 페이지(null)")
+    void blankCursorMeansFirstPage() {
+        assertThat(PostCursor.decode(null)).isNull();
+        assertThat(PostCursor.decode("")).isNull();
+        assertThat(PostCursor.decode("  ")).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"not base64!", "bm8tc2VwYXJhdG9y", "MjAyNC0wMy0wMVQxMjozMHxhYmM", "eHx5"})
+    @DisplayName("형식이 잘못된 커서는 IllegalArgumentException")
+    void rejectsMalformedCursor(String cursor) {
+        assertThatThrownBy(() -> PostCursor.decode(cursor))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Invalid cursor");
+    }
+
+    @Test
+    @DisplayName("id가 숫자가 아니면 IllegalArgumentException")
+    void rejectsNonNumericId() {
+        String cursor = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("2024-03-01T12:30|abc".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> PostCursor.decode(cursor)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,68 @@
+package com.portfolio.module.blog.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class PostSearchRepositoryTest {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+    private final PostSearchRepository repository = new PostSearchRepository(jdbcTemplate);
+
+    @Test
+    @DisplayName("모든 단어가 3글자 미만이면 trigram을 쓸 수 없는 짧은 검색어")
+    void detectsShortKeywords() {
+        assertThat(PostSearchRepository.isShortKeyword("토큰")).isTrue();
+        assertThat(PostSearchRepository.isShortKeyword("gc 튜닝")).isTrue();
+        assertThat(PostSearchRepository.isShortKeyword("😀😀")).isTrue();
+        assertThat(PostSearchRepository.isShortKeyword("양자화")).isFalse();
+        assertThat(PostSearchRepository.isShortKeyword("gc tuning")).isFalse();
+    }
+
+    @Test
+    @DisplayName("접두어 검색어는 단어마다 따옴표로 감싸 연산자 문자를 그대로 검색한다")
+    void quotesPrefixQueryWords() {
+        assertThat(PostSearchRepository.prefixQuery(" 토큰  gc ")).isEqualTo("'토큰':* & 'gc':*");
+        assertThat(PostSearchRepository.prefixQuery("a' |!")).isEqualTo("'a''':* & '|!':*");
+        assertThat(PostSearchRepository.prefixQuery("c\\")).isEqualTo("'c\\\\':*");
+    }
+
+    @Test
+    @DisplayName("짧은 검색어는 ILIKE 없이 search_vector 접두어 검색만 사용한다")
+    void routesShortKeywordsToFullTextOnly() {
+        repository.search("토큰", null, null, 10, 0);
+
+        MapSqlParameterSource params = captureQuery(PostSearchRepository.SHORT_KEYWORD_SEARCH_SQL);
+        assertThat(params.getValue("prefixQuery")).isEqualTo("'토큰':*");
+        assertThat(params.hasValue("pattern")).isFalse();
+        assertThat(PostSearchRepository.SHORT_KEYWORD_SEARCH_SQL).doesNotContain("ILIKE");
+    }
+
+    @Test
+    @DisplayName("3글자 이상 단어가 있으면 전문 검색과 trigram ILIKE를 함께 사용한다")
+    void routesLongKeywordsToTrigramFallback() {
+        repository.search("양자화 100%", null, null, 10, 0);
+
+        MapSqlParameterSource params = captureQuery(PostSearchRepository.SEARCH_SQL);
+        assertThat(params.getValue("keyword")).isEqualTo("양자화 100%");
+        assertThat(params.getValue("pattern")).isEqualTo("%양자화 100\\%%");
+    }
+
+    @SuppressWarnings("unchecked")
+    private MapSqlParameterSource captureQuery(String expectedSql) {
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<SqlParameterSource> params = ArgumentCaptor.forClass(SqlParameterSource.class);
+        verify(jdbcTemplate).query(sql.capture(), params.capture(), any(RowMapper.class));
+        assertThat(sql.getValue()).isEqualTo(expectedSql);
+        return (MapSqlParameterSource) params.getValue();
+    }
+}
@@ -0,0 +1,93 @@
+package com.portfolio.module.blog.service;
+
+import com.portfolio.domain.blog.repository.CommentRepository;
+import com.portfolio.domain.blog.repository.CommentRow;
+import com.portfolio.module.blog.dto.CommentResponse;
+import com.portfolio.module.blog.dto.CommentThreadPageResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CommentServiceTest {
+
+    private static final Long POST_ID = 1L;
+
+    private final CommentRepository commentRepository = mock(CommentRepository.class);
+    private final CommentService commentService = new CommentService(commentRepository);
+
+    /**
+     * 1 ─┬─ 3 ─── 6
+     *    └─ 4
+     * 2 ─── 5
+     * 7 (부모 99가 삭제된 답글 → 숨김)
+     * 8
+     */
+    private final List<CommentRow> rows = List.of(
+            row(1L, null), row(2L, null), row(3L, 1L), row(4L, 1L),
+            row(5L, 2L), row(6L, 3L), row(7L, 99L), row(8L, null));
+
+    @Test
+    @DisplayName("최상위 댓글 순서대로 스레드를 만들고 답글은 id 순으로 붙인다")
+    void assemblesTree() {
+        when(commentRepository.findTreeRows(POST_ID)).thenReturn(rows);
+
+        CommentThreadPageResponse response = commentService.getCommentThreads(POST_ID, 0, 10, 10);
+
+        assertThat(response.getContent()).extracting(CommentResponse::getId).containsExactly(1L, 2L, 8L);
+        assertThat(response.getTotalThreads()).isEqualTo(3);
+        assertThat(response.isHasNext()).isFalse();
+
+        CommentResponse first = response.getContent().get(0);
+        assertThat(first.getReplyCount()).isEqualTo(2);
+        assertThat(first.getReplies()).extracting(CommentResponse::getId).containsExactly(3L, 4L);
+        assertThat(first.getReplies().get(0).getReplies()).extracting(CommentResponse::getId).containsExactly(6L);
+        assertThat(response.getContent().get(1).getReplies()).extracting(CommentResponse::getId).containsExactly(5L);
+    }
+
+    @Test
+    @DisplayName("답글 미리보기는 너비 우선으로 replyPreview개까지만 포함하고 replyCount는 전체 수")
+    void limitsReplyPreviewBreadthFirst() {
+        when(commentRepository.findTreeRows(POST_ID)).thenReturn(rows);
+
+        CommentResponse first = commentService.getCommentThreads(POST_ID, 0, 1, 2).getContent().get(0);
+
+        assertThat(first.getReplies()).extracting(CommentResponse::getId).containsExactly(3L, 4L);
+        assertThat(first.getReplies().get(0).getReplies()).isEmpty();
+        assertThat(first.getReplies().get(0).getReplyCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최상위 스레드 단위로 페이지를 나눈다")
+    void pagesByThread() {
+        when(commentRepository.findTreeRows(POST_ID)).thenReturn(rows);
+
+        CommentThreadPageResponse second = commentService.getCommentThreads(POST_ID, 1, 2, 0);
+        CommentThreadPageResponse beyond = commentService.getCommentThreads(POST_ID, 5, 2, 0);
+
+        assertThat(second.getContent()).extracting(CommentResponse::getId).containsExactly(8L);
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(beyond.getContent()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("시작 위치가 int 범위를 넘는 페이지는 IllegalArgumentException")
+    void rejectsOverflowingPage() {
+        when(commentRepository.findTreeRows(POST_ID)).thenReturn(rows);
+
+        assertThatThrownBy(() -> commentService.getCommentThreads(POST_ID, Integer.MAX_VALUE, 100, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Page out of range");
+    }
+
+    private static CommentRow row(Long id, Long parentId) {
+        LocalDateTime now = LocalDateTime.now();
+        return new CommentRow(id, parentId, "comment " + id, 10L, "user", now, now);
+    }
+}
@@ -0,0 +1,89 @@
+package com.portfolio.module.blog.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CounterBufferTest {
+
+    @Test
+    @DisplayName("drain은 누적된 증분을 돌려주고 0인 항목은 제외한다")
+    void drainsNonZeroDeltas() {
+        CounterBuffer buffer = new CounterBuffer();
+        buffer.add(1L, 3);
+        buffer.add(2L, 1);
+        buffer.add(2L, -1);
+        buffer.add(1L, 2);
+
+        assertThat(buffer.pendingTotal()).isEqualTo(5);
+        assertThat(buffer.drain()).containsExactlyEntriesOf(Map.of(1L, 5L));
+        assertThat(buffer.drain()).isEmpty();
+        assertThat(buffer.pendingTotal()).isZero();
+    }
+
+    @Test
+    @DisplayName("restore한 증분은 다음 drain에 새 증분과 합쳐진다")
+    void restoresFailedDeltas() {
+        CounterBuffer buffer = new CounterBuffer();
+        buffer.add(1L, 4);
+        Map<Long, Long> failed = buffer.drain();
+
+        buffer.add(1L, 1);
+        buffer.restore(failed);
+
+        assertThat(buffer.drain()).containsExactlyEntriesOf(Map.of(1L, 5L));
+    }
+
+    @Test
+    @DisplayName("drain과 동시에 증분을 추가해도 유실되지 않는다")
+    void concurrentAddAndDrainLoseNothing() throws Exception {
+        CounterBuffer buffer = new CounterBuffer();
+        int writers = 8;
+        int incrementsPerWriter = 200_000;
+        long[] keys = {1L, 2L, 3L};
+
+        ExecutorService executor = Executors.newFixedThreadPool(writers + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        AtomicLong drained = new AtomicLong();
+
+        Future<?> drainer = executor.submit(() -> {
+            start.await();
+            while (writing.get()) {
+                buffer.drain().values().forEach(drained::addAndGet);
+            }
+            return null;
+        });
+        Future<?>[] producers = new Future<?>[writers];
+        for (int w = 0; w < writers; w++) {
+            producers[w] = executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < incrementsPerWriter; i++) {
+                    buffer.add(keys[i % keys.length], 1);
+                }
+                return null;
+            });
+        }
+
+        start.countDown();
+        for (Future<?> producer : producers) {
+            producer.get(60, TimeUnit.SECONDS);
+        }
+        writing.set(false);
+        drainer.get(60, TimeUnit.SECONDS);
+        executor.shutdown();
+        buffer.drain().values().forEach(drained::addAndGet);
+
+        assertThat(drained.get()).isEqualTo((long) writers * incrementsPerWriter);
+    }
+}
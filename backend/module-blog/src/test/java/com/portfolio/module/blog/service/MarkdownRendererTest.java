@@ -0,0 +1,48 @@
+package com.portfolio.module.blog.service;
+
+import com.portfolio.domain.blog.PostRender.TocEntry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MarkdownRendererTest {
+
+    private final MarkdownRenderer renderer = new MarkdownRenderer(1);
+
+    @Test
+    @DisplayName("목차는 heading 레벨과 anchor id, 텍스트를 담는다")
+    void extractsToc() {
+        MarkdownRenderer.Result result = renderer.render("# Intro\n\ntext\n\n## Setup Steps\n");
+
+        assertThat(result.toc()).containsExactly(
+                new TocEntry(1, "intro", "Intro"),
+                new TocEntry(2, "setup-steps", "Setup Steps"));
+        assertThat(result.html()).contains("id=\"setup-steps\"");
+    }
+
+    @Test
+    @DisplayName("요약문은 200 code point에서 자르고 서로게이트 쌍을 쪼개지 않는다")
+    void cutsExcerptOnCodePointBoundary() {
+        String body = "a".repeat(199) + "😀".repeat(5);
+
+        String excerpt = renderer.render(body).excerpt();
+
+        assertThat(excerpt.codePointCount(0, excerpt.length())).isEqualTo(200);
+        assertThat(excerpt).endsWith("a😀");
+        assertThat(Character.isHighSurrogate(excerpt.charAt(excerpt.length() - 1))).isFalse();
+    }
+
+    @Test
+    @DisplayName("짧은 본문은 공백만 정리해 그대로 요약문이 된다")
+    void keepsShortExcerpt() {
+        assertThat(renderer.render("Hello\n\n  **world**  ").excerpt()).isEqualTo("Hello world");
+    }
+
+    @Test
+    @DisplayName("본문 해시는 같은 입력에 같은 SHA-256 hex")
+    void hashesContent() {
+        assertThat(MarkdownRenderer.contentHash("abc"))
+                .isEqualTo("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad");
+    }
+}
@@ -0,0 +1,223 @@
+package com.portfolio.module.blog.service;
+
+import com.portfolio.domain.user.User;
+import com.portfolio.domain.user.repository.UserRepository;
+import com.portfolio.module.blog.repository.PostCounterRepository;
+import com.portfolio.module.blog.repository.PostLikeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PostLikeServiceTest {
+
+    private static final long POST_ID = 1L;
+
+    private final InMemoryPostLikes likes = new InMemoryPostLikes();
+    private final InMemoryCounters counters = new InMemoryCounters(likes);
+    private final PostLikeService postLikeService = new PostLikeService(
+            likes, counters, users(), new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("같은 사용자의 중복 좋아요/취소는 카운트를 한 번만 바꾼다")
+    void likeAndUnlikeAreIdempotent() {
+        assertThat(postLikeService.like(POST_ID, "1")).isTrue();
+        assertThat(postLikeService.like(POST_ID, "1")).isFalse();
+        assertThat(postLikeService.like(POST_ID, "2")).isTrue();
+        assertThat(postLikeService.unlike(POST_ID, "2")).isTrue();
+        assertThat(postLikeService.unlike(POST_ID, "2")).isFalse();
+
+        postLikeService.flush();
+
+        assertThat(counters.likeCount(POST_ID)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("동시 좋아요/취소와 실패가 섞인 flush 후에도 like_count는 실제 좋아요 수와 같다")
+    void concurrentLikesConvergeToExactCount() throws Exception {
+        int clients = 32;
+        int togglesPerClient = 5_000;
+        ExecutorService executor = Executors.newFixedThreadPool(clients + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        Future<?> flusher = executor.submit(() -> {
+            start.await();
+            while (running.get()) {
+                postLikeService.flush();
+            }
+            return null;
+        });
+        Future<?>[] workers = new Future<?>[clients];
+        for (int c = 0; c < clients; c++) {
+            String username = String.valueOf(c % 16);
+            workers[c] = executor.submit(() -> {
+                start.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < togglesPerClient; i++) {
+                    if (random.nextBoolean()) {
+                        postLikeService.like(POST_ID, username);
+                    } else {
+                        postLikeService.unlike(POST_ID, username);
+                    }
+                }
+                return null;
+            });
+        }
+
+        start.countDown();
+        for (Future<?> worker : workers) {
+            worker.get(60, TimeUnit.SECONDS);
+        }
+        running.set(false);
+        flusher.get(60, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        counters.failEvery(0);
+        postLikeService.flush();
+
+        assertThat(counters.failures()).isPositive();
+        assertThat(counters.likeCount(POST_ID)).isEqualTo(likes.count(POST_ID));
+    }
+
+    @Test
+    @DisplayName("좋아요와 취소가 서로 다른 인스턴스에서 반대 순서로 반영되어도 실패하지 않고 실제 값이 된다")
+    void unlikeFlushedOnAnotherInstanceFirst() {
+        PostLikeService otherInstance = new PostLikeService(likes, counters, users(), new SimpleMeterRegistry());
+
+        postLikeService.like(POST_ID, "1");
+        otherInstance.unlike(POST_ID, "1");
+        postLikeService.like(POST_ID, "2");
+
+        otherInstance.flush();
+        assertThat(counters.likeCount(POST_ID)).isEqualTo(1);
+        postLikeService.flush();
+        assertThat(counters.likeCount(POST_ID)).isEqualTo(1);
+        assertThat(counters.failures()).isZero();
+    }
+
+    @Test
+    @DisplayName("어긋난 like_count는 다음 좋아요/취소 반영 때 실제 값으로 고쳐진다")
+    void repairsDriftedCount() {
+        likes.insert(POST_ID, 1L);
+        likes.insert(POST_ID, 2L);
+        counters.set(POST_ID, 0);
+
+        postLikeService.unlike(POST_ID, "2");
+        postLikeService.flush();
+
+        assertThat(counters.likeCount(POST_ID)).isEqualTo(1);
+    }
+
+    private static UserRepository users() {
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findByUsername(anyString())).thenAnswer(invocation -> {
+            String username = invocation.getArgument(0);
+            User user = User.builder().username(username).email(username + "@test.local").password("x").build();
+            ReflectionTestUtils.setField(user, "id", Long.valueOf(username));
+            return Optional.of(user);
+        });
+        return userRepository;
+    }
+
+    /**
+     * post_likes의 PK(post_id, user_id) 동작을 흉내 내는 메모리 구현
+     */
+    private static class InMemoryPostLikes extends PostLikeRepository {
+
+        private final Set<String> rows = ConcurrentHashMap.newKeySet();
+
+        InMemoryPostLikes() {
+            super(null);
+        }
+
+        @Override
+        public boolean insert(Long postId, Long userId) {
+            return rows.add(postId + ":" + userId);
+        }
+
+        @Override
+        public boolean delete(Long postId, Long userId) {
+            return rows.remove(postId + ":" + userId);
+        }
+
+        @Override
+        public boolean exists(Long postId, Long userId) {
+            return rows.contains(postId + ":" + userId);
+        }
+
+        long count(Long postId) {
+            return rows.stream().filter(row -> row.startsWith(postId + ":")).count();
+        }
+    }
+
+    /**
+     * 일정 주기로 실패하는 posts.like_count 메모리 구현 (재계산은 post_likes 메모리 구현을 센다)
+     */
+    private static class InMemoryCounters extends PostCounterRepository {
+
+        private final InMemoryPostLikes likes;
+        private final Map<Long, Long> likeCounts = new ConcurrentHashMap<>();
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicInteger failures = new AtomicInteger();
+        private volatile int failEvery = 5;
+
+        InMemoryCounters(InMemoryPostLikes likes) {
+            super(null);
+            this.likes = likes;
+        }
+
+        @Override
+        public int recomputeLikeCounts(Collection<Long> postIds) {
+            if (failEvery > 0 && calls.incrementAndGet() % failEvery == 0) {
+                failures.incrementAndGet();
+                throw new DataAccessResourceFailureException("simulated failure");
+            }
+            int updated = 0;
+            for (Long postId : postIds) {
+                long likeCount = likes.count(postId);
+                Long previous = likeCounts.put(postId, likeCount);
+                if (previous == null || previous != likeCount) {
+                    updated++;
+                }
+            }
+            return updated;
+        }
+
+        void set(Long postId, long likeCount) {
+            likeCounts.put(postId, likeCount);
+        }
+
+        void failEvery(int failEvery) {
+            this.failEvery = failEvery;
+        }
+
+        int failures() {
+            return failures.get();
+        }
+
+        long likeCount(Long postId) {
+            return likeCounts.getOrDefault(postId, 0L);
+        }
+    }
+}
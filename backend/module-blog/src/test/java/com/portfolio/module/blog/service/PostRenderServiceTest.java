@@ -0,0 +1,114 @@
+package com.portfolio.module.blog.service;
+
+import com.portfolio.domain.blog.Post;
+import com.portfolio.domain.blog.PostRender;
+import com.portfolio.domain.blog.repository.PostRenderRepository;
+import com.portfolio.domain.blog.repository.PostRepository;
+import com.portfolio.module.blog.repository.PostRenderUpsertRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PostRenderServiceTest {
+
+    private static final Long POST_ID = 1L;
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    private final PostRepository postRepository = mock(PostRepository.class);
+    private final PostRenderRepository postRenderRepository = mock(PostRenderRepository.class);
+    private final PostRenderUpsertRepository upsertRepository = mock(PostRenderUpsertRepository.class);
+
+    @Test
+    @DisplayName("본문이 수정되지 않았으면 해시 계산과 렌더링 없이 저장된 결과를 돌려준다")
+    void reusesRenderWithoutHashing() {
+        PostRender stored = render(2, UPDATED_AT, "not-the-real-hash");
+        when(postRenderRepository.findById(POST_ID)).thenReturn(Optional.of(stored));
+
+        PostRender result = service(2).getOrRender(post("# Title"));
+
+        assertThat(result).isSameAs(stored);
+        verify(upsertRepository, never()).upsert(any());
+    }
+
+    @Test
+    @DisplayName("배포 중 더 높은 렌더러 버전으로 저장된 결과는 이전 버전 인스턴스가 되돌리지 않는다")
+    void keepsNewerRendererVersion() {
+        String content = "# Title";
+        PostRender newer = render(3, null, MarkdownRenderer.contentHash(content));
+        when(postRenderRepository.findById(POST_ID)).thenReturn(Optional.of(newer));
+
+        PostRender result = service(2).getOrRender(post(content));
+
+        assertThat(result).isSameAs(newer);
+        assertThat(result.getRendererVersion()).isEqualTo(3);
+        assertThat(result.getSourceUpdatedAt()).isEqualTo(UPDATED_AT);
+        verify(upsertRepository, never()).upsert(any());
+    }
+
+    @Test
+    @DisplayName("본문이 바뀌었으면 다시 렌더링해 저장한다")
+    void rerendersChangedContent() {
+        when(postRenderRepository.findById(POST_ID))
+                .thenReturn(Optional.of(render(2, UPDATED_AT.minusDays(1), "old-hash")));
+
+        PostRender result = service(2).getOrRender(post("# New title"));
+
+        assertThat(result.getContentHash()).isEqualTo(MarkdownRenderer.contentHash("# New title"));
+        assertThat(result.getSourceUpdatedAt()).isEqualTo(UPDATED_AT);
+        verify(upsertRepository).upsert(result);
+    }
+
+    @Test
+    @DisplayName("재렌더링 대상이 계속 남아 있어도 실행당 배치 수를 넘기지 않는다")
+    void boundsRerenderPasses() {
+        when(postRenderRepository.findByRendererVersionLessThan(anyInt(), any(Pageable.class)))
+                .thenAnswer(invocation -> List.of(render(1, UPDATED_AT, "hash")));
+        when(postRepository.findById(anyLong())).thenReturn(Optional.of(post("# Title")));
+
+        service(2).rerenderStale();
+
+        verify(postRenderRepository, times(3)).findByRendererVersionLessThan(anyInt(), any(Pageable.class));
+    }
+
+    private PostRenderService service(int rendererVersion) {
+        PostRenderService service = new PostRenderService(postRepository, postRenderRepository, upsertRepository,
+                new MarkdownRenderer(rendererVersion), mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(service, "rerenderBatchSize", 10);
+        ReflectionTestUtils.setField(service, "rerenderMaxBatches", 3);
+        return service;
+    }
+
+    private static Post post(String content) {
+        Post post = Post.builder().title("Title").slug("title").content(content).build();
+        ReflectionTestUtils.setField(post, "id", POST_ID);
+        ReflectionTestUtils.setField(post, "updatedAt", UPDATED_AT);
+        return post;
+    }
+
+    private static PostRender render(int rendererVersion, LocalDateTime sourceUpdatedAt, String contentHash) {
+        return PostRender.builder()
+                .postId(POST_ID)
+                .contentHash(contentHash)
+                .rendererVersion(rendererVersion)
+                .sourceUpdatedAt(sourceUpdatedAt)
+                .html("<h1>Title</h1>")
+                .toc(List.of())
+                .build();
+    }
+}
@@ -0,0 +1,65 @@
+package com.portfolio.module.blog.service;
+
+import com.portfolio.module.blog.dto.PostSearchResponse;
+import com.portfolio.module.blog.dto.PostSearchResult;
+import com.portfolio.module.blog.repository.PostSearchRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class PostSearchServiceTest {
+
+    private final PostSearchRepository postSearchRepository = mock(PostSearchRepository.class);
+    private final PostSearchService postSearchService = new PostSearchService(postSearchRepository);
+
+    @Test
+    @DisplayName("한 건 더 조회해 다음 페이지 여부를 판단하고 page * size를 OFFSET으로 넘긴다")
+    void fetchesOneExtraRowForHasNext() {
+        when(postSearchRepository.search(eq("jvm"), any(), any(), eq(11), eq(20))).thenReturn(results(11));
+
+        PostSearchResponse response = postSearchService.search(" jvm ", null, null, 2, 10);
+
+        assertThat(response.getContent()).hasSize(10);
+        assertThat(response.isHasNext()).isTrue();
+        verify(postSearchRepository).search("jvm", null, null, 11, 20);
+    }
+
+    @Test
+    @DisplayName("OFFSET이 int 범위를 넘는 페이지는 IllegalArgumentException")
+    void rejectsOverflowingPage() {
+        assertThatThrownBy(() -> postSearchService.search("jvm", null, null, Integer.MAX_VALUE / 10, 50))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Page out of range");
+        verifyNoInteractions(postSearchRepository);
+    }
+
+    @Test
+    @DisplayName("빈 검색어는 IllegalArgumentException")
+    void rejectsBlankKeyword() {
+        assertThatThrownBy(() -> postSearchService.search(" ", null, null, 0, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(postSearchRepository, never())
+                .search(any(), any(), any(), anyInt(), anyInt());
+    }
+
+    private static List<PostSearchResult> results(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new PostSearchResult((long) i, "title", "slug-" + i, null, null, 1.0,
+                        LocalDateTime.now()))
+                .toList();
+    }
+}
@@ -0,0 +1,142 @@
+package com.portfolio.module.blog.service;
+
+import com.portfolio.domain.blog.Tag;
+import com.portfolio.domain.blog.TaxonomyChangedEvent;
+import com.portfolio.module.blog.repository.PostTagRepository;
+import com.portfolio.module.blog.repository.PostTagRepository.TagResolution;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class TagAssignmentServiceTest {
+
+    private final PostTagRepository postTagRepository = mock(PostTagRepository.class);
+    private final TaxonomyCache taxonomyCache = mock(TaxonomyCache.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final TagAssignmentService tagAssignmentService = new TagAssignmentService(
+            postTagRepository, taxonomyCache, eventPublisher, transactionManager);
+
+    @Test
+    @DisplayName("차집합만 INSERT/DELETE 하고 생성 태그는 이벤트 1건, 게시글 수는 커밋 후 이벤트로 넘긴다")
+    void assignsTagDiff() {
+        when(postTagRepository.findPublished(1L)).thenReturn(Optional.of(true));
+        when(postTagRepository.resolveOrCreate(anyMap()))
+                .thenReturn(new TagResolution(Map.of("java", 10L, "jvm", 11L, "gc", 12L), Set.of(11L, 12L)));
+        when(postTagRepository.findTagIds(1L)).thenReturn(Set.of(10L, 20L));
+
+        tagAssignmentService.assignTags(1L, List.of(" Java ", "JVM", "GC", "Java"));
+
+        verify(postTagRepository).resolveOrCreate(Map.of("java", "Java", "jvm", "JVM", "gc", "GC"));
+        verify(postTagRepository).insert(eq(1L), eq(Set.of(11L, 12L)));
+        verify(postTagRepository).delete(eq(1L), eq(Set.of(20L)));
+
+        ArgumentCaptor<Object> events = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        assertThat(events.getAllValues()).containsExactly(
+                new TaxonomyChangedEvent(Tag.class, null),
+                new PostTagsChangedEvent(1L, Set.of(11L, 12L), Set.of(20L)));
+        verifyNoInteractions(taxonomyCache);
+    }
+
+    @Test
+    @DisplayName("발행되지 않은 게시글은 게시글 수 이벤트를 발행하지 않는다")
+    void skipsCountsForDrafts() {
+        when(postTagRepository.findPublished(1L)).thenReturn(Optional.of(false));
+        when(postTagRepository.resolveOrCreate(anyMap())).thenReturn(new TagResolution(Map.of("java", 10L), Set.of()));
+        when(postTagRepository.findTagIds(1L)).thenReturn(Set.of());
+
+        tagAssignmentService.assignTags(1L, List.of("Java"));
+
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("대소문자/공백만 다른 이름은 slug로 정규화해 기존 태그를 재사용한다")
+    void reusesTagForCaseVariants() {
+        when(postTagRepository.findPublished(1L)).thenReturn(Optional.of(true));
+        when(postTagRepository.resolveOrCreate(anyMap())).thenReturn(new TagResolution(Map.of("spring-boot", 10L), Set.of()));
+        when(postTagRepository.findTagIds(1L)).thenReturn(Set.of());
+
+        tagAssignmentService.assignTags(1L, List.of("spring boot", "Spring  Boot", " SPRING-BOOT "));
+
+        verify(postTagRepository).resolveOrCreate(Map.of("spring-boot", "spring boot"));
+        verify(postTagRepository).insert(eq(1L), eq(Set.of(10L)));
+    }
+
+    @Test
+    @DisplayName("없는 게시글은 IllegalArgumentException")
+    void rejectsMissingPost() {
+        when(postTagRepository.findPublished(1L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> tagAssignmentService.assignTags(1L, List.of("Java")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Post not found");
+    }
+
+    @Test
+    @DisplayName("병합 대상 태그가 없으면 아무것도 옮기지 않고 IllegalArgumentException")
+    void rejectsMergeIntoMissingTag() {
+        when(postTagRepository.tagExists(1L)).thenReturn(true);
+        when(postTagRepository.tagExists(2L)).thenReturn(false);
+
+        assertThatThrownBy(() -> tagAssignmentService.mergeTags(1L, 2L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Tag not found with id: 2");
+        verify(postTagRepository, never()).moveTagChunk(any(), any(), anyInt());
+        verify(postTagRepository, never()).deleteTag(any());
+    }
+
+    @Test
+    @DisplayName("마지막 chunk와 태그 삭제는 같은 트랜잭션에서 source 태그를 잠근 뒤 실행한다")
+    void deletesSourceTagWithLastChunk() {
+        ReflectionTestUtils.setField(tagAssignmentService, "mergeChunkSize", 2);
+        when(postTagRepository.tagExists(any())).thenReturn(true);
+        when(postTagRepository.lockTag(1L)).thenReturn(true);
+        when(postTagRepository.moveTagChunk(1L, 2L, 2)).thenReturn(2, 1);
+
+        assertThat(tagAssignmentService.mergeTags(1L, 2L)).isEqualTo(3);
+
+        InOrder order = inOrder(postTagRepository, transactionManager);
+        order.verify(postTagRepository).lockTag(1L);
+        order.verify(postTagRepository).moveTagChunk(1L, 2L, 2);
+        order.verify(transactionManager).commit(any());
+        order.verify(postTagRepository).lockTag(1L);
+        order.verify(postTagRepository).moveTagChunk(1L, 2L, 2);
+        order.verify(postTagRepository).deleteTag(1L);
+        order.verify(transactionManager).commit(any());
+        verify(transactionManager, times(2)).commit(any());
+        verify(taxonomyCache).refresh();
+    }
+
+    @Test
+    @DisplayName("slug는 유니코드 문자를 유지하고 나머지는 하이픈으로 바꾼다")
+    void slugifies() {
+        assertThat(TagAssignmentService.slugify("Spring Boot 3")).isEqualTo("spring-boot-3");
+        assertThat(TagAssignmentService.slugify("  자바/JVM  ")).isEqualTo("자바-jvm");
+        assertThat(TagAssignmentService.slugify("!!!")).isEqualTo("tag");
+    }
+}
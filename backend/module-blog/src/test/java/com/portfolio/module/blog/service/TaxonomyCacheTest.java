@@ -0,0 +1,105 @@
+package com.portfolio.module.blog.service;
+
+import com.portfolio.domain.blog.Tag;
+import com.portfolio.domain.blog.TaxonomyChangedEvent;
+import com.portfolio.domain.blog.repository.CategoryRepository;
+import com.portfolio.domain.blog.repository.TagPostCount;
+import com.portfolio.domain.blog.repository.TagRepository;
+import com.portfolio.module.blog.dto.TagResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TaxonomyCacheTest {
+
+    private final CategoryRepository categoryRepository = mock(CategoryRepository.class);
+    private final TagRepository tagRepository = mock(TagRepository.class);
+    private final TaxonomyCache taxonomyCache = new TaxonomyCache(categoryRepository, tagRepository);
+
+    @Test
+    @DisplayName("스냅샷에 없는 id 조회는 DB를 다시 읽지 않고 null")
+    void missDoesNotRefresh() {
+        Tag tag = Tag.builder().name("Java").slug("java").build();
+        ReflectionTestUtils.setField(tag, "id", 1L);
+        when(categoryRepository.findAll()).thenReturn(List.of());
+        when(tagRepository.findAll()).thenReturn(List.of(tag));
+        when(tagRepository.countPublishedPostsByTag()).thenReturn(List.of(new TagPostCount(1L, 3)));
+        taxonomyCache.refresh();
+
+        assertThat(taxonomyCache.getTag(1L).getSlug()).isEqualTo("java");
+        assertThat(taxonomyCache.getTag(99L)).isNull();
+        assertThat(taxonomyCache.getCategory(99L)).isNull();
+
+        verify(tagRepository, times(1)).findAll();
+        verify(categoryRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("게시글 수 증분은 태그 목록과 ETag에 반영된다")
+    void adjustsPublishedPostCounts() {
+        Tag tag = Tag.builder().name("Java").slug("java").build();
+        ReflectionTestUtils.setField(tag, "id", 1L);
+        when(categoryRepository.findAll()).thenReturn(List.of());
+        when(tagRepository.findAll()).thenReturn(List.of(tag));
+        when(tagRepository.countPublishedPostsByTag()).thenReturn(List.of(new TagPostCount(1L, 3)));
+        taxonomyCache.refresh();
+        String etag = taxonomyCache.getTags().etag();
+
+        taxonomyCache.adjustPublishedPostCount(List.of(1L), 2);
+
+        assertThat(taxonomyCache.getTags().body().get(0).getPostCount()).isEqualTo(5);
+        assertThat(taxonomyCache.getTags().etag()).isNotEqualTo(etag);
+    }
+
+    @Test
+    @DisplayName("태그 한 건 변경은 그 행만 다시 읽고 게시글 수는 다시 집계하지 않는다")
+    void appliesSingleTagChange() {
+        Tag java = tag(1L, "Java", "java");
+        when(categoryRepository.findAll()).thenReturn(List.of());
+        when(tagRepository.findAll()).thenReturn(List.of(java));
+        when(tagRepository.countPublishedPostsByTag()).thenReturn(List.of(new TagPostCount(1L, 3)));
+        taxonomyCache.refresh();
+
+        when(tagRepository.findById(2L)).thenReturn(Optional.of(tag(2L, "Kotlin", "kotlin")));
+        taxonomyCache.onTaxonomyChanged(new TaxonomyChangedEvent(Tag.class, 2L));
+        when(tagRepository.findById(1L)).thenReturn(Optional.empty());
+        taxonomyCache.onTaxonomyChanged(new TaxonomyChangedEvent(Tag.class, 1L));
+
+        assertThat(taxonomyCache.getTag(2L).getSlug()).isEqualTo("kotlin");
+        assertThat(taxonomyCache.getTag(1L)).isNull();
+        assertThat(taxonomyCache.getTags().body()).extracting(TagResponse::getId).containsExactly(2L);
+        verify(tagRepository, times(1)).findAll();
+        verify(tagRepository, times(1)).countPublishedPostsByTag();
+    }
+
+    @Test
+    @DisplayName("집계 중에 반영된 증분은 집계 결과로 덮어쓰지 않고 더한다")
+    void keepsDeltasAppliedDuringRecount() {
+        when(categoryRepository.findAll()).thenReturn(List.of());
+        when(tagRepository.findAll()).thenReturn(List.of(tag(1L, "Java", "java")));
+        when(tagRepository.countPublishedPostsByTag()).thenAnswer(invocation -> {
+            // 집계 스냅샷 이후 커밋된 발행
+            taxonomyCache.adjustPublishedPostCount(List.of(1L), 1);
+            return List.of(new TagPostCount(1L, 3));
+        });
+
+        taxonomyCache.refresh();
+
+        assertThat(taxonomyCache.getTags().body().get(0).getPostCount()).isEqualTo(4);
+    }
+
+    private static Tag tag(Long id, String name, String slug) {
+        Tag tag = Tag.builder().name(name).slug(slug).build();
+        ReflectionTestUtils.setField(tag, "id", id);
+        return tag;
+    }
+}
@@ -21,6 +21,9 @@ dependencies {
     // Spring Transaction
     implementation("org.springframework:spring-tx")
 
+    // Metrics
+    implementation("io.micrometer:micrometer-core")
+
     // Email (for future email verification)
     implementation("org.springframework.boot:spring-boot-starter-mail")
 }
@@ -5,9 +5,11 @@ import com.portfolio.security.dto.AuthResponse;
 import com.portfolio.security.dto.LoginRequest;
 import com.portfolio.security.dto.RefreshTokenRequest;
 import com.portfolio.security.dto.SignupRequest;
+import com.portfolio.security.password.PasswordHashingRejectedException;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -18,6 +20,8 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class AuthController {
 
+    private static final String RETRY_AFTER_SECONDS = "1";
+
     private final AuthService authService;
 
     /**
@@ -60,6 +64,17 @@ public class AuthController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * 비밀번호 해시 스레드 풀 과부하 (대기하지 않고 바로 503)
+     */
+    @ExceptionHandler(PasswordHashingRejectedException.class)
+    public ResponseEntity<Void> handleHashingRejected(PasswordHashingRejectedException e) {
+        log.warn("Auth request rejected: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .build();
+    }
+
     /**
      * 현재 사용자 정보 조회 (인증 테스트용)
      */
@@ -1,114 +1,173 @@
 package com.portfolio.module.user.service;
 
-import com.portfolio.domain.user.RefreshToken;
 import com.portfolio.domain.user.User;
 import com.portfolio.domain.user.UserRole;
-import com.portfolio.domain.user.repository.RefreshTokenRepository;
 import com.portfolio.domain.user.repository.UserRepository;
 import com.portfolio.security.config.JwtProperties;
 import com.portfolio.security.dto.AuthResponse;
 import com.portfolio.security.dto.LoginRequest;
 import com.portfolio.security.dto.SignupRequest;
 import com.portfolio.security.jwt.JwtTokenProvider;
-import lombok.RequiredArgsConstructor;
+import com.portfolio.security.jwt.VerifiedTokenCache;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
 import java.util.UUID;
 
+/**
+ * 인증 서비스
+ * signup/login의 해시 계산(BoundedPasswordEncoder, 최대 수 초)은 트랜잭션 밖에서 실행하고
+ * 조회와 저장만 각각 짧은 트랜잭션으로 묶어 해시를 기다리는 동안 DB 커넥션을 잡고 있지 않음
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class AuthService {
 
+    private static final String USER_NOT_FOUND_PASSWORD = "userNotFoundPassword";
+
     private final UserRepository userRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
-    private final AuthenticationManager authenticationManager;
     private final JwtProperties jwtProperties;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private volatile String userNotFoundPasswordHash;
+
+    public AuthService(UserRepository userRepository,
+                       RefreshTokenStore refreshTokenStore,
+                       PasswordEncoder passwordEncoder,
+                       JwtTokenProvider jwtTokenProvider,
+                       JwtProperties jwtProperties,
+                       VerifiedTokenCache verifiedTokenCache,
+                       PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.refreshTokenStore = refreshTokenStore;
+        this.passwordEncoder = passwordEncoder;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.jwtProperties = jwtProperties;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
 
     /**
-     * 회원가입
+     * 회원가입 (중복은 사전 조회 대신 UNIQUE 제약 위반으로 판정, 저장한 사용자로 바로 토큰 발급)
+     * 해시는 트랜잭션 밖에서 계산하고 INSERT와 토큰 저장만 한 트랜잭션으로 실행
      */
-    @Transactional
     public AuthResponse signup(SignupRequest request) {
-        // 이메일 중복 체크
-        if (userRepository.existsByEmail(request.getEmail())) {
-            throw new IllegalArgumentException("Email already exists: " + request.getEmail());
-        }
-
-        // 사용자명 중복 체크
-        if (userRepository.existsByUsername(request.getUsername())) {
-            throw new IllegalArgumentException("Username already exists: " + request.getUsername());
-        }
-
-        // 사용자 생성
+        String encodedPassword = passwordEncoder.encode(request.getPassword());
         User user = User.builder()
                 .email(request.getEmail())
                 .username(request.getUsername())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(encodedPassword)
                 .role(UserRole.USER)
                 .build();
 
-        userRepository.save(user);
+        AuthResponse response;
+        try {
+            // 자동 로그인 (방금 해시한 비밀번호를 다시 검증하지 않음)
+            response = transactionTemplate.execute(status -> {
+                userRepository.saveAndFlush(user);
+                return issueTokens(user);
+            });
+        } catch (DataIntegrityViolationException e) {
+            throw duplicateUser(e, request);
+        }
 
         log.info("User registered successfully: {}", user.getUsername());
-
-        // 자동 로그인
-        return authenticateAndCreateTokens(request.getUsername(), request.getPassword());
+        return response;
     }
 
     /**
-     * 로그인
+     * 로그인 (사용자 조회 1회, 조회한 사용자로 토큰 발급)
+     * 조회 → 해시 비교(트랜잭션 밖) → 재해시(트랜잭션 밖) → 해시 교체/토큰 저장 순으로 트랜잭션을 나눔
      */
-    @Transactional
     public AuthResponse login(LoginRequest request) {
-        return authenticateAndCreateTokens(request.getUsername(), request.getPassword());
+        User user = readOnlyTransaction.execute(status -> userRepository.findByUsername(request.getUsername())
+                .filter(found -> !found.isDeleted())
+                .orElse(null));
+
+        // 없는 사용자도 해시 비교를 한 번 해서 응답 시간으로 존재 여부가 드러나지 않도록 함
+        String encodedPassword = user != null ? user.getPassword() : userNotFoundPasswordHash();
+        boolean matches = passwordEncoder.matches(request.getPassword(), encodedPassword);
+        if (user == null || !matches) {
+            log.error("Authentication failed for user: {}", request.getUsername());
+            throw new IllegalArgumentException("Invalid username or password");
+        }
+
+        // 설정된 알고리즘/cost와 다른 해시는 다시 저장
+        String upgradedPassword = passwordEncoder.upgradeEncoding(encodedPassword)
+                ? passwordEncoder.encode(request.getPassword())
+                : null;
+
+        AuthResponse response = transactionTemplate.execute(status -> {
+            if (upgradedPassword != null
+                    && userRepository.updatePasswordIfUnchanged(user.getId(), encodedPassword, upgradedPassword) > 0) {
+                user.updatePassword(upgradedPassword);
+                log.info("Password hash upgraded for user: {}", user.getUsername());
+            }
+            return issueTokens(user);
+        });
+
+        log.info("User authenticated successfully: {}", user.getUsername());
+        return response;
     }
 
     /**
-     * 토큰 갱신
+     * 토큰 갱신 (재사용 감지로 인한 실패는 Family 무효화를 커밋)
      */
-    @Transactional
+    @Transactional(noRollbackFor = RefreshTokenReuseException.class)
     public AuthResponse refreshToken(String refreshTokenValue) {
-        // Refresh Token 조회
-        RefreshToken refreshToken = refreshTokenRepository.findByToken(refreshTokenValue)
+        // Refresh Token 조회 (다이제스트 키, 사용자 정보 포함)
+        RefreshTokenStore.StoredToken refreshToken = refreshTokenStore.find(refreshTokenValue)
                 .orElseThrow(() -> new IllegalArgumentException("Invalid refresh token"));
 
+        // 같은 Family의 회전/무효화 직렬화 (커밋까지 유지)
+        refreshTokenStore.lockFamily(refreshToken.tokenFamily());
+
+        if (refreshToken.revoked()) {
+            throw rejectRevoked(refreshToken);
+        }
+
         // Refresh Token 유효성 검증
         if (!refreshToken.isValid()) {
             throw new IllegalArgumentException("Refresh token is expired or revoked");
         }
 
-        // Refresh Token Rotation: 기존 토큰 무효화
-        refreshToken.revoke();
+        // Refresh Token Rotation: 기존 토큰 무효화 (같은 토큰으로 동시에 요청하면 하나만 성공)
+        // 실패하면 메모리 항목이 오래된 것이므로 DB 상태로 재사용 여부를 다시 판정
+        if (!refreshTokenStore.revoke(refreshToken)) {
+            RefreshTokenStore.StoredToken current = refreshTokenStore.reload(refreshToken)
+                    .orElseThrow(() -> new IllegalArgumentException("Invalid refresh token"));
+            throw rejectRevoked(current);
+        }
 
         // 새로운 토큰 생성
-        User user = refreshToken.getUser();
-        Authentication authentication = createAuthentication(user);
+        Authentication authentication = createAuthentication(refreshToken.username(), refreshToken.role());
 
         String newAccessToken = jwtTokenProvider.generateAccessToken(authentication);
         String newRefreshToken = jwtTokenProvider.generateRefreshToken(authentication);
 
         // 새로운 Refresh Token 저장 (같은 Family)
-        RefreshToken newRefreshTokenEntity = RefreshToken.builder()
-                .user(user)
-                .token(newRefreshToken)
-                .tokenFamily(refreshToken.getTokenFamily())
-                .expiresAt(LocalDateTime.now().plusSeconds(jwtProperties.getRefreshExpiration() / 1000))
-                .build();
+        refreshTokenStore.issue(refreshToken.userId(), refreshToken.username(), refreshToken.role(),
+                refreshToken.tokenFamily(), newRefreshToken);
 
-        refreshTokenRepository.save(newRefreshTokenEntity);
-
-        log.info("Token refreshed for user: {}", user.getUsername());
+        log.info("Token refreshed for user: {}", refreshToken.username());
 
         return new AuthResponse(
                 newAccessToken,
@@ -122,66 +181,91 @@ public class AuthService {
      */
     @Transactional
     public void logout(String refreshTokenValue) {
-        RefreshToken refreshToken = refreshTokenRepository.findByToken(refreshTokenValue)
+        RefreshTokenStore.StoredToken refreshToken = refreshTokenStore.find(refreshTokenValue)
                 .orElseThrow(() -> new IllegalArgumentException("Invalid refresh token"));
 
         // Refresh Token Family 전체 무효화 (보안 강화)
-        refreshTokenRepository.deleteByTokenFamily(refreshToken.getTokenFamily());
+        refreshTokenStore.deleteFamily(refreshToken.tokenFamily());
+
+        // 캐시된 Access Token 인증 정보 제거
+        verifiedTokenCache.invalidateUser(refreshToken.username());
 
-        log.info("User logged out: {}", refreshToken.getUser().getUsername());
+        log.info("User logged out: {}", refreshToken.username());
     }
 
     /**
-     * 인증 및 토큰 생성 (공통 로직)
+     * 이미 회전된 토큰 재사용: 탈취로 보고 Family 전체 무효화 (동시 갱신 요청은 유예 시간 동안 허용)
      */
-    private AuthResponse authenticateAndCreateTokens(String username, String password) {
-        try {
-            // Spring Security 인증
-            Authentication authentication = authenticationManager.authenticate(
-                    new UsernamePasswordAuthenticationToken(username, password)
-            );
-
-            // JWT 토큰 생성
-            String accessToken = jwtTokenProvider.generateAccessToken(authentication);
-            String refreshToken = jwtTokenProvider.generateRefreshToken(authentication);
+    private IllegalArgumentException rejectRevoked(RefreshTokenStore.StoredToken refreshToken) {
+        if (refreshToken.revoked() && isReuse(refreshToken)) {
+            int revoked = refreshTokenStore.revokeFamily(refreshToken.tokenFamily());
+            verifiedTokenCache.invalidateUser(refreshToken.username());
+            log.warn("Refresh token reuse detected for user: {}, revoked {} tokens in family",
+                    refreshToken.username(), revoked);
+            return new RefreshTokenReuseException("Refresh token is expired or revoked");
+        }
+        return new IllegalArgumentException("Refresh token is expired or revoked");
+    }
 
-            // Refresh Token 저장
-            User user = userRepository.findByUsername(username)
-                    .orElseThrow(() -> new IllegalArgumentException("User not found"));
+    private boolean isReuse(RefreshTokenStore.StoredToken refreshToken) {
+        long gracePeriod = jwtProperties.getRefreshStore().getReuseGracePeriod();
+        return refreshToken.revokedAt() == null
+                || refreshToken.revokedAt().plus(gracePeriod, ChronoUnit.MILLIS).isBefore(LocalDateTime.now());
+    }
 
-            String tokenFamily = UUID.randomUUID().toString();
+    /**
+     * Access/Refresh Token 발급 (새 Token Family)
+     */
+    private AuthResponse issueTokens(User user) {
+        Authentication authentication = createAuthentication(user.getUsername(), user.getRole());
 
-            RefreshToken refreshTokenEntity = RefreshToken.builder()
-                    .user(user)
-                    .token(refreshToken)
-                    .tokenFamily(tokenFamily)
-                    .expiresAt(LocalDateTime.now().plusSeconds(jwtProperties.getRefreshExpiration() / 1000))
-                    .build();
+        String accessToken = jwtTokenProvider.generateAccessToken(authentication);
+        String refreshToken = jwtTokenProvider.generateRefreshToken(authentication);
 
-            refreshTokenRepository.save(refreshTokenEntity);
+        String tokenFamily = UUID.randomUUID().toString();
+        refreshTokenStore.issue(user.getId(), user.getUsername(), user.getRole(), tokenFamily, refreshToken);
 
-            log.info("User authenticated successfully: {}", username);
+        return new AuthResponse(
+                accessToken,
+                refreshToken,
+                jwtProperties.getAccessExpiration()
+        );
+    }
 
-            return new AuthResponse(
-                    accessToken,
-                    refreshToken,
-                    jwtProperties.getAccessExpiration()
-            );
+    /**
+     * users의 UNIQUE/CHECK 제약 이름으로 원인 구분 (PostgreSQL 기본 이름 users_email_key, users_username_key)
+     */
+    private static IllegalArgumentException duplicateUser(DataIntegrityViolationException e, SignupRequest request) {
+        String message = String.valueOf(e.getMostSpecificCause().getMessage());
+        if (message.contains("users_email_key")) {
+            return new IllegalArgumentException("Email already exists: " + request.getEmail());
+        }
+        if (message.contains("users_username_key")) {
+            return new IllegalArgumentException("Username already exists: " + request.getUsername());
+        }
+        if (message.contains("users_email_check")) {
+            return new IllegalArgumentException("Invalid email: " + request.getEmail());
+        }
+        throw e;
+    }
 
-        } catch (AuthenticationException e) {
-            log.error("Authentication failed for user: {}", username);
-            throw new IllegalArgumentException("Invalid username or password");
+    private String userNotFoundPasswordHash() {
+        String hash = userNotFoundPasswordHash;
+        if (hash == null) {
+            hash = passwordEncoder.encode(USER_NOT_FOUND_PASSWORD);
+            userNotFoundPasswordHash = hash;
         }
+        return hash;
     }
 
     /**
-     * Authentication 객체 생성
+     * Authentication 객체 생성 (갱신된 토큰에도 권한이 유지되도록 역할 포함)
      */
-    private Authentication createAuthentication(User user) {
+    private Authentication createAuthentication(String username, UserRole role) {
         return new UsernamePasswordAuthenticationToken(
-                user.getUsername(),
+                username,
                 null,
-                null
+                List.of(new SimpleGrantedAuthority("ROLE_" + role.name()))
         );
     }
 }
@@ -0,0 +1,97 @@
+package com.portfolio.module.user.service;
+
+import com.portfolio.domain.user.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.IntSupplier;
+
+/**
+ * 만료된 Refresh Token 정리
+ * batch-size개씩 별도 트랜잭션으로 삭제하고 배치 사이에 쉬어, 잠금과 WAL 쓰기가 로그인 트래픽을 막지 않도록 함
+ * 무효화된 토큰도 expires_at까지 남겨 둠 (만료 전에 지우면 탈취된 토큰의 재사용을 감지하지 못하고,
+ * 만료 후에는 JWT 검증에서 거부되므로 더 보관할 필요 없음)
+ */
+@Slf4j
+@Service
+public class RefreshTokenPurgeService {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final long batchPauseMillis;
+
+    private final Counter purgedExpired;
+    private final Timer purgeTimer;
+
+    public RefreshTokenPurgeService(RefreshTokenRepository refreshTokenRepository,
+                                    PlatformTransactionManager transactionManager,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${jwt.purge.batch-size:1000}") int batchSize,
+                                    @Value("${jwt.purge.max-batches-per-run:100}") int maxBatchesPerRun,
+                                    @Value("${jwt.purge.batch-pause:200}") long batchPauseMillis) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.batchPauseMillis = batchPauseMillis;
+
+        this.purgedExpired = meterRegistry.counter("jwt.refresh_tokens.purged", "reason", "expired");
+        this.purgeTimer = meterRegistry.timer("jwt.refresh_tokens.purge.duration");
+    }
+
+    /**
+     * 정리 실행 (한 번에 최대 max-batches-per-run 배치, 남은 행은 다음 실행에서 삭제)
+     */
+    @Scheduled(initialDelayString = "${jwt.purge.initial-delay:60000}",
+               fixedDelayString = "${jwt.purge.interval:600000}")
+    public void purge() {
+        long startedAt = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+
+        int expired = purgeInBatches(() -> refreshTokenRepository.purgeExpired(now, batchSize));
+
+        long elapsedNanos = System.nanoTime() - startedAt;
+        purgedExpired.increment(expired);
+        purgeTimer.record(Duration.ofNanos(elapsedNanos));
+
+        if (expired > 0) {
+            log.info("Purged {} expired refresh tokens in {} ms", expired, elapsedNanos / 1_000_000);
+        }
+    }
+
+    private int purgeInBatches(IntSupplier batch) {
+        int total = 0;
+        for (int batches = 0; batches < maxBatchesPerRun; batches++) {
+            Integer deleted = transactionTemplate.execute(status -> batch.getAsInt());
+            if (deleted == null || deleted == 0) {
+                break;
+            }
+            total += deleted;
+            if (deleted < batchSize || !pause()) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(batchPauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
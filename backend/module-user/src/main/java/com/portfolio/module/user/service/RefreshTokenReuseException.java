@@ -0,0 +1,11 @@
+package com.portfolio.module.user.service;
+
+/**
+ * 회전된 Refresh Token 재사용 (Family 무효화는 요청 실패와 함께 커밋되어야 하므로 롤백 대상에서 제외)
+ */
+public class RefreshTokenReuseException extends IllegalArgumentException {
+
+    public RefreshTokenReuseException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,201 @@
+package com.portfolio.module.user.service;
+
+import com.portfolio.domain.user.RefreshToken;
+import com.portfolio.domain.user.UserRole;
+import com.portfolio.domain.user.repository.RefreshTokenRepository;
+import com.portfolio.domain.user.repository.UserRepository;
+import com.portfolio.security.config.JwtProperties;
+import com.portfolio.security.jwt.TokenDigest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Refresh Token 저장소
+ * 토큰 원문 대신 SHA-256 다이제스트로 저장/조회하고, 발급한 유효 토큰을 메모리에도 보관 (write-through, DB가 원본)
+ * 메모리에 있으면 회전 시 조회 쿼리 없이 PK 기준 UPDATE + INSERT만 실행되므로 테이블 크기와 무관
+ * 무효화 여부는 조건부 UPDATE 결과로 판정하므로 여러 인스턴스에서도 같은 토큰은 한 번만 회전됨
+ * 회전과 Family 무효화는 Family 잠금으로 직렬화 (호출한 트랜잭션 안에서 실행)
+ */
+@Slf4j
+@Component
+public class RefreshTokenStore {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final long refreshExpirationSeconds;
+    private final int maxSize;
+    private final Map<String, StoredToken> tokens = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public RefreshTokenStore(RefreshTokenRepository refreshTokenRepository,
+                             UserRepository userRepository,
+                             JwtProperties jwtProperties,
+                             MeterRegistry meterRegistry) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.userRepository = userRepository;
+        this.refreshExpirationSeconds = jwtProperties.getRefreshExpiration() / 1000;
+        this.maxSize = jwtProperties.getRefreshStore().getMaxSize();
+
+        this.hits = meterRegistry.counter("jwt.refresh_store.requests", "result", "hit");
+        this.misses = meterRegistry.counter("jwt.refresh_store.requests", "result", "miss");
+        Gauge.builder("jwt.refresh_store.size", tokens, Map::size).register(meterRegistry);
+    }
+
+    /**
+     * 저장된 Refresh Token (사용자 정보 포함)
+     */
+    public record StoredToken(String key, Long id, Long userId, String username, UserRole role,
+                              String tokenFamily, LocalDateTime expiresAt, boolean revoked,
+                              LocalDateTime revokedAt) {
+
+        public boolean isValid() {
+            return !revoked && LocalDateTime.now().isBefore(expiresAt);
+        }
+    }
+
+    /**
+     * 토큰 조회 (메모리에 없으면 사용자와 함께 한 번에 조회)
+     */
+    public Optional<StoredToken> find(String token) {
+        byte[] digest = TokenDigest.sha256(token);
+        String key = HexFormat.of().formatHex(digest);
+
+        StoredToken cached = tokens.get(key);
+        if (cached != null) {
+            hits.increment();
+            return Optional.of(cached);
+        }
+
+        misses.increment();
+        return load(key, digest);
+    }
+
+    /**
+     * 메모리 항목을 버리고 DB에서 다시 조회
+     * 회전 UPDATE가 0건이면 메모리 항목이 오래된 것 (다른 인스턴스나 동시 요청이 먼저 회전)
+     */
+    public Optional<StoredToken> reload(StoredToken token) {
+        tokens.remove(token.key());
+        return load(token.key(), HexFormat.of().parseHex(token.key()));
+    }
+
+    /**
+     * 새 토큰 저장 (커밋 후 메모리에 반영)
+     */
+    public StoredToken issue(Long userId, String username, UserRole role, String tokenFamily, String token) {
+        byte[] digest = TokenDigest.sha256(token);
+        RefreshToken entity = refreshTokenRepository.save(RefreshToken.builder()
+                .user(userRepository.getReferenceById(userId))
+                .tokenHash(digest)
+                .tokenFamily(tokenFamily)
+                .expiresAt(LocalDateTime.now().plusSeconds(refreshExpirationSeconds))
+                .build());
+
+        StoredToken stored = new StoredToken(HexFormat.of().formatHex(digest), entity.getId(), userId, username,
+                role, tokenFamily, entity.getExpiresAt(), false, null);
+        afterCommit(() -> put(stored));
+        return stored;
+    }
+
+    /**
+     * 토큰 무효화
+     *
+     * @return 이미 무효화된 토큰이면 false (동시에 같은 토큰으로 회전을 시도한 경우 포함)
+     */
+    public boolean revoke(StoredToken token) {
+        tokens.remove(token.key());
+        return refreshTokenRepository.revokeIfActive(token.id(), LocalDateTime.now()) == 1;
+    }
+
+    /**
+     * Token Family 잠금 (호출한 트랜잭션이 끝날 때까지 유지)
+     * 회전 중인 요청이 있으면 그 새 토큰이 커밋된 뒤에 진행되므로 Family 무효화가 새 토큰까지 포함
+     */
+    public void lockFamily(String tokenFamily) {
+        refreshTokenRepository.lockFamily(tokenFamily);
+    }
+
+    /**
+     * Token Family 전체 무효화 (재사용 감지 시, lockFamily 이후 같은 트랜잭션에서 호출)
+     *
+     * @return 무효화한 토큰 수
+     */
+    public int revokeFamily(String tokenFamily) {
+        tokens.values().removeIf(token -> token.tokenFamily().equals(tokenFamily));
+        return refreshTokenRepository.revokeFamily(tokenFamily, LocalDateTime.now());
+    }
+
+    /**
+     * Token Family 전체 삭제 (로그아웃 시)
+     *
+     * @return 삭제한 토큰 수
+     */
+    public int deleteFamily(String tokenFamily) {
+        tokens.values().removeIf(token -> token.tokenFamily().equals(tokenFamily));
+        return refreshTokenRepository.deleteFamily(tokenFamily);
+    }
+
+    private Optional<StoredToken> load(String key, byte[] digest) {
+        return refreshTokenRepository.findByTokenHashWithUser(digest)
+                .map(entity -> new StoredToken(key, entity.getId(), entity.getUser().getId(),
+                        entity.getUser().getUsername(), entity.getUser().getRole(),
+                        entity.getTokenFamily(), entity.getExpiresAt(), entity.getRevoked(),
+                        entity.getRevokedAt()));
+    }
+
+    private void put(StoredToken token) {
+        if (tokens.size() >= maxSize) {
+            evictExpired();
+            if (tokens.size() >= maxSize) {
+                // 밀려난 토큰은 다음 사용 시 DB에서 조회
+                evictAny(tokens.size() - maxSize + 1);
+            }
+        }
+        tokens.put(token.key(), token);
+    }
+
+    private void evictExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        tokens.values().removeIf(token -> !now.isBefore(token.expiresAt()));
+    }
+
+    private void evictAny(int count) {
+        int removed = 0;
+        Iterator<String> iterator = tokens.keySet().iterator();
+        while (removed < count && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            removed++;
+        }
+    }
+
+    /**
+     * 롤백된 토큰이 메모리에 남지 않도록 커밋 이후에 실행 (트랜잭션 밖이면 즉시)
+     */
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
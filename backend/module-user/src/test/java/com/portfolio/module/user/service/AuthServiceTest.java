@@ -0,0 +1,457 @@
+package com.portfolio.module.user.service;
+
+import com.portfolio.domain.user.RefreshToken;
+import com.portfolio.domain.user.User;
+import com.portfolio.domain.user.UserRole;
+import com.portfolio.domain.user.repository.RefreshTokenRepository;
+import com.portfolio.domain.user.repository.UserRepository;
+import com.portfolio.security.config.JwtProperties;
+import com.portfolio.security.jwt.JwtTokenProvider;
+import com.portfolio.security.jwt.TokenDigest;
+import com.portfolio.security.dto.LoginRequest;
+import com.portfolio.security.dto.SignupRequest;
+import com.portfolio.security.jwt.VerifiedTokenCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+class AuthServiceTest {
+
+    private static final String FAMILY = "family-1";
+
+    private final RefreshTokenRepository refreshTokenRepository = mock(RefreshTokenRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final JwtTokenProvider jwtTokenProvider = mock(JwtTokenProvider.class);
+    private final VerifiedTokenCache verifiedTokenCache = mock(VerifiedTokenCache.class);
+    private final PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+    private final RecordingTransactionManager transactionManager = new RecordingTransactionManager();
+    private final JwtProperties jwtProperties = new JwtProperties();
+    private final List<RefreshToken> rows = new ArrayList<>();
+    private final Map<String, ReentrantLock> familyLocks = new ConcurrentHashMap<>();
+    private final AtomicInteger issuedTokens = new AtomicInteger();
+    private final User user = User.builder().username("tester").role(UserRole.USER).build();
+
+    @BeforeEach
+    void setUp() {
+        jwtProperties.setAccessExpiration(900_000L);
+        jwtProperties.setRefreshExpiration(604_800_000L);
+        ReflectionTestUtils.setField(user, "id", 1L);
+        when(userRepository.getReferenceById(1L)).thenReturn(user);
+        when(jwtTokenProvider.generateAccessToken(any())).thenReturn("access");
+        when(jwtTokenProvider.generateRefreshToken(any()))
+                .thenAnswer(invocation -> "refresh-" + issuedTokens.incrementAndGet());
+        givenTokenTable();
+    }
+
+    @Test
+    @DisplayName("로그인은 사용자를 한 번만 조회하고 그 사용자로 토큰을 발급한다")
+    void loginLoadsUserOnce() {
+        user.updatePassword("hash");
+        when(userRepository.findByUsername("tester")).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches("secret", "hash")).thenReturn(true);
+
+        authService(newStore()).login(new LoginRequest("tester", "secret"));
+
+        verify(userRepository).findByUsername("tester");
+        verify(userRepository).getReferenceById(1L);
+        verifyNoMoreInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("회원가입은 사전 중복 조회 없이 INSERT 한 번으로 저장하고 토큰을 발급한다")
+    void signupSavesOnceWithoutLookups() {
+        when(passwordEncoder.encode("secret")).thenReturn("hash");
+        when(userRepository.saveAndFlush(any(User.class))).thenAnswer(invocation -> {
+            User saved = invocation.getArgument(0);
+            ReflectionTestUtils.setField(saved, "id", 1L);
+            return saved;
+        });
+
+        authService(newStore()).signup(new SignupRequest("tester@example.com", "tester", "secret"));
+
+        verify(userRepository).saveAndFlush(any(User.class));
+        verify(userRepository).getReferenceById(1L);
+        verifyNoMoreInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("로그인한 비밀번호의 해시가 설정과 다르면 같은 요청에서 다시 해시해 저장한다")
+    void rehashesOutdatedPasswordOnLogin() {
+        user.updatePassword("old-hash");
+        when(userRepository.findByUsername("tester")).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches("secret", "old-hash")).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding("old-hash")).thenReturn(true);
+        when(passwordEncoder.encode("secret")).thenReturn("new-hash");
+        when(userRepository.updatePasswordIfUnchanged(1L, "old-hash", "new-hash")).thenReturn(1);
+
+        authService(newStore()).login(new LoginRequest("tester", "secret"));
+
+        verify(userRepository).updatePasswordIfUnchanged(1L, "old-hash", "new-hash");
+        assertThat(user.getPassword()).isEqualTo("new-hash");
+    }
+
+    @Test
+    @DisplayName("로그인은 해시 비교와 재해시를 트랜잭션 밖에서 하고 조회와 저장만 짧은 트랜잭션으로 실행한다")
+    void hashesOutsideTransactionsOnLogin() {
+        user.updatePassword("old-hash");
+        List<String> steps = new ArrayList<>();
+        when(userRepository.findByUsername("tester")).thenAnswer(invocation -> {
+            steps.add("find:" + transactionManager.state());
+            return Optional.of(user);
+        });
+        when(passwordEncoder.matches("secret", "old-hash")).thenAnswer(invocation -> {
+            steps.add("matches:" + transactionManager.state());
+            return true;
+        });
+        when(passwordEncoder.upgradeEncoding("old-hash")).thenReturn(true);
+        when(passwordEncoder.encode("secret")).thenAnswer(invocation -> {
+            steps.add("encode:" + transactionManager.state());
+            return "new-hash";
+        });
+        when(userRepository.updatePasswordIfUnchanged(1L, "old-hash", "new-hash")).thenAnswer(invocation -> {
+            steps.add("update:" + transactionManager.state());
+            return 1;
+        });
+
+        authService(newStore()).login(new LoginRequest("tester", "secret"));
+
+        assertThat(steps).containsExactly("find:read-only", "matches:none", "encode:none", "update:read-write");
+        assertThat(transactionManager.committed).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("조회 이후 비밀번호가 바뀌었으면 재해시한 값으로 덮어쓰지 않는다")
+    void keepsPasswordChangedConcurrently() {
+        user.updatePassword("old-hash");
+        when(userRepository.findByUsername("tester")).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches("secret", "old-hash")).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding("old-hash")).thenReturn(true);
+        when(passwordEncoder.encode("secret")).thenReturn("new-hash");
+        when(userRepository.updatePasswordIfUnchanged(1L, "old-hash", "new-hash")).thenReturn(0);
+
+        authService(newStore()).login(new LoginRequest("tester", "secret"));
+
+        assertThat(user.getPassword()).isEqualTo("old-hash");
+    }
+
+    @Test
+    @DisplayName("회원가입은 해시를 트랜잭션 밖에서 계산하고 중복이면 트랜잭션을 롤백한다")
+    void hashesOutsideTransactionOnSignup() {
+        List<String> steps = new ArrayList<>();
+        when(passwordEncoder.encode("secret")).thenAnswer(invocation -> {
+            steps.add("encode:" + transactionManager.state());
+            return "hash";
+        });
+        when(userRepository.saveAndFlush(any(User.class))).thenAnswer(invocation -> {
+            steps.add("save:" + transactionManager.state());
+            throw new DataIntegrityViolationException("duplicate key value violates unique constraint",
+                    new IllegalStateException("users_username_key"));
+        });
+
+        assertThatThrownBy(() -> authService(newStore())
+                .signup(new SignupRequest("tester@example.com", "tester", "secret")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Username already exists: tester");
+        assertThat(steps).containsExactly("encode:none", "save:read-write");
+        assertThat(transactionManager.rolledBack).isEqualTo(1);
+        assertThat(rows).isEmpty();
+    }
+
+    @Test
+    @DisplayName("없는 사용자도 해시 비교를 한 번 하고 같은 메시지로 실패한다")
+    void comparesHashForUnknownUser() {
+        when(userRepository.findByUsername("ghost")).thenReturn(Optional.empty());
+        when(passwordEncoder.encode(anyString())).thenReturn("dummy-hash");
+
+        assertThatThrownBy(() -> authService(newStore()).login(new LoginRequest("ghost", "secret")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid username or password");
+        verify(passwordEncoder).matches("secret", "dummy-hash");
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 회전한 토큰을 메모리에 없는(cold) 저장소로 재사용하면 Family 전체를 무효화한다")
+    void detectsReuseThroughColdStore() {
+        newStore().issue(1L, "tester", UserRole.USER, FAMILY, "token-0");
+        authService(newStore()).refreshToken("token-0");
+        passGracePeriod();
+
+        assertThatThrownBy(() -> authService(newStore()).refreshToken("token-0"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Refresh token is expired or revoked");
+
+        assertThat(rows).allMatch(RefreshToken::getRevoked);
+        verify(verifiedTokenCache).invalidateUser("tester");
+    }
+
+    @Test
+    @DisplayName("오래된 항목이 남은(warm) 저장소로 재사용해도 회전 실패 후 DB를 다시 읽어 Family 전체를 무효화한다")
+    void detectsReuseThroughWarmStore() {
+        RefreshTokenStore warm = newStore();
+        warm.issue(1L, "tester", UserRole.USER, FAMILY, "token-0");
+        authService(newStore()).refreshToken("token-0");
+        passGracePeriod();
+
+        assertThatThrownBy(() -> authService(warm).refreshToken("token-0"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Refresh token is expired or revoked");
+
+        assertThat(rows).allMatch(RefreshToken::getRevoked);
+        verify(verifiedTokenCache).invalidateUser("tester");
+    }
+
+    @Test
+    @DisplayName("유예 시간 안에 같은 토큰으로 들어온 갱신은 실패만 하고 새 토큰은 유지된다")
+    void allowsConcurrentRefreshWithinGracePeriod() {
+        RefreshTokenStore warm = newStore();
+        warm.issue(1L, "tester", UserRole.USER, FAMILY, "token-0");
+        String rotated = authService(newStore()).refreshToken("token-0").getRefreshToken();
+
+        assertThatThrownBy(() -> authService(warm).refreshToken("token-0"))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(row(rotated).getRevoked()).isFalse();
+        verify(verifiedTokenCache, never()).invalidateUser(anyString());
+    }
+
+    @Test
+    @DisplayName("같은 토큰으로 여러 인스턴스가 동시에 갱신하면 하나만 성공하고 Family는 유지된다")
+    void rotatesOnceUnderConcurrentRefresh() throws Exception {
+        newStore().issue(1L, "tester", UserRole.USER, FAMILY, "token-0");
+        int clients = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Optional<String>>> results = new ArrayList<>();
+
+        for (int i = 0; i < clients; i++) {
+            AuthService client = authService(newStore());
+            results.add(executor.submit(() -> {
+                start.await();
+                return inTransaction(() -> {
+                    try {
+                        return Optional.of(client.refreshToken("token-0").getRefreshToken());
+                    } catch (IllegalArgumentException e) {
+                        return Optional.empty();
+                    }
+                });
+            }));
+        }
+        start.countDown();
+
+        List<String> rotated = new ArrayList<>();
+        for (Future<Optional<String>> result : results) {
+            result.get(10, TimeUnit.SECONDS).ifPresent(rotated::add);
+        }
+        executor.shutdown();
+
+        assertThat(rotated).hasSize(1);
+        assertThat(row(rotated.get(0)).getRevoked()).isFalse();
+        assertThat(rows).hasSize(2);
+        verify(verifiedTokenCache, never()).invalidateUser(anyString());
+    }
+
+    @Test
+    @DisplayName("재사용 감지는 진행 중인 회전이 커밋될 때까지 기다렸다가 그 새 토큰까지 무효화한다")
+    void revokesTokenIssuedByConcurrentRotation() throws Exception {
+        newStore().issue(1L, "tester", UserRole.USER, FAMILY, "token-0");
+        String current = authService(newStore()).refreshToken("token-0").getRefreshToken();
+        passGracePeriod();
+
+        // 다음 회전은 기존 토큰을 무효화한 뒤 새 토큰을 저장하기 전에 멈춤
+        CountDownLatch rotating = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(jwtTokenProvider.generateRefreshToken(any())).thenAnswer(invocation -> {
+            rotating.countDown();
+            release.await();
+            return "refresh-" + issuedTokens.incrementAndGet();
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        Future<String> rotation = executor.submit(
+                () -> inTransaction(() -> authService(newStore()).refreshToken(current).getRefreshToken()));
+        rotating.await();
+
+        Future<?> replay = executor.submit(() -> inTransaction(() -> {
+            assertThatThrownBy(() -> authService(newStore()).refreshToken("token-0"))
+                    .isInstanceOf(RefreshTokenReuseException.class);
+            return null;
+        }));
+        while (!familyLocks.get(FAMILY).hasQueuedThreads()) {
+            Thread.sleep(1);
+        }
+        release.countDown();
+
+        String issuedDuringReplay = rotation.get(10, TimeUnit.SECONDS);
+        replay.get(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        assertThat(row(issuedDuringReplay).getRevoked()).isTrue();
+        assertThat(rows).allMatch(RefreshToken::getRevoked);
+    }
+
+    private RefreshTokenStore newStore() {
+        return new RefreshTokenStore(refreshTokenRepository, userRepository, jwtProperties,
+                new SimpleMeterRegistry());
+    }
+
+    /**
+     * 요청 하나를 트랜잭션처럼 실행 (끝나면 커밋 콜백 실행, Family 잠금 해제)
+     */
+    private static <T> T inTransaction(Supplier<T> work) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            T result = work.get();
+            TransactionSynchronizationUtils.triggerAfterCommit();
+            return result;
+        } finally {
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            TransactionSynchronizationManager.clearSynchronization();
+            TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations,
+                    TransactionSynchronization.STATUS_COMMITTED);
+        }
+    }
+
+    private AuthService authService(RefreshTokenStore store) {
+        return new AuthService(userRepository, store, passwordEncoder, jwtTokenProvider,
+                jwtProperties, verifiedTokenCache, transactionManager);
+    }
+
+    private void passGracePeriod() {
+        LocalDateTime past = LocalDateTime.now().minusMinutes(1);
+        rows.stream().filter(RefreshToken::getRevoked)
+                .forEach(token -> ReflectionTestUtils.setField(token, "revokedAt", past));
+    }
+
+    private RefreshToken row(String token) {
+        byte[] digest = TokenDigest.sha256(token);
+        return rows.stream().filter(row -> Arrays.equals(row.getTokenHash(), digest)).findFirst().orElseThrow();
+    }
+
+    /**
+     * refresh_tokens 테이블 대용 (인스턴스 간에 공유되는 DB, 조건부 UPDATE는 원자적으로 처리)
+     * Family 잠금은 트랜잭션이 끝날 때 해제 (트랜잭션 밖이면 바로 해제)
+     */
+    private void givenTokenTable() {
+        when(refreshTokenRepository.lockFamily(anyString())).thenAnswer(invocation -> {
+            ReentrantLock lock = familyLocks.computeIfAbsent(invocation.getArgument(0), family -> new ReentrantLock());
+            lock.lock();
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        lock.unlock();
+                    }
+                });
+            } else {
+                lock.unlock();
+            }
+            return 1;
+        });
+        when(refreshTokenRepository.save(any(RefreshToken.class))).thenAnswer(invocation -> {
+            RefreshToken token = invocation.getArgument(0);
+            synchronized (rows) {
+                ReflectionTestUtils.setField(token, "id", (long) rows.size() + 1);
+                rows.add(token);
+            }
+            return token;
+        });
+        when(refreshTokenRepository.findByTokenHashWithUser(any())).thenAnswer(invocation -> {
+            byte[] digest = invocation.getArgument(0);
+            synchronized (rows) {
+                return rows.stream().filter(row -> Arrays.equals(row.getTokenHash(), digest)).findFirst();
+            }
+        });
+        when(refreshTokenRepository.revokeIfActive(anyLong(), any())).thenAnswer(invocation -> {
+            Long id = invocation.getArgument(0);
+            synchronized (rows) {
+                Optional<RefreshToken> active = rows.stream()
+                        .filter(row -> row.getId().equals(id) && !row.getRevoked()).findFirst();
+                active.ifPresent(this::revoke);
+                return active.isPresent() ? 1 : 0;
+            }
+        });
+        when(refreshTokenRepository.revokeFamily(anyString(), any())).thenAnswer(invocation -> {
+            String family = invocation.getArgument(0);
+            synchronized (rows) {
+                List<RefreshToken> active = rows.stream()
+                        .filter(row -> row.getTokenFamily().equals(family) && !row.getRevoked()).toList();
+                active.forEach(this::revoke);
+                return active.size();
+            }
+        });
+    }
+
+    private void revoke(RefreshToken token) {
+        ReflectionTestUtils.setField(token, "revoked", true);
+        ReflectionTestUtils.setField(token, "revokedAt", LocalDateTime.now());
+    }
+
+    /**
+     * 트랜잭션 경계 기록용 트랜잭션 매니저 (호출 스레드의 현재 트랜잭션 종류만 기록)
+     */
+    private static class RecordingTransactionManager implements PlatformTransactionManager {
+
+        private final ThreadLocal<String> current = new ThreadLocal<>();
+        private int committed;
+        private int rolledBack;
+
+        String state() {
+            return current.get() != null ? current.get() : "none";
+        }
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            current.set(definition != null && definition.isReadOnly() ? "read-only" : "read-write");
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            current.remove();
+            committed++;
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+            current.remove();
+            rolledBack++;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 plugins {
     id("io.spring.dependency-management")
+    id("me.champeau.jmh")
 }
 
 dependencies {
@@ -19,12 +20,23 @@ dependencies {
     runtimeOnly("io.jsonwebtoken:jjwt-impl:$jjwtVersion")
     runtimeOnly("io.jsonwebtoken:jjwt-jackson:$jjwtVersion")
 
+    // Argon2 (Argon2PasswordEncoder)
+    runtimeOnly("org.bouncycastle:bcprov-jdk18on:1.77")
+
     // OAuth2 Client (for social login)
     implementation("org.springframework.boot:spring-boot-starter-oauth2-client")
 
+    // Metrics
+    implementation("io.micrometer:micrometer-core")
+
     // Spring Transaction (for @Transactional)
     implementation("org.springframework:spring-tx")
 
     // Test
     testImplementation("org.springframework.security:spring-security-test")
 }
+
+// JMH (./gradlew :security:jmh)
+jmh {
+    jmhVersion.set(rootProject.extra["jmhVersion"] as String)
+}
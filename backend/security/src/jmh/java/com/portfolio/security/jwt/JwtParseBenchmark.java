@@ -0,0 +1,101 @@
+package com.portfolio.security.jwt;
+
+import com.portfolio.security.config.JwtProperties;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Access Token 인증 비용 비교 (요청 1건 기준, 결과 표에 네 경로가 함께 출력됨)
+ * oldPath: validateToken + getUsernameFromToken + getAuthoritiesFromToken (요청마다 키/파서 생성, 서명 검증 3회)
+ * newPathCacheMiss: 캐시 조회(미스) + parseToken 1회 + 캐시 저장
+ * newPathCacheHit: 캐시 조회(적중)만, 서명 검증 없음
+ * singleParse: 캐시 없이 parseToken 1회 (파서 재사용 효과만 분리)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtParseBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-0123456789-0123456789-0123456789";
+
+    private JwtTokenProvider provider;
+    private VerifiedTokenCache cache;
+    private UsernamePasswordAuthenticationToken authentication;
+    private String token;
+    private String cachedToken;
+
+    @Setup
+    public void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        properties.setAccessExpiration(3_600_000L);
+        properties.setRefreshExpiration(3_600_000L);
+        properties.getCache().setEnabled(true);
+        provider = new JwtTokenProvider(properties);
+        provider.init();
+        cache = new VerifiedTokenCache(properties, provider, new SimpleMeterRegistry());
+
+        authentication = new UsernamePasswordAuthenticationToken(
+                "alice", null, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        token = provider.generateAccessToken(authentication);
+        cachedToken = provider.generateAccessToken(authentication);
+        cache.put(cachedToken, provider.parseToken(cachedToken).orElseThrow(), authentication);
+    }
+
+    @Benchmark
+    public String oldPath() {
+        parseWithFreshKey();
+        String username = parseWithFreshKey().getSubject();
+        return username + parseWithFreshKey().get("auth", String.class);
+    }
+
+    /**
+     * 같은 토큰을 반복 저장하면 적중하므로 조회 결과와 무관하게 미스 경로(파싱 + 저장)를 실행
+     */
+    @Benchmark
+    public JwtClaims newPathCacheMiss() {
+        cache.get(token);
+        JwtClaims claims = provider.parseToken(token).orElseThrow();
+        cache.put(token, claims, authentication);
+        return claims;
+    }
+
+    @Benchmark
+    public UsernamePasswordAuthenticationToken newPathCacheHit() {
+        return cache.get(cachedToken);
+    }
+
+    @Benchmark
+    public JwtClaims singleParse() {
+        return provider.parseToken(token).orElseThrow();
+    }
+
+    private Claims parseWithFreshKey() {
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+}
@@ -12,6 +12,57 @@ import org.springframework.stereotype.Component;
 public class JwtProperties {
 
     private String secret;
+
+    /**
+     * 키 교체 직후 기존 발급 토큰 검증용 직전 키 (비어 있으면 현재 키만 사용)
+     */
+    private String previousSecret;
     private Long accessExpiration;
     private Long refreshExpiration;
+
+    /**
+     * 범위 제한 토큰 수명 (ms, URL에 실리므로 연결을 여는 데 필요한 만큼만)
+     */
+    private long scopedExpiration = 60_000;
+    private KeyRing keyRing = new KeyRing();
+    private Cache cache = new Cache();
+    private RefreshStore refreshStore = new RefreshStore();
+
+    /**
+     * 재시작 없는 키 교체 설정
+     * file이 있으면 secret/previous-secret 대신 파일의 첫 줄(현재 키)과 둘째 줄(직전 키)을 사용하고 주기적으로 다시 읽음
+     */
+    @Getter
+    @Setter
+    public static class KeyRing {
+
+        private String file;
+        private long reloadInterval = 30_000;
+    }
+
+    /**
+     * 검증 완료된 Access Token 캐시 설정
+     */
+    @Getter
+    @Setter
+    public static class Cache {
+
+        private boolean enabled = false;
+        private int maxSize = 10_000;
+    }
+
+    /**
+     * Refresh Token 메모리 저장소 설정 (DB 앞단 write-through)
+     */
+    @Getter
+    @Setter
+    public static class RefreshStore {
+
+        private int maxSize = 50_000;
+
+        /**
+         * 회전 직후 같은 토큰으로 들어온 요청은 재사용으로 보지 않는 시간 (ms, 동시 갱신 요청 허용)
+         */
+        private long reuseGracePeriod = 5_000;
+    }
 }
@@ -0,0 +1,43 @@
+package com.portfolio.security.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "security.password")
+public class PasswordProperties {
+
+    /**
+     * 새 해시 알고리즘 (bcrypt, argon2), 기존 해시는 로그인 성공 시 이 알고리즘으로 다시 저장
+     */
+    private String algorithm = "bcrypt";
+
+    /**
+     * BCrypt cost (0이면 시작 시 targetLatency에 맞춰 계산)
+     */
+    private int bcryptStrength = 0;
+    private long targetLatency = 100;
+    private int minStrength = 10;
+    private int maxStrength = 14;
+
+    private Executor executor = new Executor();
+
+    /**
+     * 해시 전용 스레드 풀 설정
+     */
+    @Getter
+    @Setter
+    public static class Executor {
+
+        /**
+         * 0이면 CPU 코어 수의 절반
+         */
+        private int threads = 0;
+        private int queueCapacity = 64;
+        private long maxWait = 5_000;
+    }
+}
@@ -1,9 +1,13 @@
 package com.portfolio.security.config;
 
 import com.portfolio.security.jwt.JwtAuthenticationFilter;
+import com.portfolio.security.password.BCryptStrengthCalibrator;
+import com.portfolio.security.password.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -11,7 +15,9 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -20,6 +26,7 @@ import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import java.util.Arrays;
+import java.util.Map;
 
 @Configuration
 @EnableWebSecurity
@@ -45,12 +52,20 @@ public class SecurityConfig {
 
                 // 요청 권한 설정
                 .authorizeHttpRequests(auth -> auth
+                        // 좋아요는 인증 필요 (아래 /api/v1/posts/** 공개 규칙보다 먼저 매칭)
+                        .requestMatchers("/api/v1/posts/*/likes").authenticated()
+
+                        // 메트릭 SSE는 EventSource가 헤더를 보낼 수 없어 컨트롤러에서 헤더 또는 stream token 확인
+                        .requestMatchers(HttpMethod.GET, "/api/v1/benchmarks/*/metrics/stream").permitAll()
+
                         // 공개 엔드포인트
                         .requestMatchers(
                                 "/api/v1/auth/**",
                                 "/api/v1/posts/**",
                                 "/api/v1/categories/**",
                                 "/api/v1/tags/**",
+                                "/api/v1/benchmarks/leaderboard",
+                                "/api/v1/benchmarks/compare",
                                 "/swagger-ui/**",
                                 "/api-docs/**",
                                 "/actuator/health"
@@ -86,9 +101,35 @@ public class SecurityConfig {
         return source;
     }
 
+    /**
+     * 비밀번호 인코더 (전용 스레드 풀에서 해시 계산)
+     * 저장된 해시의 {id} 접두사로 알고리즘을 구분하고, 접두사 없는 기존 해시는 BCrypt로 검증
+     * 설정된 알고리즘/cost와 다른 해시는 로그인 성공 시 AuthService.login이 조회한 사용자에 다시 저장 (추가 조회 없음)
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder(PasswordProperties passwordProperties, MeterRegistry meterRegistry) {
+        int strength = passwordProperties.getBcryptStrength() > 0
+                ? passwordProperties.getBcryptStrength()
+                : BCryptStrengthCalibrator.calibrate(passwordProperties.getTargetLatency(),
+                        passwordProperties.getMinStrength(), passwordProperties.getMaxStrength());
+
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(strength);
+        Map<String, PasswordEncoder> encoders = Map.of(
+                "bcrypt", bcrypt,
+                "argon2", Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+        if (!encoders.containsKey(passwordProperties.getAlgorithm())) {
+            throw new IllegalArgumentException("Unknown password algorithm: " + passwordProperties.getAlgorithm());
+        }
+
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(passwordProperties.getAlgorithm(), encoders);
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+
+        PasswordProperties.Executor executor = passwordProperties.getExecutor();
+        int threads = executor.getThreads() > 0
+                ? executor.getThreads()
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new BoundedPasswordEncoder(delegating, threads, executor.getQueueCapacity(),
+                executor.getMaxWait(), meterRegistry);
     }
 
     @Bean
@@ -17,7 +17,6 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -27,6 +26,7 @@ import java.util.stream.Collectors;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -35,31 +35,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = getJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
-                String username = jwtTokenProvider.getUsernameFromToken(jwt);
-                String authoritiesString = jwtTokenProvider.getAuthoritiesFromToken(jwt);
-
-                List<SimpleGrantedAuthority> authorities = Arrays.stream(authoritiesString.split(","))
-                        .map(SimpleGrantedAuthority::new)
-                        .collect(Collectors.toList());
-
-                UserDetails userDetails = User.builder()
-                        .username(username)
-                        .password("")
-                        .authorities(authorities)
-                        .build();
-
-                UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(
-                                userDetails,
-                                null,
-                                authorities
-                        );
-
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-
-                log.debug("Set authentication for user: {}", username);
+            if (StringUtils.hasText(jwt)) {
+                UsernamePasswordAuthenticationToken cached = verifiedTokenCache.get(jwt);
+                if (cached != null) {
+                    setAuthentication(request, cached);
+                } else {
+                    jwtTokenProvider.parseToken(jwt).ifPresent(claims -> authenticate(request, jwt, claims));
+                }
             }
         } catch (Exception ex) {
             log.error("Could not set user authentication in security context", ex);
@@ -68,6 +50,49 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * 검증된 클레임으로 SecurityContext 설정
+     */
+    private void authenticate(HttpServletRequest request, String jwt, JwtClaims claims) {
+        String username = claims.username();
+        List<SimpleGrantedAuthority> authorities = claims.authorities().stream()
+                .map(SimpleGrantedAuthority::new)
+                .collect(Collectors.toList());
+
+        UserDetails userDetails = User.builder()
+                .username(username)
+                .password("")
+                .authorities(authorities)
+                .build();
+
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(
+                        userDetails,
+                        null,
+                        authorities
+                );
+
+        verifiedTokenCache.put(jwt, claims, authentication);
+        setAuthentication(request, authentication);
+    }
+
+    /**
+     * 요청별 details를 붙여 SecurityContext에 등록 (캐시된 토큰은 공유되므로 복사본 사용)
+     */
+    private void setAuthentication(HttpServletRequest request, UsernamePasswordAuthenticationToken prebuilt) {
+        UsernamePasswordAuthenticationToken authentication =
+                UsernamePasswordAuthenticationToken.authenticated(
+                        prebuilt.getPrincipal(),
+                        null,
+                        prebuilt.getAuthorities()
+                );
+
+        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+
+        log.debug("Set authentication for user: {}", authentication.getName());
+    }
+
     /**
      * HTTP 요청 헤더에서 JWT 토큰 추출
      */
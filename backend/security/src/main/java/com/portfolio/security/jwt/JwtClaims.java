@@ -0,0 +1,16 @@
+package com.portfolio.security.jwt;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 서명 검증이 끝난 JWT 클레임 (iat가 없는 토큰의 issuedAt은 Instant.EPOCH)
+ * keyId는 서명을 검증한 키의 kid (kid 헤더가 없는 토큰은 검증 당시 현재 키의 kid)
+ */
+public record JwtClaims(String username, List<String> authorities, Instant issuedAt, Instant expiresAt,
+                        String keyId) {
+
+    public boolean isExpiredAt(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+}
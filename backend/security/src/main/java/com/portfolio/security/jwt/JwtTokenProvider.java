@@ -3,15 +3,33 @@ package com.portfolio.security.jwt;
 import com.portfolio.security.config.JwtProperties;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecurityException;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
 import javax.crypto.SecretKey;
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -19,11 +37,93 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class JwtTokenProvider {
 
+    /**
+     * 범위 제한 토큰의 대상 리소스 (이 클레임이 있는 토큰은 Access Token으로 인정하지 않음)
+     */
+    private static final String SCOPE_CLAIM = "scope";
+
     private final JwtProperties jwtProperties;
 
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+    /**
+     * 현재 서명 키 + 검증 가능한 키 목록 (키 교체 시 통째로 교체)
+     */
+    private final AtomicReference<SigningKeys> signingKeys = new AtomicReference<>();
+
+    /**
+     * 키 조회를 signingKeys에 위임하므로 키 교체 후에도 재생성할 필요 없음
+     */
+    private JwtParser jwtParser;
+
+    /**
+     * 키 링 파일이 없으면 jwt.secret(서명) + jwt.previous-secret(검증 전용) 사용
+     * 파일을 읽을 수 없으면 잘못된 키로 서비스하지 않도록 시작 실패
+     */
+    @PostConstruct
+    void init() {
+        SigningKeys initial = keyRingPath()
+                .map(path -> {
+                    try {
+                        return readKeyRing(path);
+                    } catch (IOException e) {
+                        throw new IllegalStateException("Cannot read JWT key ring " + path, e);
+                    }
+                })
+                .orElseGet(() -> SigningKeys.of(jwtProperties.getSecret(), jwtProperties.getPreviousSecret()));
+        install(initial);
+        this.jwtParser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(JwsHeader header) {
+                        return signingKeys.get().verificationKey(header.getKeyId());
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * 키 링 파일 재적재 (재시작 없이 키 교체)
+     * 모든 인스턴스가 같은 파일(시크릿 마운트)을 읽으므로 교체 후 수 초 안에 같은 키 링으로 수렴
+     * 교체 절차: 파일을 "새 키 / 기존 키" 두 줄로 바꾸고, Access/Refresh 만료 시간이 지난 뒤 둘째 줄 제거
+     */
+    @Scheduled(fixedDelayString = "${jwt.key-ring.reload-interval:30000}")
+    public void reloadKeyRing() {
+        Optional<Path> path = keyRingPath();
+        if (path.isEmpty()) {
+            return;
+        }
+        try {
+            install(readKeyRing(path.get()));
+        } catch (IOException | JwtException | IllegalArgumentException e) {
+            log.error("Could not reload JWT key ring from {}, keeping current keys: {}", path.get(), e.getMessage());
+        }
+    }
+
+    private void install(SigningKeys next) {
+        SigningKeys current = signingKeys.getAndUpdate(existing -> existing != null && existing.sameKeysAs(next)
+                ? existing
+                : next);
+        if (current == null || !current.sameKeysAs(next)) {
+            log.info("JWT signing key {} active, verification keys {}", next.keyId(), next.verificationKeys().keySet());
+        }
+    }
+
+    private Optional<Path> keyRingPath() {
+        String file = jwtProperties.getKeyRing().getFile();
+        return StringUtils.hasText(file) ? Optional.of(Path.of(file)) : Optional.empty();
+    }
+
+    /**
+     * 비어 있지 않고 '#'로 시작하지 않는 첫 줄은 현재 키, 둘째 줄은 직전 키
+     */
+    private static SigningKeys readKeyRing(Path path) throws IOException {
+        List<String> secrets = Files.readAllLines(path, StandardCharsets.UTF_8).stream()
+                .map(String::strip)
+                .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                .toList();
+        if (secrets.isEmpty() || secrets.size() > 2) {
+            throw new IllegalArgumentException("JWT key ring must hold one or two secrets, found " + secrets.size());
+        }
+        return SigningKeys.of(secrets.get(0), secrets.size() == 2 ? secrets.get(1) : null);
     }
 
     /**
@@ -51,61 +151,160 @@ public class JwtTokenProvider {
 
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + expirationTime);
+        SigningKeys keys = signingKeys.get();
 
         return Jwts.builder()
+                .header().keyId(keys.keyId()).and()
+                .id(UUID.randomUUID().toString())
                 .subject(username)
                 .claim("auth", authorities)
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(keys.currentKey())
                 .compact();
     }
 
     /**
-     * JWT 토큰에서 사용자명 추출
+     * 리소스 하나에만 쓸 수 있는 짧은 수명 토큰 (Authorization 헤더를 보낼 수 없는 EventSource가 URL로 전달)
+     * 권한 클레임이 없고 scope가 붙으므로 URL이 노출되어도 다른 API 인증에는 쓸 수 없음
      */
-    public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-
-        return claims.getSubject();
+    public String generateScopedToken(String username, String scope) {
+        Date now = new Date();
+        SigningKeys keys = signingKeys.get();
+
+        return Jwts.builder()
+                .header().keyId(keys.keyId()).and()
+                .id(UUID.randomUUID().toString())
+                .subject(username)
+                .claim(SCOPE_CLAIM, scope)
+                .issuedAt(now)
+                .expiration(new Date(now.getTime() + jwtProperties.getScopedExpiration()))
+                .signWith(keys.currentKey())
+                .compact();
+    }
+
+    /**
+     * 범위 제한 토큰 검증
+     *
+     * @return 서명이 유효하고 만료되지 않았으며 scope가 일치하면 사용자명
+     */
+    public Optional<String> parseScopedToken(String token, String scope) {
+        try {
+            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+            if (!scope.equals(claims.get(SCOPE_CLAIM, String.class))) {
+                log.warn("Scoped JWT used outside its scope: {}", scope);
+                return Optional.empty();
+            }
+            return Optional.ofNullable(claims.getSubject());
+        } catch (JwtException | IllegalArgumentException e) {
+            log.warn("Invalid scoped JWT: {}", e.getMessage());
+            return Optional.empty();
+        }
     }
 
     /**
-     * JWT 토큰 검증
+     * JWT 토큰 검증 및 클레임 추출 (서명 검증 1회)
+     * 사용자명/권한이 필요한 곳은 다시 파싱하지 말고 반환된 클레임을 사용
+     * 범위 제한 토큰(generateScopedToken)은 거부
      */
-    public boolean validateToken(String token) {
+    public Optional<JwtClaims> parseToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            SigningKeys keys = signingKeys.get();
+            Jws<Claims> jws = jwtParser.parseSignedClaims(token);
+            Claims claims = jws.getPayload();
+            if (claims.get(SCOPE_CLAIM) != null) {
+                log.warn("Scoped JWT cannot be used as an access token");
+                return Optional.empty();
+            }
+            String keyId = jws.getHeader().getKeyId();
+            return Optional.of(new JwtClaims(
+                    claims.getSubject(),
+                    splitAuthorities(claims.get("auth", String.class)),
+                    claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : Instant.EPOCH,
+                    claims.getExpiration().toInstant(),
+                    keyId != null ? keyId : keys.keyId()
+            ));
         } catch (SecurityException | MalformedJwtException e) {
             log.error("Invalid JWT signature: {}", e.getMessage());
         } catch (ExpiredJwtException e) {
             log.error("Expired JWT token: {}", e.getMessage());
         } catch (UnsupportedJwtException e) {
             log.error("Unsupported JWT token: {}", e.getMessage());
+        } catch (JwtException e) {
+            log.error("Invalid JWT token: {}", e.getMessage());
         } catch (IllegalArgumentException e) {
             log.error("JWT claims string is empty: {}", e.getMessage());
         }
-        return false;
+        return Optional.empty();
+    }
+
+    /**
+     * 현재 키 링으로 이 kid의 토큰을 검증할 수 있는지 (키 링에서 빠진 키로 서명된 캐시 항목 거부용)
+     */
+    public boolean isVerificationKey(String keyId) {
+        return keyId != null && signingKeys.get().verificationKeys().containsKey(keyId);
+    }
+
+    private static List<String> splitAuthorities(String authorities) {
+        if (!StringUtils.hasText(authorities)) {
+            return List.of();
+        }
+        return List.of(authorities.split(","));
     }
 
     /**
-     * JWT 토큰에서 권한 정보 추출
+     * 서명 키 묶음 (불변)
      */
-    public String getAuthoritiesFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-
-        return claims.get("auth", String.class);
+    private record SigningKeys(String keyId, SecretKey currentKey, Map<String, SecretKey> verificationKeys) {
+
+        static SigningKeys of(String secret, String previousSecret) {
+            byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
+            SecretKey key = Keys.hmacShaKeyFor(keyBytes);
+            String keyId = keyIdOf(keyBytes);
+
+            if (!StringUtils.hasText(previousSecret)) {
+                return new SigningKeys(keyId, key, Map.of(keyId, key));
+            }
+            byte[] previousBytes = previousSecret.getBytes(StandardCharsets.UTF_8);
+            String previousKeyId = keyIdOf(previousBytes);
+            Map<String, SecretKey> verificationKeys = previousKeyId.equals(keyId)
+                    ? Map.of(keyId, key)
+                    : Map.of(keyId, key, previousKeyId, Keys.hmacShaKeyFor(previousBytes));
+
+            return new SigningKeys(keyId, key, verificationKeys);
+        }
+
+        /**
+         * kid는 키 바이트에서 나오므로 kid 집합이 같으면 같은 키 링
+         */
+        boolean sameKeysAs(SigningKeys other) {
+            return keyId.equals(other.keyId) && verificationKeys.keySet().equals(other.verificationKeys.keySet());
+        }
+
+        /**
+         * kid 헤더가 없는 토큰(키 교체 도입 이전 발급분)은 현재 키로 검증
+         */
+        SecretKey verificationKey(String keyId) {
+            if (keyId == null) {
+                return currentKey;
+            }
+            SecretKey key = verificationKeys.get(keyId);
+            if (key == null) {
+                throw new SecurityException("Unknown JWT key id: " + keyId);
+            }
+            return key;
+        }
+
+        /**
+         * 키 바이트의 SHA-256 앞 8바이트 (인스턴스 간 동일한 kid 보장)
+         */
+        private static String keyIdOf(byte[] keyBytes) {
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(keyBytes);
+                return HexFormat.of().formatHex(Arrays.copyOf(digest, 8));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 not available", e);
+            }
+        }
     }
 }
@@ -0,0 +1,223 @@
+package com.portfolio.security.jwt;
+
+import com.portfolio.security.config.JwtProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 서명 검증이 끝난 Access Token 캐시
+ * 토큰 다이제스트를 키로 미리 만들어 둔 Authentication을 보관
+ * 서명 키의 kid를 함께 보관하고, 키 링 재적재로 빠진 키로 서명된 항목은 사용하지 않음
+ * 세그먼트별 access-order LinkedHashMap으로 크기를 제한하고 (LRU, O(1) 제거),
+ * 만료 항목은 조회 시와 삽입 시 가장 오래된 항목부터 정리
+ */
+@Slf4j
+@Component
+public class VerifiedTokenCache {
+
+    private static final int SEGMENTS = 16;
+
+    /**
+     * 삽입 한 번에 확인하는 가장 오래된 항목 수 (만료 정리 분할 상환)
+     */
+    private static final int EXPIRY_PROBES = 2;
+
+    private final boolean enabled;
+    private final Segment[] segments;
+    private final JwtTokenProvider jwtTokenProvider;
+
+    /**
+     * 오래된 무효화 기록 정리 간격 (정리는 invalidateUser에서 이 간격마다 한 번)
+     */
+    private static final long PRUNE_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    /**
+     * 사용자별 무효화 시각 (이 시각 이전 발급 토큰은 캐시에서 사용하지 않음)
+     * 모든 get/put이 읽으므로 잠금 없이 조회
+     */
+    private final ConcurrentHashMap<String, Instant> userInvalidations = new ConcurrentHashMap<>();
+    private final Duration invalidationRetention;
+    private final AtomicLong lastPrunedAt = new AtomicLong(System.nanoTime());
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    public VerifiedTokenCache(JwtProperties jwtProperties, JwtTokenProvider jwtTokenProvider,
+                              MeterRegistry meterRegistry) {
+        this.enabled = jwtProperties.getCache().isEnabled();
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.invalidationRetention = Duration.ofMillis(
+                Math.max(jwtProperties.getAccessExpiration(), jwtProperties.getRefreshExpiration()));
+
+        int segmentCapacity = Math.max(1, (jwtProperties.getCache().getMaxSize() + SEGMENTS - 1) / SEGMENTS);
+        this.segments = new Segment[SEGMENTS];
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment(segmentCapacity);
+        }
+
+        this.hits = meterRegistry.counter("jwt.cache.requests", "result", "hit");
+        this.misses = meterRegistry.counter("jwt.cache.requests", "result", "miss");
+        this.evictions = meterRegistry.counter("jwt.cache.evictions");
+        Gauge.builder("jwt.cache.size", this, VerifiedTokenCache::size).register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 Authentication 조회 (없거나 만료/무효화되었거나 서명 키가 키 링에서 빠졌으면 null)
+     */
+    public UsernamePasswordAuthenticationToken get(String token) {
+        if (!enabled) {
+            return null;
+        }
+
+        String key = TokenDigest.sha256Hex(token);
+        Segment segment = segmentFor(key);
+        Entry entry;
+        synchronized (segment) {
+            entry = segment.get(key);
+            if (entry != null && (entry.isExpiredAt(Instant.now()) || isInvalidated(entry)
+                    || !jwtTokenProvider.isVerificationKey(entry.keyId()))) {
+                segment.remove(key);
+                evictions.increment();
+                entry = null;
+            }
+        }
+
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.authentication();
+    }
+
+    /**
+     * 검증된 토큰의 Authentication 저장
+     */
+    public void put(String token, JwtClaims claims, UsernamePasswordAuthenticationToken authentication) {
+        if (!enabled) {
+            return;
+        }
+
+        Entry entry = new Entry(claims.username(), claims.keyId(), claims.issuedAt(), claims.expiresAt(),
+                authentication);
+        // 검증과 저장 사이에 키 링이 바뀐 경우도 저장하지 않음
+        if (isInvalidated(entry) || !jwtTokenProvider.isVerificationKey(entry.keyId())) {
+            return;
+        }
+
+        String key = TokenDigest.sha256Hex(token);
+        Segment segment = segmentFor(key);
+        synchronized (segment) {
+            segment.put(key, entry);
+            segment.evictExpired(Instant.now());
+        }
+    }
+
+    /**
+     * 사용자의 모든 캐시 항목 무효화 (로그아웃, 토큰 재사용 감지 시)
+     * 항목을 찾아 지우는 대신 무효화 시각만 기록하므로 O(1)이고,
+     * 이미 검증 중이던 요청이 뒤늦게 put 해도 무효화 이전 발급 토큰은 다시 쓰이지 않음
+     */
+    public void invalidateUser(String username) {
+        if (!enabled) {
+            return;
+        }
+
+        Instant now = Instant.now();
+        userInvalidations.put(username, now);
+        pruneInvalidations(now);
+        log.debug("Invalidated cached tokens for user: {}", username);
+    }
+
+    int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * JWT iat는 초 단위이므로 무효화와 같은 초에 발급된 토큰도 무효화 대상으로 취급
+     */
+    private boolean isInvalidated(Entry entry) {
+        Instant invalidatedAt = userInvalidations.get(entry.username());
+        return invalidatedAt != null
+                && !entry.issuedAt().isAfter(invalidatedAt.truncatedTo(ChronoUnit.SECONDS));
+    }
+
+    /**
+     * 보존 기간(토큰 최대 수명)이 지난 무효화 기록 제거 (한 스레드만, PRUNE_INTERVAL마다)
+     * 그 이전에 발급된 토큰은 이미 만료되어 캐시에 남아 있을 수 없음
+     */
+    private void pruneInvalidations(Instant now) {
+        long last = lastPrunedAt.get();
+        long nanos = System.nanoTime();
+        if (nanos - last < PRUNE_INTERVAL_NANOS || !lastPrunedAt.compareAndSet(last, nanos)) {
+            return;
+        }
+        Instant horizon = now.minus(invalidationRetention);
+        userInvalidations.values().removeIf(invalidatedAt -> invalidatedAt.isBefore(horizon));
+    }
+
+    private Segment segmentFor(String key) {
+        return segments[key.hashCode() & (SEGMENTS - 1)];
+    }
+
+    /**
+     * 크기 제한 LRU 세그먼트 (호출자가 세그먼트 단위로 동기화)
+     */
+    private final class Segment extends LinkedHashMap<String, Entry> {
+
+        private final int capacity;
+
+        Segment(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            if (size() > capacity) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+
+        void evictExpired(Instant now) {
+            Iterator<Entry> iterator = values().iterator();
+            for (int i = 0; i < EXPIRY_PROBES && iterator.hasNext(); i++) {
+                if (iterator.next().isExpiredAt(now)) {
+                    iterator.remove();
+                    evictions.increment();
+                }
+            }
+        }
+    }
+
+    private record Entry(String username, String keyId, Instant issuedAt, Instant expiresAt,
+                         UsernamePasswordAuthenticationToken authentication) {
+
+        boolean isExpiredAt(Instant now) {
+            return !now.isBefore(expiresAt);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.portfolio.security.password;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * 이 서버에서 해시 한 번이 목표 시간 이내인 가장 높은 BCrypt cost 계산
+ * minStrength부터 cost를 하나씩 올리며 측정하고, 목표를 넘는 cost가 나오면 멈춤 (cost +1마다 시간 약 2배)
+ */
+@Slf4j
+public final class BCryptStrengthCalibrator {
+
+    private static final int SAMPLES = 3;
+    private static final String SAMPLE_PASSWORD = "calibration-password";
+
+    private BCryptStrengthCalibrator() {
+    }
+
+    public static int calibrate(long targetLatencyMillis, int minStrength, int maxStrength) {
+        if (minStrength < 4 || maxStrength > 31 || minStrength > maxStrength) {
+            throw new IllegalArgumentException("BCrypt strength range must be within 4..31");
+        }
+
+        int strength = minStrength;
+        long elapsed = measure(strength);
+        while (strength < maxStrength) {
+            long next = measure(strength + 1);
+            if (next > targetLatencyMillis) {
+                break;
+            }
+            strength++;
+            elapsed = next;
+        }
+
+        log.info("BCrypt strength calibrated to {} ({} ms, target {} ms)", strength, elapsed, targetLatencyMillis);
+        return strength;
+    }
+
+    /**
+     * 가장 빠른 측정값 (ms, JIT/캐시 영향 최소화)
+     */
+    private static long measure(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long startedAt = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            best = Math.min(best, (System.nanoTime() - startedAt) / 1_000_000);
+        }
+        return best;
+    }
+}
@@ -0,0 +1,11 @@
+package com.portfolio.security.password;
+
+/**
+ * 해시 스레드 풀이 가득 차거나 대기 시간을 넘겨 요청을 거절함 (503으로 응답)
+ */
+public class PasswordHashingRejectedException extends RuntimeException {
+
+    public PasswordHashingRejectedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,167 @@
+package com.portfolio.security.jwt;
+
+import com.portfolio.security.config.JwtProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "test-secret-key-0123456789-0123456789-0123456789";
+    private static final String NEXT_SECRET = "next-secret-key-0123456789-0123456789-0123456789";
+
+    private final Authentication authentication = new UsernamePasswordAuthenticationToken(
+            "alice", null, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+
+    @Test
+    @DisplayName("발급한 토큰은 한 번의 파싱으로 사용자명과 권한을 돌려준다")
+    void parsesIssuedToken() {
+        JwtTokenProvider provider = provider(SECRET, null, 60_000L);
+
+        JwtClaims claims = provider.parseToken(provider.generateAccessToken(authentication)).orElseThrow();
+
+        assertThat(claims.username()).isEqualTo("alice");
+        assertThat(claims.authorities()).containsExactly("ROLE_USER");
+        assertThat(provider.isVerificationKey(claims.keyId())).isTrue();
+    }
+
+    @Test
+    @DisplayName("서명이 변조된 토큰은 예외 없이 빈 결과")
+    void rejectsTamperedSignature() {
+        JwtTokenProvider provider = provider(SECRET, null, 60_000L);
+        String token = provider.generateAccessToken(authentication);
+        int signatureStart = token.lastIndexOf('.') + 1;
+        char first = token.charAt(signatureStart);
+        String tampered = token.substring(0, signatureStart) + (first == 'A' ? 'B' : 'A')
+                + token.substring(signatureStart + 1);
+
+        assertThat(provider.parseToken(tampered)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명된 토큰은 빈 결과")
+    void rejectsUnknownKey() {
+        String foreign = provider(NEXT_SECRET, null, 60_000L).generateAccessToken(authentication);
+
+        assertThat(provider(SECRET, null, 60_000L).parseToken(foreign)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("만료된 토큰과 형식이 잘못된 토큰은 빈 결과")
+    void rejectsExpiredAndMalformed() {
+        JwtTokenProvider provider = provider(SECRET, null, -1_000L);
+
+        assertThat(provider.parseToken(provider.generateAccessToken(authentication))).isEmpty();
+        assertThat(provider.parseToken("not-a-jwt")).isEmpty();
+        assertThat(provider.parseToken("")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("키 교체 후에도 직전 키로 발급된 토큰은 검증되고 새 토큰은 새 키로 서명")
+    void acceptsPreviousKeyAfterRotation() {
+        String issuedBefore = provider(SECRET, null, 60_000L).generateAccessToken(authentication);
+        JwtTokenProvider rotated = provider(NEXT_SECRET, SECRET, 60_000L);
+        String issuedAfter = rotated.generateAccessToken(authentication);
+
+        assertThat(rotated.parseToken(issuedBefore)).isPresent();
+        assertThat(rotated.parseToken(issuedAfter)).isPresent();
+        assertThat(provider(SECRET, null, 60_000L).parseToken(issuedAfter)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("키 링 파일을 바꾸면 재시작 없이 새 키로 서명하고 직전 키 토큰도 계속 검증")
+    void rotatesKeyRingAtRuntime(@TempDir Path dir) throws IOException {
+        Path keyRing = dir.resolve("jwt-keys");
+        Files.writeString(keyRing, SECRET + "\n");
+        JwtTokenProvider provider = keyRingProvider(keyRing);
+        String issuedBefore = provider.generateAccessToken(authentication);
+
+        Files.writeString(keyRing, "# current\n" + NEXT_SECRET + "\n# previous\n" + SECRET + "\n");
+        provider.reloadKeyRing();
+        String issuedAfter = provider.generateAccessToken(authentication);
+
+        assertThat(provider.parseToken(issuedBefore)).isPresent();
+        assertThat(provider.parseToken(issuedAfter)).isPresent();
+        assertThat(provider(SECRET, null, 60_000L).parseToken(issuedAfter)).isEmpty();
+
+        Files.writeString(keyRing, NEXT_SECRET + "\n");
+        provider.reloadKeyRing();
+
+        assertThat(provider.parseToken(issuedBefore)).isEmpty();
+        assertThat(provider.parseToken(issuedAfter)).isPresent();
+    }
+
+    @Test
+    @DisplayName("잘못된 키 링 파일은 무시하고 기존 키를 유지")
+    void keepsKeysWhenKeyRingIsInvalid(@TempDir Path dir) throws IOException {
+        Path keyRing = dir.resolve("jwt-keys");
+        Files.writeString(keyRing, SECRET + "\n");
+        JwtTokenProvider provider = keyRingProvider(keyRing);
+        String token = provider.generateAccessToken(authentication);
+
+        Files.writeString(keyRing, "too-short\n");
+        provider.reloadKeyRing();
+        Files.delete(keyRing);
+        provider.reloadKeyRing();
+
+        assertThat(provider.parseToken(token)).isPresent();
+        assertThat(provider.parseToken(provider.generateAccessToken(authentication))).isPresent();
+    }
+
+    @Test
+    @DisplayName("범위 제한 토큰은 같은 scope에서만 사용자명을 돌려주고 Access Token으로는 쓸 수 없다")
+    void scopedTokenIsLimitedToItsScope() {
+        JwtTokenProvider provider = provider(SECRET, null, 60_000L);
+        String token = provider.generateScopedToken("alice", "benchmark-metrics-stream:1");
+
+        assertThat(provider.parseScopedToken(token, "benchmark-metrics-stream:1")).contains("alice");
+        assertThat(provider.parseScopedToken(token, "benchmark-metrics-stream:2")).isEmpty();
+        assertThat(provider.parseToken(token)).isEmpty();
+        assertThat(provider.parseScopedToken(provider.generateAccessToken(authentication),
+                "benchmark-metrics-stream:1")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("만료된 범위 제한 토큰은 빈 결과")
+    void rejectsExpiredScopedToken() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        properties.setScopedExpiration(-1_000L);
+        JwtTokenProvider provider = new JwtTokenProvider(properties);
+        provider.init();
+        String token = provider.generateScopedToken("alice", "benchmark-metrics-stream:1");
+
+        assertThat(provider.parseScopedToken(token, "benchmark-metrics-stream:1")).isEmpty();
+    }
+
+    private static JwtTokenProvider keyRingProvider(Path keyRing) {
+        JwtProperties properties = new JwtProperties();
+        properties.getKeyRing().setFile(keyRing.toString());
+        properties.setAccessExpiration(60_000L);
+        properties.setRefreshExpiration(60_000L);
+        JwtTokenProvider provider = new JwtTokenProvider(properties);
+        provider.init();
+        return provider;
+    }
+
+    private static JwtTokenProvider provider(String secret, String previousSecret, long accessExpiration) {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(secret);
+        properties.setPreviousSecret(previousSecret);
+        properties.setAccessExpiration(accessExpiration);
+        properties.setRefreshExpiration(accessExpiration);
+        JwtTokenProvider provider = new JwtTokenProvider(properties);
+        provider.init();
+        return provider;
+    }
+}
@@ -0,0 +1,166 @@
+package com.portfolio.security.jwt;
+
+import com.portfolio.security.config.JwtProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedTokenCacheTest {
+
+    private static final String SECRET = "test-secret-key-0123456789-0123456789-0123456789";
+    private static final String NEXT_SECRET = "next-secret-key-0123456789-0123456789-0123456789";
+
+    private JwtTokenProvider provider = provider(SECRET);
+
+    @Test
+    @DisplayName("저장한 토큰은 조회되고 모르는 토큰은 null")
+    void returnsCachedAuthentication() {
+        VerifiedTokenCache cache = cache(true, 100);
+        UsernamePasswordAuthenticationToken authentication = authentication("alice");
+
+        cache.put("token-a", claims("alice", Instant.now(), Instant.now().plusSeconds(60)), authentication);
+
+        assertThat(cache.get("token-a")).isSameAs(authentication);
+        assertThat(cache.get("token-b")).isNull();
+    }
+
+    @Test
+    @DisplayName("만료된 항목은 null을 돌려주고 제거된다")
+    void dropsExpiredEntries() {
+        VerifiedTokenCache cache = cache(true, 100);
+
+        cache.put("token-a", claims("alice", Instant.now().minusSeconds(60), Instant.now().minusSeconds(1)),
+                authentication("alice"));
+
+        assertThat(cache.get("token-a")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘겨 저장해도 크기가 제한된다")
+    void boundsSize() {
+        VerifiedTokenCache cache = cache(true, 64);
+        Instant expiresAt = Instant.now().plusSeconds(60);
+
+        for (int i = 0; i < 10_000; i++) {
+            cache.put("token-" + i, claims("user-" + i, Instant.now(), expiresAt), authentication("user-" + i));
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(64);
+        assertThat(cache.get("token-9999")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("사용자 무효화 이전 발급 토큰은 조회되지 않고, 뒤늦은 put도 무시된다")
+    void invalidatesTokensIssuedBeforeInvalidation() {
+        VerifiedTokenCache cache = cache(true, 100);
+        Instant issuedAt = Instant.now().truncatedTo(ChronoUnit.SECONDS).minusSeconds(5);
+        Instant expiresAt = Instant.now().plusSeconds(60);
+        cache.put("token-a", claims("alice", issuedAt, expiresAt), authentication("alice"));
+        cache.put("token-b", claims("bob", issuedAt, expiresAt), authentication("bob"));
+
+        cache.invalidateUser("alice");
+        cache.put("token-c", claims("alice", issuedAt, expiresAt), authentication("alice"));
+
+        assertThat(cache.get("token-a")).isNull();
+        assertThat(cache.get("token-c")).isNull();
+        assertThat(cache.get("token-b")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("무효화 이후 발급된 토큰은 다시 캐시된다")
+    void cachesTokensIssuedAfterInvalidation() {
+        VerifiedTokenCache cache = cache(true, 100);
+        cache.invalidateUser("alice");
+
+        cache.put("token-a", claims("alice", Instant.now().plusSeconds(2), Instant.now().plusSeconds(60)),
+                authentication("alice"));
+
+        assertThat(cache.get("token-a")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("키 링 재적재로 서명 키가 빠지면 캐시된 토큰도 조회되지 않는다")
+    void dropsEntriesSignedWithRemovedKey(@TempDir Path dir) throws IOException {
+        Path keyRing = dir.resolve("jwt-keys");
+        Files.writeString(keyRing, SECRET + "\n");
+        provider = keyRingProvider(keyRing);
+        VerifiedTokenCache cache = cache(true, 100);
+        String token = provider.generateAccessToken(authentication("alice"));
+        cache.put(token, provider.parseToken(token).orElseThrow(), authentication("alice"));
+
+        Files.writeString(keyRing, NEXT_SECRET + "\n" + SECRET + "\n");
+        provider.reloadKeyRing();
+        assertThat(cache.get(token)).isNotNull();
+
+        Files.writeString(keyRing, NEXT_SECRET + "\n");
+        provider.reloadKeyRing();
+        assertThat(cache.get(token)).isNull();
+        assertThat(cache.size()).isZero();
+        assertThat(provider.parseToken(token)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("비활성화 시 아무것도 저장하지 않는다")
+    void disabledCacheIsNoop() {
+        VerifiedTokenCache cache = cache(false, 100);
+
+        cache.put("token-a", claims("alice", Instant.now(), Instant.now().plusSeconds(60)), authentication("alice"));
+
+        assertThat(cache.get("token-a")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    private VerifiedTokenCache cache(boolean enabled, int maxSize) {
+        JwtProperties properties = new JwtProperties();
+        properties.setAccessExpiration(900_000L);
+        properties.setRefreshExpiration(900_000L);
+        properties.getCache().setEnabled(enabled);
+        properties.getCache().setMaxSize(maxSize);
+        return new VerifiedTokenCache(properties, provider, new SimpleMeterRegistry());
+    }
+
+    /**
+     * 현재 서명 키로 검증된 것으로 취급하는 클레임
+     */
+    private JwtClaims claims(String username, Instant issuedAt, Instant expiresAt) {
+        String keyId = provider.parseToken(provider.generateAccessToken(authentication(username)))
+                .orElseThrow().keyId();
+        return new JwtClaims(username, List.of("ROLE_USER"), issuedAt, expiresAt, keyId);
+    }
+
+    private static JwtTokenProvider provider(String secret) {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(secret);
+        properties.setAccessExpiration(60_000L);
+        properties.setRefreshExpiration(60_000L);
+        JwtTokenProvider provider = new JwtTokenProvider(properties);
+        provider.init();
+        return provider;
+    }
+
+    private static JwtTokenProvider keyRingProvider(Path keyRing) {
+        JwtProperties properties = new JwtProperties();
+        properties.getKeyRing().setFile(keyRing.toString());
+        properties.setAccessExpiration(60_000L);
+        properties.setRefreshExpiration(60_000L);
+        JwtTokenProvider provider = new JwtTokenProvider(properties);
+        provider.init();
+        return provider;
+    }
+
+    private static UsernamePasswordAuthenticationToken authentication(String username) {
+        return UsernamePasswordAuthenticationToken.authenticated(username, null, List.of());
+    }
+}
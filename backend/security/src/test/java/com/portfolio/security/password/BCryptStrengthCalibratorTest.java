@@ -0,0 +1,26 @@
+package com.portfolio.security.password;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BCryptStrengthCalibratorTest {
+
+    @Test
+    @DisplayName("cost 범위가 4..31을 벗어나거나 뒤집혀 있으면 IllegalArgumentException")
+    void rejectsInvalidRange() {
+        assertThatThrownBy(() -> BCryptStrengthCalibrator.calibrate(100, 3, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BCryptStrengthCalibrator.calibrate(100, 10, 9))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("목표 시간이 넉넉하면 최대 cost, 목표를 넘는 cost는 고르지 않는다")
+    void picksHighestCostWithinTarget() {
+        assertThat(BCryptStrengthCalibrator.calibrate(10_000, 4, 5)).isEqualTo(5);
+        assertThat(BCryptStrengthCalibrator.calibrate(0, 4, 8)).isBetween(4, 7);
+    }
+}
@@ -0,0 +1,99 @@
+package com.portfolio.security.password;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BoundedPasswordEncoderTest {
+
+    private final PasswordEncoder delegate = mock(PasswordEncoder.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        encoder.shutdown();
+    }
+
+    @Test
+    @DisplayName("해시 계산은 요청 스레드가 아닌 전용 스레드에서 실행된다")
+    void hashesOnDedicatedThreads() {
+        encoder = new BoundedPasswordEncoder(delegate, 2, 4, 1_000, meterRegistry);
+        when(delegate.encode("secret")).thenAnswer(invocation -> Thread.currentThread().getName());
+        when(delegate.matches("secret", "hash")).thenReturn(true);
+
+        assertThat(encoder.encode("secret")).startsWith("password-hasher-");
+        assertThat(encoder.matches("secret", "hash")).isTrue();
+        assertThat(meterRegistry.timer("security.password.hash.duration").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("스레드와 대기열이 모두 차면 기다리지 않고 바로 거절한다")
+    void rejectsWhenQueueIsFull() throws Exception {
+        encoder = new BoundedPasswordEncoder(delegate, 1, 1, 5_000, meterRegistry);
+        CountDownLatch hashing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.encode(any())).thenAnswer(invocation -> {
+            hashing.countDown();
+            release.await();
+            return "hash";
+        });
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("first"));
+        hashing.await();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("second"));
+        while (meterRegistry.get("security.password.queue_depth").gauge().value() < 1) {
+            Thread.sleep(1);
+        }
+
+        assertThatThrownBy(() -> encoder.encode("third"))
+                .isInstanceOf(PasswordHashingRejectedException.class)
+                .hasMessage("Password hashing queue is full");
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hash");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hash");
+        assertThat(meterRegistry.counter("security.password.rejected").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("maxWait 안에 끝나지 않으면 작업을 취소하고 거절한다")
+    void rejectsWhenHashingTimesOut() {
+        encoder = new BoundedPasswordEncoder(delegate, 1, 1, 50, meterRegistry);
+        when(delegate.matches(any(), any())).thenAnswer(invocation -> {
+            Thread.sleep(5_000);
+            return true;
+        });
+
+        assertThatThrownBy(() -> encoder.matches("secret", "hash"))
+                .isInstanceOf(PasswordHashingRejectedException.class)
+                .hasMessage("Password hashing timed out");
+        assertThat(meterRegistry.counter("security.password.rejected").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("위임 인코더의 런타임 예외는 그대로 전달하고, upgradeEncoding은 스레드 풀을 거치지 않는다")
+    void propagatesDelegateFailures() {
+        encoder = new BoundedPasswordEncoder(delegate, 1, 1, 1_000, meterRegistry);
+        when(delegate.matches(any(), any())).thenThrow(new IllegalArgumentException("Encoded password is not BCrypt"));
+        when(delegate.upgradeEncoding("hash")).thenReturn(true);
+
+        assertThatThrownBy(() -> encoder.matches("secret", "hash"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Encoded password is not BCrypt");
+        assertThat(encoder.upgradeEncoding("hash")).isTrue();
+        assertThat(meterRegistry.counter("security.password.rejected").count()).isZero();
+    }
+}